@@ -24,11 +24,14 @@ import jimmy.mcgymmy.model.ReadOnlyUserPrefs;
 import jimmy.mcgymmy.model.UserPrefs;
 import jimmy.mcgymmy.model.macro.MacroList;
 import jimmy.mcgymmy.model.util.SampleDataUtil;
+import jimmy.mcgymmy.storage.BinaryMcGymmyStorage;
+import jimmy.mcgymmy.storage.JournalMcGymmyStorage;
 import jimmy.mcgymmy.storage.JsonMacroListStorage;
 import jimmy.mcgymmy.storage.JsonMcGymmyStorage;
 import jimmy.mcgymmy.storage.JsonUserPrefsStorage;
 import jimmy.mcgymmy.storage.MacroListStorage;
 import jimmy.mcgymmy.storage.McGymmyStorage;
+import jimmy.mcgymmy.storage.PartitionedMcGymmyStorage;
 import jimmy.mcgymmy.storage.Storage;
 import jimmy.mcgymmy.storage.StorageManager;
 import jimmy.mcgymmy.storage.UserPrefsStorage;
@@ -59,19 +62,42 @@ public class MainApp extends Application {
         config = initConfig(appParameters.getConfigPath());
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        McGymmyStorage mcGymmyStorage = new JsonMcGymmyStorage(userPrefs.getMcGymmyFilePath());
+        McGymmyStorage mcGymmyStorage = initMcGymmyStorage(config, userPrefs.getMcGymmyFilePath());
         MacroListStorage macroListStorage = new JsonMacroListStorage(userPrefs.getMacroListFilePath());
-        storage = new StorageManager(mcGymmyStorage, macroListStorage, userPrefsStorage);
+        storage = new StorageManager(mcGymmyStorage, macroListStorage, userPrefsStorage, config.getDurability());
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
+        storage.getFoodArchive().ifPresent(model::setFoodArchive);
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code McGymmyStorage} for the data file at {@code filePath}, using the storage mode and json
+     * format in {@code config}.
+     */
+    private McGymmyStorage initMcGymmyStorage(Config config, Path filePath) {
+        if (config.getStorageMode() == Config.StorageMode.JOURNAL) {
+            logger.info("Using journal storage for " + filePath);
+            return new JournalMcGymmyStorage(filePath, JournalMcGymmyStorage.DEFAULT_COMPACTION_THRESHOLD,
+                    config.getJsonFormat());
+        }
+        if (config.getStorageMode() == Config.StorageMode.BINARY) {
+            logger.info("Using binary snapshots for " + filePath);
+            return new BinaryMcGymmyStorage(filePath, config.getJsonFormat());
+        }
+        if (config.getStorageMode() == Config.StorageMode.PARTITIONED) {
+            logger.info("Using monthly partitions for " + filePath);
+            return new PartitionedMcGymmyStorage(filePath, PartitionedMcGymmyStorage.DEFAULT_RECENT_MONTHS,
+                    config.getJsonFormat());
+        }
+        return new JsonMcGymmyStorage(filePath, config.getJsonFormat());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s McGymmy and {@code userPrefs}. <br>
      * The data from the sample McGymmy will be used instead if {@code storage}'s McGymmy is not found,
@@ -193,6 +219,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping McGymmy ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -12,9 +12,48 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * How McGymmy data is written to disk.
+     */
+    public enum StorageMode {
+        /** The whole data file is rewritten after every command. */
+        JSON,
+        /** Only changes are appended to a journal, which is periodically folded into the data file. */
+        JOURNAL,
+        /** The whole data file is rewritten after every command, along with a binary snapshot that loads faster. */
+        BINARY,
+        /** Foods are kept in one file per month, and only the recent months are loaded at startup. */
+        PARTITIONED
+    }
+
+    /**
+     * How soon McGymmy data is guaranteed to be on disk after a command.
+     */
+    public enum Durability {
+        /** Data is written in the background and left to the operating system to flush. */
+        NONE,
+        /** Data is written in the background, and each write is forced to disk. */
+        BATCHED,
+        /** Data is written and forced to disk before the command completes. */
+        EVERY_COMMAND
+    }
+
+    /**
+     * How McGymmy json data files are laid out.
+     */
+    public enum JsonFormat {
+        /** Indented over many lines, for reading and editing by hand. */
+        PRETTY,
+        /** Without any whitespace, for smaller files that are faster to save. */
+        COMPACT
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private StorageMode storageMode = StorageMode.JSON;
+    private Durability durability = Durability.BATCHED;
+    private JsonFormat jsonFormat = JsonFormat.PRETTY;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +71,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public void setStorageMode(StorageMode storageMode) {
+        this.storageMode = storageMode;
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public void setDurability(Durability durability) {
+        this.durability = durability;
+    }
+
+    public JsonFormat getJsonFormat() {
+        return jsonFormat;
+    }
+
+    public void setJsonFormat(JsonFormat jsonFormat) {
+        this.jsonFormat = jsonFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +107,15 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(storageMode, o.storageMode)
+                && Objects.equals(durability, o.durability)
+                && Objects.equals(jsonFormat, o.jsonFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, storageMode, durability, jsonFormat);
     }
 
     @Override
@@ -0,0 +1,63 @@
+package jimmy.mcgymmy.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives every distinct value of an immutable type a small integer id, so that values can be stored as ints in
+ * primitive arrays and looked up again by id.
+ * <p>
+ * Ids are handed out in the order values are first seen and are never reused, so they are only meaningful within one
+ * session and are never saved. It is safe to use from several threads at once.
+ */
+public class IdDictionary<T> {
+
+    private final Map<T, Integer> ids = new ConcurrentHashMap<>();
+    // grown only while holding the lock; a slot is filled before its id is published in ids
+    private volatile Object[] values = new Object[16];
+    private int size = 0;
+
+    /**
+     * Returns the id of {@code value}, giving it a new id if it has not been seen before.
+     */
+    public int idOf(T value) {
+        requireNonNull(value);
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(value);
+            if (id == null) {
+                id = size;
+                Object[] current = values;
+                if (id == current.length) {
+                    current = Arrays.copyOf(current, current.length * 2);
+                }
+                current[id] = value;
+                values = current;
+                size++;
+                ids.put(value, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Returns the value with the given {@code id}, which must have been handed out by {@link #idOf(Object)}.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int id) {
+        return (T) values[id];
+    }
+
+    /**
+     * Returns the number of distinct values handed out.
+     */
+    public int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,35 @@
+package jimmy.mcgymmy.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out one shared instance for each distinct value of an immutable type, so that equal values do not each
+ * take up their own memory.
+ * <p>
+ * Every distinct value is kept for the rest of the session, so this is only meant for types whose values repeat a
+ * lot, such as the names and dates of food items. It is safe to use from several threads at once.
+ */
+public class Interner<T> {
+
+    private final Map<T, T> values = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared instance equal to {@code value}, which is {@code value} itself if it is the first of its
+     * kind.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        T existing = values.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+
+    /**
+     * Returns the number of distinct values handed out.
+     */
+    public int size() {
+        return values.size();
+    }
+}
@@ -8,5 +8,6 @@ public class Messages {
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_FOOD_DISPLAYED_INDEX = "The food index provided is invalid";
     public static final String MESSAGE_FOOD_LISTED_OVERVIEW = "%1$d food items listed!";
+    public static final String MESSAGE_ARCHIVE_LOAD_FAILURE = "Could not load older food items: %s";
 
 }
@@ -0,0 +1,293 @@
+package jimmy.mcgymmy.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list that shares its structure between versions.
+ * <p>
+ * Every update returns a new {@code PersistentVector} and leaves the original untouched, so keeping an old
+ * version around (e.g. for undo) costs nothing. Elements are kept in a size-annotated AVL tree, which makes
+ * {@code get}, {@code set}, {@code insert} and {@code remove} O(log n), with only O(log n) new nodes per update.
+ *
+ * @param <E> The type of the elements.
+ */
+public final class PersistentVector<E> implements Iterable<E> {
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(null);
+
+    private final Node<E> root;
+
+    private PersistentVector(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Creates a vector containing {@code elements} in the same order, in O(n).
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        Object[] array = elements.toArray();
+        return new PersistentVector<>(Node.build((E[]) array, 0, array.length));
+    }
+
+    public int size() {
+        return Node.size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> current = root;
+        while (true) {
+            int leftSize = Node.size(current.left);
+            if (index < leftSize) {
+                current = current.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                current = current.right;
+            } else {
+                return current.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a new vector with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentVector<E> set(int index, E element) {
+        Objects.checkIndex(index, size());
+        return new PersistentVector<>(Node.set(root, index, element));
+    }
+
+    /**
+     * Returns a new vector with {@code element} inserted at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not between 0 and {@code size()} inclusive.
+     */
+    public PersistentVector<E> insert(int index, E element) {
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentVector<>(Node.insert(root, index, element));
+    }
+
+    /**
+     * Returns a new vector with {@code element} appended to the end.
+     */
+    public PersistentVector<E> add(E element) {
+        return insert(size(), element);
+    }
+
+    /**
+     * Returns a new vector without the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentVector<E> remove(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentVector<>(Node.remove(root, index));
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this vector.
+     */
+    public List<E> asList() {
+        return new ListView();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    /**
+     * Unmodifiable {@code List} backed by the enclosing vector.
+     */
+    private class ListView extends AbstractList<E> implements RandomAccess {
+        @Override
+        public E get(int index) {
+            return PersistentVector.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return PersistentVector.this.size();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return PersistentVector.this.iterator();
+        }
+    }
+
+    /**
+     * Iterates over the tree in order, keeping the path to the current node on a stack.
+     */
+    private static class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftSpine(root);
+        }
+
+        private void pushLeftSpine(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> next = path.pop();
+            pushLeftSpine(next.right);
+            return next.value;
+        }
+    }
+
+    /**
+     * Immutable AVL tree node annotated with the size of its subtree.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        private Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+
+        private static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        private static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private static <E> Node<E> build(E[] elements, int from, int to) {
+            if (from >= to) {
+                return null;
+            }
+            int mid = (from + to) >>> 1;
+            return new Node<>(elements[mid], build(elements, from, mid), build(elements, mid + 1, to));
+        }
+
+        private static <E> Node<E> set(Node<E> node, int index, E element) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                return new Node<>(node.value, set(node.left, index, element), node.right);
+            } else if (index > leftSize) {
+                return new Node<>(node.value, node.left, set(node.right, index - leftSize - 1, element));
+            } else {
+                return new Node<>(element, node.left, node.right);
+            }
+        }
+
+        private static <E> Node<E> insert(Node<E> node, int index, E element) {
+            if (node == null) {
+                return new Node<>(element, null, null);
+            }
+            int leftSize = size(node.left);
+            if (index <= leftSize) {
+                return balance(node.value, insert(node.left, index, element), node.right);
+            } else {
+                return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+            }
+        }
+
+        private static <E> Node<E> remove(Node<E> node, int index) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                return balance(node.value, remove(node.left, index), node.right);
+            } else if (index > leftSize) {
+                return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+            } else if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            } else {
+                E successor = first(node.right);
+                return balance(successor, node.left, remove(node.right, 0));
+            }
+        }
+
+        private static <E> E first(Node<E> node) {
+            Node<E> current = node;
+            while (current.left != null) {
+                current = current.left;
+            }
+            return current.value;
+        }
+
+        /**
+         * Creates a node from the given parts, rotating if the heights of {@code left} and {@code right}
+         * differ by more than one. Only a single rebalance is ever needed after one insert or remove.
+         */
+        private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+            int leftHeight = height(left);
+            int rightHeight = height(right);
+            if (leftHeight > rightHeight + 1) {
+                if (height(left.left) >= height(left.right)) {
+                    return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+                }
+                Node<E> pivot = left.right;
+                return new Node<>(pivot.value, new Node<>(left.value, left.left, pivot.left),
+                        new Node<>(value, pivot.right, right));
+            }
+            if (rightHeight > leftHeight + 1) {
+                if (height(right.right) >= height(right.left)) {
+                    return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+                }
+                Node<E> pivot = right.left;
+                return new Node<>(pivot.value, new Node<>(value, left, pivot.left),
+                        new Node<>(right.value, pivot.right, right.right));
+            }
+            return new Node<>(value, left, right);
+        }
+    }
+}
@@ -57,11 +57,12 @@ public class LogicManager implements Logic {
         mcGymmyParser.setMacroList(model.getMacroList());
 
         try {
-            storage.saveMacroList(mcGymmyParser.getMacroList());
-            storage.saveMcGymmy(model.getMcGymmy());
+            storage.saveMacroListIfChanged(mcGymmyParser.getMacroList(), model.getMacroListVersion());
+            storage.saveMcGymmyIfChanged(model.getMcGymmy(), model.getMcGymmyVersion());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+        logger.fine(storage.getStatistics().toString());
 
         return commandResult;
     }
@@ -1,11 +1,18 @@
 package jimmy.mcgymmy.logic.commands;
 
+import java.time.YearMonth;
+import java.util.function.Predicate;
+
+import jimmy.mcgymmy.commons.core.Messages;
+import jimmy.mcgymmy.commons.exceptions.DataConversionException;
+import jimmy.mcgymmy.logic.commands.exceptions.CommandException;
 import jimmy.mcgymmy.logic.parser.exceptions.ParameterConflictException;
 import jimmy.mcgymmy.logic.parser.parameter.AbstractParameter;
 import jimmy.mcgymmy.logic.parser.parameter.OptionalParameter;
 import jimmy.mcgymmy.logic.parser.parameter.Parameter;
 import jimmy.mcgymmy.logic.parser.parameter.ParameterConverter;
 import jimmy.mcgymmy.logic.parser.parameter.ParameterSet;
+import jimmy.mcgymmy.model.Model;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -95,6 +102,20 @@ public abstract class Command implements CommandExecutable {
         return this.addOptionalParameter(name, flag, description, example, (s) -> s);
     }
 
+    /**
+     * Loads the archived foods of the months accepted by {@code months} into {@code model}, for commands that
+     * need to see older foods.
+     *
+     * @throws CommandException if the archived foods could not be read.
+     */
+    protected static void loadArchivedFoods(Model model, Predicate<YearMonth> months) throws CommandException {
+        try {
+            model.loadArchivedFoods(months);
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_ARCHIVE_LOAD_FAILURE, e.getMessage()));
+        }
+    }
+
     public ParameterSet getParameterSet() {
         return parameterSet;
     }
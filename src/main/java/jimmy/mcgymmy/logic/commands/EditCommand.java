@@ -121,7 +121,7 @@ public class EditCommand extends Command {
         Date newDate = this.dateParameter.getValue().orElseGet(foodToEdit::getDate);
         Set<Tag> tags = foodToEdit.getTags();
 
-        Food editedFood = new Food(newName, newProtein, newFat, newCarb, tags, newDate);
+        Food editedFood = new Food(foodToEdit.getId(), newName, newProtein, newFat, newCarb, tags, newDate);
 
         if (foodToEdit.equals(editedFood)) {
             return new CommandResult(String.format(MESSAGE_FOOD_NO_CHANGE, editedFood));
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.logging.Logger;
 
+import jimmy.mcgymmy.commons.core.Config.JsonFormat;
 import jimmy.mcgymmy.commons.core.LogsCenter;
 import jimmy.mcgymmy.logic.commands.exceptions.CommandException;
 import jimmy.mcgymmy.logic.parser.ParserUtil;
@@ -43,16 +44,29 @@ public class ExportCommand extends Command {
             ParserUtil::parseOutputName
     );
 
+    private OptionalParameter<JsonFormat> formatParameter = addOptionalParameter(
+            "format",
+            "f",
+            "Layout of McGymmy file, either pretty or compact",
+            "compact",
+            ParserUtil::parseJsonFormat
+    );
+
     public void setPathParameter(Parameter<Path> pathParameter, OptionalParameter<String> outputFileName) {
         this.pathParameter = pathParameter;
         this.outputFileName = outputFileName;
     }
 
+    public void setFormatParameter(OptionalParameter<JsonFormat> formatParameter) {
+        this.formatParameter = formatParameter;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         //Get the path parameter
         Path path = pathParameter.consume();
         String filename = outputFileName.getValue().orElseGet(() -> DEFAULT_FILENAME);
+        JsonFormat format = formatParameter.getValue().orElse(JsonFormat.PRETTY);
         exportLogger.info(String.format("Directory Selected: %s", path.toString()));
 
         //Check if the directory exists
@@ -64,7 +78,8 @@ public class ExportCommand extends Command {
 
         //Add the mcgymmy filename to export
         path = Paths.get(path.toString(), filename);
-        JsonMcGymmyStorage mcGymmyStorage = new JsonMcGymmyStorage(path);
+        JsonMcGymmyStorage mcGymmyStorage = new JsonMcGymmyStorage(path, format);
+        loadArchivedFoods(model, month -> true);
         try {
             mcGymmyStorage.saveMcGymmy(model.getMcGymmy());
         } catch (IOException e) {
@@ -2,20 +2,23 @@ package jimmy.mcgymmy.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import jimmy.mcgymmy.commons.core.LogsCenter;
 import jimmy.mcgymmy.commons.core.Messages;
+import jimmy.mcgymmy.logic.commands.exceptions.CommandException;
+import jimmy.mcgymmy.logic.parser.ParserUtil;
 import jimmy.mcgymmy.logic.parser.parameter.OptionalParameter;
 import jimmy.mcgymmy.logic.predicate.DatePredicate;
+import jimmy.mcgymmy.logic.predicate.FilterEngine;
+import jimmy.mcgymmy.logic.predicate.FindPredicate;
 import jimmy.mcgymmy.logic.predicate.FoodContainsKeywordsPredicate;
 import jimmy.mcgymmy.logic.predicate.NameContainsKeywordsPredicate;
+import jimmy.mcgymmy.logic.predicate.ParallelPredicate;
 import jimmy.mcgymmy.logic.predicate.TagContainsKeywordsPredicate;
 import jimmy.mcgymmy.model.Model;
-import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.date.Date;
 
 /**
  * Finds and lists all persons in mcgymmy whose name contains any of the argument keywords.
@@ -24,7 +27,11 @@ import jimmy.mcgymmy.model.food.Food;
 public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
     public static final String SHORT_DESCRIPTION = "Filter the displayed list by a given keyword.";
+    public static final String MESSAGE_DATE_CONFLICT = "Search by either a date with -d, or a range with -from "
+            + "and -to, but not both.";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The -from date must not be after the -to date.";
     private static final Logger logger = LogsCenter.getLogger(FindCommand.class);
+    private static final FilterEngine FILTER_ENGINE = new FilterEngine();
 
     private OptionalParameter<FoodContainsKeywordsPredicate> foodPredicateParameter = this.addOptionalParameter(
             "keyword",
@@ -50,6 +57,18 @@ public class FindCommand extends Command {
             "Date associated with the Food",
             "20-04-2020", DatePredicate::new
     );
+    private OptionalParameter<Date> fromDateParameter = this.addOptionalParameter(
+            "from",
+            "from",
+            "Earliest date of the Food",
+            "01-04-2020", ParserUtil::parseDate
+    );
+    private OptionalParameter<Date> toDateParameter = this.addOptionalParameter(
+            "to",
+            "to",
+            "Latest date of the Food",
+            "30-04-2020", ParserUtil::parseDate
+    );
 
     void setParameters(OptionalParameter<FoodContainsKeywordsPredicate> foodPredicateParameter,
                        OptionalParameter<NameContainsKeywordsPredicate> namePredicateParameter,
@@ -61,27 +80,49 @@ public class FindCommand extends Command {
         this.datePredicateParameter = datePredicateParameter;
     }
 
+    void setDateRangeParameters(OptionalParameter<Date> fromDateParameter, OptionalParameter<Date> toDateParameter) {
+        this.fromDateParameter = fromDateParameter;
+        this.toDateParameter = toDateParameter;
+    }
+
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         logger.fine("Executing find command");
         requireNonNull(model);
         FoodContainsKeywordsPredicate foodPredicate = foodPredicateParameter.getValue().orElse(null);
         NameContainsKeywordsPredicate namePredicate = namePredicateParameter.getValue().orElse(null);
         TagContainsKeywordsPredicate tagPredicate = tagPredicateParameter.getValue().orElse(null);
-        DatePredicate datePredicate = datePredicateParameter.getValue().orElse(null);
+        DatePredicate datePredicate = getDatePredicate();
 
-        Predicate<Food> combinedPredicate = food -> true;
-        ArrayList<Predicate<Food>> predicateList = new ArrayList<>(Arrays.asList(
-                foodPredicate, namePredicate, tagPredicate, datePredicate));
+        // Only the months being searched have to be loaded when searching by date
+        loadArchivedFoods(model, datePredicate == null ? month -> true : datePredicate::isInMonth);
 
-        for (Predicate<Food> currentPredicate : predicateList) {
-            if (currentPredicate != null) {
-                combinedPredicate = combinedPredicate.and(currentPredicate);
-            }
+        if (datePredicate == null && tagPredicate == null && foodPredicate == null && namePredicate == null) {
+            model.updateFilteredFoodList(food -> true);
+        } else {
+            // Only food items found through the indices by every criterion are tested, on all cores for a large log
+            FindPredicate findPredicate = new FindPredicate(datePredicate, tagPredicate, foodPredicate, namePredicate);
+            model.updateFilteredFoodList(new ParallelPredicate(findPredicate, FILTER_ENGINE));
         }
-
-        model.updateFilteredFoodList(combinedPredicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_FOOD_LISTED_OVERVIEW, model.getFilteredFoodList().size()));
     }
+
+    /**
+     * Returns the predicate for the date or range of dates given, or null if there is none.
+     */
+    private DatePredicate getDatePredicate() throws CommandException {
+        Date fromDate = fromDateParameter.getValue().orElse(null);
+        Date toDate = toDateParameter.getValue().orElse(null);
+        if (fromDate == null && toDate == null) {
+            return datePredicateParameter.getValue().orElse(null);
+        }
+        if (datePredicateParameter.getValue().isPresent()) {
+            throw new CommandException(MESSAGE_DATE_CONFLICT);
+        }
+        if (fromDate != null && toDate != null && fromDate.toLocalDate().isAfter(toDate.toLocalDate())) {
+            throw new CommandException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        return new DatePredicate(fromDate, toDate);
+    }
 }
@@ -6,6 +6,7 @@ import java.util.logging.Logger;
 
 import jimmy.mcgymmy.commons.core.LogsCenter;
 import jimmy.mcgymmy.commons.exceptions.DataConversionException;
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
 import jimmy.mcgymmy.logic.commands.exceptions.CommandException;
 import jimmy.mcgymmy.logic.parser.ParserUtil;
 import jimmy.mcgymmy.logic.parser.parameter.Parameter;
@@ -23,6 +24,7 @@ public class ImportCommand extends Command {
 
     public static final String MESSAGE_IMPORT_FOOD_SUCCESS = "Imported %s";
     public static final String MESSAGE_IMPORT_FOOD_FAILURE = "Please select a valid .json file: %s";
+    public static final String MESSAGE_INVALID_FOOD_RECORD = "%s\n%s";
 
     private static final Logger importLogger = LogsCenter.getLogger(ExportCommand.class);
 
@@ -52,12 +54,19 @@ public class ImportCommand extends Command {
                 throw new CommandException(localFailureMessage);
             }
 
+            // Archived foods are replaced too, and must be in McGymmy for the import to be undone
+            loadArchivedFoods(model, month -> true);
             model.setMcGymmy(readOnlyMcGymmyOptional.get());
             importLogger.fine(localSuccessMessage);
             return new CommandResult(localSuccessMessage);
 
         } catch (DataConversionException e) {
             importLogger.warning(localFailureMessage);
+            if (e.getCause() instanceof IllegalValueException) {
+                // Point the user to the food record that could not be imported
+                throw new CommandException(String.format(MESSAGE_INVALID_FOOD_RECORD, localFailureMessage,
+                        e.getCause().getMessage()));
+            }
             throw new CommandException(localFailureMessage);
         }
     }
@@ -0,0 +1,72 @@
+package jimmy.mcgymmy.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.logging.Logger;
+
+import jimmy.mcgymmy.commons.core.LogsCenter;
+import jimmy.mcgymmy.commons.core.Messages;
+import jimmy.mcgymmy.logic.commands.exceptions.CommandException;
+import jimmy.mcgymmy.logic.parser.exceptions.ParseException;
+import jimmy.mcgymmy.logic.parser.parameter.Parameter;
+import jimmy.mcgymmy.logic.predicate.FilterEngine;
+import jimmy.mcgymmy.logic.predicate.ParallelPredicate;
+import jimmy.mcgymmy.logic.query.Expression;
+import jimmy.mcgymmy.logic.query.QueryParser;
+import jimmy.mcgymmy.logic.query.QueryPlan;
+import jimmy.mcgymmy.logic.query.QueryPlanner;
+import jimmy.mcgymmy.model.Model;
+import jimmy.mcgymmy.model.food.FoodIndex;
+
+/**
+ * Filters the displayed list by a query on the macronutrients, calories, dates, tags and names of the food items.
+ * A query starting with {@code explain} also shows how the food items were found.
+ */
+public class QueryCommand extends Command {
+    public static final String COMMAND_WORD = "query";
+    public static final String SHORT_DESCRIPTION = "Filter the displayed list by a query, such as "
+            + "protein >= 20 and not tag snack.";
+    public static final String EXPLAIN_WORD = "explain";
+    private static final Logger logger = LogsCenter.getLogger(QueryCommand.class);
+    private static final FilterEngine FILTER_ENGINE = new FilterEngine();
+
+    private Parameter<String> queryParameter = this.addParameter(
+            "query",
+            "",
+            "query, optionally starting with 'explain' to show how it was run",
+            "calories > 500 and (tag lunch or date from 01-04-2020 to 30-04-2020)"
+    );
+
+    void setParameters(Parameter<String> queryParameter) {
+        this.queryParameter = queryParameter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        logger.fine("Executing query command");
+        requireNonNull(model);
+        String query = queryParameter.consume().trim();
+        String firstWord = query.split("\\s+", 2)[0];
+        boolean isExplained = firstWord.toLowerCase(Locale.ROOT).equals(EXPLAIN_WORD);
+        if (isExplained) {
+            query = query.substring(EXPLAIN_WORD.length());
+        }
+        Expression expression;
+        try {
+            expression = QueryParser.parse(query);
+        } catch (ParseException e) {
+            throw new CommandException(e.getMessage());
+        }
+
+        // Only the months the query can match have to be loaded
+        loadArchivedFoods(model, expression::mayMatchIn);
+        FoodIndex index = model.getFoodIndex();
+        QueryPlan plan = QueryPlanner.plan(expression, index);
+        model.updateFilteredFoodList(new ParallelPredicate(plan, FILTER_ENGINE));
+
+        int matchCount = model.getFilteredFoodList().size();
+        String message = String.format(Messages.MESSAGE_FOOD_LISTED_OVERVIEW, matchCount);
+        return new CommandResult(isExplained ? message + "\n" + plan.explain(index, matchCount) : message);
+    }
+}
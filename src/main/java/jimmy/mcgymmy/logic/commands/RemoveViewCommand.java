@@ -0,0 +1,42 @@
+package jimmy.mcgymmy.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import jimmy.mcgymmy.logic.commands.exceptions.CommandException;
+import jimmy.mcgymmy.logic.parser.parameter.Parameter;
+import jimmy.mcgymmy.model.Model;
+import jimmy.mcgymmy.model.macro.MacroList;
+
+/**
+ * Removes a saved view from the Model.
+ */
+public class RemoveViewCommand extends Command {
+    public static final String COMMAND_WORD = "remview";
+    public static final String SHORT_DESCRIPTION = "Remove a saved view in McGymmy.";
+    public static final String MESSAGE_SUCCESS = "View successfully removed: %1$s";
+
+    private Parameter<String> nameParameter = this.addParameter(
+            "name",
+            "",
+            "Name of the view to remove",
+            "highprotein"
+    );
+
+    void setParameters(Parameter<String> nameParameter) {
+        this.nameParameter = nameParameter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        MacroList macroList = model.getMacroList();
+        String viewName = nameParameter.consume().trim();
+
+        if (!macroList.hasView(viewName)) {
+            throw new CommandException(viewName + " is not an existing view.");
+        }
+
+        model.setMacroList(macroList.withoutView(viewName));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, viewName));
+    }
+}
@@ -0,0 +1,49 @@
+package jimmy.mcgymmy.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.logic.commands.exceptions.CommandException;
+import jimmy.mcgymmy.logic.parser.parameter.Parameter;
+import jimmy.mcgymmy.model.Model;
+import jimmy.mcgymmy.model.macro.SavedView;
+
+/**
+ * Saves a query as a named view, which can then be shown with {@code view}.
+ */
+public class SaveViewCommand extends Command {
+    public static final String COMMAND_WORD = "saveview";
+    public static final String SHORT_DESCRIPTION = "Save a query as a named view, replacing any view of that name.";
+    public static final String MESSAGE_SUCCESS = "View saved: %1$s";
+
+    private Parameter<String> nameParameter = this.addParameter(
+            "name",
+            "",
+            "Name of the view",
+            "highprotein"
+    );
+    private Parameter<String> queryParameter = this.addParameter(
+            "query",
+            "q",
+            "Query matching the food items in the view, as in the query command",
+            "protein >= 30"
+    );
+
+    void setParameters(Parameter<String> nameParameter, Parameter<String> queryParameter) {
+        this.nameParameter = nameParameter;
+        this.queryParameter = queryParameter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        SavedView view;
+        try {
+            view = new SavedView(nameParameter.consume().trim(), queryParameter.consume().trim());
+        } catch (IllegalValueException e) {
+            throw new CommandException(e.getMessage());
+        }
+        model.setMacroList(model.getMacroList().withView(view));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, view));
+    }
+}
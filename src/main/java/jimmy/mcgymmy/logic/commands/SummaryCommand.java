@@ -0,0 +1,74 @@
+package jimmy.mcgymmy.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import jimmy.mcgymmy.logic.commands.exceptions.CommandException;
+import jimmy.mcgymmy.logic.parser.ParserUtil;
+import jimmy.mcgymmy.logic.parser.parameter.OptionalParameter;
+import jimmy.mcgymmy.model.Model;
+import jimmy.mcgymmy.model.date.Date;
+import jimmy.mcgymmy.model.food.NutrientTotals;
+
+/**
+ * Shows the total calories and macronutrients of the food items in a range of dates, without changing the
+ * displayed list.
+ */
+public class SummaryCommand extends Command {
+
+    public static final String COMMAND_WORD = "summary";
+    public static final String SHORT_DESCRIPTION = "Show the total calories and macronutrients over a range of dates.";
+    public static final String MESSAGE_SUCCESS = "Summary of %s:\n"
+            + "Food items: %d\nCalories: %d\nProtein: %d\nCarbs: %d\nFat: %d";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The -from date must not be after the -to date.";
+
+    private OptionalParameter<Date> fromDateParameter = this.addOptionalParameter(
+            "from",
+            "from",
+            "Earliest date to include",
+            "01-04-2020", ParserUtil::parseDate
+    );
+    private OptionalParameter<Date> toDateParameter = this.addOptionalParameter(
+            "to",
+            "to",
+            "Latest date to include",
+            "30-04-2020", ParserUtil::parseDate
+    );
+
+    void setParameters(OptionalParameter<Date> fromDateParameter, OptionalParameter<Date> toDateParameter) {
+        this.fromDateParameter = fromDateParameter;
+        this.toDateParameter = toDateParameter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        LocalDate from = fromDateParameter.getValue().map(Date::toLocalDate).orElse(LocalDate.MIN);
+        LocalDate to = toDateParameter.getValue().map(Date::toLocalDate).orElse(LocalDate.MAX);
+        if (from.isAfter(to)) {
+            throw new CommandException(MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        // Only the months in the range have to be loaded
+        loadArchivedFoods(model, month -> !month.isBefore(YearMonth.from(from)) && !month.isAfter(YearMonth.from(to)));
+        NutrientTotals totals = model.getTotals(from, to);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, describeRange(), totals.getFoodCount(),
+                totals.getCalories(), totals.getProteins(), totals.getCarbs(), totals.getFats()));
+    }
+
+    private String describeRange() {
+        String from = fromDateParameter.getValue().map(Date::toString).orElse(null);
+        String to = toDateParameter.getValue().map(Date::toString).orElse(null);
+        if (from == null && to == null) {
+            return "all food items";
+        } else if (to == null) {
+            return "food items from " + from;
+        } else if (from == null) {
+            return "food items up to " + to;
+        } else {
+            return "food items from " + from + " to " + to;
+        }
+    }
+}
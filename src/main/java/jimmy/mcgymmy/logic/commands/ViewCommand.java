@@ -0,0 +1,68 @@
+package jimmy.mcgymmy.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import jimmy.mcgymmy.commons.core.Messages;
+import jimmy.mcgymmy.logic.commands.exceptions.CommandException;
+import jimmy.mcgymmy.logic.parser.parameter.OptionalParameter;
+import jimmy.mcgymmy.model.Model;
+import jimmy.mcgymmy.model.macro.MacroList;
+import jimmy.mcgymmy.model.macro.SavedView;
+
+/**
+ * Shows the food items in a saved view, or lists the saved views.
+ * The food items of every saved view are kept up to date, so showing one does not filter the food items again.
+ */
+public class ViewCommand extends Command {
+    public static final String COMMAND_WORD = "view";
+    public static final String SHORT_DESCRIPTION = "Show the food items in a saved view, or list all saved views.";
+    public static final String MESSAGE_NO_VIEWS = "There are no saved views. Use 'saveview' to save one.";
+
+    private OptionalParameter<String> nameParameter = this.addOptionalParameter(
+            "name",
+            "",
+            "Name of the view to show",
+            "highprotein"
+    );
+
+    void setParameters(OptionalParameter<String> nameParameter) {
+        this.nameParameter = nameParameter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        MacroList macroList = model.getMacroList();
+        Optional<String> name = nameParameter.getValue().map(String::trim);
+
+        if (name.isEmpty()) {
+            return new CommandResult(listAllViews(macroList.getViews()));
+        }
+
+        String viewName = name.get();
+        if (!macroList.hasView(viewName)) {
+            throw new CommandException(viewName + " is not an existing view.");
+        }
+
+        // Only the months the view can match have to be loaded
+        loadArchivedFoods(model, macroList.getView(viewName)::mayMatchIn);
+        model.showSavedView(viewName);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_FOOD_LISTED_OVERVIEW, model.getFilteredFoodList().size()));
+    }
+
+    private String listAllViews(List<SavedView> views) {
+        if (views.isEmpty()) {
+            return MESSAGE_NO_VIEWS;
+        }
+        StringBuilder sb = new StringBuilder("Here are all the saved views.");
+        sb.append("\n\nType '").append(COMMAND_WORD).append(" VIEW_NAME' to show a view.\n\n");
+        for (SavedView view : views) {
+            sb.append(view).append("\n");
+        }
+        return sb.toString();
+    }
+}
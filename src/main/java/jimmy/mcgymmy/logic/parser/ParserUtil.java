@@ -15,6 +15,7 @@ import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Options;
 
 import javafx.util.Pair;
+import jimmy.mcgymmy.commons.core.Config.JsonFormat;
 import jimmy.mcgymmy.commons.core.index.Index;
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
 import jimmy.mcgymmy.commons.util.FileUtil;
@@ -64,7 +65,7 @@ public class ParserUtil {
         requireNonNull(name);
         String trimmedName = name.trim();
         try {
-            return new Name(trimmedName);
+            return new Name(trimmedName).intern();
         } catch (IllegalValueException e) {
             throw new ParseException(e.getMessage());
         }
@@ -99,7 +100,7 @@ public class ParserUtil {
     public static Protein parseProtein(String protein) throws ParseException {
         int proteinValue = getNutrientValue(protein, Protein.MESSAGE_CONSTRAINTS);
         try {
-            return new Protein(proteinValue);
+            return new Protein(proteinValue).intern();
         } catch (IllegalValueException e) {
             throw new ParseException(e.getMessage());
         }
@@ -115,7 +116,7 @@ public class ParserUtil {
     public static Carbohydrate parseCarb(String carb) throws ParseException {
         int carbValue = getNutrientValue(carb, Carbohydrate.MESSAGE_CONSTRAINTS);
         try {
-            return new Carbohydrate(carbValue);
+            return new Carbohydrate(carbValue).intern();
         } catch (IllegalValueException e) {
             throw new ParseException(e.getMessage());
         }
@@ -130,7 +131,7 @@ public class ParserUtil {
     public static Fat parseFat(String fat) throws ParseException {
         int fatValue = getNutrientValue(fat, Fat.MESSAGE_CONSTRAINTS);
         try {
-            return new Fat(fatValue);
+            return new Fat(fatValue).intern();
         } catch (IllegalValueException e) {
             throw new ParseException(e.getMessage());
         }
@@ -146,7 +147,7 @@ public class ParserUtil {
         requireNonNull(tag);
         String trimmedTag = tag.trim();
         try {
-            return new Tag(trimmedTag);
+            return new Tag(trimmedTag).intern();
         } catch (IllegalValueException e) {
             throw new ParseException(e.getMessage());
         }
@@ -220,6 +221,23 @@ public class ParserUtil {
         return outputPath;
     }
 
+    /**
+     * Parses a {@code String format} into a {@code JsonFormat}.
+     * Leading and trailing whitespaces will be trimmed, and case is ignored.
+     *
+     * @throws ParseException if the given {@code format} is neither pretty nor compact.
+     */
+    public static JsonFormat parseJsonFormat(String format) throws ParseException {
+        requireNonNull(format);
+        String trimmedFormat = format.trim();
+        for (JsonFormat jsonFormat : JsonFormat.values()) {
+            if (jsonFormat.name().equalsIgnoreCase(trimmedFormat)) {
+                return jsonFormat;
+            }
+        }
+        throw new ParseException("Format should be either pretty or compact");
+    }
+
     /**
      * Parses a {@code String tag} into a {@code Tag}.
      * Leading and trailing whitespaces will be trimmed.
@@ -228,7 +246,7 @@ public class ParserUtil {
         requireNonNull(date);
         String trimmedDate = date.trim();
         try {
-            return new Date(trimmedDate);
+            return new Date(trimmedDate).intern();
         } catch (IllegalValueException e) {
             throw new ParseException(e.getMessage());
         }
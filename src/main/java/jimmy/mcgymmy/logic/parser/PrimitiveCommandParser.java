@@ -29,10 +29,15 @@ import jimmy.mcgymmy.logic.commands.FindCommand;
 import jimmy.mcgymmy.logic.commands.ImportCommand;
 import jimmy.mcgymmy.logic.commands.ListCommand;
 import jimmy.mcgymmy.logic.commands.ListMacroCommand;
+import jimmy.mcgymmy.logic.commands.QueryCommand;
 import jimmy.mcgymmy.logic.commands.RemoveMacroCommand;
+import jimmy.mcgymmy.logic.commands.RemoveViewCommand;
+import jimmy.mcgymmy.logic.commands.SaveViewCommand;
+import jimmy.mcgymmy.logic.commands.SummaryCommand;
 import jimmy.mcgymmy.logic.commands.TagCommand;
 import jimmy.mcgymmy.logic.commands.UnTagCommand;
 import jimmy.mcgymmy.logic.commands.UndoCommand;
+import jimmy.mcgymmy.logic.commands.ViewCommand;
 import jimmy.mcgymmy.logic.parser.exceptions.ParseException;
 import jimmy.mcgymmy.logic.parser.parameter.AbstractParameter;
 import jimmy.mcgymmy.logic.parser.parameter.ParameterSet;
@@ -54,6 +59,8 @@ public class PrimitiveCommandParser {
         addCommand(ClearCommand.COMMAND_WORD, ClearCommand.SHORT_DESCRIPTION, ClearCommand::new);
         addCommand(ExitCommand.COMMAND_WORD, ExitCommand.SHORT_DESCRIPTION, ExitCommand::new);
         addCommand(FindCommand.COMMAND_WORD, FindCommand.SHORT_DESCRIPTION, FindCommand::new);
+        addCommand(SummaryCommand.COMMAND_WORD, SummaryCommand.SHORT_DESCRIPTION, SummaryCommand::new);
+        addCommand(QueryCommand.COMMAND_WORD, QueryCommand.SHORT_DESCRIPTION, QueryCommand::new);
         addCommand(ListCommand.COMMAND_WORD, ListCommand.SHORT_DESCRIPTION, ListCommand::new);
         addCommand(TagCommand.COMMAND_WORD, TagCommand.SHORT_DESCRIPTION, TagCommand::new);
         addCommand(UnTagCommand.COMMAND_WORD, UnTagCommand.SHORT_DESCRIPTION, UnTagCommand::new);
@@ -62,6 +69,9 @@ public class PrimitiveCommandParser {
         addCommand(ExportCommand.COMMAND_WORD, ExportCommand.SHORT_DESCRIPTION, ExportCommand::new);
         addCommand(ListMacroCommand.COMMAND_WORD, ListMacroCommand.SHORT_DESCRIPTION, ListMacroCommand::new);
         addCommand(RemoveMacroCommand.COMMAND_WORD, RemoveMacroCommand.SHORT_DESCRIPTION, RemoveMacroCommand::new);
+        addCommand(SaveViewCommand.COMMAND_WORD, SaveViewCommand.SHORT_DESCRIPTION, SaveViewCommand::new);
+        addCommand(ViewCommand.COMMAND_WORD, ViewCommand.SHORT_DESCRIPTION, ViewCommand::new);
+        addCommand(RemoveViewCommand.COMMAND_WORD, RemoveViewCommand.SHORT_DESCRIPTION, RemoveViewCommand::new);
     }
 
     /**
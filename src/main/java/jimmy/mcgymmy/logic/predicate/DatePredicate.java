@@ -1,44 +1,87 @@
 package jimmy.mcgymmy.logic.predicate;
 
-import java.util.function.Predicate;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.logging.Logger;
 
 import jimmy.mcgymmy.commons.core.LogsCenter;
 import jimmy.mcgymmy.logic.parser.ParserUtil;
 import jimmy.mcgymmy.logic.parser.exceptions.ParseException;
+import jimmy.mcgymmy.model.IndexablePredicate;
 import jimmy.mcgymmy.model.date.Date;
 import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodIndex;
 
 /**
- * Tests that a {@code Food}'s {@code Date} matches the {@code String} date given.
+ * Tests that a {@code Food}'s {@code Date} matches the {@code String} date given, or falls in a range of dates.
+ * The matching food items are found through the date index of the food list.
  */
-public class DatePredicate implements Predicate<Food> {
+public class DatePredicate implements IndexablePredicate {
     private static final Logger logger = LogsCenter.getLogger(DatePredicate.class);
-    private final Date date;
+    private final LocalDate from;
+    private final LocalDate to;
 
     /**
      * Initialises {@code DatePredicate} object.
      */
     public DatePredicate(String date) throws ParseException {
-        this.date = ParserUtil.parseDate(date);
+        this(ParserUtil.parseDate(date));
     }
 
     /**
-     * Checks if the food contains the same date as the input (format insensitive)
+     * Initialises a {@code DatePredicate} that matches the food items on {@code date}.
+     */
+    public DatePredicate(Date date) {
+        this(date, date);
+    }
+
+    /**
+     * Initialises a {@code DatePredicate} that matches the food items from {@code from} to {@code to} inclusive.
+     * A missing bound leaves that end of the range open.
+     */
+    public DatePredicate(Date from, Date to) {
+        this.from = from == null ? LocalDate.MIN : from.toLocalDate();
+        this.to = to == null ? LocalDate.MAX : to.toLocalDate();
+    }
+
+    /**
+     * Checks if the food's date is in the range of this predicate (format insensitive)
      *
      * @param food The food to be checked
-     * @return True if Food contains the date equal to the input date, false otherwise
+     * @return True if Food's date is in the range, false otherwise
      */
     @Override
     public boolean test(Food food) {
-        return this.date.equals(food.getDate());
+        LocalDate date = food.getDate().toLocalDate();
+        return !date.isBefore(from) && !date.isAfter(to);
+    }
+
+    @Override
+    public int[] findCandidates(FoodIndex index) {
+        return index.findByDate(from, to);
+    }
+
+    LocalDate getFrom() {
+        return from;
+    }
+
+    LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * Returns true if foods in {@code month} can match this predicate.
+     */
+    public boolean isInMonth(YearMonth month) {
+        return !month.atEndOfMonth().isBefore(from) && !month.atDay(1).isAfter(to);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DatePredicate // instanceof handles nulls
-                && date.equals(((DatePredicate) other).date)); // state check
+                && from.equals(((DatePredicate) other).from)
+                && to.equals(((DatePredicate) other).to)); // state check
     }
 
 }
@@ -0,0 +1,203 @@
+package jimmy.mcgymmy.logic.predicate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import jimmy.mcgymmy.commons.util.CollectionUtil;
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodRowList;
+import jimmy.mcgymmy.model.food.RowPredicate;
+
+/**
+ * Tests a predicate against the food items in a list and gives the ones that match as a bitmap of their positions.
+ * <p>
+ * Large lists are split into chunks that are tested on a {@code ForkJoinPool}. Every chunk covers whole 64-bit words
+ * of the bitmap, so the chunks set their bits without any locking. Lists smaller than the parallel threshold are
+ * tested on the calling thread, where splitting them would cost more than it saves. A {@link RowPredicate} is tested
+ * against the stored food items of a {@link FoodRowList} without reading them as {@code Food}. The list must not
+ * change, and
+ * the predicate must be safe to test from several threads, while the food items are being tested.
+ */
+public class FilterEngine {
+
+    /**
+     * Lists with fewer food items to test than this are tested on the calling thread.
+     */
+    public static final int MIN_PARALLEL_SIZE = 16_384;
+
+    // at most this many food items are tested by one task; a multiple of 64 so chunks never share a word
+    private static final int CHUNK_SIZE = 4096;
+
+    private final ForkJoinPool pool;
+    private final int minParallelSize;
+
+    /**
+     * Creates an engine that tests large lists on the common {@code ForkJoinPool}.
+     */
+    public FilterEngine() {
+        this(ForkJoinPool.commonPool(), MIN_PARALLEL_SIZE);
+    }
+
+    /**
+     * Creates an engine that tests lists of at least {@code minParallelSize} food items on {@code pool}.
+     */
+    public FilterEngine(ForkJoinPool pool, int minParallelSize) {
+        requireNonNull(pool);
+        this.pool = pool;
+        this.minParallelSize = minParallelSize;
+    }
+
+    /**
+     * Returns the positions in {@code [from, to)} of the food items in {@code foods} that match {@code predicate}.
+     */
+    public BitSet filter(List<? extends Food> foods, int from, int to, Predicate<? super Food> predicate) {
+        CollectionUtil.requireAllNonNull(foods, predicate);
+        if (from < 0 || from > to || to > foods.size()) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + "), Size: " + foods.size());
+        }
+        long[] words = new long[wordCount(to)];
+        RangeTask task = new RangeTask(foods, predicate, words, from, to);
+        if (to - from < minParallelSize) {
+            task.testAll();
+        } else {
+            pool.invoke(task);
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Returns the positions among {@code positions}, which are in increasing order, of the food items in
+     * {@code foods} that match {@code predicate}.
+     */
+    public BitSet filter(List<? extends Food> foods, int[] positions, Predicate<? super Food> predicate) {
+        CollectionUtil.requireAllNonNull(foods, positions, predicate);
+        long[] words = new long[positions.length == 0 ? 0 : wordCount(positions[positions.length - 1] + 1)];
+        PositionsTask task = new PositionsTask(foods, predicate, words, positions, 0, positions.length);
+        if (positions.length < minParallelSize) {
+            task.testAll();
+        } else {
+            pool.invoke(task);
+        }
+        return BitSet.valueOf(words);
+    }
+
+    private static int wordCount(int bitCount) {
+        return (bitCount + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    private static void testAndSet(List<? extends Food> foods, Predicate<? super Food> predicate, long[] words,
+            int position) {
+        if (predicate.test(foods.get(position))) {
+            setBit(words, position);
+        }
+    }
+
+    private static void setBit(long[] words, int position) {
+        words[position >>> 6] |= 1L << position;
+    }
+
+    private static boolean isTestedAsRows(List<? extends Food> foods, Predicate<? super Food> predicate) {
+        return foods instanceof FoodRowList && predicate instanceof RowPredicate;
+    }
+
+    /**
+     * Tests the food items at positions {@code [from, to)}.
+     */
+    private static class RangeTask extends RecursiveAction {
+        private final List<? extends Food> foods;
+        private final Predicate<? super Food> predicate;
+        private final long[] words;
+        private final int from;
+        private final int to;
+
+        RangeTask(List<? extends Food> foods, Predicate<? super Food> predicate, long[] words, int from, int to) {
+            this.foods = foods;
+            this.predicate = predicate;
+            this.words = words;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                testAll();
+                return;
+            }
+            // split on a word boundary, so that the halves never write to the same word
+            int middle = ((from + to) >>> 1) & -Long.SIZE;
+            invokeAll(new RangeTask(foods, predicate, words, from, middle),
+                    new RangeTask(foods, predicate, words, middle, to));
+        }
+
+        void testAll() {
+            if (isTestedAsRows(foods, predicate)) {
+                for (int position : ((FoodRowList) foods).testRows(from, to, (RowPredicate) predicate)) {
+                    setBit(words, position);
+                }
+                return;
+            }
+            for (int position = from; position < to; position++) {
+                testAndSet(foods, predicate, words, position);
+            }
+        }
+    }
+
+    /**
+     * Tests the food items at {@code positions[start]} to {@code positions[end - 1]}.
+     */
+    private static class PositionsTask extends RecursiveAction {
+        private final List<? extends Food> foods;
+        private final Predicate<? super Food> predicate;
+        private final long[] words;
+        private final int[] positions;
+        private final int start;
+        private final int end;
+
+        PositionsTask(List<? extends Food> foods, Predicate<? super Food> predicate, long[] words, int[] positions,
+                int start, int end) {
+            this.foods = foods;
+            this.predicate = predicate;
+            this.words = words;
+            this.positions = positions;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= CHUNK_SIZE) {
+                testAll();
+                return;
+            }
+            // move the split past the positions in the same word as the one before it
+            int middle = (start + end) >>> 1;
+            while (middle < end && positions[middle] >>> 6 == positions[middle - 1] >>> 6) {
+                middle++;
+            }
+            if (middle == end) {
+                testAll();
+                return;
+            }
+            invokeAll(new PositionsTask(foods, predicate, words, positions, start, middle),
+                    new PositionsTask(foods, predicate, words, positions, middle, end));
+        }
+
+        void testAll() {
+            if (isTestedAsRows(foods, predicate)) {
+                for (int position : ((FoodRowList) foods).testRows(positions, start, end, (RowPredicate) predicate)) {
+                    setBit(words, position);
+                }
+                return;
+            }
+            for (int i = start; i < end; i++) {
+                testAndSet(foods, predicate, words, positions[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package jimmy.mcgymmy.logic.predicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import jimmy.mcgymmy.model.IndexablePredicate;
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.FoodRow;
+import jimmy.mcgymmy.model.food.RowPredicate;
+import jimmy.mcgymmy.model.tag.SearchedTags;
+
+/**
+ * Tests that a {@code Food} matches all the criteria of a {@code find}, compiled into one predicate.
+ * <p>
+ * The keywords of every criterion are case-folded and turned into tags once, when the predicate is created, and the
+ * words of each name are split once and kept by the {@code Name}. Testing a food item then only compares days,
+ * tag bitmaps and words, and allocates nothing, so stored food items are tested as {@link FoodRow}s. The cheaper
+ * criteria are tested first. The candidates are the food items found through the indices by every criterion.
+ */
+public class FindPredicate implements IndexablePredicate, RowPredicate {
+    private final List<IndexablePredicate> criteria = new ArrayList<>();
+    private final IndexablePredicate candidateFinder;
+
+    // the criteria, compiled; the days span every date if no date is given, and the others are null if not given
+    private final long fromDay;
+    private final long toDay;
+    private final SearchedTags tags;
+    private final List<String> nameWords;
+    private final SearchedTags keywordTags;
+    private final List<String> keywordWords;
+
+    /**
+     * Creates a predicate that matches food items matched by all of the given criteria, each of which may be null
+     * if it is not given. At least one criterion must be given.
+     */
+    public FindPredicate(DatePredicate datePredicate, TagContainsKeywordsPredicate tagPredicate,
+            FoodContainsKeywordsPredicate foodPredicate, NameContainsKeywordsPredicate namePredicate) {
+        criteria.addAll(Arrays.asList(datePredicate, tagPredicate, foodPredicate, namePredicate));
+        criteria.removeIf(Objects::isNull);
+        if (criteria.isEmpty()) {
+            throw new IllegalArgumentException("At least one criterion must be given");
+        }
+
+        IndexablePredicate combined = criteria.get(0);
+        for (int i = 1; i < criteria.size(); i++) {
+            combined = combined.and(criteria.get(i));
+        }
+        candidateFinder = combined;
+
+        fromDay = datePredicate == null ? Long.MIN_VALUE : datePredicate.getFrom().toEpochDay();
+        toDay = datePredicate == null ? Long.MAX_VALUE : datePredicate.getTo().toEpochDay();
+        tags = tagPredicate == null ? null : tagPredicate.getSearchedTags();
+        nameWords = namePredicate == null ? null : namePredicate.getWords();
+        keywordTags = foodPredicate == null ? null : foodPredicate.getTagPredicate().getSearchedTags();
+        keywordWords = foodPredicate == null ? null : foodPredicate.getNamePredicate().getWords();
+    }
+
+    @Override
+    public boolean testRow(FoodRow food) {
+        long day = food.getEpochDay();
+        if (day < fromDay || day > toDay) {
+            return false;
+        }
+        if (tags != null && !food.getTagSet().intersects(tags.getTagSet())) {
+            return false;
+        }
+        if (keywordTags != null && !food.getTagSet().intersects(keywordTags.getTagSet())
+                && !NameContainsKeywordsPredicate.containsAny(food.getName().getWords(), keywordWords)) {
+            return false;
+        }
+        return nameWords == null || NameContainsKeywordsPredicate.containsAny(food.getName().getWords(), nameWords);
+    }
+
+    @Override
+    public int[] findCandidates(FoodIndex index) {
+        return candidateFinder.findCandidates(index);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindPredicate // instanceof handles nulls
+                && criteria.equals(((FindPredicate) other).criteria)); // state check
+    }
+}
@@ -1,24 +1,48 @@
 package jimmy.mcgymmy.logic.predicate;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
+import jimmy.mcgymmy.model.IndexablePredicate;
 import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodIndex;
 
 /**
  * Tests that a {@code Food} matches any of the keywords given.
+ * The candidates are the union of the food items found by tag and by name.
  */
-public class FoodContainsKeywordsPredicate implements Predicate<Food> {
+public class FoodContainsKeywordsPredicate implements IndexablePredicate {
     private final List<String> keywords;
+    private final TagContainsKeywordsPredicate tagPredicate;
+    private final NameContainsKeywordsPredicate namePredicate;
 
+    /**
+     * Creates a predicate that matches food items with a tag or a word in their name from the {@code keywords}.
+     */
     public FoodContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.tagPredicate = new TagContainsKeywordsPredicate(keywords);
+        this.namePredicate = new NameContainsKeywordsPredicate(keywords);
     }
 
     @Override
     public boolean test(Food food) {
-        return new TagContainsKeywordsPredicate(keywords).test(food)
-                || new NameContainsKeywordsPredicate(keywords).test(food);
+        return tagPredicate.test(food) || namePredicate.test(food);
+    }
+
+    @Override
+    public int[] findCandidates(FoodIndex index) {
+        return IntStream.concat(Arrays.stream(tagPredicate.findCandidates(index)),
+                Arrays.stream(namePredicate.findCandidates(index))).sorted().distinct().toArray();
+    }
+
+    TagContainsKeywordsPredicate getTagPredicate() {
+        return tagPredicate;
+    }
+
+    NameContainsKeywordsPredicate getNamePredicate() {
+        return namePredicate;
     }
 
     @Override
@@ -1,36 +1,70 @@
 package jimmy.mcgymmy.logic.predicate;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import jimmy.mcgymmy.commons.core.LogsCenter;
-import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
-import jimmy.mcgymmy.commons.util.StringUtil;
+import jimmy.mcgymmy.model.IndexablePredicate;
 import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.Name;
 
 /**
  * Tests that a {@code Food}'s {@code Name} matches any of the keywords given.
+ * The food items with the words can be found through the name index of a {@link FoodIndex}.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Food> {
+public class NameContainsKeywordsPredicate implements IndexablePredicate {
     private static final Logger logger = LogsCenter.getLogger(NameContainsKeywordsPredicate.class);
     private final List<String> keywords;
+    // the keywords that are single words, case-folded like the words of a name
+    private final List<String> words = new ArrayList<>();
 
+    /**
+     * Creates a predicate that matches food items with any of the {@code keywords} as a word in their name,
+     * ignoring case.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            String word = keyword.trim();
+            if (word.isEmpty() || word.split("\\s+").length != 1) {
+                logger.fine("Ignoring keyword that is not a single word: " + keyword);
+                continue;
+            }
+            words.add(Name.foldCase(word));
+        }
     }
 
     @Override
     public boolean test(Food food) {
         assert food != null : "NameContainsKeywordsPredicate -> Name cannot be null";
-        return keywords.stream()
-                .anyMatch(keyword -> {
-                    try {
-                        return StringUtil.containsWordIgnoreCase(food.getName().fullName, keyword);
-                    } catch (IllegalValueException e) {
-                        return false;
-                    }
-                });
+        return containsAny(food.getName().getWords(), words);
+    }
+
+    /**
+     * Returns true if {@code wordsInName} has any of the case-folded {@code words}.
+     */
+    static boolean containsAny(Set<String> wordsInName, List<String> words) {
+        for (int i = 0; i < words.size(); i++) {
+            if (wordsInName.contains(words.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the keywords that are single words, case-folded.
+     */
+    List<String> getWords() {
+        return words;
+    }
+
+    @Override
+    public int[] findCandidates(FoodIndex index) {
+        return index.findByNameWords(words);
     }
 
     @Override
@@ -0,0 +1,55 @@
+package jimmy.mcgymmy.logic.predicate;
+
+import java.util.BitSet;
+import java.util.List;
+
+import jimmy.mcgymmy.commons.util.CollectionUtil;
+import jimmy.mcgymmy.model.BitmapPredicate;
+import jimmy.mcgymmy.model.IndexablePredicate;
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodIndex;
+
+/**
+ * Tests the same food items as an {@link IndexablePredicate}, but tests many food items at once with a
+ * {@link FilterEngine}.
+ */
+public class ParallelPredicate implements IndexablePredicate, BitmapPredicate {
+    private final IndexablePredicate predicate;
+    private final FilterEngine engine;
+
+    /**
+     * Creates a predicate that tests many food items against {@code predicate} at once with {@code engine}.
+     */
+    public ParallelPredicate(IndexablePredicate predicate, FilterEngine engine) {
+        CollectionUtil.requireAllNonNull(predicate, engine);
+        this.predicate = predicate;
+        this.engine = engine;
+    }
+
+    @Override
+    public boolean test(Food food) {
+        return predicate.test(food);
+    }
+
+    @Override
+    public int[] findCandidates(FoodIndex index) {
+        return predicate.findCandidates(index);
+    }
+
+    @Override
+    public BitSet testRange(List<? extends Food> foods, int from, int to) {
+        return engine.filter(foods, from, to, predicate);
+    }
+
+    @Override
+    public BitSet testPositions(List<? extends Food> foods, int[] positions) {
+        return engine.filter(foods, positions, predicate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ParallelPredicate // instanceof handles nulls
+                && predicate.equals(((ParallelPredicate) other).predicate)); // state check
+    }
+}
@@ -1,20 +1,39 @@
 package jimmy.mcgymmy.logic.predicate;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
 
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.IndexablePredicate;
 import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.tag.SearchedTags;
 import jimmy.mcgymmy.model.tag.Tag;
 
 /**
  * Tests that a {@code Food}'s {@code Tag} matches any of the keywords given.
+ * The food items with the tags can be found through the tag bitmaps of a {@link FoodIndex}. The keywords are not
+ * added to the tag dictionary, so searching for tags no food item has does not grow it.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Food> {
+public class TagContainsKeywordsPredicate implements IndexablePredicate {
     private final List<String> keywords;
+    // the keywords that are valid tag names
+    private final List<Tag> tags = new ArrayList<>();
+    private final SearchedTags searchedTags;
 
+    /**
+     * Creates a predicate that matches food items with a tag named exactly as one of the {@code keywords}.
+     */
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            try {
+                tags.add(new Tag(keyword));
+            } catch (IllegalValueException e) {
+                // no food item can have this tag
+            }
+        }
+        this.searchedTags = new SearchedTags(tags);
     }
 
     /**
@@ -24,14 +43,19 @@ public class TagContainsKeywordsPredicate implements Predicate<Food> {
      */
     @Override
     public boolean test(Food food) {
-        return keywords.stream()
-                .anyMatch(keyword -> {
-                    try {
-                        return food.getTags().contains(new Tag(keyword));
-                    } catch (IllegalValueException e) {
-                        return false;
-                    }
-                });
+        return food.getTagSet().intersects(searchedTags.getTagSet());
+    }
+
+    @Override
+    public int[] findCandidates(FoodIndex index) {
+        return index.findByTags(tags);
+    }
+
+    /**
+     * Returns the tags named by the keywords.
+     */
+    SearchedTags getSearchedTags() {
+        return searchedTags;
     }
 
     @Override
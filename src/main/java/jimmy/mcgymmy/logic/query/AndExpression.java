@@ -0,0 +1,84 @@
+package jimmy.mcgymmy.logic.query;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.FoodRow;
+
+/**
+ * Tests that a food item matches all of a list of expressions.
+ */
+final class AndExpression extends Expression {
+    private final List<Expression> operands;
+
+    AndExpression(List<Expression> operands) {
+        assert operands.size() >= 2;
+        this.operands = operands;
+    }
+
+    @Override
+    public boolean testRow(FoodRow food) {
+        for (Expression operand : operands) {
+            if (!operand.testRow(food)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if no operand rules out {@code month}.
+     */
+    @Override
+    public boolean mayMatchIn(YearMonth month) {
+        return operands.stream().allMatch(operand -> operand.mayMatchIn(month));
+    }
+
+    /**
+     * Returns the product of the selectivities of the operands, as if they were independent.
+     */
+    @Override
+    double estimateSelectivity(FoodIndex index) {
+        double selectivity = 1;
+        for (Expression operand : operands) {
+            selectivity *= operand.estimateSelectivity(index);
+        }
+        return selectivity;
+    }
+
+    /**
+     * Returns the lookups of every operand, since the food items found by any of them include all the matches,
+     * and one lookup of the dates in all the date ranges, if there is more than one.
+     */
+    @Override
+    List<IndexScan> findIndexScans(FoodIndex index) {
+        List<IndexScan> scans = new ArrayList<>();
+        DateRangeTerm dates = null;
+        int dateRangeCount = 0;
+        for (Expression operand : operands) {
+            scans.addAll(operand.findIndexScans(index));
+            if (operand instanceof DateRangeTerm) {
+                dates = dates == null ? (DateRangeTerm) operand : dates.intersect((DateRangeTerm) operand);
+                dateRangeCount++;
+            }
+        }
+        if (dateRangeCount > 1) {
+            scans.addAll(dates.findIndexScans(index));
+        }
+        return scans;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof AndExpression && operands.equals(((AndExpression) other).operands));
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Expression::toString).collect(Collectors.joining(" AND ", "(", ")"));
+    }
+}
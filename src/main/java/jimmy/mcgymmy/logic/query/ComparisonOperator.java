@@ -0,0 +1,60 @@
+package jimmy.mcgymmy.logic.query;
+
+/**
+ * An operator that compares two amounts in a query.
+ */
+enum ComparisonOperator {
+    EQUAL("=", 0.1),
+    NOT_EQUAL("!=", 0.9),
+    LESS("<", 1.0 / 3),
+    LESS_OR_EQUAL("<=", 1.0 / 3),
+    GREATER(">", 1.0 / 3),
+    GREATER_OR_EQUAL(">=", 1.0 / 3);
+
+    private final String symbol;
+    // the fraction of food items assumed to match when nothing more is known, as is usual for query planners
+    private final double defaultSelectivity;
+
+    ComparisonOperator(String symbol, double defaultSelectivity) {
+        this.symbol = symbol;
+        this.defaultSelectivity = defaultSelectivity;
+    }
+
+    /**
+     * Returns the operator written as {@code symbol}, or null if there is none.
+     */
+    static ComparisonOperator fromSymbol(String symbol) {
+        for (ComparisonOperator operator : values()) {
+            if (operator.symbol.equals(symbol)) {
+                return operator;
+            }
+        }
+        return null;
+    }
+
+    boolean test(long amount, long value) {
+        switch (this) {
+        case EQUAL:
+            return amount == value;
+        case NOT_EQUAL:
+            return amount != value;
+        case LESS:
+            return amount < value;
+        case LESS_OR_EQUAL:
+            return amount <= value;
+        case GREATER:
+            return amount > value;
+        default:
+            return amount >= value;
+        }
+    }
+
+    double getDefaultSelectivity() {
+        return defaultSelectivity;
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
@@ -0,0 +1,81 @@
+package jimmy.mcgymmy.logic.query;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.FoodRow;
+
+/**
+ * Tests that a food item is dated from one date to another inclusive, either of which may be left open.
+ * The food items are found through the date index.
+ */
+final class DateRangeTerm extends Expression {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final long fromDay;
+    private final long toDay;
+
+    /**
+     * Creates a term that matches the food items from {@code from} to {@code to} inclusive, where
+     * {@code LocalDate.MIN} and {@code LocalDate.MAX} leave that end open.
+     */
+    DateRangeTerm(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+        this.fromDay = from.toEpochDay();
+        this.toDay = to.toEpochDay();
+    }
+
+    /**
+     * Returns a term that matches the food items matched by both this term and {@code other}.
+     */
+    DateRangeTerm intersect(DateRangeTerm other) {
+        return new DateRangeTerm(from.isAfter(other.from) ? from : other.from, to.isBefore(other.to) ? to : other.to);
+    }
+
+    @Override
+    public boolean testRow(FoodRow food) {
+        long day = food.getEpochDay();
+        return day >= fromDay && day <= toDay;
+    }
+
+    @Override
+    public boolean mayMatchIn(YearMonth month) {
+        return !month.atEndOfMonth().isBefore(from) && !month.atDay(1).isAfter(to);
+    }
+
+    @Override
+    double estimateSelectivity(FoodIndex index) {
+        return selectivityOf(index.countByDate(from, to), index);
+    }
+
+    @Override
+    List<IndexScan> findIndexScans(FoodIndex index) {
+        return Collections.singletonList(new IndexScan("date index for " + this, index.countByDate(from, to),
+            foodIndex -> foodIndex.findByDate(from, to)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof DateRangeTerm
+                && from.equals(((DateRangeTerm) other).from)
+                && to.equals(((DateRangeTerm) other).to));
+    }
+
+    @Override
+    public String toString() {
+        if (from.equals(to)) {
+            return "date = " + from;
+        } else if (to.equals(LocalDate.MAX)) {
+            return "date >= " + from;
+        } else if (from.equals(LocalDate.MIN)) {
+            return "date <= " + to;
+        } else {
+            return "date from " + from + " to " + to;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package jimmy.mcgymmy.logic.query;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.RowPredicate;
+
+/**
+ * A node of a parsed query, which tests food items and tells the {@link QueryPlanner} how many food items it is
+ * likely to match and which index lookups can find them. Only the fields of a {@code FoodRow} are tested, so stored
+ * food items are tested without creating {@code Food} objects.
+ */
+public abstract class Expression implements RowPredicate {
+
+    /**
+     * Returns the estimated fraction of the food items in {@code index} that match this expression.
+     */
+    abstract double estimateSelectivity(FoodIndex index);
+
+    /**
+     * Returns the index lookups that each find every food item matching this expression, or an empty list if the
+     * whole list has to be scanned.
+     */
+    List<IndexScan> findIndexScans(FoodIndex index) {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns true if food items dated in {@code month} can match this expression, so that only the archived months
+     * a query can match have to be loaded. Expressions that do not bound the date can match any month.
+     */
+    public boolean mayMatchIn(YearMonth month) {
+        return true;
+    }
+
+    /**
+     * Returns the selectivity of a lookup that finds {@code count} of the food items in {@code index}.
+     */
+    static double selectivityOf(int count, FoodIndex index) {
+        return index.size() == 0 ? 0 : Math.min(1, (double) count / index.size());
+    }
+}
@@ -0,0 +1,63 @@
+package jimmy.mcgymmy.logic.query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jimmy.mcgymmy.model.food.FoodIndex;
+
+/**
+ * A lookup in a {@link FoodIndex} that finds the positions of the food items a query may match, with an estimate of
+ * how many it finds.
+ */
+final class IndexScan {
+    private final String description;
+    private final int estimatedRows;
+    private final Function<FoodIndex, int[]> lookup;
+
+    IndexScan(String description, int estimatedRows, Function<FoodIndex, int[]> lookup) {
+        this.description = description;
+        this.estimatedRows = estimatedRows;
+        this.lookup = lookup;
+    }
+
+    /**
+     * Returns a scan of every food item in {@code index}.
+     */
+    static IndexScan fullScan(FoodIndex index) {
+        return new IndexScan("full scan", index.size(), foodIndex -> IntStream.range(0, foodIndex.size()).toArray());
+    }
+
+    /**
+     * Returns a scan that finds the food items found by any of {@code scans}.
+     */
+    static IndexScan union(List<IndexScan> scans) {
+        String description = scans.stream().map(IndexScan::getDescription)
+                .collect(Collectors.joining(" OR ", "union of (", ")"));
+        int estimatedRows = scans.stream().mapToInt(IndexScan::getEstimatedRows).sum();
+        return new IndexScan(description, estimatedRows, index -> scans.stream()
+                .flatMapToInt(scan -> Arrays.stream(scan.find(index))).sorted().distinct().toArray());
+    }
+
+    String getDescription() {
+        return description;
+    }
+
+    int getEstimatedRows() {
+        return estimatedRows;
+    }
+
+    /**
+     * Returns the positions of the food items found in {@code index}, in increasing order.
+     */
+    int[] find(FoodIndex index) {
+        return lookup.apply(index);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,48 @@
+package jimmy.mcgymmy.logic.query;
+
+import java.util.Collections;
+import java.util.List;
+
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.FoodRow;
+import jimmy.mcgymmy.model.food.Name;
+
+/**
+ * Tests that a food item has a word in its name, ignoring case. The food items are found through the name index.
+ */
+final class NameTerm extends Expression {
+    private final String word;
+    private final List<String> words;
+
+    NameTerm(String word) {
+        this.word = Name.foldCase(word);
+        this.words = Collections.singletonList(this.word);
+    }
+
+    @Override
+    public boolean testRow(FoodRow food) {
+        return food.getName().getWords().contains(word);
+    }
+
+    @Override
+    double estimateSelectivity(FoodIndex index) {
+        return selectivityOf(index.countByNameWords(words), index);
+    }
+
+    @Override
+    List<IndexScan> findIndexScans(FoodIndex index) {
+        return Collections.singletonList(new IndexScan("name index for " + this, index.countByNameWords(words),
+            foodIndex -> foodIndex.findByNameWords(words)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof NameTerm && word.equals(((NameTerm) other).word));
+    }
+
+    @Override
+    public String toString() {
+        return "name " + word;
+    }
+}
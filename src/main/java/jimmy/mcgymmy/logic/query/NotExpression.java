@@ -0,0 +1,37 @@
+package jimmy.mcgymmy.logic.query;
+
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.FoodRow;
+
+/**
+ * Tests that a food item does not match an expression. The indices only find the food items that do match, so the
+ * whole list is scanned unless another part of the query can use an index. It can match food items of any month.
+ */
+final class NotExpression extends Expression {
+    private final Expression operand;
+
+    NotExpression(Expression operand) {
+        this.operand = operand;
+    }
+
+    @Override
+    public boolean testRow(FoodRow food) {
+        return !operand.testRow(food);
+    }
+
+    @Override
+    double estimateSelectivity(FoodIndex index) {
+        return 1 - operand.estimateSelectivity(index);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof NotExpression && operand.equals(((NotExpression) other).operand));
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + operand;
+    }
+}
@@ -0,0 +1,83 @@
+package jimmy.mcgymmy.logic.query;
+
+import java.util.function.ToIntFunction;
+
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.FoodRow;
+
+/**
+ * Tests that the amount of a macronutrient, or the calories, of a food item compares to a value, such as
+ * {@code protein >= 20}. No index covers the amounts, so the whole list is scanned unless another part of the query
+ * can use an index.
+ */
+final class NutrientComparison extends Expression {
+
+    /**
+     * An amount of a food item that can be compared.
+     */
+    enum Nutrient {
+        PROTEIN("protein", FoodRow::getProteinAmount),
+        CARBS("carbs", FoodRow::getCarbsAmount),
+        FAT("fat", FoodRow::getFatAmount),
+        CALORIES("calories", FoodRow::getCalories);
+
+        private final String word;
+        private final ToIntFunction<FoodRow> amount;
+
+        Nutrient(String word, ToIntFunction<FoodRow> amount) {
+            this.word = word;
+            this.amount = amount;
+        }
+
+        /**
+         * Returns the nutrient named {@code word}, or null if there is none.
+         */
+        static Nutrient fromWord(String word) {
+            for (Nutrient nutrient : values()) {
+                if (nutrient.word.equals(word)) {
+                    return nutrient;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return word;
+        }
+    }
+
+    private final Nutrient nutrient;
+    private final ComparisonOperator operator;
+    private final int value;
+
+    NutrientComparison(Nutrient nutrient, ComparisonOperator operator, int value) {
+        this.nutrient = nutrient;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    @Override
+    public boolean testRow(FoodRow food) {
+        return operator.test(nutrient.amount.applyAsInt(food), value);
+    }
+
+    @Override
+    double estimateSelectivity(FoodIndex index) {
+        return operator.getDefaultSelectivity();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof NutrientComparison
+                && nutrient == ((NutrientComparison) other).nutrient
+                && operator == ((NutrientComparison) other).operator
+                && value == ((NutrientComparison) other).value);
+    }
+
+    @Override
+    public String toString() {
+        return nutrient + " " + operator + " " + value;
+    }
+}
@@ -0,0 +1,80 @@
+package jimmy.mcgymmy.logic.query;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.FoodRow;
+
+/**
+ * Tests that a food item matches any of a list of expressions.
+ */
+final class OrExpression extends Expression {
+    private final List<Expression> operands;
+
+    OrExpression(List<Expression> operands) {
+        assert operands.size() >= 2;
+        this.operands = operands;
+    }
+
+    @Override
+    public boolean testRow(FoodRow food) {
+        for (Expression operand : operands) {
+            if (operand.testRow(food)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any operand can match in {@code month}.
+     */
+    @Override
+    public boolean mayMatchIn(YearMonth month) {
+        return operands.stream().anyMatch(operand -> operand.mayMatchIn(month));
+    }
+
+    /**
+     * Returns the chance that any of the operands match, as if they were independent.
+     */
+    @Override
+    double estimateSelectivity(FoodIndex index) {
+        double noneMatch = 1;
+        for (Expression operand : operands) {
+            noneMatch *= 1 - operand.estimateSelectivity(index);
+        }
+        return 1 - noneMatch;
+    }
+
+    /**
+     * Returns the union of the cheapest lookup of every operand, or no lookup if any operand needs a full scan.
+     */
+    @Override
+    List<IndexScan> findIndexScans(FoodIndex index) {
+        List<IndexScan> cheapestScans = new ArrayList<>();
+        for (Expression operand : operands) {
+            List<IndexScan> scans = operand.findIndexScans(index);
+            if (scans.isEmpty()) {
+                return Collections.emptyList();
+            }
+            cheapestScans.add(Collections.min(scans, Comparator.comparingInt(IndexScan::getEstimatedRows)));
+        }
+        return Collections.singletonList(IndexScan.union(cheapestScans));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof OrExpression && operands.equals(((OrExpression) other).operands));
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Expression::toString).collect(Collectors.joining(" OR ", "(", ")"));
+    }
+}
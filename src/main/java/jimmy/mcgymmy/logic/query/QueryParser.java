@@ -0,0 +1,241 @@
+package jimmy.mcgymmy.logic.query;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.logic.parser.ParserUtil;
+import jimmy.mcgymmy.logic.parser.exceptions.ParseException;
+import jimmy.mcgymmy.model.tag.Tag;
+
+/**
+ * Parses a query into an {@link Expression}.
+ * <p>
+ * A query is made of terms joined by {@code and}, {@code or} and {@code not}, in that order of precedence from
+ * loosest to tightest, with parentheses to group them. The terms are:
+ * <ul>
+ *     <li>{@code protein}, {@code carbs}, {@code fat} or {@code calories}, an operator and a whole number, such as
+ *     {@code protein >= 20}</li>
+ *     <li>{@code date}, an operator and a date, such as {@code date < 01-04-2020}, or
+ *     {@code date from DATE to DATE}</li>
+ *     <li>{@code tag} and tag names separated by commas, which matches food items with any of the tags</li>
+ *     <li>{@code name} and a word in the name, ignoring case</li>
+ * </ul>
+ * The operators are {@code =}, {@code !=}, {@code <}, {@code <=}, {@code >} and {@code >=}. The words of the
+ * language are case-insensitive.
+ */
+public class QueryParser {
+
+    public static final String MESSAGE_EMPTY_QUERY = "Please enter a query.";
+    public static final String MESSAGE_UNEXPECTED_END = "The query ended where %s was expected.";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Expected %s but found '%s'.";
+
+    private final List<String> tokens;
+    private int next = 0;
+
+    private QueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses {@code query} into an expression.
+     *
+     * @throws ParseException if {@code query} is not a valid query
+     */
+    public static Expression parse(String query) throws ParseException {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_QUERY);
+        }
+        QueryParser parser = new QueryParser(tokens);
+        Expression expression = parser.parseOr();
+        if (parser.next < tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, "'and', 'or' or the end of the query",
+                    tokens.get(parser.next)));
+        }
+        return expression;
+    }
+
+    /**
+     * Splits {@code query} into words, parentheses, commas and operators.
+     */
+    static List<String> tokenize(String query) {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')' || c == ',') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else if (isOperatorChar(c)) {
+                int start = i;
+                while (i < query.length() && isOperatorChar(query.charAt(i))) {
+                    i++;
+                }
+                tokens.add(query.substring(start, i));
+            } else {
+                int start = i;
+                while (i < query.length() && !Character.isWhitespace(query.charAt(i))
+                        && "(),".indexOf(query.charAt(i)) < 0 && !isOperatorChar(query.charAt(i))) {
+                    i++;
+                }
+                tokens.add(query.substring(start, i));
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isOperatorChar(char c) {
+        return c == '<' || c == '>' || c == '=' || c == '!';
+    }
+
+    private Expression parseOr() throws ParseException {
+        List<Expression> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (acceptWord("or")) {
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrExpression(operands);
+    }
+
+    private Expression parseAnd() throws ParseException {
+        List<Expression> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (acceptWord("and")) {
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndExpression(operands);
+    }
+
+    private Expression parseNot() throws ParseException {
+        if (acceptWord("not")) {
+            return new NotExpression(parseNot());
+        }
+        return parseTerm();
+    }
+
+    private Expression parseTerm() throws ParseException {
+        String token = nextToken("a term");
+        String word = token.toLowerCase(Locale.ROOT);
+        if (token.equals("(")) {
+            Expression expression = parseOr();
+            expect(")");
+            return expression;
+        }
+        NutrientComparison.Nutrient nutrient = NutrientComparison.Nutrient.fromWord(word);
+        if (nutrient != null) {
+            return new NutrientComparison(nutrient, parseOperator(), parseAmount());
+        }
+        switch (word) {
+        case "date":
+            return parseDateTerm();
+        case "tag":
+            return parseTagTerm();
+        case "name":
+            return new NameTerm(nextToken("a word in the name"));
+        default:
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN,
+                    "'(', 'not', protein, carbs, fat, calories, date, tag or name", token));
+        }
+    }
+
+    private Expression parseDateTerm() throws ParseException {
+        if (acceptWord("from")) {
+            LocalDate from = parseDate();
+            expectWord("to");
+            return new DateRangeTerm(from, parseDate());
+        }
+        ComparisonOperator operator = parseOperator();
+        LocalDate date = parseDate();
+        switch (operator) {
+        case EQUAL:
+            return new DateRangeTerm(date, date);
+        case NOT_EQUAL:
+            return new NotExpression(new DateRangeTerm(date, date));
+        case LESS:
+            return new DateRangeTerm(LocalDate.MIN, date.minusDays(1));
+        case LESS_OR_EQUAL:
+            return new DateRangeTerm(LocalDate.MIN, date);
+        case GREATER:
+            return new DateRangeTerm(date.plusDays(1), LocalDate.MAX);
+        default:
+            return new DateRangeTerm(date, LocalDate.MAX);
+        }
+    }
+
+    private Expression parseTagTerm() throws ParseException {
+        List<Tag> tags = new ArrayList<>();
+        do {
+            String tagName = nextToken("a tag name");
+            try {
+                tags.add(new Tag(tagName));
+            } catch (IllegalValueException e) {
+                throw new ParseException(e.getMessage());
+            }
+        } while (accept(","));
+        return new TagTerm(tags);
+    }
+
+    private ComparisonOperator parseOperator() throws ParseException {
+        String token = nextToken("an operator");
+        ComparisonOperator operator = ComparisonOperator.fromSymbol(token);
+        if (operator == null) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, "=, !=, <, <=, > or >=", token));
+        }
+        return operator;
+    }
+
+    private int parseAmount() throws ParseException {
+        String token = nextToken("a whole number");
+        try {
+            return Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, "a whole number", token));
+        }
+    }
+
+    private LocalDate parseDate() throws ParseException {
+        return ParserUtil.parseDate(nextToken("a date")).toLocalDate();
+    }
+
+    private String nextToken(String expected) throws ParseException {
+        if (next >= tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_END, expected));
+        }
+        return tokens.get(next++);
+    }
+
+    private boolean accept(String token) {
+        if (next < tokens.size() && tokens.get(next).equals(token)) {
+            next++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean acceptWord(String word) {
+        if (next < tokens.size() && tokens.get(next).equalsIgnoreCase(word)) {
+            next++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String token) throws ParseException {
+        String found = nextToken("'" + token + "'");
+        if (!found.equals(token)) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, "'" + token + "'", found));
+        }
+    }
+
+    private void expectWord(String word) throws ParseException {
+        String found = nextToken("'" + word + "'");
+        if (!found.equalsIgnoreCase(word)) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, "'" + word + "'", found));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package jimmy.mcgymmy.logic.query;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jimmy.mcgymmy.model.IndexablePredicate;
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.FoodRow;
+import jimmy.mcgymmy.model.food.RowPredicate;
+
+/**
+ * A query together with the index lookup chosen by the {@link QueryPlanner} to find its candidates.
+ */
+public class QueryPlan implements IndexablePredicate, RowPredicate {
+    private final Expression expression;
+    private final IndexScan scan;
+    private final List<IndexScan> consideredScans;
+    private final long estimatedRows;
+
+    QueryPlan(Expression expression, IndexScan scan, List<IndexScan> consideredScans, long estimatedRows) {
+        this.expression = expression;
+        this.scan = scan;
+        this.consideredScans = consideredScans;
+        this.estimatedRows = estimatedRows;
+    }
+
+    @Override
+    public boolean testRow(FoodRow food) {
+        return expression.testRow(food);
+    }
+
+    @Override
+    public int[] findCandidates(FoodIndex index) {
+        return scan.find(index);
+    }
+
+    /**
+     * Returns a description of this plan, with the estimated and actual number of food items found by its lookup in
+     * {@code index} and of food items matched, of which there were {@code actualRows}.
+     */
+    public String explain(FoodIndex index, int actualRows) {
+        String considered = consideredScans.isEmpty()
+                ? "no index can be used"
+                : consideredScans.stream()
+                        .map(option -> String.format("%s (estimated %,d rows)", option,
+                                option.getEstimatedRows()))
+                        .collect(Collectors.joining(", "));
+        return String.format("Query: %s\nConsidered: %s\nScan: %s, estimated %,d rows, actual %,d rows\n"
+                + "Filter: estimated %,d rows, actual %,d rows", expression, considered, scan,
+                scan.getEstimatedRows(), scan.find(index).length, estimatedRows, actualRows);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryPlan // instanceof handles nulls
+                && expression.equals(((QueryPlan) other).expression)); // state check
+    }
+}
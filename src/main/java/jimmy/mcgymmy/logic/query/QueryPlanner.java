@@ -0,0 +1,70 @@
+package jimmy.mcgymmy.logic.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+
+import jimmy.mcgymmy.commons.util.CollectionUtil;
+import jimmy.mcgymmy.model.IndexablePredicate;
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.FoodRow;
+import jimmy.mcgymmy.model.food.RowPredicate;
+
+/**
+ * Chooses how to find the food items matching a query, using the counts kept by the indices to estimate how many
+ * food items each lookup finds.
+ * <p>
+ * Every lookup the query allows finds all the matching food items, so the one expected to find the fewest drives
+ * the scan, and only the food items it finds are tested against the whole query. The whole list is scanned if no
+ * lookup is expected to find fewer food items than there are.
+ */
+public class QueryPlanner {
+
+    private QueryPlanner() {
+    }
+
+    /**
+     * Returns the plan for finding the food items in {@code index} that match {@code expression}.
+     */
+    public static QueryPlan plan(Expression expression, FoodIndex index) {
+        CollectionUtil.requireAllNonNull(expression, index);
+        List<IndexScan> scans = expression.findIndexScans(index);
+        IndexScan chosenScan = scans.stream()
+                .min(Comparator.comparingInt(IndexScan::getEstimatedRows))
+                .filter(scan -> scan.getEstimatedRows() < index.size())
+                .orElse(IndexScan.fullScan(index));
+        long estimatedRows = Math.round(expression.estimateSelectivity(index) * index.size());
+        return new QueryPlan(expression, chosenScan, scans, estimatedRows);
+    }
+
+    /**
+     * Returns a predicate matching the food items that match {@code expression}, which plans the query again each
+     * time it finds candidates, so that the lookup it uses follows the counts of the index it is given.
+     */
+    public static IndexablePredicate toPredicate(Expression expression) {
+        requireNonNull(expression);
+        return new ReplannedPredicate(expression);
+    }
+
+    /**
+     * The predicate returned by {@link #toPredicate(Expression)}.
+     */
+    private static class ReplannedPredicate implements IndexablePredicate, RowPredicate {
+        private final Expression expression;
+
+        ReplannedPredicate(Expression expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        public int[] findCandidates(FoodIndex index) {
+            return plan(expression, index).findCandidates(index);
+        }
+
+        @Override
+        public boolean testRow(FoodRow food) {
+            return expression.testRow(food);
+        }
+    }
+}
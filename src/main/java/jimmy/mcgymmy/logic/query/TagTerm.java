@@ -0,0 +1,50 @@
+package jimmy.mcgymmy.logic.query;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.FoodRow;
+import jimmy.mcgymmy.model.tag.SearchedTags;
+import jimmy.mcgymmy.model.tag.Tag;
+
+/**
+ * Tests that a food item has any of a set of tags. The food items are found through the tag index.
+ */
+final class TagTerm extends Expression {
+    private final List<Tag> tags;
+    private final SearchedTags searchedTags;
+
+    TagTerm(List<Tag> tags) {
+        this.tags = tags;
+        this.searchedTags = new SearchedTags(tags);
+    }
+
+    @Override
+    public boolean testRow(FoodRow food) {
+        return food.getTagSet().intersects(searchedTags.getTagSet());
+    }
+
+    @Override
+    double estimateSelectivity(FoodIndex index) {
+        return selectivityOf(index.countByTags(tags), index);
+    }
+
+    @Override
+    List<IndexScan> findIndexScans(FoodIndex index) {
+        return Collections.singletonList(new IndexScan("tag index for " + this, index.countByTags(tags),
+            foodIndex -> foodIndex.findByTags(tags)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof TagTerm && tags.equals(((TagTerm) other).tags));
+    }
+
+    @Override
+    public String toString() {
+        return tags.stream().map(tag -> tag.tagName).collect(Collectors.joining(",", "tag ", ""));
+    }
+}
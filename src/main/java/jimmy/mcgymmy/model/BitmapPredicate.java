@@ -0,0 +1,27 @@
+package jimmy.mcgymmy.model;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * A predicate on food items that can test many food items at once, such as by sharing them out among threads, and
+ * gives the ones that match as a bitmap of their positions.
+ * <p>
+ * Only the food items asked for are tested, and the list must not change while they are.
+ */
+public interface BitmapPredicate extends Predicate<Food> {
+
+    /**
+     * Returns the positions in {@code [from, to)} of the food items in {@code foods} that match this predicate.
+     */
+    BitSet testRange(List<? extends Food> foods, int from, int to);
+
+    /**
+     * Returns the positions among {@code positions}, which are in increasing order, of the food items in
+     * {@code foods} that match this predicate.
+     */
+    BitSet testPositions(List<? extends Food> foods, int[] positions);
+}
@@ -0,0 +1,103 @@
+package jimmy.mcgymmy.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * The list of food items shown to the user, which shows one {@link FilteredFoodView} at a time.
+ * <p>
+ * Every view keeps its own food items up to date, so showing another view only swaps the view this list reads
+ * from, without testing any food item. Changes to the shown view are passed on to the listeners of this list.
+ */
+public class DisplayedFoodList extends ObservableListBase<Food> {
+
+    private final ListChangeListener<Food> forwarder = this::forward;
+    private FilteredFoodView shown;
+
+    /**
+     * Creates a list showing {@code view}.
+     */
+    public DisplayedFoodList(FilteredFoodView view) {
+        requireNonNull(view);
+        shown = view;
+        shown.addListener(forwarder);
+    }
+
+    public FilteredFoodView getShown() {
+        return shown;
+    }
+
+    /**
+     * Shows the food items of {@code view} instead of those of the view shown now.
+     */
+    public void show(FilteredFoodView view) {
+        requireNonNull(view);
+        if (view == shown) {
+            return;
+        }
+        FilteredFoodView previous = shown;
+        previous.removeListener(forwarder);
+        shown = view;
+        shown.addListener(forwarder);
+
+        if (previous.isEmpty() && shown.isEmpty()) {
+            return;
+        }
+        beginChange();
+        if (!previous.isEmpty()) {
+            // the previous view does not change while the listeners are told of the change
+            nextRemove(0, Collections.unmodifiableList(previous));
+        }
+        if (!shown.isEmpty()) {
+            nextAdd(0, shown.size());
+        }
+        endChange();
+    }
+
+    private void forward(ListChangeListener.Change<? extends Food> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the index in the source list of the food item at {@code index} of this list.
+     */
+    public int getSourceIndex(int index) {
+        return shown.getSourceIndex(index);
+    }
+
+    @Override
+    public Food get(int index) {
+        return shown.get(index);
+    }
+
+    @Override
+    public int size() {
+        return shown.size();
+    }
+}
@@ -0,0 +1,299 @@
+package jimmy.mcgymmy.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import jimmy.mcgymmy.commons.util.CollectionUtil;
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.FoodRowList;
+import jimmy.mcgymmy.model.food.RowPredicate;
+
+/**
+ * A view of the food items in a list that match a predicate, like {@code FilteredList}.
+ * <p>
+ * When the predicate is an {@link IndexablePredicate}, only the food items it finds through the
+ * {@link FoodIndex} of the list are tested, both when the predicate is set and when many food items are added to
+ * the list at once. Other predicates are tested against every food item. When the predicate is a
+ * {@link BitmapPredicate}, it tests those food items all at once, and the view keeps the positions set in the bitmap
+ * it gives. A {@link RowPredicate} is tested against the stored food items of a {@link FoodRowList} source, without
+ * reading them as {@code Food}. Changes to single food items are applied to the view without testing the rest of
+ * the list, so adding or editing a food item tests the predicate once and the predicate is kept until it is set
+ * again.
+ */
+public class FilteredFoodView extends TransformationList<Food, Food> {
+
+    private final FoodIndex foodIndex;
+    private Predicate<? super Food> predicate;
+    // positions in the source list of the food items in the view, in increasing order
+    private int[] filtered = new int[0];
+    private int size = 0;
+    // the index describes the source list after the whole change, so it is only used for changes of one step
+    private boolean isIndexUsable = true;
+
+    /**
+     * Creates a view of all the food items in {@code source}, which is indexed by {@code foodIndex}.
+     */
+    public FilteredFoodView(ObservableList<Food> source, FoodIndex foodIndex) {
+        this(source, foodIndex, Model.PREDICATE_SHOW_ALL_FOODS);
+    }
+
+    /**
+     * Creates a view of the food items in {@code source} that match {@code predicate}, where {@code source} is
+     * indexed by {@code foodIndex}.
+     */
+    public FilteredFoodView(ObservableList<Food> source, FoodIndex foodIndex, Predicate<? super Food> predicate) {
+        super(source);
+        CollectionUtil.requireAllNonNull(foodIndex, predicate);
+        this.foodIndex = foodIndex;
+        this.predicate = predicate;
+        refilter();
+    }
+
+    public Predicate<? super Food> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows only the food items that match {@code predicate}.
+     */
+    public void setPredicate(Predicate<? super Food> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        List<Food> removed = new ArrayList<>(this);
+        refilter();
+        if (removed.isEmpty() && size == 0) {
+            return;
+        }
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    private void refilter() {
+        size = 0;
+        filtered = new int[0];
+        insertMatches(0, getSource().size(), 0);
+    }
+
+    /**
+     * Inserts the positions of the matching food items in {@code [from, to)} of the source list into the view at
+     * {@code at}, and returns how many were inserted.
+     */
+    private int insertMatches(int from, int to, int at) {
+        int[] matches = to - from > 1 ? findMatches(from, to) : testEach(from, to);
+        int count = matches.length;
+        ensureCapacity(size + count);
+        System.arraycopy(filtered, at, filtered, at + count, size - at);
+        System.arraycopy(matches, 0, filtered, at, count);
+        size += count;
+        return count;
+    }
+
+    /**
+     * Returns the positions of the matching food items in {@code [from, to)} of the source list, in increasing
+     * order, testing only the candidates found through the index and testing many at once where the predicate can.
+     */
+    private int[] findMatches(int from, int to) {
+        boolean isBitmap = predicate instanceof BitmapPredicate;
+        if (isIndexUsable && predicate instanceof IndexablePredicate) {
+            int[] candidates = ((IndexablePredicate) predicate).findCandidates(foodIndex);
+            int start = lowerBound(candidates, candidates.length, from);
+            int end = lowerBound(candidates, candidates.length, to);
+            if (start > 0 || end < candidates.length) {
+                candidates = Arrays.copyOfRange(candidates, start, end);
+            }
+            return isBitmap
+                    ? ((BitmapPredicate) predicate).testPositions(getSource(), candidates).stream().toArray()
+                    : testEach(candidates);
+        }
+        return isBitmap
+                ? ((BitmapPredicate) predicate).testRange(getSource(), from, to).stream().toArray()
+                : testEach(from, to);
+    }
+
+    private int[] testEach(int from, int to) {
+        if (isTestedAsRows()) {
+            return ((FoodRowList) getSource()).testRows(from, to, (RowPredicate) predicate);
+        }
+        int[] matches = new int[Math.min(to - from, 16)];
+        int count = 0;
+        for (int position = from; position < to; position++) {
+            if (predicate.test(getSource().get(position))) {
+                matches = append(matches, count++, position);
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private int[] testEach(int[] positions) {
+        if (isTestedAsRows()) {
+            return ((FoodRowList) getSource()).testRows(positions, 0, positions.length, (RowPredicate) predicate);
+        }
+        int[] matches = new int[Math.min(positions.length, 16)];
+        int count = 0;
+        for (int position : positions) {
+            if (predicate.test(getSource().get(position))) {
+                matches = append(matches, count++, position);
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private boolean isTestedAsRows() {
+        return getSource() instanceof FoodRowList && predicate instanceof RowPredicate;
+    }
+
+    private static int[] append(int[] array, int index, int value) {
+        int[] result = index < array.length ? array : Arrays.copyOf(array, Math.max(16, array.length * 2));
+        result[index] = value;
+        return result;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (filtered.length < capacity) {
+            filtered = Arrays.copyOf(filtered, Math.max(capacity, filtered.length * 2));
+        }
+    }
+
+    /**
+     * Returns the first position in the view whose source position is at least {@code sourceIndex}.
+     */
+    private int lowerBound(int sourceIndex) {
+        return lowerBound(filtered, size, sourceIndex);
+    }
+
+    /**
+     * Returns the first index in {@code [0, length)} of {@code positions}, which are in increasing order, whose
+     * position is at least {@code position}.
+     */
+    private static int lowerBound(int[] positions, int length, int position) {
+        int index = Arrays.binarySearch(positions, 0, length, position);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private void shiftFrom(int index, int delta) {
+        for (int i = index; i < size; i++) {
+            filtered[i] += delta;
+        }
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Food> change) {
+        int steps = 0;
+        while (change.next()) {
+            steps++;
+        }
+        change.reset();
+        isIndexUsable = steps == 1;
+
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Food> removed = new ArrayList<>(this);
+                refilter();
+                nextRemove(0, removed);
+                nextAdd(0, size);
+                continue;
+            }
+            if (change.wasReplaced() && change.getRemovedSize() == change.getAddedSize()) {
+                sourceReplaced(change.getFrom(), change.getTo(), change.getRemoved());
+                continue;
+            }
+            if (change.wasRemoved()) {
+                sourceRemoved(change.getFrom(), change.getRemoved());
+            }
+            if (change.wasAdded()) {
+                sourceAdded(change.getFrom(), change.getTo());
+            }
+        }
+        endChange();
+        isIndexUsable = true;
+    }
+
+    private void sourceRemoved(int from, List<? extends Food> removedFoods) {
+        int start = lowerBound(from);
+        int end = lowerBound(from + removedFoods.size());
+        if (end > start) {
+            List<Food> removed = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                removed.add(removedFoods.get(filtered[i] - from));
+            }
+            System.arraycopy(filtered, end, filtered, start, size - end);
+            size -= end - start;
+            nextRemove(start, removed);
+        }
+        shiftFrom(start, -removedFoods.size());
+    }
+
+    /**
+     * Updates the view for the food items in {@code [from, to)} of the source list that replaced
+     * {@code removedFoods}, leaving the positions of the rest of the view as they are.
+     */
+    private void sourceReplaced(int from, int to, List<? extends Food> removedFoods) {
+        for (int position = from; position < to; position++) {
+            int viewIndex = Arrays.binarySearch(filtered, 0, size, position);
+            boolean isMatch = predicate.test(getSource().get(position));
+            Food removed = removedFoods.get(position - from);
+            if (viewIndex >= 0 && isMatch) {
+                nextSet(viewIndex, removed);
+            } else if (viewIndex >= 0) {
+                System.arraycopy(filtered, viewIndex + 1, filtered, viewIndex, size - viewIndex - 1);
+                size--;
+                nextRemove(viewIndex, removed);
+            } else if (isMatch) {
+                int at = -viewIndex - 1;
+                ensureCapacity(size + 1);
+                System.arraycopy(filtered, at, filtered, at + 1, size - at);
+                filtered[at] = position;
+                size++;
+                nextAdd(at, at + 1);
+            }
+        }
+    }
+
+    private void sourceAdded(int from, int to) {
+        int start = lowerBound(from);
+        shiftFrom(start, to - from);
+        int count = insertMatches(from, to, start);
+        if (count > 0) {
+            nextAdd(start, start + count);
+        }
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = Arrays.binarySearch(filtered, 0, size, index);
+        return viewIndex >= 0 ? viewIndex : -1;
+    }
+
+    @Override
+    public Food get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,27 @@
+package jimmy.mcgymmy.model;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import jimmy.mcgymmy.commons.exceptions.DataConversionException;
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * Holds the foods of older months that are left in storage until they are needed, so that only recent foods
+ * have to be loaded at startup.
+ */
+public interface FoodArchive {
+
+    /**
+     * Returns the months that have foods which are not loaded yet, oldest first.
+     */
+    List<YearMonth> getArchivedMonths();
+
+    /**
+     * Returns the foods of {@code month} that are not loaded yet, in the order they were logged.
+     * The month is no longer archived afterwards, so the caller must add the foods to McGymmy.
+     *
+     * @throws DataConversionException if the foods could not be read.
+     */
+    List<Food> load(YearMonth month) throws DataConversionException;
+}
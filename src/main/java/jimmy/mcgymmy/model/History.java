@@ -1,15 +1,25 @@
 package jimmy.mcgymmy.model;
 
+import java.util.ArrayList;
 import java.util.EmptyStackException;
+import java.util.List;
+import java.util.Optional;
 import java.util.Stack;
 import java.util.function.Predicate;
 
-import javafx.util.Pair;
 import jimmy.mcgymmy.model.food.Food;
 import jimmy.mcgymmy.model.macro.MacroList;
 
+/**
+ * Stack of previous model states used for undo.
+ * Food data is stored as a structurally shared copy, so saving a state is O(1) regardless of the number of foods.
+ * States saved by commands that only change the view do not store any food data at all.
+ * Food items loaded from storage are kept once, apart from the states, and only added to a state when it is restored.
+ */
 class History {
-    protected final Stack<Pair<McGymmy, Pair<Predicate<Food>, MacroList>>> stack;
+    protected final Stack<State> stack;
+    // the food items loaded from storage while there were saved states, in the order they were loaded
+    private final List<List<Food>> loadedFoods = new ArrayList<>();
 
     History() {
         stack = new Stack<>();
@@ -20,9 +30,28 @@ class History {
      */
     void save(ModelManager modelManager) {
         McGymmy mcGymmy = new McGymmy(modelManager.getMcGymmy());
-        Predicate<Food> predicate = modelManager.getFilterPredicate();
-        MacroList macroList = modelManager.getMacroList();
-        stack.push(new Pair<>(mcGymmy, new Pair<>(predicate, macroList)));
+        stack.push(new State(mcGymmy, modelManager.getFilterPredicate(), modelManager.getMacroList(),
+                loadedFoods.size()));
+    }
+
+    /**
+     * Saves only the predicate and macrolist of <code>ModelManager</code> to history.
+     * Used by commands that do not modify the food data.
+     */
+    void saveView(ModelManager modelManager) {
+        stack.push(new State(null, modelManager.getFilterPredicate(), modelManager.getMacroList(),
+                loadedFoods.size()));
+    }
+
+    /**
+     * Adds {@code foods} to the front of every saved mcGymmy when it is restored.
+     * Used when foods are loaded from storage, so that undoing a command does not drop them. The saved states are
+     * left as they are, so this takes time proportional to the number of {@code foods} only.
+     */
+    void addFoodsToFront(List<Food> foods) {
+        if (!stack.empty()) {
+            loadedFoods.add(List.copyOf(foods));
+        }
     }
 
     /**
@@ -39,21 +68,55 @@ class History {
     void pop() throws EmptyStackException {
         assert !stack.empty() : "History is empty";
         stack.pop();
+        if (stack.empty()) {
+            loadedFoods.clear();
+        }
     }
 
-    McGymmy peekMcGymmy() throws EmptyStackException {
+    /**
+     * Returns the saved mcGymmy, or an empty optional if the last saved state did not change the food data.
+     */
+    Optional<McGymmy> peekMcGymmy() throws EmptyStackException {
         assert !stack.empty() : "History is empty";
-        return stack.peek().getKey();
+        State state = stack.peek();
+        if (state.mcGymmy == null || state.loadCount == loadedFoods.size()) {
+            return Optional.ofNullable(state.mcGymmy);
+        }
+        // each load went in front of the ones before it
+        List<Food> loadedSince = new ArrayList<>();
+        for (int i = loadedFoods.size() - 1; i >= state.loadCount; i--) {
+            loadedSince.addAll(loadedFoods.get(i));
+        }
+        McGymmy restored = new McGymmy(state.mcGymmy);
+        restored.addFoodsToFront(loadedSince);
+        return Optional.of(restored);
     }
 
     Predicate<Food> peekPredicate() throws EmptyStackException {
         assert !stack.empty() : "History is empty";
-        return stack.peek().getValue().getKey();
+        return stack.peek().predicate;
     }
 
     MacroList peekMacroList() throws EmptyStackException {
         assert !stack.empty() : "History is empty";
-        return stack.peek().getValue().getValue();
+        return stack.peek().macroList;
     }
-}
 
+    /**
+     * A single saved state. {@code mcGymmy} is null for states that only record the view. {@code loadCount} is the
+     * number of loads from storage made before the state was saved.
+     */
+    protected static class State {
+        final McGymmy mcGymmy;
+        final Predicate<Food> predicate;
+        final MacroList macroList;
+        final int loadCount;
+
+        State(McGymmy mcGymmy, Predicate<Food> predicate, MacroList macroList, int loadCount) {
+            this.mcGymmy = mcGymmy;
+            this.predicate = predicate;
+            this.macroList = macroList;
+            this.loadCount = loadCount;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package jimmy.mcgymmy.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodIndex;
+
+/**
+ * A predicate on food items that can narrow down the food items it may match using a {@link FoodIndex}, so that
+ * the rest of the food items do not have to be tested.
+ */
+public interface IndexablePredicate extends Predicate<Food> {
+
+    /**
+     * Returns the positions of the food items in {@code index} that may match this predicate, in increasing order.
+     * Every food item that matches must be included, but the food items returned are still tested.
+     */
+    int[] findCandidates(FoodIndex index);
+
+    /**
+     * Returns a predicate that matches the food items matched by both this predicate and {@code other}, and still
+     * finds its candidates through this predicate. If {@code other} is also an {@code IndexablePredicate}, only the
+     * candidates of both predicates are candidates of the result.
+     */
+    @Override
+    default IndexablePredicate and(Predicate<? super Food> other) {
+        requireNonNull(other);
+        IndexablePredicate self = this;
+        return new IndexablePredicate() {
+            @Override
+            public int[] findCandidates(FoodIndex index) {
+                int[] candidates = self.findCandidates(index);
+                return other instanceof IndexablePredicate
+                        ? intersect(candidates, ((IndexablePredicate) other).findCandidates(index))
+                        : candidates;
+            }
+
+            @Override
+            public boolean test(Food food) {
+                return self.test(food) && other.test(food);
+            }
+        };
+    }
+
+    /**
+     * Returns the positions in both {@code first} and {@code second}, which are in increasing order.
+     */
+    private static int[] intersect(int[] first, int[] second) {
+        int[] result = new int[Math.min(first.length, second.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[count++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
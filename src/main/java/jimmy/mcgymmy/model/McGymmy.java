@@ -2,12 +2,19 @@ package jimmy.mcgymmy.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import jimmy.mcgymmy.commons.core.index.Index;
+import jimmy.mcgymmy.model.event.FoodEvent;
 import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodIndex;
 import jimmy.mcgymmy.model.food.Fridge;
+import jimmy.mcgymmy.model.food.NutrientTotals;
 
 /**
  * Wraps all data at mcgymmy level.
@@ -44,7 +51,22 @@ public class McGymmy implements ReadOnlyMcGymmy {
      */
     public void resetData(ReadOnlyMcGymmy newData) {
         requireNonNull(newData);
-        setFoodItems(newData.getFoodList());
+        if (newData instanceof McGymmy) {
+            // share the underlying data instead of copying it
+            foodItems.setFoods(((McGymmy) newData).foodItems);
+        } else {
+            setFoodItems(newData.getFoodList());
+        }
+    }
+
+    /**
+     * Adds {@code foods} before all the existing foods, keeping their order.
+     */
+    public void addFoodsToFront(List<Food> foods) {
+        requireNonNull(foods);
+        List<Food> combined = new ArrayList<>(foods);
+        combined.addAll(getFoodList());
+        setFoodItems(combined);
     }
 
     // Food-level operations
@@ -57,6 +79,21 @@ public class McGymmy implements ReadOnlyMcGymmy {
         return foodItems.contains(food);
     }
 
+    /**
+     * Returns the index of the Food with the given {@code id}, if there is one in mcgymmy.
+     */
+    public Optional<Index> findFood(long id) {
+        int index = foodItems.indexOf(id);
+        return index < 0 ? Optional.empty() : Optional.of(Index.fromZeroBased(index));
+    }
+
+    /**
+     * Returns the totals of the Foods in mcgymmy dated from {@code from} to {@code to} inclusive.
+     */
+    public NutrientTotals getTotals(LocalDate from, LocalDate to) {
+        return foodItems.getTotals(from, to);
+    }
+
     /**
      * Adds a Food to mcgymmy.
      * The Food must not already exist in mcgymmy.
@@ -91,6 +128,17 @@ public class McGymmy implements ReadOnlyMcGymmy {
         foodItems.remove(food);
     }
 
+    /**
+     * Tells {@code listener} about every change to the Foods in mcgymmy.
+     */
+    public void addFoodEventListener(Consumer<? super FoodEvent> listener) {
+        foodItems.addEventListener(listener);
+    }
+
+    public void removeFoodEventListener(Consumer<? super FoodEvent> listener) {
+        foodItems.removeEventListener(listener);
+    }
+
     // util methods
 
     @Override
@@ -99,6 +147,13 @@ public class McGymmy implements ReadOnlyMcGymmy {
         // TODO: refine later
     }
 
+    /**
+     * Returns the index of the food items in {@link #getFoodList()}.
+     */
+    public FoodIndex getFoodIndex() {
+        return foodItems;
+    }
+
     @Override
     public ObservableList<Food> getFoodList() {
         return foodItems.asUnmodifiableObservableList();
@@ -1,12 +1,18 @@
 package jimmy.mcgymmy.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import jimmy.mcgymmy.commons.core.GuiSettings;
 import jimmy.mcgymmy.commons.core.index.Index;
+import jimmy.mcgymmy.commons.exceptions.DataConversionException;
+import jimmy.mcgymmy.model.event.ModelEventBus;
 import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.NutrientTotals;
 import jimmy.mcgymmy.model.macro.MacroList;
 
 /**
@@ -68,11 +74,50 @@ public interface Model {
      */
     void setMcGymmy(ReadOnlyMcGymmy mcGymmy);
 
+    /**
+     * Returns the bus on which every change to the food data and the macro list is published.
+     */
+    ModelEventBus getEventBus();
+
+    /**
+     * Returns a number that changes every time the food data in McGymmy changes.
+     */
+    long getMcGymmyVersion();
+
+    /**
+     * Sets the archive that holds the foods of older months which are not loaded yet.
+     */
+    void setFoodArchive(FoodArchive foodArchive);
+
+    /**
+     * Adds the archived foods of the months accepted by {@code months} to the front of McGymmy.
+     * The foods are kept through undo.
+     *
+     * @throws DataConversionException if the archived foods could not be read.
+     */
+    void loadArchivedFoods(Predicate<YearMonth> months) throws DataConversionException;
+
+    /**
+     * Returns a number that changes every time the macro list is replaced.
+     */
+    long getMacroListVersion();
+
     /**
      * Returns true if a food with the same identity as {@code food} exists in mcgymmy.
      */
     boolean hasFood(Food food);
 
+    /**
+     * Returns the totals of the food in mcgymmy dated from {@code from} to {@code to} inclusive.
+     * Archived food is not included until it is loaded.
+     */
+    NutrientTotals getTotals(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the indices of the food in mcgymmy, by position in {@code getMcGymmy().getFoodList()}.
+     */
+    FoodIndex getFoodIndex();
+
     /**
      * Deletes the given food.
      * The index must be valid
@@ -118,4 +163,10 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredFoodList(Predicate<Food> predicate);
+
+    /**
+     * Shows the food items in the saved view named {@code name} of the macro list as the filtered food list.
+     * The view must exist.
+     */
+    void showSavedView(String name);
 }
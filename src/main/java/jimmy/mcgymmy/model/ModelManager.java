@@ -3,19 +3,31 @@ package jimmy.mcgymmy.model;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import jimmy.mcgymmy.commons.core.GuiSettings;
 import jimmy.mcgymmy.commons.core.LogsCenter;
 import jimmy.mcgymmy.commons.core.index.Index;
+import jimmy.mcgymmy.commons.exceptions.DataConversionException;
 import jimmy.mcgymmy.commons.util.CollectionUtil;
+import jimmy.mcgymmy.model.event.FoodEvent;
+import jimmy.mcgymmy.model.event.MacroListChanged;
+import jimmy.mcgymmy.model.event.ModelEventBus;
 import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.NutrientTotals;
 import jimmy.mcgymmy.model.macro.MacroList;
+import jimmy.mcgymmy.model.macro.SavedView;
 
 
 /**
@@ -28,6 +40,8 @@ public class ModelManager implements Model {
     private static final String SET_FOOD_MESSAGE_FORMAT = "Change food at index %S to food:\n%S";
     private static final String UNDO_MESSAGE_FORMAT = "Undo Last Command that modified McGymmy\n";
     private static final String CLEAR_FILTERED_FOOD_MESSAGE_FORMAT = "Current Filtered Food cleared\n";
+    private static final String LOAD_ARCHIVE_MESSAGE_FORMAT = "Loaded %d archived foods";
+    private static final String SHOW_VIEW_MESSAGE_FORMAT = "Show saved view %s";
     private static final String INIT_MESSAGE_FORMAT = "Initializing with food list: %s and user prefs %s";
 
     private MacroList macroList;
@@ -35,7 +49,14 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private Predicate<Food> filterPredicate;
     private final History history;
-    private final FilteredList<Food> filteredFoodItems;
+    private final FilteredFoodView filteredFoodItems;
+    // the food items of each saved view, kept up to date as the food data changes
+    private final Map<String, FilteredFoodView> savedViews = new HashMap<>();
+    private final DisplayedFoodList displayedFoodItems;
+    private long mcGymmyVersion;
+    private long macroListVersion;
+    private FoodArchive foodArchive;
+    private final ModelEventBus eventBus = new ModelEventBus();
 
     /**
      * Initializes a ModelManager with the given mcGymmy and userPrefs and macroList.
@@ -52,9 +73,14 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
 
         filterPredicate = PREDICATE_SHOW_ALL_FOODS;
-        filteredFoodItems = new FilteredList<>(this.mcGymmy.getFoodList());
-
-        filteredFoodItems.setPredicate(filterPredicate);
+        filteredFoodItems = new FilteredFoodView(this.mcGymmy.getFoodList(), this.mcGymmy.getFoodIndex());
+        displayedFoodItems = new DisplayedFoodList(filteredFoodItems);
+        materializeSavedViews();
+
+        // every change to the food data, including undo, goes through the food list and is published
+        this.mcGymmy.addFoodEventListener(eventBus::publish);
+        eventBus.subscribe(FoodEvent.class, event -> mcGymmyVersion++);
+        eventBus.subscribe(MacroListChanged.class, event -> macroListVersion++);
     }
 
     /**
@@ -77,8 +103,38 @@ public class ModelManager implements Model {
 
     @Override
     public void setMacroList(MacroList replacement) {
-        saveCurrentStateToHistory();
-        this.macroList = replacement;
+        requireNonNull(replacement);
+        saveCurrentViewToHistory();
+        replaceMacroList(replacement);
+    }
+
+    private void replaceMacroList(MacroList replacement) {
+        MacroList previous = macroList;
+        macroList = replacement;
+        materializeSavedViews();
+        eventBus.publish(new MacroListChanged(previous, replacement));
+    }
+
+    /**
+     * Keeps a view of the food items of each saved view in the macro list, creating the views of new or changed
+     * saved views and dropping those of removed ones.
+     */
+    private void materializeSavedViews() {
+        Map<String, FilteredFoodView> views = new HashMap<>();
+        for (SavedView savedView : macroList.getViews()) {
+            FilteredFoodView view = savedViews.get(savedView.getName());
+            if (view == null || view.getPredicate() != savedView.getPredicate()) {
+                view = new FilteredFoodView(mcGymmy.getFoodList(), mcGymmy.getFoodIndex(), savedView.getPredicate());
+            }
+            views.put(savedView.getName(), view);
+        }
+        savedViews.clear();
+        savedViews.putAll(views);
+    }
+
+    @Override
+    public long getMacroListVersion() {
+        return macroListVersion;
     }
 
     //=========== UserPrefs ==================================================================================
@@ -134,12 +190,63 @@ public class ModelManager implements Model {
         updateFilterPredicate(PREDICATE_SHOW_ALL_FOODS);
     }
 
+    @Override
+    public ModelEventBus getEventBus() {
+        return eventBus;
+    }
+
+    @Override
+    public long getMcGymmyVersion() {
+        return mcGymmyVersion;
+    }
+
+    @Override
+    public void setFoodArchive(FoodArchive foodArchive) {
+        requireNonNull(foodArchive);
+        this.foodArchive = foodArchive;
+    }
+
+    @Override
+    public void loadArchivedFoods(Predicate<YearMonth> months) throws DataConversionException {
+        requireNonNull(months);
+        if (foodArchive == null) {
+            return;
+        }
+
+        List<Food> loadedFoods = new ArrayList<>();
+        try {
+            for (YearMonth month : foodArchive.getArchivedMonths()) {
+                if (months.test(month)) {
+                    loadedFoods.addAll(foodArchive.load(month));
+                }
+            }
+        } finally {
+            // months loaded before a failure are no longer archived, so their foods must still be added
+            if (!loadedFoods.isEmpty()) {
+                logger.fine(String.format(LOAD_ARCHIVE_MESSAGE_FORMAT, loadedFoods.size()));
+                history.addFoodsToFront(loadedFoods);
+                mcGymmy.addFoodsToFront(loadedFoods);
+            }
+        }
+    }
+
     @Override
     public boolean hasFood(Food food) {
         requireNonNull(food);
         return mcGymmy.hasFood(food);
     }
 
+    @Override
+    public NutrientTotals getTotals(LocalDate from, LocalDate to) {
+        CollectionUtil.requireAllNonNull(from, to);
+        return mcGymmy.getTotals(from, to);
+    }
+
+    @Override
+    public FoodIndex getFoodIndex() {
+        return mcGymmy.getFoodIndex();
+    }
+
     /**
      * Deletes the given food and saves the current state to the history
      * The index must be valid
@@ -151,8 +258,8 @@ public class ModelManager implements Model {
         logger.fine(String.format(DELETE_MESSAGE_FORMAT, index.getOneBased()));
         saveCurrentStateToHistory();
 
-        //Delete food based on food index
-        mcGymmy.removeFood(filteredFoodItems.get(index.getZeroBased()));
+        //Delete the food shown at the index, rather than the first food equal to it
+        mcGymmy.removeFood(getSourceIndex(index));
     }
 
     /**
@@ -163,7 +270,6 @@ public class ModelManager implements Model {
         logger.fine(String.format(ADD_MESSAGE_FORMAT, food));
         saveCurrentStateToHistory();
         mcGymmy.addFood(food);
-        updateFilterPredicate(PREDICATE_SHOW_ALL_FOODS);
     }
 
     /**
@@ -175,10 +281,15 @@ public class ModelManager implements Model {
         CollectionUtil.requireAllNonNull(index, editedFood);
         logger.fine(String.format(SET_FOOD_MESSAGE_FORMAT, index.getOneBased(), editedFood.toString()));
         saveCurrentStateToHistory();
-        Food food = getFilteredFoodList().get(index.getZeroBased());
-        Index index1 = Index.fromZeroBased(mcGymmy.getFoodList().indexOf(food));
-        mcGymmy.setFood(index1, editedFood);
-        updateFilterPredicate(PREDICATE_SHOW_ALL_FOODS);
+        mcGymmy.setFood(getSourceIndex(index), editedFood);
+    }
+
+    /**
+     * Returns the index in McGymmy of the food shown at {@code index} in the filtered list.
+     */
+    private Index getSourceIndex(Index index) {
+        // the shown view keeps the position of each of its food items, so the target is not looked up
+        return Index.fromZeroBased(displayedFoodItems.getSourceIndex(index.getZeroBased()));
     }
 
     @Override
@@ -202,32 +313,41 @@ public class ModelManager implements Model {
 
         //Log the undo.
         logger.fine(UNDO_MESSAGE_FORMAT);
-        McGymmy prevMcGymmy = history.peekMcGymmy();
+        Optional<McGymmy> prevMcGymmy = history.peekMcGymmy();
         Predicate<Food> prevPredicate = history.peekPredicate();
         MacroList macroList = history.peekMacroList();
         history.pop();
-        mcGymmy.resetData(prevMcGymmy);
+        prevMcGymmy.ifPresent(mcGymmy::resetData);
         updateFilterPredicate(prevPredicate);
-        this.macroList = macroList;
+        if (this.macroList != macroList) {
+            replaceMacroList(macroList);
+        }
     }
 
     private void saveCurrentStateToHistory() {
         history.save(this);
     }
 
+    private void saveCurrentViewToHistory() {
+        history.saveView(this);
+    }
+
     @Override
     public void clearFilteredFood() {
         logger.fine(CLEAR_FILTERED_FOOD_MESSAGE_FORMAT);
         saveCurrentStateToHistory();
-        List<Food> lst = new ArrayList<>();
-        // prevent traversal error
-        for (Food filteredFood : mcGymmy.getFoodList()) {
-            if (!filterPredicate.test(filteredFood)) {
-                lst.add(filteredFood);
-            }
+        // the shown food items are already known, so the rest are kept without testing the predicate again
+        BitSet shown = new BitSet();
+        for (int i = 0; i < displayedFoodItems.size(); i++) {
+            shown.set(displayedFoodItems.getSourceIndex(i));
         }
+        List<Food> foods = mcGymmy.getFoodList();
+        List<Food> lst = new ArrayList<>(foods.size() - shown.cardinality());
+        for (int i = shown.nextClearBit(0); i < foods.size(); i = shown.nextClearBit(i + 1)) {
+            lst.add(foods.get(i));
+        }
+        // every view removes the cleared food items itself when the food list changes
         mcGymmy.setFoodItems(lst);
-        filteredFoodItems.clear();
     }
 
     //=========== Filtered Food List Accessors =============================================================
@@ -238,20 +358,38 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Food> getFilteredFoodList() {
-        return filteredFoodItems;
+        return displayedFoodItems;
     }
 
     @Override
     public void updateFilteredFoodList(Predicate<Food> predicate) {
         requireNonNull(predicate);
         logger.fine("Update predicate for filtered food list");
-        saveCurrentStateToHistory();
+        saveCurrentViewToHistory();
         updateFilterPredicate(predicate);
     }
 
+    @Override
+    public void showSavedView(String name) {
+        requireNonNull(name);
+        assert savedViews.containsKey(name) : "Saved view does not exist";
+        logger.fine(String.format(SHOW_VIEW_MESSAGE_FORMAT, name));
+        saveCurrentViewToHistory();
+        filterPredicate = macroList.getView(name).getPredicate();
+        displayedFoodItems.show(savedViews.get(name));
+    }
+
     private void updateFilterPredicate(Predicate<Food> predicate) {
         filterPredicate = predicate;
+        // the predicate of a saved view, such as one restored by undo, is shown without testing any food item
+        for (FilteredFoodView view : savedViews.values()) {
+            if (view.getPredicate() == predicate) {
+                displayedFoodItems.show(view);
+                return;
+            }
+        }
         filteredFoodItems.setPredicate(filterPredicate);
+        displayedFoodItems.show(filteredFoodItems);
     }
 
     Predicate<Food> getFilterPredicate() {
@@ -275,7 +413,7 @@ public class ModelManager implements Model {
 
         return mcGymmy.equals(other.mcGymmy)
                 && userPrefs.equals(other.userPrefs)
-                && filteredFoodItems.equals(other.filteredFoodItems);
+                && displayedFoodItems.equals(other.displayedFoodItems);
     }
 
 }
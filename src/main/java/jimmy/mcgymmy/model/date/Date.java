@@ -7,6 +7,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Optional;
 
+import jimmy.mcgymmy.commons.core.Interner;
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
 import jimmy.mcgymmy.commons.util.AppUtil;
 
@@ -36,6 +37,8 @@ public class Date {
 
     private static final String OUTPUT_FORMAT = "d MMM yyyy";
 
+    private static final Interner<Date> INTERNER = new Interner<>();
+
     private final LocalDate date;
 
     /**
@@ -58,6 +61,10 @@ public class Date {
         date = LocalDate.now();
     }
 
+    private Date(LocalDate date) {
+        this.date = date;
+    }
+
     /**
      * Construct a {@code date} that contains the current date.
      */
@@ -65,6 +72,25 @@ public class Date {
         return new Date();
     }
 
+    /**
+     * Construct a {@code date} that contains the given {@code LocalDate}, without any parsing.
+     */
+    public static Date fromLocalDate(LocalDate date) {
+        requireNonNull(date);
+        return new Date(date);
+    }
+
+    /**
+     * Returns the shared {@code Date} equal to this one, so that food items on the same day share one instance.
+     */
+    public Date intern() {
+        return INTERNER.intern(this);
+    }
+
+    public LocalDate toLocalDate() {
+        return date;
+    }
+
     /**
      * Checks of the date format is valid.
      * @param date Date as a String.
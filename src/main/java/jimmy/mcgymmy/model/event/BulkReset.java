@@ -0,0 +1,38 @@
+package jimmy.mcgymmy.model.event;
+
+import java.util.List;
+
+import jimmy.mcgymmy.commons.util.CollectionUtil;
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * The whole list of food items was replaced at once, such as by loading data or by clearing.
+ * The lists before and after are unmodifiable and never change, so they can be kept.
+ */
+public final class BulkReset extends FoodEvent {
+
+    private final List<Food> before;
+    private final List<Food> after;
+
+    /**
+     * Creates an event for the list {@code before} replaced by {@code after}.
+     */
+    public BulkReset(List<Food> before, List<Food> after) {
+        CollectionUtil.requireAllNonNull(before, after);
+        this.before = before;
+        this.after = after;
+    }
+
+    public List<Food> getBefore() {
+        return before;
+    }
+
+    public List<Food> getAfter() {
+        return after;
+    }
+
+    @Override
+    public String toString() {
+        return "Reset from " + before.size() + " to " + after.size() + " foods";
+    }
+}
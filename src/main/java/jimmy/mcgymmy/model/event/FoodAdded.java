@@ -0,0 +1,40 @@
+package jimmy.mcgymmy.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * A food item was inserted into the list of food items.
+ */
+public final class FoodAdded extends FoodEvent {
+
+    private final int index;
+    private final Food food;
+
+    /**
+     * Creates an event for {@code food} inserted at {@code index}.
+     */
+    public FoodAdded(int index, Food food) {
+        requireNonNull(food);
+        this.index = index;
+        this.food = food;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public long getId() {
+        return food.getId();
+    }
+
+    public Food getFood() {
+        return food;
+    }
+
+    @Override
+    public String toString() {
+        return "Added at " + index + ": " + food.getName();
+    }
+}
@@ -0,0 +1,8 @@
+package jimmy.mcgymmy.model.event;
+
+/**
+ * A change to the list of food items in McGymmy.
+ * Positions are those in the list at the time of the change, with earlier events already applied.
+ */
+public abstract class FoodEvent implements ModelEvent {
+}
@@ -0,0 +1,40 @@
+package jimmy.mcgymmy.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * A food item was removed from the list of food items, moving the ones after it up.
+ */
+public final class FoodRemoved extends FoodEvent {
+
+    private final int index;
+    private final Food food;
+
+    /**
+     * Creates an event for {@code food} removed from {@code index}.
+     */
+    public FoodRemoved(int index, Food food) {
+        requireNonNull(food);
+        this.index = index;
+        this.food = food;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public long getId() {
+        return food.getId();
+    }
+
+    public Food getFood() {
+        return food;
+    }
+
+    @Override
+    public String toString() {
+        return "Removed from " + index + ": " + food.getName();
+    }
+}
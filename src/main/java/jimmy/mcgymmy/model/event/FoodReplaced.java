@@ -0,0 +1,41 @@
+package jimmy.mcgymmy.model.event;
+
+import jimmy.mcgymmy.commons.util.CollectionUtil;
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * A food item in the list of food items was replaced by another, such as an edited or tagged copy of it.
+ */
+public final class FoodReplaced extends FoodEvent {
+
+    private final int index;
+    private final Food before;
+    private final Food after;
+
+    /**
+     * Creates an event for {@code before} at {@code index} replaced by {@code after}.
+     */
+    public FoodReplaced(int index, Food before, Food after) {
+        CollectionUtil.requireAllNonNull(before, after);
+        this.index = index;
+        this.before = before;
+        this.after = after;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Food getBefore() {
+        return before;
+    }
+
+    public Food getAfter() {
+        return after;
+    }
+
+    @Override
+    public String toString() {
+        return "Replaced at " + index + ": " + before.getName() + " with " + after.getName();
+    }
+}
@@ -0,0 +1,35 @@
+package jimmy.mcgymmy.model.event;
+
+import jimmy.mcgymmy.commons.util.CollectionUtil;
+import jimmy.mcgymmy.model.macro.MacroList;
+
+/**
+ * The macro list was replaced, such as by defining a macro or by undoing that.
+ */
+public final class MacroListChanged implements ModelEvent {
+
+    private final MacroList before;
+    private final MacroList after;
+
+    /**
+     * Creates an event for the macro list {@code before} replaced by {@code after}.
+     */
+    public MacroListChanged(MacroList before, MacroList after) {
+        CollectionUtil.requireAllNonNull(before, after);
+        this.before = before;
+        this.after = after;
+    }
+
+    public MacroList getBefore() {
+        return before;
+    }
+
+    public MacroList getAfter() {
+        return after;
+    }
+
+    @Override
+    public String toString() {
+        return "Macro list replaced";
+    }
+}
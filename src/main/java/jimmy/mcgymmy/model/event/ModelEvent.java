@@ -0,0 +1,8 @@
+package jimmy.mcgymmy.model.event;
+
+/**
+ * A change to the data in the model, published on a {@link ModelEventBus}.
+ * Events are immutable, so they can be handed to subscribers on other threads.
+ */
+public interface ModelEvent {
+}
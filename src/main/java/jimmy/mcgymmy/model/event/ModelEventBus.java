@@ -0,0 +1,96 @@
+package jimmy.mcgymmy.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import jimmy.mcgymmy.commons.core.LogsCenter;
+import jimmy.mcgymmy.commons.util.CollectionUtil;
+
+/**
+ * Hands every {@link ModelEvent} published by the model to the subscribers of its type.
+ * <p>
+ * Synchronous subscribers are run on the publishing thread, in the order they subscribed, before
+ * {@link #publish(ModelEvent)} returns, so they see the model just after the change. Asynchronous subscribers are
+ * handed each event on their own {@code Executor}, which must run tasks one at a time and in order if the
+ * subscriber needs the events in order. A subscriber that throws is logged and does not stop the others.
+ */
+public class ModelEventBus {
+
+    private static final Logger logger = LogsCenter.getLogger(ModelEventBus.class);
+
+    private final List<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Runs {@code subscriber} on the publishing thread for every event of the given {@code type}, including its
+     * subtypes.
+     */
+    public <E extends ModelEvent> void subscribe(Class<E> type, Consumer<? super E> subscriber) {
+        CollectionUtil.requireAllNonNull(type, subscriber);
+        subscriptions.add(new Subscription<>(type, subscriber, null));
+    }
+
+    /**
+     * Runs {@code subscriber} on {@code executor} for every event of the given {@code type}, including its subtypes.
+     */
+    public <E extends ModelEvent> void subscribeAsync(Class<E> type, Consumer<? super E> subscriber,
+            Executor executor) {
+        CollectionUtil.requireAllNonNull(type, subscriber, executor);
+        subscriptions.add(new Subscription<>(type, subscriber, executor));
+    }
+
+    /**
+     * Stops handing events to {@code subscriber}.
+     */
+    public void unsubscribe(Consumer<?> subscriber) {
+        requireNonNull(subscriber);
+        subscriptions.removeIf(subscription -> subscription.subscriber == subscriber);
+    }
+
+    /**
+     * Hands {@code event} to every subscriber of its type.
+     */
+    public void publish(ModelEvent event) {
+        requireNonNull(event);
+        for (Subscription<?> subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    private static class Subscription<E extends ModelEvent> {
+        private final Class<E> type;
+        private final Consumer<? super E> subscriber;
+        // null for a subscriber run on the publishing thread
+        private final Executor executor;
+
+        Subscription(Class<E> type, Consumer<? super E> subscriber, Executor executor) {
+            this.type = type;
+            this.subscriber = subscriber;
+            this.executor = executor;
+        }
+
+        void offer(ModelEvent event) {
+            if (!type.isInstance(event)) {
+                return;
+            }
+            E typedEvent = type.cast(event);
+            if (executor == null) {
+                deliver(typedEvent);
+            } else {
+                executor.execute(() -> deliver(typedEvent));
+            }
+        }
+
+        private void deliver(E event) {
+            try {
+                subscriber.accept(event);
+            } catch (RuntimeException e) {
+                logger.warning("Subscriber failed to handle " + event + ": " + e);
+            }
+        }
+    }
+}
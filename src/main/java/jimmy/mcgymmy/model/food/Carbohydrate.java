@@ -6,7 +6,7 @@ import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
  * Represents Carbodydrates in food item in McGymmy.
  */
 public class Carbohydrate extends Macronutrient {
-    private static final int CARBOHYDRATE_MULTIPLIER = 4;
+    static final int CARBOHYDRATE_MULTIPLIER = 4;
     private static final int DEFAULT_CARBOHYDRATE = 0;
     public static final String MESSAGE_CONSTRAINTS = "Carbohydrate" + Macronutrient.MESSAGE_CONSTRAINTS;
 
@@ -31,6 +31,13 @@ public class Carbohydrate extends Macronutrient {
         }
     }
 
+    /**
+     * Returns the shared {@code Carbohydrate} with the same amount, so that food items share one instance per amount.
+     */
+    public Carbohydrate intern() {
+        return (Carbohydrate) internMacronutrient();
+    }
+
     @Override
     String getMessageConstraint() {
         return MESSAGE_CONSTRAINTS;
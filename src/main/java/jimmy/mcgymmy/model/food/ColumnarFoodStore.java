@@ -0,0 +1,507 @@
+package jimmy.mcgymmy.model.food;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import jimmy.mcgymmy.commons.core.IdDictionary;
+import jimmy.mcgymmy.commons.core.PersistentVector;
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.date.Date;
+import jimmy.mcgymmy.model.tag.TagSet;
+
+/**
+ * A {@link FoodStore} that keeps food items column by column in primitive arrays, for large logs.
+ * <p>
+ * Each food item takes a long id, an int epoch day, a short for each amount, and an int id for its name and for
+ * its tag set, which is 26 bytes instead of a {@code Food} object and the references to its fields. Names and tag
+ * sets are given ids in dictionaries shared by every store. A {@code Food} is only created when an item is read, so
+ * only the items that are shown cost objects. A {@link RowPredicate} is tested against the columns through one
+ * reused {@link FoodRow}, so searching creates no {@code Food} objects at all.
+ * <p>
+ * The rows are kept in leaves of up to {@value #LEAF_SIZE} rows, under branches of up to {@value #BRANCHING}
+ * children, with every leaf at the same depth. As in a {@link PersistentVector}, an update copies only the path to
+ * the leaf it changes and shares the rest with the previous version, so old versions are cheap to keep for undo.
+ */
+final class ColumnarFoodStore implements FoodStore {
+
+    static final int LEAF_SIZE = 64;
+    static final int BRANCHING = 32;
+
+    static final ColumnarFoodStore EMPTY = new ColumnarFoodStore(new Leaf(0));
+
+    private static final IdDictionary<Name> NAMES = new IdDictionary<>();
+    private static final IdDictionary<TagSet> TAG_SETS = new IdDictionary<>();
+
+    private final Node root;
+
+    private ColumnarFoodStore(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a store of {@code foods}, built in O(n) time with every leaf full except the last.
+     */
+    static ColumnarFoodStore of(List<Food> foods) {
+        if (foods.isEmpty()) {
+            return EMPTY;
+        }
+        List<Node> level = new ArrayList<>();
+        for (int start = 0; start < foods.size(); start += LEAF_SIZE) {
+            int end = Math.min(start + LEAF_SIZE, foods.size());
+            Leaf leaf = new Leaf(end - start);
+            for (int i = start; i < end; i++) {
+                leaf.write(i - start, foods.get(i));
+            }
+            level.add(leaf);
+        }
+        while (level.size() > 1) {
+            List<Node> parents = new ArrayList<>();
+            for (int start = 0; start < level.size(); start += BRANCHING) {
+                List<Node> children = level.subList(start, Math.min(start + BRANCHING, level.size()));
+                parents.add(new Branch(children.toArray(new Node[0])));
+            }
+            level = parents;
+        }
+        return new ColumnarFoodStore(level.get(0));
+    }
+
+    @Override
+    public int size() {
+        return root.size();
+    }
+
+    @Override
+    public Food get(int index) {
+        checkIndex(index, size());
+        return root.get(index);
+    }
+
+    @Override
+    public long getId(int index) {
+        checkIndex(index, size());
+        return root.getId(index);
+    }
+
+    @Override
+    public int[] testRows(int from, int to, RowPredicate predicate) {
+        if (from < 0 || from > to || to > size()) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + "), Size: " + size());
+        }
+        Row row = new Row();
+        IntStream.Builder matches = IntStream.builder();
+        int position = from;
+        while (position < to) {
+            // test the rest of the range that lies in this leaf, then move on to the next leaf
+            row.moveTo(root, position);
+            int first = row.row;
+            int end = Math.min(row.leaf.size(), first + to - position);
+            for (int leafRow = first; leafRow < end; leafRow++) {
+                row.row = leafRow;
+                if (predicate.testRow(row)) {
+                    matches.add(position + leafRow - first);
+                }
+            }
+            position += end - first;
+        }
+        return matches.build().toArray();
+    }
+
+    @Override
+    public int[] testRows(int[] positions, int start, int end, RowPredicate predicate) {
+        Row row = new Row();
+        IntStream.Builder matches = IntStream.builder();
+        for (int i = start; i < end; i++) {
+            checkIndex(positions[i], size());
+            row.moveTo(root, positions[i]);
+            if (predicate.testRow(row)) {
+                matches.add(positions[i]);
+            }
+        }
+        return matches.build().toArray();
+    }
+
+    @Override
+    public boolean isSameRow(int index, FoodStore other, int otherIndex) {
+        if (!(other instanceof ColumnarFoodStore)) {
+            return FoodStore.super.isSameRow(index, other, otherIndex);
+        }
+        checkIndex(index, size());
+        checkIndex(otherIndex, other.size());
+        Node otherRoot = ((ColumnarFoodStore) other).root;
+        return root.leafAt(index).isSameRow(root.rowAt(index), otherRoot.leafAt(otherIndex),
+                otherRoot.rowAt(otherIndex));
+    }
+
+    @Override
+    public ColumnarFoodStore set(int index, Food food) {
+        checkIndex(index, size());
+        return new ColumnarFoodStore(withRow(root, index, food));
+    }
+
+    @Override
+    public ColumnarFoodStore add(Food food) {
+        Node appended = append(root, food);
+        if (appended == null) {
+            // the tree is full, so it grows a level
+            appended = new Branch(new Node[] {root, path(depth(root), food)});
+        }
+        return new ColumnarFoodStore(appended);
+    }
+
+    @Override
+    public ColumnarFoodStore remove(int index) {
+        checkIndex(index, size());
+        Node newRoot = withoutRow(root, index);
+        while (newRoot instanceof Branch && ((Branch) newRoot).children.length == 1) {
+            newRoot = ((Branch) newRoot).children[0];
+        }
+        return newRoot.size() == 0 ? EMPTY : new ColumnarFoodStore(newRoot);
+    }
+
+    @Override
+    public List<Food> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Food get(int index) {
+                return ColumnarFoodStore.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return ColumnarFoodStore.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Food> iterator() {
+        return asList().iterator();
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static Node withRow(Node node, int index, Food food) {
+        if (node instanceof Leaf) {
+            Leaf copy = ((Leaf) node).copy(0);
+            copy.write(index, food);
+            return copy;
+        }
+        Branch branch = (Branch) node;
+        int child = branch.childAt(index);
+        return branch.withChild(child, withRow(branch.children[child], index - branch.start(child), food));
+    }
+
+    /**
+     * Returns {@code node} with {@code food} added at the end, or null if there is no room for it.
+     */
+    private static Node append(Node node, Food food) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            if (leaf.size() == LEAF_SIZE) {
+                return null;
+            }
+            Leaf copy = leaf.copy(1);
+            copy.write(leaf.size(), food);
+            return copy;
+        }
+        Branch branch = (Branch) node;
+        int last = branch.children.length - 1;
+        Node appended = append(branch.children[last], food);
+        if (appended != null) {
+            return branch.withChild(last, appended);
+        }
+        if (branch.children.length == BRANCHING) {
+            return null;
+        }
+        Node[] children = Arrays.copyOf(branch.children, branch.children.length + 1);
+        children[last + 1] = path(depth(branch.children[last]), food);
+        return new Branch(children);
+    }
+
+    /**
+     * Returns {@code node} without the row at {@code index}, dropping any leaf or branch left empty.
+     */
+    private static Node withoutRow(Node node, int index) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            Leaf copy = new Leaf(leaf.size() - 1);
+            copy.copyRows(leaf, 0, 0, index);
+            copy.copyRows(leaf, index + 1, index, leaf.size() - index - 1);
+            return copy;
+        }
+        Branch branch = (Branch) node;
+        int child = branch.childAt(index);
+        Node removed = withoutRow(branch.children[child], index - branch.start(child));
+        if (removed.size() > 0) {
+            return branch.withChild(child, removed);
+        }
+        Node[] children = new Node[branch.children.length - 1];
+        System.arraycopy(branch.children, 0, children, 0, child);
+        System.arraycopy(branch.children, child + 1, children, child, children.length - child);
+        return new Branch(children);
+    }
+
+    /**
+     * Returns a chain of single-child branches {@code depth} levels deep, ending in a leaf holding just {@code food}.
+     */
+    private static Node path(int depth, Food food) {
+        Leaf leaf = new Leaf(1);
+        leaf.write(0, food);
+        Node node = leaf;
+        for (int i = 0; i < depth; i++) {
+            node = new Branch(new Node[] {node});
+        }
+        return node;
+    }
+
+    private static int depth(Node node) {
+        int depth = 0;
+        while (node instanceof Branch) {
+            node = ((Branch) node).children[0];
+            depth++;
+        }
+        return depth;
+    }
+
+    private abstract static class Node {
+        abstract int size();
+
+        abstract Food get(int index);
+
+        abstract long getId(int index);
+
+        /**
+         * Returns the leaf that holds the row at {@code index}.
+         */
+        abstract Leaf leafAt(int index);
+
+        /**
+         * Returns the position within {@link #leafAt(int)} of the row at {@code index}.
+         */
+        abstract int rowAt(int index);
+    }
+
+    /**
+     * Up to {@value #BRANCHING} subtrees, all of the same depth and none of them empty.
+     */
+    private static final class Branch extends Node {
+        private final Node[] children;
+        // ends[i] is the number of rows in children[0..i]
+        private final int[] ends;
+
+        Branch(Node[] children) {
+            this.children = children;
+            this.ends = new int[children.length];
+            int total = 0;
+            for (int i = 0; i < children.length; i++) {
+                total += children[i].size();
+                ends[i] = total;
+            }
+        }
+
+        @Override
+        int size() {
+            // a branch is only left without children on its way to being dropped
+            return ends.length == 0 ? 0 : ends[ends.length - 1];
+        }
+
+        /**
+         * Returns the child that holds the row at {@code index} within this branch.
+         */
+        int childAt(int index) {
+            int position = Arrays.binarySearch(ends, index);
+            // an exact match is the end of a child, so the row is the first one of the next child
+            return position >= 0 ? position + 1 : -position - 1;
+        }
+
+        int start(int child) {
+            return child == 0 ? 0 : ends[child - 1];
+        }
+
+        @Override
+        Food get(int index) {
+            int child = childAt(index);
+            return children[child].get(index - start(child));
+        }
+
+        @Override
+        long getId(int index) {
+            int child = childAt(index);
+            return children[child].getId(index - start(child));
+        }
+
+        @Override
+        Leaf leafAt(int index) {
+            int child = childAt(index);
+            return children[child].leafAt(index - start(child));
+        }
+
+        @Override
+        int rowAt(int index) {
+            int child = childAt(index);
+            return children[child].rowAt(index - start(child));
+        }
+
+        Branch withChild(int child, Node node) {
+            Node[] newChildren = children.clone();
+            newChildren[child] = node;
+            return new Branch(newChildren);
+        }
+    }
+
+    /**
+     * A run of rows, one array per column. Leaves are only written while they are being built.
+     */
+    private static final class Leaf extends Node {
+        private final long[] ids;
+        private final int[] days;
+        private final short[] proteins;
+        private final short[] fats;
+        private final short[] carbs;
+        private final int[] names;
+        private final int[] tagSets;
+
+        Leaf(int size) {
+            ids = new long[size];
+            days = new int[size];
+            proteins = new short[size];
+            fats = new short[size];
+            carbs = new short[size];
+            names = new int[size];
+            tagSets = new int[size];
+        }
+
+        @Override
+        int size() {
+            return ids.length;
+        }
+
+        /**
+         * Returns a copy of this leaf with {@code extra} more rows, which are left to be written.
+         */
+        Leaf copy(int extra) {
+            Leaf copy = new Leaf(size() + extra);
+            copy.copyRows(this, 0, 0, size());
+            return copy;
+        }
+
+        void copyRows(Leaf source, int from, int to, int length) {
+            System.arraycopy(source.ids, from, ids, to, length);
+            System.arraycopy(source.days, from, days, to, length);
+            System.arraycopy(source.proteins, from, proteins, to, length);
+            System.arraycopy(source.fats, from, fats, to, length);
+            System.arraycopy(source.carbs, from, carbs, to, length);
+            System.arraycopy(source.names, from, names, to, length);
+            System.arraycopy(source.tagSets, from, tagSets, to, length);
+        }
+
+        void write(int row, Food food) {
+            ids[row] = food.getId();
+            days[row] = (int) food.getDate().toLocalDate().toEpochDay();
+            // amounts are below 1000, so they fit in a short
+            proteins[row] = (short) food.getProtein().getAmount();
+            fats[row] = (short) food.getFat().getAmount();
+            carbs[row] = (short) food.getCarbs().getAmount();
+            names[row] = NAMES.idOf(food.getName());
+            tagSets[row] = TAG_SETS.idOf(food.getTagSet());
+        }
+
+        @Override
+        long getId(int row) {
+            return ids[row];
+        }
+
+        @Override
+        Leaf leafAt(int index) {
+            return this;
+        }
+
+        @Override
+        int rowAt(int index) {
+            return index;
+        }
+
+        boolean isSameRow(int row, Leaf other, int otherRow) {
+            return (other == this && otherRow == row)
+                    || (ids[row] == other.ids[otherRow] && days[row] == other.days[otherRow]
+                    && proteins[row] == other.proteins[otherRow] && fats[row] == other.fats[otherRow]
+                    && carbs[row] == other.carbs[otherRow] && names[row] == other.names[otherRow]
+                    && tagSets[row] == other.tagSets[otherRow]);
+        }
+
+        @Override
+        Food get(int row) {
+            try {
+                return new Food(ids[row], NAMES.get(names[row]), new Protein(proteins[row]), new Fat(fats[row]),
+                        new Carbohydrate(carbs[row]), TAG_SETS.get(tagSets[row]),
+                        Date.fromLocalDate(LocalDate.ofEpochDay(days[row])));
+            } catch (IllegalValueException e) {
+                assert false : "Stored amounts were valid when written";
+                throw new IllegalStateException("Invalid amount in stored food item.", e);
+            }
+        }
+    }
+
+    /**
+     * Reads the row it was last moved to as a {@link FoodRow}, without creating a {@code Food}. It is moved from row
+     * to row while a store tests its rows, so each test uses its own.
+     */
+    private static final class Row implements FoodRow {
+        private Leaf leaf;
+        private int row;
+
+        /**
+         * Moves to the row at {@code index} under {@code root}.
+         */
+        void moveTo(Node root, int index) {
+            Node node = root;
+            while (node instanceof Branch) {
+                Branch branch = (Branch) node;
+                int child = branch.childAt(index);
+                index -= branch.start(child);
+                node = branch.children[child];
+            }
+            leaf = (Leaf) node;
+            row = index;
+        }
+
+        @Override
+        public Name getName() {
+            return NAMES.get(leaf.names[row]);
+        }
+
+        @Override
+        public TagSet getTagSet() {
+            return TAG_SETS.get(leaf.tagSets[row]);
+        }
+
+        @Override
+        public long getEpochDay() {
+            return leaf.days[row];
+        }
+
+        @Override
+        public int getProteinAmount() {
+            return leaf.proteins[row];
+        }
+
+        @Override
+        public int getFatAmount() {
+            return leaf.fats[row];
+        }
+
+        @Override
+        public int getCarbsAmount() {
+            return leaf.carbs[row];
+        }
+    }
+}
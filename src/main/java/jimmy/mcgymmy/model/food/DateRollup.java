@@ -0,0 +1,147 @@
+package jimmy.mcgymmy.model.food;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Running totals of the calories and macronutrients of food items by date, held in a Fenwick tree so that the
+ * totals over any range of dates take O(log d) time, where d is the number of distinct dates.
+ * <p>
+ * Only the dates that have been seen get a slot in the tree. Adding a food item on a new date inserts a slot and
+ * rebuilds the tree in O(d) time, which happens at most once a day in normal use. Slots are not removed when their
+ * last food item is, since an empty slot does not change any total.
+ */
+class DateRollup {
+
+    // food count, calories, protein, carbs and fat
+    private static final int FIELDS = 5;
+
+    // the epoch days with a slot, in increasing order
+    private long[] days;
+    // the totals on each day, FIELDS per day
+    private long[] values;
+    // the Fenwick tree over values, 1-based, FIELDS per node
+    private long[] tree;
+
+    /**
+     * Creates the totals of {@code foods}, giving a slot to each of their dates at once so that the tree is only
+     * built once.
+     */
+    DateRollup(Collection<Food> foods) {
+        days = foods.stream().mapToLong(food -> food.getDate().toLocalDate().toEpochDay()).sorted().distinct()
+                .toArray();
+        values = new long[days.length * FIELDS];
+        for (Food food : foods) {
+            int slot = Arrays.binarySearch(days, food.getDate().toLocalDate().toEpochDay());
+            long[] delta = deltaOf(food, 1);
+            for (int field = 0; field < FIELDS; field++) {
+                values[slot * FIELDS + field] += delta[field];
+            }
+        }
+        rebuildTree();
+    }
+
+    private static long[] deltaOf(Food food, int sign) {
+        return new long[] {sign, sign * food.getCalories(), sign * food.getProtein().getAmount(),
+            sign * food.getCarbs().getAmount(), sign * food.getFat().getAmount()};
+    }
+
+    /**
+     * Adds the totals of {@code food} to its date.
+     */
+    void add(Food food) {
+        update(food, 1);
+    }
+
+    /**
+     * Takes the totals of {@code food} away from its date. {@code food} must have been added.
+     */
+    void remove(Food food) {
+        update(food, -1);
+    }
+
+    private void update(Food food, int sign) {
+        long day = food.getDate().toLocalDate().toEpochDay();
+        int slot = Arrays.binarySearch(days, day);
+        if (slot < 0) {
+            assert sign > 0 : "Removed a food item that was never added";
+            slot = insertDay(-slot - 1, day);
+        }
+        long[] delta = deltaOf(food, sign);
+        for (int field = 0; field < FIELDS; field++) {
+            values[slot * FIELDS + field] += delta[field];
+        }
+        for (int node = slot + 1; node <= days.length; node += node & -node) {
+            for (int field = 0; field < FIELDS; field++) {
+                tree[node * FIELDS + field] += delta[field];
+            }
+        }
+    }
+
+    /**
+     * Inserts an empty slot for {@code day} at {@code slot}, rebuilds the tree and returns {@code slot}.
+     */
+    private int insertDay(int slot, long day) {
+        long[] newDays = new long[days.length + 1];
+        System.arraycopy(days, 0, newDays, 0, slot);
+        newDays[slot] = day;
+        System.arraycopy(days, slot, newDays, slot + 1, days.length - slot);
+
+        long[] newValues = new long[newDays.length * FIELDS];
+        System.arraycopy(values, 0, newValues, 0, slot * FIELDS);
+        System.arraycopy(values, slot * FIELDS, newValues, (slot + 1) * FIELDS, values.length - slot * FIELDS);
+
+        days = newDays;
+        values = newValues;
+        rebuildTree();
+        return slot;
+    }
+
+    private void rebuildTree() {
+        tree = new long[(days.length + 1) * FIELDS];
+        System.arraycopy(values, 0, tree, FIELDS, values.length);
+        for (int node = 1; node <= days.length; node++) {
+            int parent = node + (node & -node);
+            if (parent <= days.length) {
+                for (int field = 0; field < FIELDS; field++) {
+                    tree[parent * FIELDS + field] += tree[node * FIELDS + field];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the totals of the food items dated from {@code from} to {@code to} inclusive.
+     */
+    NutrientTotals sum(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return NutrientTotals.EMPTY;
+        }
+        // the number of slots before from, and up to and including to
+        int start = firstSlotAtLeast(from.toEpochDay());
+        int end = firstSlotAtLeast(to.toEpochDay() + 1);
+        long[] totals = prefix(end);
+        long[] before = prefix(start);
+        return new NutrientTotals(totals[0] - before[0], totals[1] - before[1], totals[2] - before[2],
+                totals[3] - before[3], totals[4] - before[4]);
+    }
+
+    private int firstSlotAtLeast(long day) {
+        int slot = Arrays.binarySearch(days, day);
+        return slot >= 0 ? slot : -slot - 1;
+    }
+
+    /**
+     * Returns the totals of the first {@code slots} slots.
+     */
+    private long[] prefix(int slots) {
+        long[] totals = new long[FIELDS];
+        for (int node = slots; node > 0; node -= node & -node) {
+            for (int field = 0; field < FIELDS; field++) {
+                totals[field] += tree[node * FIELDS + field];
+            }
+        }
+        return totals;
+    }
+}
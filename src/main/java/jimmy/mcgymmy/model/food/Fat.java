@@ -7,7 +7,7 @@ import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
  * Represents Fats in food item in McGymmy.
  */
 public class Fat extends Macronutrient {
-    private static final int FAT_MULTIPLIER = 9;
+    static final int FAT_MULTIPLIER = 9;
     private static final int DEFAULT_FAT = 0;
     public static final String MESSAGE_CONSTRAINTS = "Fat" + Macronutrient.MESSAGE_CONSTRAINTS;
 
@@ -34,6 +34,13 @@ public class Fat extends Macronutrient {
         }
     }
 
+    /**
+     * Returns the shared {@code Fat} with the same amount, so that food items share one instance per amount.
+     */
+    public Fat intern() {
+        return (Fat) internMacronutrient();
+    }
+
     @Override
     String getMessageConstraint() {
         return MESSAGE_CONSTRAINTS;
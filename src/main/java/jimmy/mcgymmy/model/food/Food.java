@@ -1,8 +1,10 @@
 package jimmy.mcgymmy.model.food;
 
-import java.util.Collections;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import jimmy.mcgymmy.commons.core.LogsCenter;
@@ -10,15 +12,27 @@ import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
 import jimmy.mcgymmy.commons.util.CollectionUtil;
 import jimmy.mcgymmy.model.date.Date;
 import jimmy.mcgymmy.model.tag.Tag;
+import jimmy.mcgymmy.model.tag.TagSet;
 
 
 /**
  * Represents a Food item in McGymmy.
  * Immutable for defensive coding.
+ * <p>
+ * Every food item carries an id that stays the same when it is tagged or edited, and is saved with it. Ids are
+ * handed out in increasing order starting from the current time, so that they do not clash with the ids saved in
+ * earlier sessions. The id is not part of the identity of a food item, so it is ignored by {@link #equals(Object)}.
+ * <p>
+ * Tags are kept in a {@link TagSet}, which food items without tags share. The other fields are interned, so food
+ * items with equal names, dates or amounts share one instance of each.
  */
-public class Food {
+public class Food implements FoodRow {
 
     private static final Logger logger = LogsCenter.getLogger(Food.class);
+    // shifted so that a session would have to create over a million food items per millisecond to catch up
+    private static final AtomicLong nextId = new AtomicLong(System.currentTimeMillis() << 20);
+
+    private final long id;
 
     // Identity field names
     private final Name name;
@@ -26,21 +40,46 @@ public class Food {
     private final Carbohydrate carbs;
     private final Fat fat;
     private final Date date;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
 
 
     /**
      * Every field must be present and not null.
      */
     public Food(Name name, Protein protein, Fat fat, Carbohydrate carbs, Set<Tag> tags, Date date) {
-        CollectionUtil.requireAllNonNull(name, protein, carbs, fat, date);
-        this.name = name;
-        this.protein = protein;
-        this.carbs = carbs;
-        this.fat = fat;
-        this.tags.addAll(tags);
-        this.date = date;
-        // logging
+        this(nextId.getAndIncrement(), name, protein, fat, carbs, tags, date);
+    }
+
+    /**
+     * Creates a food item with a known {@code id}, such as one that was saved before.
+     * Every field must be present and not null.
+     */
+    public Food(long id, Name name, Protein protein, Fat fat, Carbohydrate carbs, Set<Tag> tags, Date date) {
+        this(id, name, protein, fat, carbs, TagSet.of(tags), date);
+    }
+
+    /**
+     * Creates a food item with a known {@code id} and an already built {@link TagSet}.
+     * Every field must be present and not null.
+     */
+    Food(long id, Name name, Protein protein, Fat fat, Carbohydrate carbs, TagSet tags, Date date) {
+        CollectionUtil.requireAllNonNull(name, protein, carbs, fat, tags, date);
+        // ids handed out later must not clash with this one; most ids are below it, so this is usually just a read
+        if (id >= nextId.get()) {
+            nextId.accumulateAndGet(id + 1, Math::max);
+        }
+        this.id = id;
+        // food items repeat the same few names, dates and amounts, so equal values share one instance
+        this.name = name.intern();
+        this.protein = protein.intern();
+        this.carbs = carbs.intern();
+        this.fat = fat.intern();
+        this.tags = tags;
+        this.date = date.intern();
+        // logging, skipped unless enabled since food items are created whenever a stored one is read
+        if (!logger.isLoggable(Level.FINER)) {
+            return;
+        }
         logger.finer("Creating food item: ");
         logger.finer("With name: " + name.toString());
         logger.finer("With protein: " + protein.toString());
@@ -48,7 +87,7 @@ public class Food {
         logger.finer("With carbs: " + carbs.toString());
         logger.finer("With date: " + date.toString());
         logger.finer("With tag(s): ");
-        for (Tag tag : tags) {
+        for (Tag tag : tags.asSet()) {
             logger.finer(tag.toString());
         }
         logger.finer("==============[Create food done]==============");
@@ -89,12 +128,18 @@ public class Food {
     /**
      * @return total caloric content of food item
      */
+    @Override
     public int getCalories() {
         return this.getProtein().getTotalCalories()
                 + this.getCarbs().getTotalCalories()
                 + this.getFat().getTotalCalories();
     }
 
+    public long getId() {
+        return id;
+    }
+
+    @Override
     public Name getName() {
         return this.name;
     }
@@ -111,8 +156,28 @@ public class Food {
         return this.fat;
     }
 
+    @Override
+    public int getProteinAmount() {
+        return protein.getAmount();
+    }
+
+    @Override
+    public int getCarbsAmount() {
+        return carbs.getAmount();
+    }
+
+    @Override
+    public int getFatAmount() {
+        return fat.getAmount();
+    }
+
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags.asSet();
+    }
+
+    @Override
+    public TagSet getTagSet() {
+        return tags;
     }
 
     /**
@@ -121,9 +186,7 @@ public class Food {
      * @return A new Food with the tag
      */
     public Food addTag(Tag tag) {
-        Set<Tag> newTags = new HashSet<>(tags);
-        newTags.add(tag);
-        return new Food(name, protein, fat, carbs, newTags, date);
+        return new Food(id, name, protein, fat, carbs, tags.with(tag), date);
     }
 
     /**
@@ -132,9 +195,14 @@ public class Food {
      * @return A new Food without the tag
      */
     public Food removeTag(Tag tag) {
-        Set<Tag> newTags = new HashSet<>(tags);
-        newTags.remove(tag);
-        return new Food(name, protein, fat, carbs, newTags, date);
+        return new Food(id, name, protein, fat, carbs, tags.without(tag), date);
+    }
+
+    /**
+     * Returns a copy of this food with a newly generated id.
+     */
+    public Food withNewId() {
+        return new Food(nextId.getAndIncrement(), name, protein, fat, carbs, tags, date);
     }
 
     /**
@@ -150,6 +218,11 @@ public class Food {
         return date;
     }
 
+    @Override
+    public long getEpochDay() {
+        return date.toLocalDate().toEpochDay();
+    }
+
     @Override
     public boolean equals(Object other) {
         CollectionUtil.requireAllNonNull(protein, carbs, fat);
@@ -172,6 +245,12 @@ public class Food {
                 && this.getDate().equals(otherFood.getDate());
     }
 
+    @Override
+    public int hashCode() {
+        // tags are not part of the identity, as in equals
+        return Objects.hash(name, protein, carbs, fat, date);
+    }
+
     // Displays
     // name + PCF details + total calories
     @Override
@@ -0,0 +1,57 @@
+package jimmy.mcgymmy.model.food;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+import jimmy.mcgymmy.model.tag.Tag;
+
+/**
+ * Looks up the positions of food items in a list without going through the whole list.
+ * The {@code count} methods estimate how many food items a lookup would find, more cheaply than the lookup itself.
+ */
+public interface FoodIndex {
+
+    /**
+     * Returns the number of food items in the list.
+     */
+    int size();
+
+    /**
+     * Returns the positions of the food items dated from {@code from} to {@code to} inclusive, in increasing order.
+     */
+    int[] findByDate(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the positions of the food items with at least one of the given {@code tags}, in increasing order.
+     */
+    int[] findByTags(Collection<Tag> tags);
+
+    /**
+     * Returns the positions of the food items with at least one of the given {@code words} in their names, ignoring
+     * case, in increasing order.
+     */
+    int[] findByNameWords(Collection<String> words);
+
+    /**
+     * Returns the number of food items dated from {@code from} to {@code to} inclusive.
+     */
+    default int countByDate(LocalDate from, LocalDate to) {
+        return findByDate(from, to).length;
+    }
+
+    /**
+     * Returns an estimate of the number of food items with at least one of the given {@code tags}, which is at
+     * least the actual number.
+     */
+    default int countByTags(Collection<Tag> tags) {
+        return findByTags(tags).length;
+    }
+
+    /**
+     * Returns an estimate of the number of food items with at least one of the given {@code words} in their names,
+     * which is at least the actual number.
+     */
+    default int countByNameWords(Collection<String> words) {
+        return findByNameWords(words).length;
+    }
+}
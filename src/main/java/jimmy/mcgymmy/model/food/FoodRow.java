@@ -0,0 +1,33 @@
+package jimmy.mcgymmy.model.food;
+
+import jimmy.mcgymmy.model.tag.TagSet;
+
+/**
+ * The fields of a food item that predicates test. A {@link Food} is a {@code FoodRow}, and a stored food item can be
+ * read as one straight from the way it is stored, without creating a {@code Food} for it.
+ * <p>
+ * A {@code FoodRow} read from a store may be reused for the next food item, so it must not be kept after the test
+ * it was given to.
+ */
+public interface FoodRow {
+
+    Name getName();
+
+    TagSet getTagSet();
+
+    /**
+     * Returns the date of the food item as a number of days since the epoch, as {@code LocalDate.toEpochDay()} does.
+     */
+    long getEpochDay();
+
+    int getProteinAmount();
+
+    int getFatAmount();
+
+    int getCarbsAmount();
+
+    default int getCalories() {
+        return getProteinAmount() * Protein.PROTEIN_MULTIPLIER + getCarbsAmount() * Carbohydrate.CARBOHYDRATE_MULTIPLIER
+                + getFatAmount() * Fat.FAT_MULTIPLIER;
+    }
+}
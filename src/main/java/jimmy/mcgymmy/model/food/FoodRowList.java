@@ -0,0 +1,21 @@
+package jimmy.mcgymmy.model.food;
+
+import java.util.List;
+
+/**
+ * A list of food items that can test its food items against a {@link RowPredicate} as they are stored, which is
+ * cheaper than testing the {@code Food} objects returned by {@code get}.
+ */
+public interface FoodRowList extends List<Food> {
+
+    /**
+     * Returns the positions in {@code [from, to)} of the food items that match {@code predicate}, in increasing order.
+     */
+    int[] testRows(int from, int to, RowPredicate predicate);
+
+    /**
+     * Returns those of {@code positions[start]} to {@code positions[end - 1]}, which are in increasing order, whose
+     * food items match {@code predicate}, in increasing order.
+     */
+    int[] testRows(int[] positions, int start, int end, RowPredicate predicate);
+}
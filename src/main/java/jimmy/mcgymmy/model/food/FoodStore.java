@@ -0,0 +1,76 @@
+package jimmy.mcgymmy.model.food;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable list of food items that backs a {@link Fridge}.
+ * Every update returns a new store and leaves the original untouched, sharing as much as possible with it.
+ */
+interface FoodStore extends Iterable<Food> {
+
+    /**
+     * Logs with at least this many food items are stored in columns, and smaller ones as {@code Food} objects.
+     */
+    int MIN_COLUMNAR_SIZE = 10_000;
+
+    /**
+     * Returns a store of {@code foods}, in the layout that suits their number.
+     */
+    static FoodStore of(List<Food> foods) {
+        return foods.size() >= MIN_COLUMNAR_SIZE ? ColumnarFoodStore.of(foods) : VectorFoodStore.of(foods);
+    }
+
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    Food get(int index);
+
+    /**
+     * Returns the id of the food item at {@code index}, which may be cheaper than {@code get(index).getId()}.
+     */
+    default long getId(int index) {
+        return get(index).getId();
+    }
+
+    /**
+     * Returns true if the food item at {@code index} and the one at {@code otherIndex} in {@code other} have the same
+     * id, fields and tags.
+     */
+    default boolean isSameRow(int index, FoodStore other, int otherIndex) {
+        Food food = get(index);
+        Food otherFood = other.get(otherIndex);
+        return food == otherFood || (food.getId() == otherFood.getId() && food.equals(otherFood)
+                && food.getTagSet().equals(otherFood.getTagSet()));
+    }
+
+    /**
+     * Returns the positions in {@code [from, to)} of the food items that match {@code predicate}, in increasing order.
+     */
+    default int[] testRows(int from, int to, RowPredicate predicate) {
+        return IntStream.range(from, to).filter(index -> predicate.testRow(get(index))).toArray();
+    }
+
+    /**
+     * Returns those of {@code positions[start]} to {@code positions[end - 1]} whose food items match
+     * {@code predicate}, in the same order.
+     */
+    default int[] testRows(int[] positions, int start, int end, RowPredicate predicate) {
+        return Arrays.stream(positions, start, end).filter(index -> predicate.testRow(get(index))).toArray();
+    }
+
+    FoodStore set(int index, Food food);
+
+    FoodStore add(Food food);
+
+    FoodStore remove(int index);
+
+    /**
+     * Returns an unmodifiable view of this store as a {@code List}.
+     */
+    List<Food> asList();
+}
@@ -0,0 +1,117 @@
+package jimmy.mcgymmy.model.food;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import jimmy.mcgymmy.model.event.FoodAdded;
+import jimmy.mcgymmy.model.event.FoodEvent;
+import jimmy.mcgymmy.model.event.FoodRemoved;
+import jimmy.mcgymmy.model.event.FoodReplaced;
+
+/**
+ * Finds a short list of single-item changes that turns one {@link FoodStore} into another.
+ * <p>
+ * Food items are matched by their ids, which are unique within a store. The unchanged items at the start and the end
+ * are skipped first, which is all it takes for the usual case of undoing a single change. The rest are matched by
+ * the longest run of ids kept in the same order, so every other item is either added or removed, and a kept item
+ * whose fields changed is replaced.
+ */
+final class FoodStoreDiff {
+
+    private FoodStoreDiff() {
+    }
+
+    /**
+     * Returns the changes that turn {@code before} into {@code after}, with each position taken after the changes
+     * before it, or an empty {@code Optional} if more than {@code maxChanges} changes are needed.
+     */
+    static Optional<List<FoodEvent>> between(FoodStore before, FoodStore after, int maxChanges) {
+        int minSize = Math.min(before.size(), after.size());
+        int start = 0;
+        while (start < minSize && before.isSameRow(start, after, start)) {
+            start++;
+        }
+        int beforeEnd = before.size();
+        int afterEnd = after.size();
+        while (beforeEnd > start && afterEnd > start && before.isSameRow(beforeEnd - 1, after, afterEnd - 1)) {
+            beforeEnd--;
+            afterEnd--;
+        }
+        if (Math.abs(beforeEnd - afterEnd) > maxChanges) {
+            return Optional.empty();
+        }
+
+        boolean[] keptBefore = new boolean[beforeEnd - start];
+        boolean[] keptAfter = new boolean[afterEnd - start];
+        matchInOrder(before, after, start, beforeEnd, afterEnd, keptBefore, keptAfter);
+
+        List<FoodEvent> changes = new ArrayList<>();
+        int i = start;
+        int j = start;
+        // the position of the next item, in the list with the changes so far made
+        int position = start;
+        while (i < beforeEnd || j < afterEnd) {
+            if (i < beforeEnd && !keptBefore[i - start]) {
+                changes.add(new FoodRemoved(position, before.get(i++)));
+            } else if (j < afterEnd && !keptAfter[j - start]) {
+                changes.add(new FoodAdded(position++, after.get(j++)));
+            } else {
+                // kept items are matched in the same order on both sides, so these have the same id
+                if (!before.isSameRow(i, after, j)) {
+                    changes.add(new FoodReplaced(position, before.get(i), after.get(j)));
+                }
+                i++;
+                j++;
+                position++;
+            }
+            if (changes.size() > maxChanges) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(changes);
+    }
+
+    /**
+     * Marks the items of {@code before} in {@code [start, beforeEnd)} and of {@code after} in
+     * {@code [start, afterEnd)} that are kept: the longest run of ids found on both sides in the same order.
+     */
+    private static void matchInOrder(FoodStore before, FoodStore after, int start, int beforeEnd, int afterEnd,
+            boolean[] keptBefore, boolean[] keptAfter) {
+        IdPositionMap beforePositions = new IdPositionMap(beforeEnd - start);
+        for (int i = start; i < beforeEnd; i++) {
+            beforePositions.put(before.getId(i), i - start);
+        }
+        int[] matches = new int[afterEnd - start];
+        for (int j = start; j < afterEnd; j++) {
+            matches[j - start] = beforePositions.get(after.getId(j));
+        }
+
+        // the longest increasing run of matched positions, by patience sorting
+        int[] tails = new int[matches.length];
+        int[] previous = new int[matches.length];
+        int length = 0;
+        for (int j = 0; j < matches.length; j++) {
+            if (matches[j] < 0) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (matches[tails[middle]] < matches[j]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previous[j] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = j;
+            length = Math.max(length, low + 1);
+        }
+        for (int j = length > 0 ? tails[length - 1] : -1; j >= 0; j = previous[j]) {
+            keptAfter[j] = true;
+            keptBefore[matches[j]] = true;
+        }
+    }
+}
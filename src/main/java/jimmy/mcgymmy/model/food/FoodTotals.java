@@ -0,0 +1,90 @@
+package jimmy.mcgymmy.model.food;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * The total calories and macronutrients of the food items in an {@code ObservableList}.
+ * <p>
+ * The totals are worked out once, and then kept up to date from the changes to the list, so each change costs time
+ * in the number of food items added or removed rather than the size of the list. Listeners are only told when a
+ * total actually changes.
+ */
+public class FoodTotals {
+
+    private final List<Runnable> listeners = new ArrayList<>();
+
+    private long calories = 0;
+    private long proteins = 0;
+    private long carbs = 0;
+    private long fats = 0;
+
+    /**
+     * Creates the totals of the food items in {@code foods}, which are kept up to date as {@code foods} changes.
+     */
+    public FoodTotals(ObservableList<Food> foods) {
+        requireNonNull(foods);
+        for (Food food : foods) {
+            apply(food, 1);
+        }
+        foods.addListener(this::onChanged);
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends Food> change) {
+        long oldCalories = calories;
+        long oldProteins = proteins;
+        long oldCarbs = carbs;
+        long oldFats = fats;
+        while (change.next()) {
+            // a permutation only moves food items around, and food items cannot be updated in place
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Food removed : change.getRemoved()) {
+                apply(removed, -1);
+            }
+            for (Food added : change.getAddedSubList()) {
+                apply(added, 1);
+            }
+        }
+        if (calories != oldCalories || proteins != oldProteins || carbs != oldCarbs || fats != oldFats) {
+            listeners.forEach(Runnable::run);
+        }
+    }
+
+    private void apply(Food food, int sign) {
+        calories += sign * food.getCalories();
+        proteins += sign * food.getProtein().getAmount();
+        carbs += sign * food.getCarbs().getAmount();
+        fats += sign * food.getFat().getAmount();
+    }
+
+    /**
+     * Runs {@code listener} whenever any of the totals changes.
+     */
+    public void addListener(Runnable listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    public long getCalories() {
+        return calories;
+    }
+
+    public long getProteins() {
+        return proteins;
+    }
+
+    public long getCarbs() {
+        return carbs;
+    }
+
+    public long getFats() {
+        return fats;
+    }
+}
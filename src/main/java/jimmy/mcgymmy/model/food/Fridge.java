@@ -2,46 +2,369 @@ package jimmy.mcgymmy.model.food;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
 import jimmy.mcgymmy.commons.core.index.Index;
 import jimmy.mcgymmy.commons.util.CollectionUtil;
+import jimmy.mcgymmy.model.event.BulkReset;
+import jimmy.mcgymmy.model.event.FoodAdded;
+import jimmy.mcgymmy.model.event.FoodEvent;
+import jimmy.mcgymmy.model.event.FoodRemoved;
+import jimmy.mcgymmy.model.event.FoodReplaced;
+import jimmy.mcgymmy.model.tag.Tag;
+import jimmy.mcgymmy.model.tag.TagDictionary;
 
 /**
  * A list of food items that allows repeated elements and does not allow nulls.
  * Supports a minimal set of list operations.
+ * <p>
+ * The items are stored in an immutable {@link FoodStore}, so copying a {@code Fridge} with
+ * {@link #setFoods(Fridge)} is O(1) and every single-item update is O(log n). Logs of at least
+ * {@value FoodStore#MIN_COLUMNAR_SIZE} items are stored in primitive columns by a {@link ColumnarFoodStore}, which
+ * creates a {@code Food} only when an item is read, and smaller ones as {@code Food} objects.
+ * <p>
+ * Food items are also indexed in two hash maps: the ids of the copies of each food item, so that
+ * {@link #contains(Food)} is O(1) and {@link #remove(Food)} only visits the copies, and the slot of each food item
+ * by its id. A food item keeps its slot until it is removed, and its position is found from its slot by a
+ * {@link RemovedSlots}, so that {@link #indexOf(long)} takes O(log n) time and removing a food item does not move
+ * the others. The ids in a {@code Fridge} are kept unique by giving a new id to any food item whose id is already
+ * taken.
+ * The ids of the food items on each date are kept in a sorted map, so that {@link #findByDate(LocalDate, LocalDate)}
+ * only visits the food items in the range. The positions of the food items with each tag, and with each word in
+ * their names, are kept in bitmaps, so that {@link #findByTags(Collection)} and
+ * {@link #findByNameWords(Collection)} are ORs of bitmaps. The totals of the food items on each date are kept in a
+ * {@link DateRollup}, so that {@link #getTotals(LocalDate, LocalDate)} takes logarithmic time. The maps are built
+ * the first time they are needed after the contents are replaced, which keeps copying O(1).
  */
-public class Fridge implements Iterable<Food> {
-    private final ObservableList<Food> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Food> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+public class Fridge implements Iterable<Food>, FoodIndex {
+    // replacing the contents is reported item by item if it changes at most this many, or a quarter, of the items
+    private static final int MAX_CHANGES_SHOWN = 16;
+
+    private FoodStore foods = VectorFoodStore.EMPTY;
+    // null from when the contents are replaced until it is next needed; kept up to date by single-item updates.
+    // The ids of the copies of each food item, in an array since most food items have only one copy.
+    private Map<Food, long[]> idsByFood = new HashMap<>();
+    // null like idsByFood, and also dropped once more slots are removed than are in use
+    private IdPositionMap slotsById = new IdPositionMap();
+    // null when slotsById is
+    private RemovedSlots removedSlots = new RemovedSlots(0);
+    // null like idsByFood
+    private NavigableMap<LocalDate, Set<Long>> idsByDate = new TreeMap<>();
+    // null like idsByFood; the positions of the food items with each tag, by the id of the tag
+    private PositionBitmaps<Integer> positionsByTag = new PositionBitmaps<>();
+    // null like idsByFood; the positions of the food items with each case-folded word in their names
+    private PositionBitmaps<String> positionsByWord = new PositionBitmaps<>();
+    // null like idsByFood
+    private DateRollup rollup = new DateRollup(Collections.emptyList());
+    private final FoodList internalUnmodifiableList = new FoodList();
+    private final List<Consumer<? super FoodEvent>> eventListeners = new ArrayList<>();
 
     /**
      * Returns true if the list contains an equivalent food item as the given argument.
      */
     public boolean contains(Food toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return getIdsByFood().containsKey(toCheck);
+    }
+
+    /**
+     * Returns the number of food items in the list that are equivalent to the given argument.
+     */
+    public int count(Food toCount) {
+        requireNonNull(toCount);
+        long[] ids = getIdsByFood().get(toCount);
+        return ids == null ? 0 : ids.length;
+    }
+
+    /**
+     * Returns the position of the food item with the given {@code id}, or -1 if there is none.
+     */
+    public int indexOf(long id) {
+        int slot = getSlotsById().get(id);
+        return slot < 0 ? -1 : removedSlots.positionOf(slot);
+    }
+
+    @Override
+    public int[] findByDate(LocalDate from, LocalDate to) {
+        CollectionUtil.requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return new int[0];
+        }
+        Collection<Set<Long>> idSets = getIdsByDate().subMap(from, true, to, true).values();
+        int[] result = new int[idSets.stream().mapToInt(Set::size).sum()];
+        int i = 0;
+        for (Set<Long> ids : idSets) {
+            for (long id : ids) {
+                result[i++] = indexOf(id);
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    @Override
+    public int[] findByTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return getPositionsByTag().findAny(tags.stream().map(TagDictionary::find).collect(Collectors.toList()));
+    }
+
+    @Override
+    public int[] findByNameWords(Collection<String> words) {
+        requireNonNull(words);
+        return getPositionsByWord().findAny(words.stream().map(Name::foldCase).collect(Collectors.toList()));
+    }
+
+    @Override
+    public int size() {
+        return foods.size();
+    }
+
+    @Override
+    public int countByDate(LocalDate from, LocalDate to) {
+        CollectionUtil.requireAllNonNull(from, to);
+        return from.isAfter(to) ? 0 : (int) getTotals(from, to).getFoodCount();
+    }
+
+    @Override
+    public int countByTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return getPositionsByTag().countAny(tags.stream().map(TagDictionary::find).collect(Collectors.toList()));
+    }
+
+    @Override
+    public int countByNameWords(Collection<String> words) {
+        requireNonNull(words);
+        return getPositionsByWord().countAny(words.stream().map(Name::foldCase).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the totals of the food items dated from {@code from} to {@code to} inclusive, in O(log d) time where
+     * d is the number of distinct dates.
+     */
+    public NutrientTotals getTotals(LocalDate from, LocalDate to) {
+        CollectionUtil.requireAllNonNull(from, to);
+        if (rollup == null) {
+            rollup = new DateRollup(foods.asList());
+        }
+        return rollup.sum(from, to);
+    }
+
+    private void rollupAdded(Food food) {
+        if (rollup != null) {
+            rollup.add(food);
+        }
+    }
+
+    private void rollupRemoved(Food food) {
+        if (rollup != null) {
+            rollup.remove(food);
+        }
+    }
+
+    private Map<Food, long[]> getIdsByFood() {
+        if (idsByFood == null) {
+            idsByFood = new HashMap<>();
+            for (Food food : foods) {
+                copyAdded(food);
+            }
+        }
+        return idsByFood;
+    }
+
+    private void copyAdded(Food food) {
+        if (idsByFood != null) {
+            idsByFood.merge(food, new long[] {food.getId()}, (ids, added) -> {
+                long[] merged = Arrays.copyOf(ids, ids.length + 1);
+                merged[ids.length] = added[0];
+                return merged;
+            });
+        }
+    }
+
+    private void copyRemoved(Food food) {
+        if (idsByFood != null) {
+            idsByFood.computeIfPresent(food, (unused, ids) -> {
+                if (ids.length == 1) {
+                    return null;
+                }
+                long[] remaining = new long[ids.length - 1];
+                int i = 0;
+                for (long id : ids) {
+                    if (id != food.getId()) {
+                        remaining[i++] = id;
+                    }
+                }
+                return remaining;
+            });
+        }
+    }
+
+    private NavigableMap<LocalDate, Set<Long>> getIdsByDate() {
+        if (idsByDate == null) {
+            idsByDate = new TreeMap<>();
+            for (Food food : foods) {
+                dateAdded(food);
+            }
+        }
+        return idsByDate;
+    }
+
+    private void dateAdded(Food food) {
+        if (idsByDate != null) {
+            idsByDate.computeIfAbsent(food.getDate().toLocalDate(), unused -> new HashSet<>()).add(food.getId());
+        }
+    }
+
+    private void dateRemoved(Food food) {
+        if (idsByDate != null) {
+            idsByDate.computeIfPresent(food.getDate().toLocalDate(), (unused, ids) -> {
+                ids.remove(food.getId());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private PositionBitmaps<Integer> getPositionsByTag() {
+        if (positionsByTag == null) {
+            positionsByTag = new PositionBitmaps<>();
+            for (int i = 0; i < foods.size(); i++) {
+                int position = i;
+                foods.get(i).getTagSet().ids().forEach(id -> positionsByTag.add(id, position));
+            }
+        }
+        return positionsByTag;
+    }
+
+    private PositionBitmaps<String> getPositionsByWord() {
+        if (positionsByWord == null) {
+            positionsByWord = new PositionBitmaps<>();
+            for (int i = 0; i < foods.size(); i++) {
+                for (String word : foods.get(i).getName().getWords()) {
+                    positionsByWord.add(word, i);
+                }
+            }
+        }
+        return positionsByWord;
+    }
+
+    private void searchTermsAdded(Food food, int position) {
+        if (positionsByTag != null) {
+            food.getTagSet().ids().forEach(id -> positionsByTag.add(id, position));
+        }
+        if (positionsByWord != null) {
+            for (String word : food.getName().getWords()) {
+                positionsByWord.add(word, position);
+            }
+        }
+    }
+
+    private void searchTermsRemoved(Food food, int position) {
+        if (positionsByTag != null) {
+            food.getTagSet().ids().forEach(id -> positionsByTag.remove(id, position));
+        }
+        if (positionsByWord != null) {
+            for (String word : food.getName().getWords()) {
+                positionsByWord.remove(word, position);
+            }
+        }
+    }
+
+    /**
+     * Moves the tag and word bitmaps down over the removed food item at {@code position}.
+     */
+    private void searchTermsShifted(int position) {
+        if (positionsByTag != null) {
+            positionsByTag.shiftDown(position);
+        }
+        if (positionsByWord != null) {
+            positionsByWord.shiftDown(position);
+        }
+    }
+
+    /**
+     * Returns the slot of each food item by its id, building it with each food item in the slot of its position if
+     * it has been dropped.
+     */
+    IdPositionMap getSlotsById() {
+        if (slotsById == null) {
+            slotsById = new IdPositionMap(foods.size());
+            for (int position = 0; position < foods.size(); position++) {
+                slotsById.put(foods.getId(position), position);
+            }
+            removedSlots = new RemovedSlots(foods.size());
+        }
+        return slotsById;
+    }
+
+    /**
+     * Returns {@code food}, or a copy of it with a new id if its id is already taken by another food item.
+     */
+    private Food withUniqueId(Food food) {
+        return getSlotsById().containsKey(food.getId()) ? food.withNewId() : food;
     }
 
     /**
      * Adds a food item to the list.
+     * It is given a new id if its id is already in the list.
      */
     public void add(Food toAdd) {
         requireNonNull(toAdd);
-        internalList.add(toAdd);
+        Food added = withUniqueId(toAdd);
+        int index = foods.size();
+        foods = foods.add(added);
+        copyAdded(added);
+        dateAdded(added);
+        searchTermsAdded(added, index);
+        rollupAdded(added);
+        slotsById.put(added.getId(), removedSlots.add());
+        internalUnmodifiableList.fireAdd(index);
+        fireEvent(() -> new FoodAdded(index, added));
     }
 
     /**
      * Replaces the food item at the {@code index} position in the list with {@code editedFood}.
-     * {@code target} must exist in the list.
+     * {@code target} must exist in the list. {@code editedFood} is given a new id if its id belongs to another
+     * food item in the list.
      */
     public void setFood(Index index, Food editedFood) {
         CollectionUtil.requireAllNonNull(editedFood, index);
-        internalList.set(index.getZeroBased(), editedFood);
+        int zeroBased = index.getZeroBased();
+        Food previous = foods.get(zeroBased);
+        Food edited = editedFood.getId() == previous.getId() ? editedFood : withUniqueId(editedFood);
+        foods = foods.set(zeroBased, edited);
+        copyRemoved(previous);
+        copyAdded(edited);
+        dateRemoved(previous);
+        dateAdded(edited);
+        searchTermsRemoved(previous, zeroBased);
+        searchTermsAdded(edited, zeroBased);
+        rollupRemoved(previous);
+        rollupAdded(edited);
+        if (edited.getId() != previous.getId()) {
+            int slot = getSlotsById().get(previous.getId());
+            slotsById.remove(previous.getId());
+            slotsById.put(edited.getId(), slot);
+        }
+        internalUnmodifiableList.fireSet(zeroBased, previous);
+        fireEvent(() -> new FoodReplaced(zeroBased, previous, edited));
     }
 
     /**
@@ -50,29 +373,129 @@ public class Fridge implements Iterable<Food> {
      */
     public void remove(Index removeIndex) {
         requireNonNull(removeIndex);
-        internalList.remove(removeIndex.getZeroBased());
+        remove(removeIndex.getZeroBased());
     }
 
     /**
-     * Removes the food item from the list.
+     * Removes the first equivalent food item from the list.
      * The food item must exist in the list.
      */
     public void remove(Food food) {
         requireNonNull(food);
-        internalList.remove(food);
+        long[] ids = getIdsByFood().get(food);
+        if (ids == null) {
+            return;
+        }
+        // the copies are found by their ids, so only they are visited
+        int first = Integer.MAX_VALUE;
+        for (long id : ids) {
+            first = Math.min(first, indexOf(id));
+        }
+        remove(first);
+    }
+
+    private void remove(int index) {
+        Food removed = foods.get(index);
+        foods = foods.remove(index);
+        copyRemoved(removed);
+        dateRemoved(removed);
+        searchTermsRemoved(removed, index);
+        searchTermsShifted(index);
+        rollupRemoved(removed);
+        if (slotsById != null) {
+            removedSlots.remove(slotsById.get(removed.getId()));
+            slotsById.remove(removed.getId());
+            if (removedSlots.getRemovedCount() > foods.size()) {
+                // rebuilt with no removed slots when next needed, which is paid for by the removals
+                slotsById = null;
+                removedSlots = null;
+            }
+        }
+        internalUnmodifiableList.fireRemove(index, removed);
+        fireEvent(() -> new FoodRemoved(index, removed));
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * The underlying data is shared, so this takes constant time apart from working out what changed for the
+     * listeners, if there are any.
+     */
     public void setFoods(Fridge replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.foods, null);
     }
 
     /**
      * Replaces the contents of this list with {@code foods}.
+     * Food items whose id is taken by an earlier food item are given a new id.
      */
     public void setFoods(List<Food> foods) {
         CollectionUtil.requireAllNonNull(foods);
-        internalList.setAll(foods);
+        IdPositionMap newPositions = new IdPositionMap(foods.size());
+        List<Food> uniqueFoods = new ArrayList<>(foods.size());
+        for (Food food : foods) {
+            Food unique = newPositions.containsKey(food.getId()) ? food.withNewId() : food;
+            newPositions.put(unique.getId(), uniqueFoods.size());
+            uniqueFoods.add(unique);
+        }
+        replaceAll(FoodStore.of(uniqueFoods), newPositions);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement}, whose positions by id are {@code newPositions}
+     * if known. Each food item is then in the slot of its position.
+     * Listeners are told about the food items that were added, removed or changed, matched by id, as single-item
+     * changes, unless so many changed that replacing the whole list is simpler for them.
+     */
+    private void replaceAll(FoodStore replacement, IdPositionMap newPositions) {
+        FoodStore previous = foods;
+        // copies that nobody listens to, such as those kept for undo, skip working out what changed
+        boolean isObserved = internalUnmodifiableList.isObserved() || !eventListeners.isEmpty();
+        int maxChanges = Math.max(MAX_CHANGES_SHOWN, Math.max(previous.size(), replacement.size()) / 4);
+        Optional<List<FoodEvent>> changes = isObserved
+                ? FoodStoreDiff.between(previous, replacement, maxChanges)
+                : Optional.empty();
+        foods = replacement;
+        idsByFood = null;
+        slotsById = newPositions;
+        removedSlots = newPositions == null ? null : new RemovedSlots(replacement.size());
+        idsByDate = null;
+        positionsByTag = null;
+        positionsByWord = null;
+        rollup = null;
+        if (changes.isPresent()) {
+            internalUnmodifiableList.fireChanges(changes.get());
+            changes.get().forEach(change -> fireEvent(() -> change));
+            return;
+        }
+        internalUnmodifiableList.fireReplaceAll(previous);
+        if (!previous.isEmpty() || !foods.isEmpty()) {
+            fireEvent(() -> new BulkReset(previous.asList(), foods.asList()));
+        }
+    }
+
+    /**
+     * Tells {@code listener} about every change to the list, after the listeners of
+     * {@link #asUnmodifiableObservableList()} have been told.
+     */
+    public void addEventListener(Consumer<? super FoodEvent> listener) {
+        requireNonNull(listener);
+        eventListeners.add(listener);
+    }
+
+    public void removeEventListener(Consumer<? super FoodEvent> listener) {
+        eventListeners.remove(listener);
+    }
+
+    private void fireEvent(Supplier<FoodEvent> event) {
+        if (eventListeners.isEmpty()) {
+            return;
+        }
+        FoodEvent firedEvent = event.get();
+        // copied, since a listener may stop listening
+        for (Consumer<? super FoodEvent> listener : new ArrayList<>(eventListeners)) {
+            listener.accept(firedEvent);
+        }
     }
 
     /**
@@ -84,18 +507,102 @@ public class Fridge implements Iterable<Food> {
 
     @Override
     public Iterator<Food> iterator() {
-        return internalList.iterator();
+        return foods.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Fridge // instanceof handles nulls
-                && internalList.equals(((Fridge) other).internalList));
+                && foods.asList().equals(((Fridge) other).foods.asList()));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return foods.asList().hashCode();
+    }
+
+    /**
+     * Unmodifiable observable view of the current store, which tests {@link RowPredicate}s against the store itself.
+     * Changes are made by swapping the store in the enclosing {@code Fridge} and then firing the matching event.
+     */
+    private class FoodList extends ObservableListBase<Food> implements FoodRowList {
+        @Override
+        public Food get(int index) {
+            return foods.get(index);
+        }
+
+        @Override
+        public int[] testRows(int from, int to, RowPredicate predicate) {
+            return foods.testRows(from, to, predicate);
+        }
+
+        @Override
+        public int[] testRows(int[] positions, int start, int end, RowPredicate predicate) {
+            return foods.testRows(positions, start, end, predicate);
+        }
+
+        @Override
+        public int size() {
+            return foods.size();
+        }
+
+        private void fireAdd(int index) {
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        private void fireSet(int index, Food previous) {
+            beginChange();
+            nextSet(index, previous);
+            endChange();
+        }
+
+        private void fireRemove(int index, Food removed) {
+            beginChange();
+            nextRemove(index, removed);
+            endChange();
+        }
+
+        private boolean isObserved() {
+            return hasListeners();
+        }
+
+        /**
+         * Reports {@code changes}, each of which has its positions taken after the ones before it, as one change.
+         */
+        private void fireChanges(List<FoodEvent> changes) {
+            if (changes.isEmpty()) {
+                return;
+            }
+            beginChange();
+            for (FoodEvent change : changes) {
+                if (change instanceof FoodAdded) {
+                    int index = ((FoodAdded) change).getIndex();
+                    nextAdd(index, index + 1);
+                } else if (change instanceof FoodRemoved) {
+                    nextRemove(((FoodRemoved) change).getIndex(), ((FoodRemoved) change).getFood());
+                } else {
+                    FoodReplaced replaced = (FoodReplaced) change;
+                    nextSet(replaced.getIndex(), replaced.getBefore());
+                }
+            }
+            endChange();
+        }
+
+        private void fireReplaceAll(FoodStore previous) {
+            if (previous.isEmpty() && foods.isEmpty()) {
+                return;
+            }
+            beginChange();
+            if (!previous.isEmpty()) {
+                nextRemove(0, previous.asList());
+            }
+            if (!foods.isEmpty()) {
+                nextAdd(0, foods.size());
+            }
+            endChange();
+        }
     }
 }
@@ -0,0 +1,125 @@
+package jimmy.mcgymmy.model.food;
+
+import java.util.Arrays;
+
+/**
+ * A map from the ids of food items to their positions in a list, kept in two primitive arrays.
+ * <p>
+ * Entries are placed by open addressing with linear probing, so each one takes a long and an int in the arrays
+ * instead of a map entry and two boxed numbers. Removed entries are filled in by moving later entries back, so
+ * lookups never have to skip over deleted slots.
+ */
+class IdPositionMap {
+
+    // a slot is free when its position is NONE, since real positions are never negative
+    private static final int NONE = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] ids;
+    private int[] positions;
+    private int size = 0;
+
+    IdPositionMap() {
+        this(0);
+    }
+
+    /**
+     * Creates a map with room for {@code expectedSize} entries before it needs to grow.
+     */
+    IdPositionMap(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * 3 / 4 < expectedSize) {
+            capacity *= 2;
+        }
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        ids = new long[capacity];
+        positions = new int[capacity];
+        Arrays.fill(positions, NONE);
+    }
+
+    private int mask() {
+        return ids.length - 1;
+    }
+
+    private int home(long id) {
+        // ids are handed out one after another, so their bits are spread before taking the slot
+        long mixed = id * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & mask();
+    }
+
+    /**
+     * Returns the slot holding {@code id}, or the free slot where it would go.
+     */
+    private int slotOf(long id) {
+        int slot = home(id);
+        while (positions[slot] != NONE && ids[slot] != id) {
+            slot = (slot + 1) & mask();
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the position of the food item with the given {@code id}, or -1 if there is none.
+     */
+    int get(long id) {
+        return positions[slotOf(id)];
+    }
+
+    boolean containsKey(long id) {
+        return get(id) != NONE;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void put(long id, int position) {
+        assert position >= 0;
+        int slot = slotOf(id);
+        if (positions[slot] == NONE) {
+            if ((size + 1) > ids.length * 3 / 4) {
+                grow();
+                slot = slotOf(id);
+            }
+            size++;
+        }
+        ids[slot] = id;
+        positions[slot] = position;
+    }
+
+    void remove(long id) {
+        int hole = slotOf(id);
+        if (positions[hole] == NONE) {
+            return;
+        }
+        size--;
+        int next = (hole + 1) & mask();
+        while (positions[next] != NONE) {
+            // the entry at next can fill the hole if the hole is no earlier than its home slot
+            int distanceFromHome = (next - home(ids[next])) & mask();
+            if (distanceFromHome >= ((next - hole) & mask())) {
+                ids[hole] = ids[next];
+                positions[hole] = positions[next];
+                hole = next;
+            }
+            next = (next + 1) & mask();
+        }
+        positions[hole] = NONE;
+    }
+
+    private void grow() {
+        long[] oldIds = ids;
+        int[] oldPositions = positions;
+        allocate(oldIds.length * 2);
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldPositions[i] != NONE) {
+                int slot = slotOf(oldIds[i]);
+                ids[slot] = oldIds[i];
+                positions[slot] = oldPositions[i];
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package jimmy.mcgymmy.model.food;
 
+import jimmy.mcgymmy.commons.core.Interner;
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
 import jimmy.mcgymmy.commons.util.AppUtil;
 import jimmy.mcgymmy.commons.util.CollectionUtil;
@@ -16,6 +17,9 @@ public abstract class Macronutrient {
     protected static final String MESSAGE_CONSTRAINTS = String.format(
             " can only contain non-negative integers between %d and %d", LOWER_BOUND, UPPER_BOUND);
 
+    // shared by every type, since macronutrients of different types are never equal
+    private static final Interner<Macronutrient> INTERNER = new Interner<>();
+
     private final int amount;
     private final int totalCalories;
     private final int caloricMultiplier;
@@ -54,6 +58,13 @@ public abstract class Macronutrient {
 
     abstract String getMessageConstraint();
 
+    /**
+     * Returns the shared macronutrient equal to this one, which is of the same type.
+     */
+    protected Macronutrient internMacronutrient() {
+        return INTERNER.intern(this);
+    }
+
     @Override
     public String toString() {
         return this.getMacronutrientType() + ": " + this.getAmount() + "\n";
@@ -72,6 +83,11 @@ public abstract class Macronutrient {
                 && this.getAmount() == otherMacronutrient.getAmount();
     }
 
+    @Override
+    public int hashCode() {
+        return 31 * getMacronutrientType().hashCode() + getAmount();
+    }
+
     // take the type from the class name
     public String getMacronutrientType() {
         return this.getClass().getSimpleName();
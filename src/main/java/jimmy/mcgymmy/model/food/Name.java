@@ -2,6 +2,12 @@ package jimmy.mcgymmy.model.food;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import jimmy.mcgymmy.commons.core.Interner;
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
 import jimmy.mcgymmy.commons.util.AppUtil;
 
@@ -20,7 +26,11 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<Name> INTERNER = new Interner<>();
+
     public final String fullName;
+    // the case-folded words in the name, worked out the first time they are needed
+    private Set<String> words;
 
     /**
      * Constructs a {@code Name}.
@@ -41,6 +51,34 @@ public class Name {
     }
 
 
+    /**
+     * Returns the shared {@code Name} equal to this one, so that food items with the same name share one instance.
+     */
+    public Name intern() {
+        return INTERNER.intern(this);
+    }
+
+    /**
+     * Returns {@code word} in the case used by {@link #getWords()}, so that words can be compared ignoring case.
+     */
+    public static String foldCase(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the distinct words in the name, case-folded by {@link #foldCase(String)}.
+     */
+    public Set<String> getWords() {
+        if (words == null) {
+            Set<String> foldedWords = new HashSet<>();
+            for (String word : fullName.split("\\s+")) {
+                foldedWords.add(foldCase(word));
+            }
+            words = Collections.unmodifiableSet(foldedWords);
+        }
+        return words;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -0,0 +1,79 @@
+package jimmy.mcgymmy.model.food;
+
+import java.util.Objects;
+
+/**
+ * The number of food items in a group of food items, and their total calories and macronutrients.
+ * Immutable for defensive coding.
+ */
+public class NutrientTotals {
+
+    public static final NutrientTotals EMPTY = new NutrientTotals(0, 0, 0, 0, 0);
+
+    private final long foodCount;
+    private final long calories;
+    private final long proteins;
+    private final long carbs;
+    private final long fats;
+
+    /**
+     * Every total must be the sum over the same {@code foodCount} food items.
+     */
+    public NutrientTotals(long foodCount, long calories, long proteins, long carbs, long fats) {
+        this.foodCount = foodCount;
+        this.calories = calories;
+        this.proteins = proteins;
+        this.carbs = carbs;
+        this.fats = fats;
+    }
+
+    public long getFoodCount() {
+        return foodCount;
+    }
+
+    public long getCalories() {
+        return calories;
+    }
+
+    public long getProteins() {
+        return proteins;
+    }
+
+    public long getCarbs() {
+        return carbs;
+    }
+
+    public long getFats() {
+        return fats;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof NutrientTotals)) {
+            return false;
+        }
+        NutrientTotals otherTotals = (NutrientTotals) other;
+        return foodCount == otherTotals.foodCount
+                && calories == otherTotals.calories
+                && proteins == otherTotals.proteins
+                && carbs == otherTotals.carbs
+                && fats == otherTotals.fats;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(foodCount, calories, proteins, carbs, fats);
+    }
+
+    @Override
+    public String toString() {
+        return "Food items: " + foodCount + "\n"
+                + "Calories: " + calories + "\n"
+                + "Protein: " + proteins + "\n"
+                + "Carbs: " + carbs + "\n"
+                + "Fat: " + fats + "\n";
+    }
+}
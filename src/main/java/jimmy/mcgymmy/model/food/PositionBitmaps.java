@@ -0,0 +1,132 @@
+package jimmy.mcgymmy.model.food;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An inverted index from keys to the positions in a list of the items with that key, with each posting list
+ * stored as a bitmap.
+ * <p>
+ * Removing an item does not rewrite the bitmaps. The bit of the removed item is left as a hole, and positions are
+ * translated past the holes when they are used. The bitmaps are only shifted down over the holes once there are
+ * more than {@link #MAX_HOLES} of them, so each removal costs a share of one pass over the bitmaps.
+ */
+class PositionBitmaps<K> {
+
+    static final int MAX_HOLES = 64;
+
+    private final Map<K, BitSet> bitmaps = new HashMap<>();
+    // the bits of the removed items, in increasing order; holes[0, holeCount) are in use
+    private int[] holes = new int[MAX_HOLES + 1];
+    private int holeCount = 0;
+
+    /**
+     * Records that the item at {@code position} has {@code key}.
+     */
+    void add(K key, int position) {
+        bitmaps.computeIfAbsent(key, unused -> new BitSet()).set(toBit(position));
+    }
+
+    /**
+     * Records that the item at {@code position} no longer has {@code key}.
+     */
+    void remove(K key, int position) {
+        BitSet bitmap = bitmaps.get(key);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.clear(toBit(position));
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+
+    /**
+     * Moves every position after {@code position} down by one, after the item there has been removed from the list
+     * and from this index.
+     */
+    void shiftDown(int position) {
+        int bit = toBit(position);
+        int insertAt = -Arrays.binarySearch(holes, 0, holeCount, bit) - 1;
+        assert insertAt >= 0 : "a position is never removed twice";
+        System.arraycopy(holes, insertAt, holes, insertAt + 1, holeCount - insertAt);
+        holes[insertAt] = bit;
+        holeCount++;
+        if (holeCount > MAX_HOLES) {
+            compact();
+        }
+    }
+
+    /**
+     * Returns the positions of the items with any of the given {@code keys}, in increasing order.
+     */
+    int[] findAny(Collection<K> keys) {
+        BitSet result = new BitSet();
+        for (K key : keys) {
+            BitSet bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                result.or(bitmap);
+            }
+        }
+        int[] positions = new int[result.cardinality()];
+        int i = 0;
+        int holesBefore = 0;
+        for (int bit = result.nextSetBit(0); bit >= 0; bit = result.nextSetBit(bit + 1)) {
+            while (holesBefore < holeCount && holes[holesBefore] < bit) {
+                holesBefore++;
+            }
+            positions[i++] = bit - holesBefore;
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the number of items with each of the given {@code keys}, added up, which is at least the number of
+     * items with any of them.
+     */
+    int countAny(Collection<K> keys) {
+        int count = 0;
+        for (K key : keys) {
+            BitSet bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                count += bitmap.cardinality();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the bit of the item at {@code position}, which is past every hole at or below it.
+     */
+    private int toBit(int position) {
+        int bit = position;
+        for (int i = 0; i < holeCount && holes[i] <= bit; i++) {
+            bit++;
+        }
+        return bit;
+    }
+
+    /**
+     * Shifts every bitmap down over the holes, so that each bit is the position of its item again.
+     */
+    private void compact() {
+        for (BitSet bitmap : bitmaps.values()) {
+            if (bitmap.length() <= holes[0]) {
+                continue;
+            }
+            BitSet bits = (BitSet) bitmap.clone();
+            bitmap.clear(holes[0], bitmap.length());
+            int holesBefore = 0;
+            for (int bit = bits.nextSetBit(holes[0]); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+                while (holesBefore < holeCount && holes[holesBefore] < bit) {
+                    holesBefore++;
+                }
+                bitmap.set(bit - holesBefore);
+            }
+        }
+        holeCount = 0;
+    }
+}
@@ -6,7 +6,7 @@ import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
  * Represents Protein in food item in McGymmy.
  */
 public class Protein extends Macronutrient {
-    private static final int PROTEIN_MULTIPLIER = 4;
+    static final int PROTEIN_MULTIPLIER = 4;
     private static final int DEFAULT_PROTEIN = 0;
     public static final String MESSAGE_CONSTRAINTS = "Protein" + Macronutrient.MESSAGE_CONSTRAINTS;
 
@@ -31,6 +31,13 @@ public class Protein extends Macronutrient {
         }
     }
 
+    /**
+     * Returns the shared {@code Protein} with the same amount, so that food items share one instance per amount.
+     */
+    public Protein intern() {
+        return (Protein) internMacronutrient();
+    }
+
     @Override
     String getMessageConstraint() {
         return MESSAGE_CONSTRAINTS;
@@ -0,0 +1,84 @@
+package jimmy.mcgymmy.model.food;
+
+import java.util.BitSet;
+
+/**
+ * The slots of the items removed from a list, counted in a Fenwick tree.
+ * <p>
+ * Each item added to the list takes the next slot and keeps it until it is removed, so the position of an item is
+ * its slot less the number of removed slots before it. Removing an item then only marks its slot instead of moving
+ * every later item down, and finding the position of a slot takes O(log n) time.
+ */
+class RemovedSlots {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final BitSet removed = new BitSet();
+    // one-based; tree[i] is the number of removed slots from i - (i & -i) up to but not including i
+    private int[] tree;
+    private int slotCount;
+    private int removedCount = 0;
+
+    /**
+     * Creates the slots of a list of {@code slotCount} items, none of which have been removed.
+     */
+    RemovedSlots(int slotCount) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < slotCount) {
+            capacity *= 2;
+        }
+        this.tree = new int[capacity + 1];
+        this.slotCount = slotCount;
+    }
+
+    int getRemovedCount() {
+        return removedCount;
+    }
+
+    /**
+     * Returns the slot of an item added to the end of the list.
+     */
+    int add() {
+        if (slotCount == tree.length - 1) {
+            grow();
+        }
+        return slotCount++;
+    }
+
+    /**
+     * Records that the item in {@code slot} has been removed from the list.
+     */
+    void remove(int slot) {
+        assert slot < slotCount && !removed.get(slot) : "a slot is removed at most once";
+        removed.set(slot);
+        removedCount++;
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i]++;
+        }
+    }
+
+    /**
+     * Returns the position in the list of the item in {@code slot}.
+     */
+    int positionOf(int slot) {
+        int removedBefore = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            removedBefore += tree[i];
+        }
+        return slot - removedBefore;
+    }
+
+    private void grow() {
+        tree = new int[(tree.length - 1) * 2 + 1];
+        for (int slot = removed.nextSetBit(0); slot >= 0; slot = removed.nextSetBit(slot + 1)) {
+            tree[slot + 1]++;
+        }
+        // each count is added to the next node covering it, which builds the tree in one pass
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package jimmy.mcgymmy.model.food;
+
+import java.util.function.Predicate;
+
+/**
+ * A predicate on food items that only reads the fields of a {@link FoodRow}, so that a {@link FoodRowList} can test
+ * its food items without creating {@code Food} objects for them.
+ */
+public interface RowPredicate extends Predicate<Food> {
+
+    boolean testRow(FoodRow row);
+
+    @Override
+    default boolean test(Food food) {
+        return testRow(food);
+    }
+}
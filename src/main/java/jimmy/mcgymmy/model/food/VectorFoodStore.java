@@ -0,0 +1,59 @@
+package jimmy.mcgymmy.model.food;
+
+import java.util.Iterator;
+import java.util.List;
+
+import jimmy.mcgymmy.commons.core.PersistentVector;
+
+/**
+ * A {@link FoodStore} that keeps {@code Food} objects in a {@link PersistentVector}, so reading an item is free.
+ */
+final class VectorFoodStore implements FoodStore {
+
+    static final VectorFoodStore EMPTY = new VectorFoodStore(PersistentVector.empty());
+
+    private final PersistentVector<Food> foods;
+
+    private VectorFoodStore(PersistentVector<Food> foods) {
+        this.foods = foods;
+    }
+
+    static VectorFoodStore of(List<Food> foods) {
+        return new VectorFoodStore(PersistentVector.of(foods));
+    }
+
+    @Override
+    public int size() {
+        return foods.size();
+    }
+
+    @Override
+    public Food get(int index) {
+        return foods.get(index);
+    }
+
+    @Override
+    public VectorFoodStore set(int index, Food food) {
+        return new VectorFoodStore(foods.set(index, food));
+    }
+
+    @Override
+    public VectorFoodStore add(Food food) {
+        return new VectorFoodStore(foods.add(food));
+    }
+
+    @Override
+    public VectorFoodStore remove(int index) {
+        return new VectorFoodStore(foods.remove(index));
+    }
+
+    @Override
+    public List<Food> asList() {
+        return foods.asList();
+    }
+
+    @Override
+    public Iterator<Food> iterator() {
+        return foods.iterator();
+    }
+}
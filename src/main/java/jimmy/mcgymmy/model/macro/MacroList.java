@@ -3,6 +3,7 @@ package jimmy.mcgymmy.model.macro;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -12,12 +13,13 @@ import jimmy.mcgymmy.logic.parser.PrimitiveCommandParser;
 import jimmy.mcgymmy.model.macro.exceptions.DuplicateMacroException;
 
 /**
- * Immutable container for macros.
+ * Immutable container for macros, and for the saved views stored alongside them.
  * Ensures a macro's name is not taken before allowing it to be added.
  * Defensive by being immutable.
  */
 public class MacroList {
     private final Map<String, Macro> macros;
+    private final Map<String, SavedView> views;
     private final Set<String> commandNames;
 
     /**
@@ -25,6 +27,7 @@ public class MacroList {
      */
     public MacroList() {
         this.macros = new HashMap<>();
+        this.views = new LinkedHashMap<>();
         /* This may be considered 'breaking abstraction' for the MVC since we are referencing
          a static method in a Logic class, but this is a necessary 'evil'. The alternative is
          to have another file where we store the names of all registered commands, which is
@@ -40,7 +43,19 @@ public class MacroList {
      * @throws DuplicateMacroException If there are any duplicate macros.
      */
     public MacroList(List<Macro> macros) throws DuplicateMacroException {
+        this(macros, new ArrayList<>());
+    }
+
+    /**
+     * Creates a new MacroList with pre-populated macros and saved views.
+     *
+     * @param macros list of macros to populate this with.
+     * @param views list of saved views to populate this with, in the order they were saved.
+     * @throws DuplicateMacroException If there are any duplicate macros or views.
+     */
+    public MacroList(List<Macro> macros, List<SavedView> views) throws DuplicateMacroException {
         this.macros = new HashMap<>();
+        this.views = new LinkedHashMap<>();
         this.commandNames = new HashSet<>(PrimitiveCommandParser.getRegisteredCommands());
         this.commandNames.add("macro");
         for (Macro macro : macros) {
@@ -49,6 +64,12 @@ public class MacroList {
             }
             this.macros.put(macro.getName(), macro);
         }
+        for (SavedView view : views) {
+            if (this.hasView(view.getName())) {
+                throw new DuplicateMacroException();
+            }
+            this.views.put(view.getName(), view);
+        }
     }
 
     public boolean hasMacro(String name) {
@@ -68,7 +89,7 @@ public class MacroList {
     public MacroList withNewMacro(Macro newMacro) throws DuplicateMacroException {
         List<Macro> newList = this.getAsList();
         newList.add(newMacro);
-        return new MacroList(newList);
+        return new MacroList(newList, this.getViews());
     }
 
     /**
@@ -83,7 +104,7 @@ public class MacroList {
                 .filter(macro -> !macro.getName().equals(macroName))
                 .collect(Collectors.toList());
         try {
-            return new MacroList(newList);
+            return new MacroList(newList, this.getViews());
         } catch (DuplicateMacroException e) {
             // this logically should never happen.
             assert false : "removing macro results in duplicate macro";
@@ -99,5 +120,54 @@ public class MacroList {
         return new ArrayList<>(this.macros.values());
     }
 
+    public boolean hasView(String name) {
+        return this.views.containsKey(name);
+    }
+
+    /**
+     * Returns a new MacroList with the saved view, replacing any view of the same name.
+     *
+     * @param view the view to save.
+     */
+    public MacroList withView(SavedView view) {
+        List<SavedView> newViews = this.getViews();
+        newViews.removeIf(oldView -> oldView.getName().equals(view.getName()));
+        newViews.add(view);
+        return copyWithViews(newViews);
+    }
+
+    /**
+     * Returns a new MacroList without the specified saved view.
+     * If the view does not exist in the MacroList, returns a new copy of the same MacroList.
+     *
+     * @param viewName the view to remove.
+     */
+    public MacroList withoutView(String viewName) {
+        List<SavedView> newViews = this.getViews();
+        newViews.removeIf(view -> view.getName().equals(viewName));
+        return copyWithViews(newViews);
+    }
+
+    private MacroList copyWithViews(List<SavedView> newViews) {
+        try {
+            return new MacroList(this.getAsList(), newViews);
+        } catch (DuplicateMacroException e) {
+            // this logically should never happen.
+            assert false : "changing views results in duplicate macro or view";
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+
+    public SavedView getView(String name) {
+        return this.views.get(name);
+    }
+
+    /**
+     * Returns the saved views, in the order they were saved.
+     */
+    public List<SavedView> getViews() {
+        return new ArrayList<>(this.views.values());
+    }
+
     // NOTE: not overriding Object.equals() because MacroList is immutable.
 }
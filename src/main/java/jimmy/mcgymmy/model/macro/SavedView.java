@@ -0,0 +1,77 @@
+package jimmy.mcgymmy.model.macro;
+
+import java.time.YearMonth;
+import java.util.function.Predicate;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.commons.util.CollectionUtil;
+import jimmy.mcgymmy.logic.query.Expression;
+import jimmy.mcgymmy.logic.query.QueryParser;
+import jimmy.mcgymmy.logic.query.QueryPlanner;
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * A named query whose matching food items can be shown at any time.
+ * Immutable for defensive coding.
+ */
+public class SavedView {
+    public static final String MESSAGE_CONSTRAINTS = "The name of a view should not be blank.";
+
+    private final String name;
+    private final String query;
+    private final Expression expression;
+    private final Predicate<Food> predicate;
+
+    /**
+     * Constructor for saved views
+     *
+     * @param name name of the view.
+     * @param query the query matching the food items in the view.
+     * @throws IllegalValueException if the name is blank or the query is invalid.
+     */
+    public SavedView(String name, String query) throws IllegalValueException {
+        CollectionUtil.requireAllNonNull(name, query);
+        if (name.isBlank()) {
+            throw new IllegalValueException(MESSAGE_CONSTRAINTS);
+        }
+        this.name = name;
+        this.query = query;
+        this.expression = QueryParser.parse(query);
+        this.predicate = QueryPlanner.toPredicate(expression);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Returns the predicate matching the food items in this view. The same predicate is returned every time.
+     */
+    public Predicate<Food> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns true if food items dated in {@code month} can be in this view.
+     */
+    public boolean mayMatchIn(YearMonth month) {
+        return expression.mayMatchIn(month);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SavedView // instanceof handles nulls
+                && name.equals(((SavedView) other).name)
+                && query.equals(((SavedView) other).query)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + query;
+    }
+}
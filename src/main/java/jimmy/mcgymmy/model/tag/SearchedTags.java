@@ -0,0 +1,66 @@
+package jimmy.mcgymmy.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Tags that are searched for, as a {@link TagSet} built without giving them ids in the {@link TagDictionary}.
+ * <p>
+ * Searching for a tag no food item has had leaves it out of the set, so searches do not fill the dictionary. Such a
+ * tag may be given an id later, when a food item with it is added while the search is still shown, so the set is
+ * built again whenever the dictionary has grown since and some of the tags were left out.
+ */
+public final class SearchedTags {
+    private final List<Tag> tags;
+    private volatile Resolved resolved;
+
+    /**
+     * Creates the searched tags {@code tags}.
+     */
+    public SearchedTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        this.tags = List.copyOf(tags);
+        this.resolved = resolve();
+    }
+
+    public List<Tag> getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns the set of the searched tags that have ids.
+     */
+    public TagSet getTagSet() {
+        Resolved current = resolved;
+        if (!current.isComplete && current.dictionarySize != TagDictionary.size()) {
+            current = resolve();
+            resolved = current;
+        }
+        return current.tagSet;
+    }
+
+    private Resolved resolve() {
+        // read first, so that a tag given an id while resolving is resolved again on the next call
+        int dictionarySize = TagDictionary.size();
+        TagSet tagSet = TagSet.ofKnown(tags);
+        boolean isComplete = tags.stream().allMatch(tag -> TagDictionary.find(tag) >= 0);
+        return new Resolved(tagSet, dictionarySize, isComplete);
+    }
+
+    /**
+     * The set of the tags that had ids when the dictionary had {@code dictionarySize} tags.
+     */
+    private static class Resolved {
+        final TagSet tagSet;
+        final int dictionarySize;
+        final boolean isComplete;
+
+        Resolved(TagSet tagSet, int dictionarySize, boolean isComplete) {
+            this.tagSet = tagSet;
+            this.dictionarySize = dictionarySize;
+            this.isComplete = isComplete;
+        }
+    }
+}
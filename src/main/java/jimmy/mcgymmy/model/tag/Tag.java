@@ -27,6 +27,13 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} with the same name, which is the one kept by the {@link TagDictionary}.
+     */
+    public Tag intern() {
+        return TagDictionary.getTag(TagDictionary.idOf(this));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -0,0 +1,70 @@
+package jimmy.mcgymmy.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives every distinct {@code Tag} a small integer id, so that sets of tags can be stored as bitsets.
+ * <p>
+ * Ids are handed out in the order tags are first seen and are never reused, so they are only meaningful within one
+ * session and are never saved. Tags may be registered from several threads at once, such as when food items are
+ * decoded in parallel.
+ */
+public final class TagDictionary {
+
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    // written only while holding the lock, and replaced rather than changed so that readers never need it
+    private static volatile Tag[] tags = new Tag[0];
+
+    private TagDictionary() {
+    }
+
+    /**
+     * Returns the id of {@code tag}, giving it a new id if it has not been seen before.
+     */
+    public static int idOf(Tag tag) {
+        requireNonNull(tag);
+        Integer id = ids.get(tag.tagName);
+        if (id != null) {
+            return id;
+        }
+        synchronized (TagDictionary.class) {
+            id = ids.get(tag.tagName);
+            if (id == null) {
+                id = tags.length;
+                Tag[] newTags = new Tag[id + 1];
+                System.arraycopy(tags, 0, newTags, 0, id);
+                newTags[id] = tag;
+                // the tag must be readable before its id is
+                tags = newTags;
+                ids.put(tag.tagName, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Returns the id of {@code tag}, or -1 if it has not been seen before.
+     * Unlike {@link #idOf(Tag)}, this does not give the tag an id, so it is used for tags that are only searched for.
+     */
+    public static int find(Tag tag) {
+        requireNonNull(tag);
+        return ids.getOrDefault(tag.tagName, -1);
+    }
+
+    /**
+     * Returns the number of tags that have been given ids.
+     */
+    public static int size() {
+        return tags.length;
+    }
+
+    /**
+     * Returns the tag with the given {@code id}, which must have been handed out by {@link #idOf(Tag)}.
+     */
+    public static Tag getTag(int id) {
+        return tags[id];
+    }
+}
@@ -0,0 +1,220 @@
+package jimmy.mcgymmy.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import jimmy.mcgymmy.commons.core.Interner;
+
+/**
+ * An immutable set of tags, stored as a bitset of their ids in the {@link TagDictionary}.
+ * <p>
+ * A food item with no tags shares {@link #EMPTY}, and one whose tags all have ids below 64 needs a single word, so
+ * tags cost a few words per food item. Equal sets are interned, so food items with the same tags share one set.
+ * Checking whether two sets share a tag is a bitwise AND of their words.
+ */
+public final class TagSet {
+
+    public static final TagSet EMPTY = new TagSet(new long[0]);
+
+    // food items repeat the same few combinations of tags, so equal sets share one instance
+    private static final Interner<TagSet> INTERNER = new Interner<>();
+
+    // never has trailing zero words, so that equal sets have equal words
+    private final long[] words;
+
+    private TagSet(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Returns the set of the given {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        long[] words = new long[0];
+        for (Tag tag : tags) {
+            int id = TagDictionary.idOf(tag);
+            if (id / Long.SIZE >= words.length) {
+                words = Arrays.copyOf(words, id / Long.SIZE + 1);
+            }
+            words[id / Long.SIZE] |= 1L << id;
+        }
+        return words.length == 0 ? EMPTY : INTERNER.intern(new TagSet(words));
+    }
+
+    /**
+     * Returns the set of those {@code tags} that already have ids, leaving out tags no food item has had.
+     * Unlike {@link #of(Collection)}, the tags are not given ids and the set is not interned, so it is used for tags
+     * that are only searched for.
+     */
+    public static TagSet ofKnown(Collection<Tag> tags) {
+        requireNonNull(tags);
+        long[] words = new long[0];
+        for (Tag tag : tags) {
+            int id = TagDictionary.find(tag);
+            if (id < 0) {
+                continue;
+            }
+            if (id / Long.SIZE >= words.length) {
+                words = Arrays.copyOf(words, id / Long.SIZE + 1);
+            }
+            words[id / Long.SIZE] |= 1L << id;
+        }
+        return words.length == 0 ? EMPTY : new TagSet(words);
+    }
+
+    private static TagSet ofTrimmed(long[] words) {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        return length == 0 ? EMPTY : INTERNER.intern(new TagSet(Arrays.copyOf(words, length)));
+    }
+
+    /**
+     * Returns true if {@code tag} is in this set.
+     */
+    public boolean contains(Tag tag) {
+        int id = TagDictionary.find(tag);
+        return id >= 0 && containsId(id);
+    }
+
+    /**
+     * Returns true if the tag with the given dictionary {@code id} is in this set.
+     */
+    public boolean containsId(int id) {
+        return id / Long.SIZE < words.length && (words[id / Long.SIZE] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns true if this set and {@code other} have a tag in common.
+     */
+    public boolean intersects(TagSet other) {
+        requireNonNull(other);
+        int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a set with the tags in this set and {@code tag}.
+     */
+    public TagSet with(Tag tag) {
+        int id = TagDictionary.idOf(tag);
+        if (containsId(id)) {
+            return this;
+        }
+        long[] newWords = Arrays.copyOf(words, Math.max(words.length, id / Long.SIZE + 1));
+        newWords[id / Long.SIZE] |= 1L << id;
+        return INTERNER.intern(new TagSet(newWords));
+    }
+
+    /**
+     * Returns a set with the tags in this set other than {@code tag}.
+     */
+    public TagSet without(Tag tag) {
+        int id = TagDictionary.find(tag);
+        if (id < 0 || !containsId(id)) {
+            return this;
+        }
+        long[] newWords = words.clone();
+        newWords[id / Long.SIZE] &= ~(1L << id);
+        return ofTrimmed(newWords);
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    /**
+     * Returns the dictionary ids of the tags in this set, in increasing order.
+     */
+    public IntStream ids() {
+        return IntStream.iterate(nextId(0), id -> id >= 0, id -> nextId(id + 1));
+    }
+
+    /**
+     * Returns an unmodifiable view of this set as a {@code Set<Tag>}.
+     */
+    public Set<Tag> asSet() {
+        return Collections.unmodifiableSet(new AbstractSet<>() {
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof Tag && TagSet.this.contains((Tag) o);
+            }
+
+            @Override
+            public Iterator<Tag> iterator() {
+                return new Iterator<>() {
+                    private int next = nextId(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return next >= 0;
+                    }
+
+                    @Override
+                    public Tag next() {
+                        if (next < 0) {
+                            throw new NoSuchElementException();
+                        }
+                        Tag tag = TagDictionary.getTag(next);
+                        next = nextId(next + 1);
+                        return tag;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                int size = 0;
+                for (long word : words) {
+                    size += Long.bitCount(word);
+                }
+                return size;
+            }
+        });
+    }
+
+    /**
+     * Returns the smallest id in this set that is at least {@code from}, or -1 if there is none.
+     */
+    private int nextId(int from) {
+        int wordIndex = from / Long.SIZE;
+        if (wordIndex >= words.length) {
+            return -1;
+        }
+        long word = words[wordIndex] & (-1L << from);
+        while (word == 0) {
+            if (++wordIndex == words.length) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+        return wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagSet // instanceof handles nulls
+                && Arrays.equals(words, ((TagSet) other).words)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
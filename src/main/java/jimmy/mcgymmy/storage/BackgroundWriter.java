@@ -0,0 +1,112 @@
+package jimmy.mcgymmy.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import jimmy.mcgymmy.commons.core.LogsCenter;
+
+/**
+ * Runs writes on a dedicated thread.
+ * Only the latest write submitted for each key is kept, so a burst of saves to the same file results in a
+ * single write of the latest data.
+ */
+class BackgroundWriter {
+
+    /**
+     * A write to be run on the writer thread.
+     */
+    @FunctionalInterface
+    interface Write {
+        void run() throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundWriter.class);
+
+    private final Map<String, Write> pendingWrites = new LinkedHashMap<>();
+    private boolean isWriting;
+    private IOException failure;
+
+    /**
+     * Creates a {@code BackgroundWriter} and starts its thread.
+     */
+    BackgroundWriter() {
+        Thread thread = new Thread(this::runWrites, "McGymmy storage writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Schedules {@code write}, replacing any write with the same {@code key} that has not started yet.
+     *
+     * @return true if a pending write was replaced.
+     */
+    synchronized boolean submit(String key, Write write) {
+        boolean isReplaced = pendingWrites.put(key, write) != null;
+        notifyAll();
+        return isReplaced;
+    }
+
+    /**
+     * Blocks until all submitted writes have finished.
+     */
+    synchronized void flush() throws InterruptedException {
+        while (isWriting || !pendingWrites.isEmpty()) {
+            wait();
+        }
+    }
+
+    /**
+     * Throws the first error hit by a write since the last call, if any.
+     */
+    synchronized void rethrowFailure() throws IOException {
+        if (failure != null) {
+            IOException toThrow = failure;
+            failure = null;
+            throw toThrow;
+        }
+    }
+
+    private synchronized void recordFailure(IOException e) {
+        logger.warning("Background write failed: " + e);
+        if (failure == null) {
+            failure = e;
+        }
+    }
+
+    private void runWrites() {
+        while (true) {
+            List<Write> batch;
+            synchronized (this) {
+                while (pendingWrites.isEmpty()) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                batch = new ArrayList<>(pendingWrites.values());
+                pendingWrites.clear();
+                isWriting = true;
+            }
+
+            for (Write write : batch) {
+                try {
+                    write.run();
+                } catch (IOException e) {
+                    recordFailure(e);
+                } catch (RuntimeException e) {
+                    recordFailure(new IOException(e));
+                }
+            }
+
+            synchronized (this) {
+                isWriting = false;
+                notifyAll();
+            }
+        }
+    }
+}
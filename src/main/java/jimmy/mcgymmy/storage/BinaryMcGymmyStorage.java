@@ -0,0 +1,321 @@
+package jimmy.mcgymmy.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import jimmy.mcgymmy.commons.core.Config.JsonFormat;
+import jimmy.mcgymmy.commons.core.LogsCenter;
+import jimmy.mcgymmy.commons.exceptions.DataConversionException;
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.commons.util.FileUtil;
+import jimmy.mcgymmy.model.McGymmy;
+import jimmy.mcgymmy.model.ReadOnlyMcGymmy;
+import jimmy.mcgymmy.model.date.Date;
+import jimmy.mcgymmy.model.food.Carbohydrate;
+import jimmy.mcgymmy.model.food.Fat;
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.Name;
+import jimmy.mcgymmy.model.food.Protein;
+import jimmy.mcgymmy.model.tag.Tag;
+
+/**
+ * A class to access McGymmy data stored as a json file, together with a binary snapshot of the same data that is
+ * faster to load.
+ * <p>
+ * The snapshot is written next to the json file after every save. It holds dictionaries of the distinct names,
+ * tags and tag sets, followed by one fixed-width record per food made up of the food's id, the date as an epoch
+ * day, the three macronutrient amounts, and the ids of the name and tag set. It is read back through a
+ * memory-mapped file, and each distinct name and tag is only validated once.
+ * <p>
+ * The snapshot records the modification time and size of the json file it was written with. It is only used
+ * while the json file is unchanged since, so the json file stays the source of truth and can still be edited by
+ * hand. An out of date, unreadable or incompatible snapshot is ignored in favour of the json file.
+ */
+public class BinaryMcGymmyStorage implements McGymmyStorage {
+
+    public static final int MAGIC = 0x4D434759; // "MCGY"
+    public static final int FORMAT_VERSION = 2;
+    public static final String MESSAGE_CORRUPTED_SNAPSHOT = "Binary snapshot is corrupted";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryMcGymmyStorage.class);
+    private static final int INTS_PER_FOOD = 6;
+
+    private final Path filePath;
+    private final Path snapshotPath;
+    private final JsonMcGymmyStorage jsonStorage;
+
+    public BinaryMcGymmyStorage(Path filePath) {
+        this(filePath, JsonFormat.PRETTY);
+    }
+
+    /**
+     * Creates a {@code BinaryMcGymmyStorage} that saves json data files in the given {@code format}.
+     */
+    public BinaryMcGymmyStorage(Path filePath, JsonFormat format) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.snapshotPath = filePath.resolveSibling(filePath.getFileName() + ".bin");
+        this.jsonStorage = new JsonMcGymmyStorage(filePath, format);
+    }
+
+    @Override
+    public Path getMcGymmyFilePath() {
+        return filePath;
+    }
+
+    public Path getSnapshotFilePath() {
+        return snapshotPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyMcGymmy> readMcGymmy() throws DataConversionException {
+        return readMcGymmy(filePath);
+    }
+
+    /**
+     * Similar to {@link #readMcGymmy()}.
+     * The binary snapshot is only used for the data file of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the json file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyMcGymmy> readMcGymmy(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return jsonStorage.readMcGymmy(filePath);
+        }
+
+        long startTime = System.nanoTime();
+        Optional<ReadOnlyMcGymmy> snapshot = readSnapshot();
+        if (snapshot.isPresent()) {
+            logLoad("binary snapshot " + snapshotPath, snapshot.get(), startTime);
+            return snapshot;
+        }
+
+        Optional<ReadOnlyMcGymmy> mcGymmy = jsonStorage.readMcGymmy(filePath);
+        if (mcGymmy.isPresent()) {
+            logLoad("json file " + filePath, mcGymmy.get(), startTime);
+        }
+        return mcGymmy;
+    }
+
+    private void logLoad(String source, ReadOnlyMcGymmy mcGymmy, long startTime) {
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        logger.info(String.format("Loaded %d foods from %s in %d ms (json: %d bytes, snapshot: %d bytes)",
+                mcGymmy.getFoodList().size(), source, elapsedMillis, sizeOf(filePath), sizeOf(snapshotPath)));
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.exists(path) ? Files.size(path) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the data in the binary snapshot, or {@code Optional.empty()} if there is no snapshot that can be
+     * used in place of the json file.
+     */
+    Optional<ReadOnlyMcGymmy> readSnapshot() {
+        if (!Files.exists(snapshotPath) || !Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return decode(buffer, Files.getLastModifiedTime(filePath).toMillis(), Files.size(filePath));
+        } catch (IOException | IllegalValueException | BufferUnderflowException | IndexOutOfBoundsException
+                | DateTimeException e) {
+            logger.warning("Ignoring unreadable binary snapshot " + snapshotPath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<ReadOnlyMcGymmy> decode(ByteBuffer buffer, long jsonModifiedTime, long jsonSize)
+            throws IllegalValueException {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            logger.info("Binary snapshot " + snapshotPath + " is in an unknown format");
+            return Optional.empty();
+        }
+        if (buffer.getLong() != jsonModifiedTime || buffer.getLong() != jsonSize) {
+            logger.info("Binary snapshot " + snapshotPath + " is older than " + filePath);
+            return Optional.empty();
+        }
+
+        List<Name> names = new ArrayList<>();
+        for (int i = readCount(buffer); i > 0; i--) {
+            names.add(new Name(readString(buffer)));
+        }
+        List<Tag> tags = new ArrayList<>();
+        for (int i = readCount(buffer); i > 0; i--) {
+            tags.add(new Tag(readString(buffer)));
+        }
+        List<Set<Tag>> tagSets = new ArrayList<>();
+        for (int i = readCount(buffer); i > 0; i--) {
+            Set<Tag> tagSet = new HashSet<>();
+            for (int j = readCount(buffer); j > 0; j--) {
+                tagSet.add(tags.get(buffer.getInt()));
+            }
+            tagSets.add(tagSet);
+        }
+
+        int foodCount = readCount(buffer);
+        List<Food> foods = new ArrayList<>(foodCount);
+        for (int i = 0; i < foodCount; i++) {
+            long id = buffer.getLong();
+            Date date = Date.fromLocalDate(LocalDate.ofEpochDay(buffer.getInt()));
+            Protein protein = new Protein(buffer.getInt());
+            Fat fat = new Fat(buffer.getInt());
+            Carbohydrate carbs = new Carbohydrate(buffer.getInt());
+            Name name = names.get(buffer.getInt());
+            Set<Tag> tagSet = tagSets.get(buffer.getInt());
+            foods.add(new Food(id, name, protein, fat, carbs, tagSet, date));
+        }
+
+        McGymmy mcGymmy = new McGymmy();
+        mcGymmy.setFoodItems(foods);
+        return Optional.of(mcGymmy);
+    }
+
+    /**
+     * Reads a count of items that follow in {@code buffer}, each taking at least one byte.
+     */
+    private static int readCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer buffer) throws IllegalValueException {
+        byte[] bytes = new byte[readCount(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void saveMcGymmy(ReadOnlyMcGymmy mcGymmy) throws IOException {
+        saveMcGymmy(mcGymmy, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveMcGymmy(ReadOnlyMcGymmy)}.
+     * The binary snapshot is only written for the data file of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveMcGymmy(ReadOnlyMcGymmy mcGymmy, Path filePath) throws IOException {
+        requireNonNull(mcGymmy);
+        requireNonNull(filePath);
+        jsonStorage.saveMcGymmy(mcGymmy, filePath);
+        if (!filePath.equals(this.filePath)) {
+            return;
+        }
+
+        try {
+            writeSnapshot(mcGymmy);
+        } catch (IOException e) {
+            // The json file is saved, and it no longer matches the old snapshot, so the old snapshot is not used
+            logger.warning("Failed to write binary snapshot " + snapshotPath + ": " + e);
+        }
+    }
+
+    private void writeSnapshot(ReadOnlyMcGymmy mcGymmy) throws IOException {
+        long jsonModifiedTime = Files.getLastModifiedTime(filePath).toMillis();
+        long jsonSize = Files.size(filePath);
+        FileUtil.writeToFile(snapshotPath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            encode(dataOut, mcGymmy.getFoodList(), jsonModifiedTime, jsonSize);
+            dataOut.flush();
+        });
+        logger.fine(String.format("Wrote binary snapshot of %d foods (json: %d bytes, snapshot: %d bytes)",
+                mcGymmy.getFoodList().size(), jsonSize, sizeOf(snapshotPath)));
+    }
+
+    private static void encode(DataOutputStream out, List<Food> foods, long jsonModifiedTime, long jsonSize)
+            throws IOException {
+        Map<String, Integer> names = new LinkedHashMap<>();
+        Map<String, Integer> tags = new LinkedHashMap<>();
+        Map<List<Integer>, Integer> tagSets = new LinkedHashMap<>();
+        int[] records = new int[foods.size() * INTS_PER_FOOD];
+        for (int i = 0; i < foods.size(); i++) {
+            Food food = foods.get(i);
+            List<Integer> tagIds = new ArrayList<>();
+            for (Tag tag : food.getTags()) {
+                tagIds.add(tags.computeIfAbsent(tag.tagName, unused -> tags.size()));
+            }
+            // the same tags always give the same set, whatever order they are stored in
+            tagIds.sort(null);
+
+            int offset = i * INTS_PER_FOOD;
+            records[offset] = (int) food.getDate().toLocalDate().toEpochDay();
+            records[offset + 1] = food.getProtein().getAmount();
+            records[offset + 2] = food.getFat().getAmount();
+            records[offset + 3] = food.getCarbs().getAmount();
+            records[offset + 4] = names.computeIfAbsent(food.getName().fullName, unused -> names.size());
+            records[offset + 5] = tagSets.computeIfAbsent(tagIds, unused -> tagSets.size());
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(jsonModifiedTime);
+        out.writeLong(jsonSize);
+        writeStrings(out, names.keySet());
+        writeStrings(out, tags.keySet());
+        out.writeInt(tagSets.size());
+        for (List<Integer> tagIds : tagSets.keySet()) {
+            out.writeInt(tagIds.size());
+            for (int tagId : tagIds) {
+                out.writeInt(tagId);
+            }
+        }
+        out.writeInt(foods.size());
+        for (int i = 0; i < foods.size(); i++) {
+            out.writeLong(foods.get(i).getId());
+            for (int offset = i * INTS_PER_FOOD; offset < (i + 1) * INTS_PER_FOOD; offset++) {
+                out.writeInt(records[offset]);
+            }
+        }
+    }
+
+    private static void writeStrings(DataOutputStream out, Set<String> strings) throws IOException {
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void syncMcGymmy(Path filePath) throws IOException {
+        FileUtil.sync(filePath);
+        if (filePath.equals(this.filePath)) {
+            FileUtil.sync(snapshotPath);
+        }
+    }
+}
@@ -0,0 +1,470 @@
+package jimmy.mcgymmy.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import jimmy.mcgymmy.commons.core.Config.JsonFormat;
+import jimmy.mcgymmy.commons.core.LogsCenter;
+import jimmy.mcgymmy.commons.exceptions.DataConversionException;
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.commons.util.FileUtil;
+import jimmy.mcgymmy.commons.util.JsonUtil;
+import jimmy.mcgymmy.model.McGymmy;
+import jimmy.mcgymmy.model.ReadOnlyMcGymmy;
+import jimmy.mcgymmy.model.event.BulkReset;
+import jimmy.mcgymmy.model.event.FoodAdded;
+import jimmy.mcgymmy.model.event.FoodEvent;
+import jimmy.mcgymmy.model.event.FoodRemoved;
+import jimmy.mcgymmy.model.event.FoodReplaced;
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * A class to access McGymmy data stored as a json snapshot plus an append-only journal of changes.
+ * <p>
+ * Saving only appends the changes made to the food list since the previous save, so it costs time proportional
+ * to the size of the change rather than the number of foods. Once the journal reaches the compaction threshold,
+ * it is renamed aside and folded into a new snapshot on a background thread. Every record carries a sequence
+ * number and the snapshot stores the last one it includes, so a crash at any point of a compaction is recovered
+ * by replaying only the newer records.
+ * <p>
+ * Changes are recorded from the {@link FoodEvent}s of the {@code McGymmy} being saved. When its whole food list is
+ * replaced at once, the next save writes a full snapshot instead of a record as large as one.
+ */
+public class JournalMcGymmyStorage implements McGymmyStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final long NONE = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalMcGymmyStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final Path oldJournalPath;
+    private final int compactionThreshold;
+    private final JsonFormat format;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "McGymmy journal compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this: changes recorded on the thread that modifies the food list
+    private final List<JsonAdaptedJournalRecord> pendingRecords = new ArrayList<>();
+    private final Consumer<FoodEvent> changeRecorder = this::recordChange;
+    private ReadOnlyMcGymmy trackedMcGymmy;
+    private long lastSequence = -1;
+    // snapshots that include this record or any later one are written in full; NONE if there is no such record
+    private long fullSnapshotSequence = NONE;
+
+    // Guarded by writeLock: the files on disk
+    private final Object writeLock = new Object();
+    private int journalSize;
+    private Future<?> compaction;
+
+    public JournalMcGymmyStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalMcGymmyStorage} that compacts its journal once it holds
+     * {@code compactionThreshold} records.
+     */
+    public JournalMcGymmyStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, JsonFormat.PRETTY);
+    }
+
+    /**
+     * Creates a {@code JournalMcGymmyStorage} that compacts its journal once it holds
+     * {@code compactionThreshold} records, and writes snapshots in the given {@code format}.
+     */
+    public JournalMcGymmyStorage(Path filePath, int compactionThreshold, JsonFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        assert compactionThreshold > 0 : "Compaction threshold must be positive";
+        this.filePath = filePath;
+        this.format = format;
+        this.journalPath = filePath.resolveSibling(filePath.getFileName() + ".journal");
+        this.oldJournalPath = filePath.resolveSibling(filePath.getFileName() + ".journal.old");
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getMcGymmyFilePath() {
+        return filePath;
+    }
+
+    Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyMcGymmy> readMcGymmy() throws DataConversionException, IOException {
+        return readMcGymmy(filePath);
+    }
+
+    /**
+     * Similar to {@link #readMcGymmy()}.
+     * Files other than this storage's own file are read as plain json files.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyMcGymmy> readMcGymmy(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return new JsonMcGymmyStorage(filePath, format).readMcGymmy(filePath);
+        }
+
+        synchronized (writeLock) {
+            awaitCompaction();
+            return readSnapshotAndJournals();
+        }
+    }
+
+    private Optional<ReadOnlyMcGymmy> readSnapshotAndJournals() throws DataConversionException, IOException {
+        // The old journal is read before the snapshot, as a compaction finishing in between deletes it only after
+        // writing a snapshot that includes all of its records.
+        List<JsonAdaptedJournalRecord> records = readJournal(oldJournalPath);
+        JsonMcGymmyReader snapshotReader = new JsonMcGymmyReader(filePath);
+        Optional<ReadOnlyMcGymmy> snapshot = snapshotReader.read();
+        if (snapshot.isPresent() && snapshotReader.getJournalSequence().isEmpty()) {
+            // The snapshot was last written in plain json mode, so any journal left behind is out of date.
+            setLastSequence(0);
+            return snapshot;
+        }
+
+        records.addAll(readJournal(journalPath));
+        if (snapshot.isEmpty() && records.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long snapshotSequence = snapshotReader.getJournalSequence().orElse(0L);
+        List<Food> foods = snapshot.isPresent() ? new ArrayList<>(snapshot.get().getFoodList()) : new ArrayList<>();
+        long replayedSequence = snapshotSequence;
+        int replayed = 0;
+        for (JsonAdaptedJournalRecord record : records) {
+            if (record.getSequence() <= snapshotSequence) {
+                continue;
+            }
+            try {
+                record.applyTo(foods);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+            replayedSequence = Math.max(replayedSequence, record.getSequence());
+            replayed++;
+        }
+        setLastSequence(replayedSequence);
+        logger.fine("Replayed " + replayed + " journal records on top of " + filePath);
+
+        McGymmy mcGymmy = new McGymmy();
+        mcGymmy.setFoodItems(foods);
+        return Optional.of(mcGymmy);
+    }
+
+    private synchronized void setLastSequence(long sequence) {
+        lastSequence = sequence;
+    }
+
+    /**
+     * Reads all records in the journal at {@code path}.
+     * A malformed last line is assumed to be a write interrupted by a crash and is ignored.
+     */
+    private List<JsonAdaptedJournalRecord> readJournal(Path path) throws DataConversionException, IOException {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (!Files.exists(path)) {
+            return records;
+        }
+
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                records.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class));
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last record in " + path);
+                    break;
+                }
+                logger.warning("Error reading journal record " + (i + 1) + " of " + path + ": " + e);
+                throw new DataConversionException(e);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns a copy of {@code mcGymmy} together with the number of the last journal record it includes.
+     * The first snapshot of a given {@code mcGymmy} also starts recording the changes made to its food list.
+     * Only the changes to a {@code McGymmy} can be recorded, so any other {@code mcGymmy} is always saved in full.
+     */
+    @Override
+    public ReadOnlyMcGymmy snapshot(ReadOnlyMcGymmy mcGymmy) {
+        requireNonNull(mcGymmy);
+        if (mcGymmy instanceof Snapshot) {
+            return mcGymmy;
+        }
+        synchronized (this) {
+            if (mcGymmy != trackedMcGymmy) {
+                track(mcGymmy);
+            } else if (!(mcGymmy instanceof McGymmy)) {
+                requireFullSnapshotFrom(lastSequence);
+            }
+            return new Snapshot(new McGymmy(mcGymmy), lastSequence);
+        }
+    }
+
+    @Override
+    public void saveMcGymmy(ReadOnlyMcGymmy mcGymmy) throws IOException {
+        saveMcGymmy(mcGymmy, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveMcGymmy(ReadOnlyMcGymmy)}.
+     * The first save of a given {@code mcGymmy} writes a full snapshot; later saves only append the changes
+     * made up to the point {@code mcGymmy} was snapshotted. Files other than this storage's own file are saved
+     * as plain json files.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveMcGymmy(ReadOnlyMcGymmy mcGymmy, Path filePath) throws IOException {
+        requireNonNull(mcGymmy);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            new JsonMcGymmyStorage(filePath, format).saveMcGymmy(mcGymmy, filePath);
+            return;
+        }
+
+        Snapshot snapshot = (Snapshot) snapshot(mcGymmy);
+        synchronized (writeLock) {
+            boolean isFullSnapshotNeeded;
+            long clearedFullSnapshotSequence = NONE;
+            List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+            synchronized (this) {
+                isFullSnapshotNeeded = fullSnapshotSequence != NONE && snapshot.sequence >= fullSnapshotSequence;
+                if (isFullSnapshotNeeded) {
+                    clearedFullSnapshotSequence = fullSnapshotSequence;
+                    fullSnapshotSequence = NONE;
+                }
+                while (!pendingRecords.isEmpty() && pendingRecords.get(0).getSequence() <= snapshot.sequence) {
+                    records.add(pendingRecords.remove(0));
+                }
+            }
+
+            try {
+                if (isFullSnapshotNeeded) {
+                    writeFullSnapshot(snapshot);
+                    return;
+                }
+                appendRecords(records);
+            } catch (IOException e) {
+                synchronized (this) {
+                    // keep the changes so that the next save tries again
+                    if (isFullSnapshotNeeded) {
+                        requireFullSnapshotFrom(clearedFullSnapshotSequence);
+                    }
+                    pendingRecords.addAll(0, records);
+                }
+                throw e;
+            }
+            if (journalSize >= compactionThreshold) {
+                compactInBackground(snapshot);
+            }
+        }
+    }
+
+    /**
+     * Forces the data file and the journal to be written to the storage device.
+     * Files other than this storage's own file are treated as plain json files.
+     */
+    @Override
+    public void syncMcGymmy(Path filePath) throws IOException {
+        FileUtil.sync(filePath);
+        if (filePath.equals(this.filePath)) {
+            FileUtil.sync(journalPath);
+        }
+    }
+
+    private void track(ReadOnlyMcGymmy mcGymmy) {
+        assert Thread.holdsLock(this);
+        if (trackedMcGymmy instanceof McGymmy) {
+            McGymmy previous = (McGymmy) trackedMcGymmy;
+            previous.removeFoodEventListener(changeRecorder);
+        }
+        initLastSequence();
+        pendingRecords.clear();
+        fullSnapshotSequence = NONE;
+        requireFullSnapshotFrom(lastSequence);
+        trackedMcGymmy = mcGymmy;
+        if (mcGymmy instanceof McGymmy) {
+            McGymmy recorded = (McGymmy) mcGymmy;
+            recorded.addFoodEventListener(changeRecorder);
+        }
+    }
+
+    /**
+     * Makes the snapshots that include record {@code sequence} or any later one be written in full.
+     */
+    private void requireFullSnapshotFrom(long sequence) {
+        assert Thread.holdsLock(this);
+        fullSnapshotSequence = fullSnapshotSequence == NONE ? sequence : Math.min(fullSnapshotSequence, sequence);
+    }
+
+    /**
+     * Makes sure new records are numbered after every record already on disk.
+     */
+    private void initLastSequence() {
+        if (lastSequence >= 0) {
+            return;
+        }
+        lastSequence = 0;
+        try {
+            for (JsonAdaptedJournalRecord record : readJournal(oldJournalPath)) {
+                lastSequence = Math.max(lastSequence, record.getSequence());
+            }
+            for (JsonAdaptedJournalRecord record : readJournal(journalPath)) {
+                lastSequence = Math.max(lastSequence, record.getSequence());
+            }
+        } catch (DataConversionException | IOException e) {
+            // The journal is unreadable, it will be replaced by the full snapshot anyway.
+            logger.warning("Discarding unreadable journal " + journalPath);
+        }
+    }
+
+    private synchronized void recordChange(FoodEvent event) {
+        if (event instanceof FoodAdded) {
+            FoodAdded added = (FoodAdded) event;
+            pendingRecords.add(JsonAdaptedJournalRecord.add(++lastSequence, added.getIndex(),
+                    Collections.singletonList(added.getFood())));
+        } else if (event instanceof FoodReplaced) {
+            FoodReplaced replaced = (FoodReplaced) event;
+            pendingRecords.add(JsonAdaptedJournalRecord.set(++lastSequence, replaced.getIndex(),
+                    Collections.singletonList(replaced.getAfter())));
+        } else if (event instanceof FoodRemoved) {
+            pendingRecords.add(JsonAdaptedJournalRecord.remove(++lastSequence, ((FoodRemoved) event).getIndex(), 1));
+        } else if (event instanceof BulkReset) {
+            // the records so far are still needed by snapshots taken before the reset
+            requireFullSnapshotFrom(++lastSequence);
+        }
+    }
+
+    private void appendRecords(List<JsonAdaptedJournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append(System.lineSeparator());
+        }
+        Files.write(journalPath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        journalSize += records.size();
+    }
+
+    /**
+     * Replaces the data file with {@code snapshot} and removes the journals it makes obsolete.
+     */
+    private void writeFullSnapshot(Snapshot snapshot) throws IOException {
+        awaitCompaction();
+        writeSnapshot(snapshot);
+        Files.deleteIfExists(oldJournalPath);
+        Files.deleteIfExists(journalPath);
+        journalSize = 0;
+    }
+
+    /**
+     * Moves the current journal aside and folds it into {@code snapshot} on the compaction thread.
+     * Does nothing if a compaction is already running; the next save will try again.
+     */
+    private void compactInBackground(Snapshot snapshot) throws IOException {
+        if (compaction != null && !compaction.isDone()) {
+            return;
+        }
+
+        if (!Files.exists(oldJournalPath)) {
+            Files.move(journalPath, oldJournalPath);
+            journalSize = 0;
+        }
+
+        logger.fine("Compacting journal up to record " + snapshot.sequence);
+        compaction = compactor.submit(() -> {
+            try {
+                writeSnapshot(snapshot);
+                Files.deleteIfExists(oldJournalPath);
+            } catch (IOException e) {
+                logger.warning("Failed to compact journal " + journalPath + ": " + e);
+            }
+        });
+    }
+
+    private void writeSnapshot(Snapshot snapshot) throws IOException {
+        new JsonMcGymmyWriter(filePath, format).write(snapshot, snapshot.sequence);
+    }
+
+    /**
+     * Blocks until the running compaction, if any, has finished.
+     */
+    private void awaitCompaction() {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Journal compaction failed: " + e.getCause());
+        }
+    }
+
+    /**
+     * Blocks until all pending work, including a running compaction, has finished.
+     */
+    void flush() {
+        synchronized (writeLock) {
+            awaitCompaction();
+        }
+    }
+
+    /**
+     * A copy of the data together with the number of the last journal record that it includes.
+     */
+    private static class Snapshot implements ReadOnlyMcGymmy {
+        private final McGymmy data;
+        private final long sequence;
+
+        Snapshot(McGymmy data, long sequence) {
+            this.data = data;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public ObservableList<Food> getFoodList() {
+            return data.getFoodList();
+        }
+    }
+}
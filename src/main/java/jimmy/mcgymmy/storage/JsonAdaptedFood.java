@@ -27,6 +27,7 @@ class JsonAdaptedFood {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Food's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String protein;
     private final String fat;
@@ -36,11 +37,14 @@ class JsonAdaptedFood {
 
     /**
      * Constructs a {@code JsonAdaptedFood} with the given food details.
+     * Files saved before foods had ids have no {@code id}, and the food is then given a new one.
      */
     @JsonCreator
-    public JsonAdaptedFood(@JsonProperty("name") String name, @JsonProperty("protein") String protein,
-                           @JsonProperty("fat") String fat, @JsonProperty("carbs") String carbs,
-                           @JsonProperty("date") String date, @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+    public JsonAdaptedFood(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+                           @JsonProperty("protein") String protein, @JsonProperty("fat") String fat,
+                           @JsonProperty("carbs") String carbs, @JsonProperty("date") String date,
+                           @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.name = name;
         this.protein = protein;
         this.fat = fat;
@@ -51,10 +55,19 @@ class JsonAdaptedFood {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedFood} with the given food details and no id.
+     */
+    public JsonAdaptedFood(String name, String protein, String fat, String carbs, String date,
+                           List<JsonAdaptedTag> tagged) {
+        this(null, name, protein, fat, carbs, date, tagged);
+    }
+
     /**
      * Converts a given {@code Food} into this class for Jackson use.
      */
     public JsonAdaptedFood(Food source) {
+        id = source.getId();
         name = source.getName().fullName;
         protein = Integer.toString(source.getProtein().getAmount());
         fat = Integer.toString(source.getFat().getAmount());
@@ -105,7 +118,10 @@ class JsonAdaptedFood {
         final Carbohydrate modelCarbohydrate = new Carbohydrate(Integer.parseInt(carbs));
 
         //Return the Food item.
-        return new Food(modelName, modelProtein, modelFat, modelCarbohydrate, modelTags, modelDate);
+        if (id == null) {
+            return new Food(modelName, modelProtein, modelFat, modelCarbohydrate, modelTags, modelDate);
+        }
+        return new Food(id, modelName, modelProtein, modelFat, modelCarbohydrate, modelTags, modelDate);
     }
 
 }
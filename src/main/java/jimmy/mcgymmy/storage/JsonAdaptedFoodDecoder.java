@@ -0,0 +1,116 @@
+package jimmy.mcgymmy.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * Converts {@code JsonAdaptedFood} records into the model's {@code Food} objects on a fork-join pool.
+ * <p>
+ * The records are split into chunks that are validated and converted in parallel, and the foods are returned
+ * in the same order as the records. If any record is invalid, the error of the first invalid record is reported.
+ */
+class JsonAdaptedFoodDecoder {
+
+    public static final String MESSAGE_INVALID_FOOD = "Food record %d is invalid: %s";
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Creates a {@code JsonAdaptedFoodDecoder} that runs on the common fork-join pool.
+     */
+    JsonAdaptedFoodDecoder() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a {@code JsonAdaptedFoodDecoder} that runs on {@code pool}, converting at most {@code chunkSize}
+     * records in each task.
+     */
+    JsonAdaptedFoodDecoder(ForkJoinPool pool, int chunkSize) {
+        requireNonNull(pool);
+        assert chunkSize > 0 : "Chunk size must be positive";
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Converts {@code records} into foods, in the same order.
+     *
+     * @throws IllegalValueException if any record violates the data constraints. The message names the number of
+     *                               the first such record, counting from 1.
+     */
+    List<Food> decode(List<JsonAdaptedFood> records) throws IllegalValueException {
+        return decode(records, 0);
+    }
+
+    /**
+     * Similar to {@link #decode(List)}, for {@code records} that start at index {@code firstIndex} of a larger
+     * list of records.
+     */
+    List<Food> decode(List<JsonAdaptedFood> records, int firstIndex) throws IllegalValueException {
+        requireNonNull(records);
+        Food[] foods = new Food[records.size()];
+        DecodeTask task = new DecodeTask(records, foods, firstIndex, 0, records.size());
+        // Small lists are not worth handing over to the pool
+        IllegalValueException failure = records.size() <= chunkSize ? task.compute() : pool.invoke(task);
+        if (failure != null) {
+            throw failure;
+        }
+        return Arrays.asList(foods);
+    }
+
+    /**
+     * Converts the records in {@code [from, to)} into {@code foods}, returning the error of the first invalid
+     * record in the range, or null if all of them are valid.
+     */
+    private class DecodeTask extends RecursiveTask<IllegalValueException> {
+        private final List<JsonAdaptedFood> records;
+        private final Food[] foods;
+        private final int firstIndex;
+        private final int from;
+        private final int to;
+
+        DecodeTask(List<JsonAdaptedFood> records, Food[] foods, int firstIndex, int from, int to) {
+            this.records = records;
+            this.foods = foods;
+            this.firstIndex = firstIndex;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected IllegalValueException compute() {
+            if (to - from <= chunkSize) {
+                return decodeChunk();
+            }
+            int mid = (from + to) >>> 1;
+            DecodeTask left = new DecodeTask(records, foods, firstIndex, from, mid);
+            DecodeTask right = new DecodeTask(records, foods, firstIndex, mid, to);
+            left.fork();
+            IllegalValueException rightFailure = right.compute();
+            IllegalValueException leftFailure = left.join();
+            return leftFailure != null ? leftFailure : rightFailure;
+        }
+
+        private IllegalValueException decodeChunk() {
+            for (int i = from; i < to; i++) {
+                try {
+                    foods[i] = records.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    return new IllegalValueException(
+                            String.format(MESSAGE_INVALID_FOOD, firstIndex + i + 1, ive.getMessage()));
+                }
+            }
+            return null;
+        }
+    }
+}
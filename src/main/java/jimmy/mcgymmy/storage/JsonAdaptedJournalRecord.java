@@ -0,0 +1,111 @@
+package jimmy.mcgymmy.storage;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * Jackson-friendly record of a single change to the food list, stored as one line of the journal.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Unknown journal operation: %s";
+    public static final String MESSAGE_INVALID_RANGE = "Journal record %d refers to an invalid range of the food list";
+
+    static final String OPERATION_ADD = "add";
+    static final String OPERATION_SET = "set";
+    static final String OPERATION_REMOVE = "remove";
+
+    private final long seq;
+    private final String op;
+    private final int index;
+    private final Integer count;
+    private final List<JsonAdaptedFood> foods;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("seq") long seq, @JsonProperty("op") String op,
+                                    @JsonProperty("index") int index, @JsonProperty("count") Integer count,
+                                    @JsonProperty("foods") List<JsonAdaptedFood> foods) {
+        this.seq = seq;
+        this.op = op;
+        this.index = index;
+        this.count = count;
+        this.foods = foods;
+    }
+
+    /**
+     * Creates a record of {@code added} being inserted at {@code index}.
+     */
+    static JsonAdaptedJournalRecord add(long seq, int index, List<? extends Food> added) {
+        return new JsonAdaptedJournalRecord(seq, OPERATION_ADD, index, null, adapt(added));
+    }
+
+    /**
+     * Creates a record of the foods starting at {@code index} being replaced by {@code replacements}.
+     */
+    static JsonAdaptedJournalRecord set(long seq, int index, List<? extends Food> replacements) {
+        return new JsonAdaptedJournalRecord(seq, OPERATION_SET, index, null, adapt(replacements));
+    }
+
+    /**
+     * Creates a record of {@code count} foods being removed starting from {@code index}.
+     */
+    static JsonAdaptedJournalRecord remove(long seq, int index, int count) {
+        return new JsonAdaptedJournalRecord(seq, OPERATION_REMOVE, index, count, null);
+    }
+
+    private static List<JsonAdaptedFood> adapt(List<? extends Food> foods) {
+        return foods.stream().map(JsonAdaptedFood::new).collect(Collectors.toList());
+    }
+
+    long getSequence() {
+        return seq;
+    }
+
+    /**
+     * Applies the change described by this record to {@code foodList}.
+     *
+     * @throws IllegalValueException if the record is malformed or does not fit {@code foodList}.
+     */
+    void applyTo(List<Food> foodList) throws IllegalValueException {
+        if (OPERATION_REMOVE.equals(op)) {
+            checkRange(count != null && count >= 0 && index >= 0 && index + count <= foodList.size());
+            foodList.subList(index, index + count).clear();
+            return;
+        }
+
+        if (!OPERATION_ADD.equals(op) && !OPERATION_SET.equals(op)) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+
+        checkRange(foods != null);
+        // Records written for an import or clear hold the whole food list
+        List<Food> modelFoods = new JsonAdaptedFoodDecoder().decode(foods);
+
+        if (OPERATION_ADD.equals(op)) {
+            checkRange(index >= 0 && index <= foodList.size());
+            foodList.addAll(index, modelFoods);
+        } else {
+            checkRange(index >= 0 && index + modelFoods.size() <= foodList.size());
+            for (int i = 0; i < modelFoods.size(); i++) {
+                foodList.set(index + i, modelFoods.get(i));
+            }
+        }
+    }
+
+    private void checkRange(boolean isValid) throws IllegalValueException {
+        if (!isValid) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, seq));
+        }
+    }
+}
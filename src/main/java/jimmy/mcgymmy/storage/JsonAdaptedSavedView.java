@@ -0,0 +1,49 @@
+package jimmy.mcgymmy.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.macro.SavedView;
+
+/**
+ * Jackson-friendly version of {@link SavedView}.
+ */
+public class JsonAdaptedSavedView {
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Saved view's %s field is missing!";
+
+    private final String name;
+    private final String query;
+
+    /**
+     * Constructs a {@code JsonAdaptedSavedView} with the given view details.
+     */
+    @JsonCreator
+    public JsonAdaptedSavedView(@JsonProperty("name") String name, @JsonProperty("query") String query) {
+        this.name = name;
+        this.query = query;
+    }
+
+    /**
+     * Converts a given {@code SavedView} into this class for Jackson use.
+     */
+    public JsonAdaptedSavedView(SavedView source) {
+        this.name = source.getName();
+        this.query = source.getQuery();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted view object into a {@code SavedView} object.
+     *
+     * @throws IllegalValueException if the view is invalid.
+     */
+    public SavedView toSavedView() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "name"));
+        }
+        if (query == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "query"));
+        }
+        return new SavedView(name, query);
+    }
+}
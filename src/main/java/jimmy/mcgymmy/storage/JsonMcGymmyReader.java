@@ -0,0 +1,118 @@
+package jimmy.mcgymmy.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import jimmy.mcgymmy.commons.core.LogsCenter;
+import jimmy.mcgymmy.commons.exceptions.DataConversionException;
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.commons.util.JsonUtil;
+import jimmy.mcgymmy.model.McGymmy;
+import jimmy.mcgymmy.model.ReadOnlyMcGymmy;
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * Reads a McGymmy json data file, in the format of {@link JsonSerializableMcGymmy}, one food at a time.
+ * <p>
+ * Food records are parsed in batches, and each batch is converted into {@code Food} objects in parallel by a
+ * {@link JsonAdaptedFoodDecoder} before the next one is parsed. Apart from the foods themselves, reading takes
+ * the same amount of memory however large the file is.
+ */
+class JsonMcGymmyReader {
+
+    public static final String MESSAGE_MISSING_FOOD = "Food record %d is empty";
+    public static final int BATCH_SIZE = 8192;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonMcGymmyReader.class);
+    private static final String FOOD_FIELD = "food";
+    private static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+
+    private final Path filePath;
+    private final JsonAdaptedFoodDecoder decoder = new JsonAdaptedFoodDecoder();
+    private Long journalSequence;
+
+    JsonMcGymmyReader(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Reads the data file.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    Optional<ReadOnlyMcGymmy> read() throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(read(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private McGymmy read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected McGymmy data to be a json object");
+        }
+
+        List<Food> foods = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (FOOD_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                readFoods(parser, foods);
+            } else if (JOURNAL_SEQUENCE_FIELD.equals(field) && value.isNumeric()) {
+                journalSequence = parser.getLongValue();
+            } else {
+                // unknown fields are ignored, as when reading with JsonUtil
+                parser.skipChildren();
+            }
+        }
+        McGymmy mcGymmy = new McGymmy();
+        mcGymmy.setFoodItems(foods);
+        return mcGymmy;
+    }
+
+    private void readFoods(JsonParser parser, List<Food> foods) throws IOException, IllegalValueException {
+        List<JsonAdaptedFood> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedFood food = JsonUtil.readValue(parser, JsonAdaptedFood.class);
+            if (food == null) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_FOOD, foods.size() + batch.size() + 1));
+            }
+            batch.add(food);
+            if (batch.size() == BATCH_SIZE) {
+                foods.addAll(decoder.decode(batch, foods.size()));
+                batch.clear();
+            }
+        }
+        foods.addAll(decoder.decode(batch, foods.size()));
+    }
+
+    /**
+     * Returns the number of the last journal record included in the file read by {@link #read()}, if any.
+     */
+    Optional<Long> getJournalSequence() {
+        return Optional.ofNullable(journalSequence);
+    }
+}
@@ -7,11 +7,9 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import jimmy.mcgymmy.commons.core.Config.JsonFormat;
 import jimmy.mcgymmy.commons.core.LogsCenter;
 import jimmy.mcgymmy.commons.exceptions.DataConversionException;
-import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
-import jimmy.mcgymmy.commons.util.FileUtil;
-import jimmy.mcgymmy.commons.util.JsonUtil;
 import jimmy.mcgymmy.model.ReadOnlyMcGymmy;
 
 /**
@@ -22,9 +20,19 @@ public class JsonMcGymmyStorage implements McGymmyStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonMcGymmyStorage.class);
 
     private final Path filePath;
+    private final JsonFormat format;
 
     public JsonMcGymmyStorage(Path filePath) {
+        this(filePath, JsonFormat.PRETTY);
+    }
+
+    /**
+     * Creates a {@code JsonMcGymmyStorage} that saves data files in the given {@code format}.
+     */
+    public JsonMcGymmyStorage(Path filePath, JsonFormat format) {
+        requireNonNull(format);
         this.filePath = filePath;
+        this.format = format;
     }
 
     public Path getMcGymmyFilePath() {
@@ -38,25 +46,14 @@ public class JsonMcGymmyStorage implements McGymmyStorage {
 
     /**
      * Similar to {@link #readMcGymmy()}.
+     * The file is read one food at a time, see {@link JsonMcGymmyReader}.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyMcGymmy> readMcGymmy(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
-
-        Optional<JsonSerializableMcGymmy> jsonMcGymmy = JsonUtil.readJsonFile(
-                filePath, JsonSerializableMcGymmy.class);
-        if (jsonMcGymmy.isEmpty()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonMcGymmy.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        return new JsonMcGymmyReader(filePath).read();
     }
 
     @Override
@@ -66,6 +63,7 @@ public class JsonMcGymmyStorage implements McGymmyStorage {
 
     /**
      * Similar to {@link #saveMcGymmy(ReadOnlyMcGymmy)}.
+     * The file is written one food at a time, see {@link JsonMcGymmyWriter}.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +71,7 @@ public class JsonMcGymmyStorage implements McGymmyStorage {
         requireNonNull(mcGymmy);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableMcGymmy(mcGymmy), filePath);
+        new JsonMcGymmyWriter(filePath, format).write(mcGymmy);
     }
 
 }
@@ -0,0 +1,77 @@
+package jimmy.mcgymmy.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import jimmy.mcgymmy.commons.core.Config.JsonFormat;
+import jimmy.mcgymmy.commons.util.FileUtil;
+import jimmy.mcgymmy.commons.util.JsonUtil;
+import jimmy.mcgymmy.model.ReadOnlyMcGymmy;
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * Writes a McGymmy json data file, in the format of {@link JsonSerializableMcGymmy}, one food at a time.
+ * <p>
+ * Each food is serialized straight into a buffered file channel, so no json document or list of adapted foods
+ * is built in memory first. The file is replaced only once it has been written completely.
+ */
+class JsonMcGymmyWriter {
+
+    private static final String FOOD_FIELD = "food";
+    private static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+
+    private final Path filePath;
+    private final JsonFormat format;
+
+    JsonMcGymmyWriter(Path filePath, JsonFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    /**
+     * Writes {@code mcGymmy} to the data file.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void write(ReadOnlyMcGymmy mcGymmy) throws IOException {
+        write(mcGymmy, null);
+    }
+
+    /**
+     * Writes {@code mcGymmy} to the data file as a snapshot that includes all journal records up to
+     * {@code journalSequence}.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void write(ReadOnlyMcGymmy mcGymmy, long journalSequence) throws IOException {
+        write(mcGymmy, Long.valueOf(journalSequence));
+    }
+
+    private void write(ReadOnlyMcGymmy mcGymmy, Long journalSequence) throws IOException {
+        requireNonNull(mcGymmy);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> writeTo(out, mcGymmy, journalSequence));
+    }
+
+    private void writeTo(OutputStream out, ReadOnlyMcGymmy mcGymmy, Long journalSequence) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, format == JsonFormat.COMPACT)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(FOOD_FIELD);
+            for (Food food : mcGymmy.getFoodList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedFood(food));
+            }
+            generator.writeEndArray();
+            if (journalSequence != null) {
+                generator.writeNumberField(JOURNAL_SEQUENCE_FIELD, journalSequence);
+            }
+            generator.writeEndObject();
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
 import jimmy.mcgymmy.model.macro.Macro;
 import jimmy.mcgymmy.model.macro.MacroList;
+import jimmy.mcgymmy.model.macro.SavedView;
 import jimmy.mcgymmy.model.macro.exceptions.DuplicateMacroException;
 
 /**
@@ -20,13 +21,19 @@ import jimmy.mcgymmy.model.macro.exceptions.DuplicateMacroException;
 class JsonSerializableMacroList {
 
     private final List<JsonAdaptedMacro> macros = new ArrayList<>();
+    private final List<JsonAdaptedSavedView> views = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableMacroList} with the given food.
+     * Constructs a {@code JsonSerializableMacroList} with the given macros and saved views.
+     * Files saved before views existed have no views.
      */
     @JsonCreator
-    public JsonSerializableMacroList(@JsonProperty("macros") List<JsonAdaptedMacro> macros) {
+    public JsonSerializableMacroList(@JsonProperty("macros") List<JsonAdaptedMacro> macros,
+                                     @JsonProperty("views") List<JsonAdaptedSavedView> views) {
         this.macros.addAll(macros);
+        if (views != null) {
+            this.views.addAll(views);
+        }
     }
 
     /**
@@ -36,6 +43,7 @@ class JsonSerializableMacroList {
      */
     public JsonSerializableMacroList(MacroList source) {
         macros.addAll(source.getAsList().stream().map(JsonAdaptedMacro::new).collect(Collectors.toList()));
+        views.addAll(source.getViews().stream().map(JsonAdaptedSavedView::new).collect(Collectors.toList()));
     }
 
     /**
@@ -48,8 +56,12 @@ class JsonSerializableMacroList {
         for (JsonAdaptedMacro jsonAdaptedMacro : macros) {
             macrosToAdd.add(jsonAdaptedMacro.toMacro());
         }
+        List<SavedView> viewsToAdd = new ArrayList<>();
+        for (JsonAdaptedSavedView jsonAdaptedSavedView : views) {
+            viewsToAdd.add(jsonAdaptedSavedView.toSavedView());
+        }
         try {
-            return new MacroList(macrosToAdd);
+            return new MacroList(macrosToAdd, viewsToAdd);
         } catch (DuplicateMacroException e) {
             throw new IllegalValueException(e.getMessage());
         }
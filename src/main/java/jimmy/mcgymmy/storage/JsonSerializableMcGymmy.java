@@ -5,13 +5,13 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
 import jimmy.mcgymmy.model.McGymmy;
 import jimmy.mcgymmy.model.ReadOnlyMcGymmy;
-import jimmy.mcgymmy.model.food.Food;
 
 /**
  * An Immutable McGymmy that is serializable to JSON format.
@@ -23,12 +23,18 @@ class JsonSerializableMcGymmy {
 
     private final List<JsonAdaptedFood> food = new ArrayList<>();
 
+    // Last journal record included in this snapshot, only present when saved by JournalMcGymmyStorage
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long journalSequence;
+
     /**
-     * Constructs a {@code JsonSerializableMcGymmy} with the given food.
+     * Constructs a {@code JsonSerializableMcGymmy} with the given food and journal sequence number.
      */
     @JsonCreator
-    public JsonSerializableMcGymmy(@JsonProperty("food") List<JsonAdaptedFood> food) {
+    public JsonSerializableMcGymmy(@JsonProperty("food") List<JsonAdaptedFood> food,
+                                   @JsonProperty("journalSequence") Long journalSequence) {
         this.food.addAll(food);
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -38,19 +44,18 @@ class JsonSerializableMcGymmy {
      */
     public JsonSerializableMcGymmy(ReadOnlyMcGymmy source) {
         food.addAll(source.getFoodList().stream().map(JsonAdaptedFood::new).collect(Collectors.toList()));
+        journalSequence = null;
     }
 
     /**
      * Converts this McGymmy into the model's {@code McGymmy} object.
+     * The foods are converted in parallel, see {@link JsonAdaptedFoodDecoder}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public McGymmy toModelType() throws IllegalValueException {
         McGymmy mcGymmy = new McGymmy();
-        for (JsonAdaptedFood jsonAdaptedFood : food) {
-            Food food = jsonAdaptedFood.toModelType();
-            mcGymmy.addFood(food);
-        }
+        mcGymmy.setFoodItems(new JsonAdaptedFoodDecoder().decode(food));
         return mcGymmy;
     }
 
@@ -0,0 +1,60 @@
+package jimmy.mcgymmy.storage;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly list of the monthly partitions written by {@link PartitionedMcGymmyStorage}, with the number
+ * of foods in each.
+ */
+class JsonSerializablePartitionManifest {
+
+    public static final String MESSAGE_INVALID_PARTITION = "Partition %s in the manifest is invalid";
+
+    private final Map<String, Integer> partitions = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonSerializablePartitionManifest} with the given partitions.
+     */
+    @JsonCreator
+    public JsonSerializablePartitionManifest(@JsonProperty("partitions") Map<String, Integer> partitions) {
+        if (partitions != null) {
+            this.partitions.putAll(partitions);
+        }
+    }
+
+    /**
+     * Converts the given food counts of each month into this class for Jackson use.
+     */
+    public JsonSerializablePartitionManifest(SortedMap<YearMonth, Integer> foodCounts) {
+        foodCounts.forEach((month, count) -> partitions.put(month.toString(), count));
+    }
+
+    /**
+     * Returns the number of foods in each partition, by month.
+     *
+     * @throws IllegalValueException if a month or count is invalid.
+     */
+    public SortedMap<YearMonth, Integer> toModelType() throws IllegalValueException {
+        SortedMap<YearMonth, Integer> foodCounts = new TreeMap<>();
+        for (Map.Entry<String, Integer> partition : partitions.entrySet()) {
+            if (partition.getValue() == null || partition.getValue() < 0) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_PARTITION, partition.getKey()));
+            }
+            try {
+                foodCounts.put(YearMonth.parse(partition.getKey()), partition.getValue());
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_PARTITION, partition.getKey()));
+            }
+        }
+        return foodCounts;
+    }
+}
@@ -5,6 +5,8 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import jimmy.mcgymmy.commons.exceptions.DataConversionException;
+import jimmy.mcgymmy.commons.util.FileUtil;
+import jimmy.mcgymmy.model.FoodArchive;
 import jimmy.mcgymmy.model.McGymmy;
 import jimmy.mcgymmy.model.ReadOnlyMcGymmy;
 
@@ -32,6 +34,15 @@ public interface McGymmyStorage {
      */
     Optional<ReadOnlyMcGymmy> readMcGymmy(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns an unchanging copy of {@code mcGymmy} that can be passed to {@link #saveMcGymmy(ReadOnlyMcGymmy)}
+     * later, from any thread. Must be called on the thread that modifies {@code mcGymmy}.
+     */
+    default ReadOnlyMcGymmy snapshot(ReadOnlyMcGymmy mcGymmy) {
+        // copying shares the underlying data, so this takes constant time
+        return new McGymmy(mcGymmy);
+    }
+
     /**
      * Saves the given {@link ReadOnlyMcGymmy} to the storage.
      *
@@ -45,4 +56,20 @@ public interface McGymmyStorage {
      */
     void saveMcGymmy(ReadOnlyMcGymmy mcGymmy, Path filePath) throws IOException;
 
+    /**
+     * Forces the data last saved to {@code filePath} to be written to the storage device.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void syncMcGymmy(Path filePath) throws IOException {
+        FileUtil.sync(filePath);
+    }
+
+    /**
+     * Returns the archive of foods that {@link #readMcGymmy()} left in storage, if this storage keeps one.
+     */
+    default Optional<FoodArchive> getFoodArchive() {
+        return Optional.empty();
+    }
+
 }
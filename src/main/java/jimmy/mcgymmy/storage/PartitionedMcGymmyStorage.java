@@ -0,0 +1,480 @@
+package jimmy.mcgymmy.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import jimmy.mcgymmy.commons.core.Config.JsonFormat;
+import jimmy.mcgymmy.commons.core.LogsCenter;
+import jimmy.mcgymmy.commons.exceptions.DataConversionException;
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.commons.util.FileUtil;
+import jimmy.mcgymmy.commons.util.JsonUtil;
+import jimmy.mcgymmy.model.FoodArchive;
+import jimmy.mcgymmy.model.McGymmy;
+import jimmy.mcgymmy.model.ReadOnlyMcGymmy;
+import jimmy.mcgymmy.model.event.BulkReset;
+import jimmy.mcgymmy.model.event.FoodAdded;
+import jimmy.mcgymmy.model.event.FoodEvent;
+import jimmy.mcgymmy.model.event.FoodRemoved;
+import jimmy.mcgymmy.model.event.FoodReplaced;
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * A class to access McGymmy data stored as one json file per month, together with a manifest of the months.
+ * <p>
+ * For a data file {@code data/mcgymmy.json}, the foods of each month are kept in {@code data/mcgymmy/2020-09.json}
+ * and so on, and the months are listed in {@code data/mcgymmy/manifest.json}. Only the most recent months are
+ * read at startup. Older months stay archived until they are loaded through {@link FoodArchive}, and saving only
+ * rewrites the months whose foods changed.
+ * <p>
+ * Foods added to a month that is still archived are saved together with the archived foods of that month, so
+ * nothing is lost if the month is never loaded. If there is no manifest yet, the data is read from the data file
+ * itself, which is left untouched as a backup.
+ * <p>
+ * The months whose foods changed are recorded from the {@link FoodEvent}s of the {@code McGymmy} being saved, and a
+ * snapshot only copies the foods of those months, found through its date index. The first save of a given
+ * {@code McGymmy}, and the first one after its whole food list is replaced at once, group every food by month.
+ */
+public class PartitionedMcGymmyStorage implements McGymmyStorage, FoodArchive {
+
+    public static final int DEFAULT_RECENT_MONTHS = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedMcGymmyStorage.class);
+    private static final String MANIFEST_FILE_NAME = "manifest.json";
+    private static final long NONE = -1;
+
+    private final Path filePath;
+    private final Path directory;
+    private final Path manifestPath;
+    private final YearMonth oldestRecentMonth;
+    private final JsonFormat format;
+
+    // Guarded by this: archived months, and the archived foods read so far
+    private final SortedSet<YearMonth> archivedMonths = new TreeSet<>();
+    private final Map<YearMonth, List<Food>> archivedFoods = new HashMap<>();
+
+    // Guarded by this: the content of the files on disk
+    private final Map<YearMonth, List<Food>> savedPartitions = new HashMap<>();
+    private SortedMap<YearMonth, Integer> savedFoodCounts = new TreeMap<>();
+    private final List<Path> unsyncedPaths = new ArrayList<>();
+
+    // Guarded by this: the months changed in the McGymmy being saved, with the number of their last change
+    private final Map<YearMonth, Long> changedMonths = new HashMap<>();
+    private final Consumer<FoodEvent> changeRecorder = this::recordChange;
+    private ReadOnlyMcGymmy trackedMcGymmy;
+    private long lastSequence = 0;
+    // snapshots that include this change or any later one group every food by month; NONE if there is no such change
+    private long regroupSequence = NONE;
+
+    public PartitionedMcGymmyStorage(Path filePath) {
+        this(filePath, DEFAULT_RECENT_MONTHS, JsonFormat.PRETTY);
+    }
+
+    /**
+     * Creates a {@code PartitionedMcGymmyStorage} that reads the last {@code recentMonths} months at startup,
+     * and writes its files in the given {@code format}.
+     */
+    public PartitionedMcGymmyStorage(Path filePath, int recentMonths, JsonFormat format) {
+        this(filePath, YearMonth.now().minusMonths(recentMonths - 1), format);
+    }
+
+    /**
+     * Creates a {@code PartitionedMcGymmyStorage} that reads the months from {@code oldestRecentMonth} onwards
+     * at startup.
+     */
+    PartitionedMcGymmyStorage(Path filePath, YearMonth oldestRecentMonth, JsonFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(oldestRecentMonth);
+        requireNonNull(format);
+        this.filePath = filePath;
+        String fileName = filePath.getFileName().toString();
+        this.directory = filePath.resolveSibling(fileName.endsWith(".json")
+                ? fileName.substring(0, fileName.length() - ".json".length())
+                : fileName + ".partitions");
+        this.manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        this.oldestRecentMonth = oldestRecentMonth;
+        this.format = format;
+    }
+
+    @Override
+    public Path getMcGymmyFilePath() {
+        return filePath;
+    }
+
+    public Path getPartitionDirectory() {
+        return directory;
+    }
+
+    Path getPartitionPath(YearMonth month) {
+        return directory.resolve(month + ".json");
+    }
+
+    @Override
+    public Optional<FoodArchive> getFoodArchive() {
+        return Optional.of(this);
+    }
+
+    @Override
+    public Optional<ReadOnlyMcGymmy> readMcGymmy() throws DataConversionException {
+        return readMcGymmy(filePath);
+    }
+
+    /**
+     * Similar to {@link #readMcGymmy()}.
+     * Only the recent months are read; the older ones are archived. Files other than this storage's own file are
+     * read as plain json files.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the manifest or a recent month is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyMcGymmy> readMcGymmy(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return new JsonMcGymmyStorage(filePath).readMcGymmy(filePath);
+        }
+
+        archivedMonths.clear();
+        archivedFoods.clear();
+        savedPartitions.clear();
+        savedFoodCounts = new TreeMap<>();
+        // the files may no longer match what was saved from the tracked McGymmy
+        requireRegroupFrom(lastSequence);
+        if (!Files.exists(manifestPath)) {
+            logger.info("Partition manifest " + manifestPath + " not found, reading " + filePath);
+            return new JsonMcGymmyStorage(filePath).readMcGymmy(filePath);
+        }
+
+        SortedMap<YearMonth, Integer> foodCounts = readManifest();
+        List<Food> foods = new ArrayList<>();
+        for (YearMonth month : foodCounts.keySet()) {
+            if (month.isBefore(oldestRecentMonth)) {
+                archivedMonths.add(month);
+            } else {
+                foods.addAll(readPartition(month));
+            }
+        }
+        savedFoodCounts = foodCounts;
+        logger.info(String.format("Read %d foods from %s, with %d older months archived",
+                foods.size(), directory, archivedMonths.size()));
+
+        McGymmy mcGymmy = new McGymmy();
+        mcGymmy.setFoodItems(foods);
+        return Optional.of(mcGymmy);
+    }
+
+    private SortedMap<YearMonth, Integer> readManifest() throws DataConversionException {
+        Optional<JsonSerializablePartitionManifest> manifest =
+                JsonUtil.readJsonFile(manifestPath, JsonSerializablePartitionManifest.class);
+        if (manifest.isEmpty()) {
+            return new TreeMap<>();
+        }
+        try {
+            return manifest.get().toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + manifestPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the foods of {@code month} from disk, and records them as the content of its partition.
+     * A missing partition has no foods.
+     */
+    private List<Food> readPartition(YearMonth month) throws DataConversionException {
+        assert Thread.holdsLock(this);
+        List<Food> foods = new JsonMcGymmyReader(getPartitionPath(month)).read()
+                .map(mcGymmy -> List.copyOf(mcGymmy.getFoodList()))
+                .orElse(List.of());
+        savedPartitions.put(month, foods);
+        return foods;
+    }
+
+    // ================ FoodArchive methods ==============================
+
+    @Override
+    public synchronized List<YearMonth> getArchivedMonths() {
+        return new ArrayList<>(archivedMonths);
+    }
+
+    @Override
+    public synchronized List<Food> load(YearMonth month) throws DataConversionException {
+        requireNonNull(month);
+        if (!archivedMonths.contains(month)) {
+            return List.of();
+        }
+        List<Food> foods = getArchivedFoods(month);
+        archivedMonths.remove(month);
+        logger.fine("Loaded " + foods.size() + " archived foods of " + month);
+        return foods;
+    }
+
+    /**
+     * Returns the foods that were in the partition of {@code month} at startup.
+     * They are read at most once, as the partition may be rewritten with more foods later.
+     */
+    private List<Food> getArchivedFoods(YearMonth month) throws DataConversionException {
+        assert Thread.holdsLock(this);
+        List<Food> foods = archivedFoods.get(month);
+        if (foods == null) {
+            foods = readPartition(month);
+            archivedFoods.put(month, foods);
+        }
+        return foods;
+    }
+
+    // ================ Saving methods ==============================
+
+    /**
+     * Returns a copy of {@code mcGymmy} together with the months that are archived at this point, and the foods of
+     * the months changed since the last save.
+     * The first snapshot of a given {@code mcGymmy} also starts recording the months changed in its food list.
+     * Only the changes to a {@code McGymmy} can be recorded, so any other {@code mcGymmy} is always grouped in full.
+     */
+    @Override
+    public synchronized ReadOnlyMcGymmy snapshot(ReadOnlyMcGymmy mcGymmy) {
+        requireNonNull(mcGymmy);
+        if (mcGymmy instanceof Snapshot) {
+            return mcGymmy;
+        }
+        if (mcGymmy != trackedMcGymmy) {
+            track(mcGymmy);
+        } else if (!(mcGymmy instanceof McGymmy)) {
+            requireRegroupFrom(lastSequence);
+        }
+        Map<YearMonth, List<Food>> changedFoods = regroupSequence == NONE
+                ? getFoodsOf((McGymmy) mcGymmy, changedMonths.keySet())
+                : null;
+        return new Snapshot(new McGymmy(mcGymmy), Collections.unmodifiableSet(new TreeSet<>(archivedMonths)),
+                lastSequence, changedFoods);
+    }
+
+    /**
+     * Returns the foods of each of {@code months} in {@code mcGymmy}, in the order of its food list.
+     */
+    private static Map<YearMonth, List<Food>> getFoodsOf(McGymmy mcGymmy, Set<YearMonth> months) {
+        Map<YearMonth, List<Food>> foods = new TreeMap<>();
+        List<Food> foodList = mcGymmy.getFoodList();
+        for (YearMonth month : months) {
+            int[] positions = mcGymmy.getFoodIndex().findByDate(month.atDay(1), month.atEndOfMonth());
+            List<Food> monthFoods = new ArrayList<>(positions.length);
+            for (int position : positions) {
+                monthFoods.add(foodList.get(position));
+            }
+            foods.put(month, monthFoods);
+        }
+        return foods;
+    }
+
+    private void track(ReadOnlyMcGymmy mcGymmy) {
+        assert Thread.holdsLock(this);
+        if (trackedMcGymmy instanceof McGymmy) {
+            McGymmy previous = (McGymmy) trackedMcGymmy;
+            previous.removeFoodEventListener(changeRecorder);
+        }
+        changedMonths.clear();
+        regroupSequence = NONE;
+        requireRegroupFrom(lastSequence);
+        trackedMcGymmy = mcGymmy;
+        if (mcGymmy instanceof McGymmy) {
+            McGymmy recorded = (McGymmy) mcGymmy;
+            recorded.addFoodEventListener(changeRecorder);
+        }
+    }
+
+    /**
+     * Makes the snapshots that include change {@code sequence} or any later one group every food by month.
+     */
+    private void requireRegroupFrom(long sequence) {
+        assert Thread.holdsLock(this);
+        regroupSequence = regroupSequence == NONE ? sequence : Math.min(regroupSequence, sequence);
+    }
+
+    private synchronized void recordChange(FoodEvent event) {
+        if (event instanceof FoodAdded) {
+            recordChangedMonth(((FoodAdded) event).getFood());
+        } else if (event instanceof FoodReplaced) {
+            recordChangedMonth(((FoodReplaced) event).getBefore());
+            recordChangedMonth(((FoodReplaced) event).getAfter());
+        } else if (event instanceof FoodRemoved) {
+            recordChangedMonth(((FoodRemoved) event).getFood());
+        } else if (event instanceof BulkReset) {
+            requireRegroupFrom(++lastSequence);
+        }
+    }
+
+    private void recordChangedMonth(Food food) {
+        assert Thread.holdsLock(this);
+        changedMonths.put(YearMonth.from(food.getDate().toLocalDate()), ++lastSequence);
+    }
+
+    @Override
+    public void saveMcGymmy(ReadOnlyMcGymmy mcGymmy) throws IOException {
+        saveMcGymmy(mcGymmy, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveMcGymmy(ReadOnlyMcGymmy)}.
+     * Only the months whose foods changed since the last save are written, and unless every food has to be grouped
+     * by month, only those months are looked at. Files other than this storage's own file are saved as plain json
+     * files.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveMcGymmy(ReadOnlyMcGymmy mcGymmy, Path filePath) throws IOException {
+        requireNonNull(mcGymmy);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            new JsonMcGymmyStorage(filePath, format).saveMcGymmy(mcGymmy, filePath);
+            return;
+        }
+
+        Snapshot snapshot = (Snapshot) snapshot(mcGymmy);
+        synchronized (this) {
+            if (snapshot.changedFoods == null) {
+                savePartitions(groupByMonth(snapshot.getFoodList()), true, snapshot.archivedMonths);
+            } else {
+                savePartitions(snapshot.changedFoods, false, snapshot.archivedMonths);
+            }
+            // every change up to the snapshot is on disk; the changes are kept for the next save if it failed
+            changedMonths.values().removeIf(sequence -> sequence <= snapshot.sequence);
+            if (regroupSequence != NONE && regroupSequence <= snapshot.sequence) {
+                regroupSequence = NONE;
+            }
+        }
+    }
+
+    private static SortedMap<YearMonth, List<Food>> groupByMonth(List<Food> foods) {
+        SortedMap<YearMonth, List<Food>> partitions = new TreeMap<>();
+        for (Food food : foods) {
+            YearMonth month = YearMonth.from(food.getDate().toLocalDate());
+            partitions.computeIfAbsent(month, unused -> new ArrayList<>()).add(food);
+        }
+        return partitions;
+    }
+
+    /**
+     * Writes the foods of the months in {@code partitions}, which are all the months with foods if
+     * {@code isComplete}, and otherwise only the ones that may have changed; the other months keep their files.
+     */
+    private void savePartitions(Map<YearMonth, List<Food>> partitions, boolean isComplete, Set<YearMonth> archived)
+            throws IOException {
+        assert Thread.holdsLock(this);
+        SortedMap<YearMonth, Integer> foodCounts = new TreeMap<>();
+        Map<YearMonth, List<Food>> changedPartitions = new TreeMap<>();
+        for (Map.Entry<YearMonth, Integer> saved : savedFoodCounts.entrySet()) {
+            YearMonth month = saved.getKey();
+            if (!partitions.containsKey(month) && (!isComplete || archived.contains(month))) {
+                // Untouched since it was last saved, so there is no need to read it
+                foodCounts.put(month, saved.getValue());
+            }
+        }
+        for (Map.Entry<YearMonth, List<Food>> partition : partitions.entrySet()) {
+            YearMonth month = partition.getKey();
+            List<Food> foods = partition.getValue();
+            if (archived.contains(month)) {
+                foods = new ArrayList<>(getArchivedFoodsForSave(month));
+                foods.addAll(partition.getValue());
+            }
+            if (foods.isEmpty()) {
+                continue;
+            }
+            foodCounts.put(month, foods.size());
+            if (!foods.equals(savedPartitions.get(month))) {
+                changedPartitions.put(month, foods);
+            }
+        }
+
+        List<YearMonth> removedMonths = new ArrayList<>(savedFoodCounts.keySet());
+        removedMonths.removeAll(foodCounts.keySet());
+
+        // The manifest goes first, so that a partition written before a crash is never mistaken for a stale one
+        Files.createDirectories(directory);
+        if (!foodCounts.equals(savedFoodCounts)) {
+            JsonUtil.saveJsonFile(new JsonSerializablePartitionManifest(foodCounts), manifestPath);
+            savedFoodCounts = foodCounts;
+            unsyncedPaths.add(manifestPath);
+        }
+        for (Map.Entry<YearMonth, List<Food>> partition : changedPartitions.entrySet()) {
+            McGymmy partitionData = new McGymmy();
+            partitionData.setFoodItems(partition.getValue());
+            Path partitionPath = getPartitionPath(partition.getKey());
+            new JsonMcGymmyWriter(partitionPath, format).write(partitionData);
+            savedPartitions.put(partition.getKey(), partition.getValue());
+            unsyncedPaths.add(partitionPath);
+        }
+        for (YearMonth month : removedMonths) {
+            Files.deleteIfExists(getPartitionPath(month));
+            savedPartitions.remove(month);
+        }
+        logger.fine(String.format("Saved %d of %d months to %s", changedPartitions.size(), foodCounts.size(),
+                directory));
+    }
+
+    private List<Food> getArchivedFoodsForSave(YearMonth month) throws IOException {
+        try {
+            return getArchivedFoods(month);
+        } catch (DataConversionException e) {
+            throw new IOException("Could not read archived foods of " + month, e);
+        }
+    }
+
+    @Override
+    public void syncMcGymmy(Path filePath) throws IOException {
+        if (!filePath.equals(this.filePath)) {
+            FileUtil.sync(filePath);
+            return;
+        }
+        List<Path> paths;
+        synchronized (this) {
+            paths = new ArrayList<>(unsyncedPaths);
+            unsyncedPaths.clear();
+        }
+        for (Path path : paths) {
+            FileUtil.sync(path);
+        }
+    }
+
+    /**
+     * A copy of the data together with the months that were archived when it was taken, the number of the last
+     * change it includes, and the foods of the months changed since the last save, or null if every food has to be
+     * grouped by month.
+     */
+    private static class Snapshot implements ReadOnlyMcGymmy {
+        private final McGymmy data;
+        private final Set<YearMonth> archivedMonths;
+        private final long sequence;
+        private final Map<YearMonth, List<Food>> changedFoods;
+
+        Snapshot(McGymmy data, Set<YearMonth> archivedMonths, long sequence, Map<YearMonth, List<Food>> changedFoods) {
+            this.data = data;
+            this.archivedMonths = archivedMonths;
+            this.sequence = sequence;
+            this.changedFoods = changedFoods;
+        }
+
+        @Override
+        public ObservableList<Food> getFoodList() {
+            return data.getFoodList();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import jimmy.mcgymmy.commons.exceptions.DataConversionException;
 import jimmy.mcgymmy.model.ReadOnlyMcGymmy;
 import jimmy.mcgymmy.model.ReadOnlyUserPrefs;
 import jimmy.mcgymmy.model.UserPrefs;
+import jimmy.mcgymmy.model.macro.MacroList;
 
 /**
  * API of the Storage component.
@@ -29,4 +30,32 @@ public interface Storage extends McGymmyStorage, UserPrefsStorage, MacroListStor
     @Override
     void saveMcGymmy(ReadOnlyMcGymmy mcGymmy) throws IOException;
 
+    /**
+     * Saves {@code mcGymmy} unless {@code version} is the version that was last saved.
+     *
+     * @param version the version of {@code mcGymmy}, as given by {@code Model#getMcGymmyVersion()}.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveMcGymmyIfChanged(ReadOnlyMcGymmy mcGymmy, long version) throws IOException;
+
+    /**
+     * Saves {@code macroList} unless {@code version} is the version that was last saved.
+     *
+     * @param version the version of {@code macroList}, as given by {@code Model#getMacroListVersion()}.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveMacroListIfChanged(MacroList macroList, long version) throws IOException;
+
+    /**
+     * Blocks until all saves have been written.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Returns the number of writes performed, skipped and coalesced so far.
+     */
+    StorageStatistics getStatistics();
+
 }
@@ -1,12 +1,16 @@
 package jimmy.mcgymmy.storage;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import jimmy.mcgymmy.commons.core.Config.Durability;
 import jimmy.mcgymmy.commons.core.LogsCenter;
 import jimmy.mcgymmy.commons.exceptions.DataConversionException;
+import jimmy.mcgymmy.commons.util.FileUtil;
+import jimmy.mcgymmy.model.FoodArchive;
 import jimmy.mcgymmy.model.ReadOnlyMcGymmy;
 import jimmy.mcgymmy.model.ReadOnlyUserPrefs;
 import jimmy.mcgymmy.model.UserPrefs;
@@ -14,6 +18,10 @@ import jimmy.mcgymmy.model.macro.MacroList;
 
 /**
  * Manages storage of McGymmy data in local storage.
+ * <p>
+ * Unless the durability is {@link Durability#EVERY_COMMAND}, McGymmy data and macro lists are written on a
+ * background thread. Saving then only takes a snapshot of the data, and saves made while a write is in progress
+ * are merged into a single write of the latest data.
  */
 public class StorageManager implements Storage {
 
@@ -21,16 +29,34 @@ public class StorageManager implements Storage {
     private final McGymmyStorage mcGymmyStorage;
     private final MacroListStorage macroListStorage;
     private final UserPrefsStorage userPrefsStorage;
+    private final Durability durability;
+    private final BackgroundWriter writer;
+    private final StorageStatistics statistics = new StorageStatistics();
+    // -1 so that the first save after startup always writes
+    private long savedMcGymmyVersion = -1;
+    private long savedMacroListVersion = -1;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code McGymmyStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code McGymmyStorage} and {@code UserPrefStorage}
+     * that writes every save immediately.
      */
     public StorageManager(McGymmyStorage mcGymmyStorage, MacroListStorage macroListStorage,
                           UserPrefsStorage userPrefsStorage) {
+        this(mcGymmyStorage, macroListStorage, userPrefsStorage, Durability.EVERY_COMMAND);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code McGymmyStorage} and {@code UserPrefStorage}
+     * that writes with the given {@code durability}.
+     */
+    public StorageManager(McGymmyStorage mcGymmyStorage, MacroListStorage macroListStorage,
+                          UserPrefsStorage userPrefsStorage, Durability durability) {
         super();
         this.mcGymmyStorage = mcGymmyStorage;
         this.macroListStorage = macroListStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.durability = durability;
+        this.writer = durability == Durability.EVERY_COMMAND ? null : new BackgroundWriter();
     }
 
     // ================ UserPrefs methods ==============================
@@ -60,12 +86,39 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<MacroList> readMacroList() throws DataConversionException, IOException {
+        flush();
         return macroListStorage.readMacroList();
     }
 
     @Override
     public void saveMacroList(MacroList macroList) throws IOException {
+        rethrowBackgroundFailure();
+        if (writer == null) {
+            writeMacroList(macroList);
+            return;
+        }
+        // MacroList is immutable, so it can be written later as it is
+        if (writer.submit(getMacroListFilePath().toString(), () -> writeMacroList(macroList))) {
+            statistics.recordMacroListCoalesced();
+        }
+    }
+
+    @Override
+    public void saveMacroListIfChanged(MacroList macroList, long version) throws IOException {
+        if (version == savedMacroListVersion) {
+            statistics.recordMacroListSkip();
+            return;
+        }
+        saveMacroList(macroList);
+        savedMacroListVersion = version;
+    }
+
+    private void writeMacroList(MacroList macroList) throws IOException {
         macroListStorage.saveMacroList(macroList);
+        if (durability != Durability.NONE) {
+            FileUtil.sync(getMacroListFilePath());
+        }
+        statistics.recordMacroListWrite();
     }
 
     // ================ McGymmy methods ==============================
@@ -75,6 +128,11 @@ public class StorageManager implements Storage {
         return mcGymmyStorage.getMcGymmyFilePath();
     }
 
+    @Override
+    public Optional<FoodArchive> getFoodArchive() {
+        return mcGymmyStorage.getFoodArchive();
+    }
+
     @Override
     public Optional<ReadOnlyMcGymmy> readMcGymmy() throws DataConversionException, IOException {
         return readMcGymmy(mcGymmyStorage.getMcGymmyFilePath());
@@ -82,6 +140,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyMcGymmy> readMcGymmy(Path filePath) throws DataConversionException, IOException {
+        flush();
         logger.fine("Attempting to read data from file: " + filePath);
         return mcGymmyStorage.readMcGymmy(filePath);
     }
@@ -93,8 +152,72 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveMcGymmy(ReadOnlyMcGymmy mcGymmy, Path filePath) throws IOException {
+        rethrowBackgroundFailure();
+        if (writer == null) {
+            writeMcGymmy(mcGymmy, filePath);
+            return;
+        }
+        ReadOnlyMcGymmy snapshot = mcGymmyStorage.snapshot(mcGymmy);
+        if (writer.submit(filePath.toString(), () -> writeMcGymmy(snapshot, filePath))) {
+            statistics.recordMcGymmyCoalesced();
+        }
+    }
+
+    @Override
+    public void saveMcGymmyIfChanged(ReadOnlyMcGymmy mcGymmy, long version) throws IOException {
+        if (version == savedMcGymmyVersion) {
+            statistics.recordMcGymmySkip();
+            return;
+        }
+        saveMcGymmy(mcGymmy);
+        savedMcGymmyVersion = version;
+    }
+
+    private void writeMcGymmy(ReadOnlyMcGymmy mcGymmy, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         mcGymmyStorage.saveMcGymmy(mcGymmy, filePath);
+        if (durability != Durability.NONE) {
+            mcGymmyStorage.syncMcGymmy(filePath);
+        }
+        statistics.recordMcGymmyWrite();
+    }
+
+    // ================ Writer methods ==============================
+
+    @Override
+    public void flush() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+        }
+        rethrowBackgroundFailure();
+    }
+
+    /**
+     * Throws the error hit by a background write, if any.
+     * The next saves will then write again even if the data did not change.
+     */
+    private void rethrowBackgroundFailure() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.rethrowFailure();
+        } catch (IOException e) {
+            savedMcGymmyVersion = -1;
+            savedMacroListVersion = -1;
+            throw e;
+        }
+    }
+
+    @Override
+    public StorageStatistics getStatistics() {
+        return statistics;
     }
 
 }
@@ -0,0 +1,71 @@
+package jimmy.mcgymmy.storage;
+
+/**
+ * Counts the writes performed, skipped and coalesced by a {@link Storage}.
+ * A write is skipped when the data did not change since the last save, and coalesced when it is replaced by a
+ * newer save before it started.
+ */
+public class StorageStatistics {
+
+    private long mcGymmyWrites;
+    private long mcGymmySkips;
+    private long mcGymmyCoalesced;
+    private long macroListWrites;
+    private long macroListSkips;
+    private long macroListCoalesced;
+
+    synchronized void recordMcGymmyWrite() {
+        mcGymmyWrites++;
+    }
+
+    synchronized void recordMcGymmySkip() {
+        mcGymmySkips++;
+    }
+
+    synchronized void recordMcGymmyCoalesced() {
+        mcGymmyCoalesced++;
+    }
+
+    synchronized void recordMacroListWrite() {
+        macroListWrites++;
+    }
+
+    synchronized void recordMacroListSkip() {
+        macroListSkips++;
+    }
+
+    synchronized void recordMacroListCoalesced() {
+        macroListCoalesced++;
+    }
+
+    public synchronized long getMcGymmyWrites() {
+        return mcGymmyWrites;
+    }
+
+    public synchronized long getMcGymmySkips() {
+        return mcGymmySkips;
+    }
+
+    public synchronized long getMcGymmyCoalesced() {
+        return mcGymmyCoalesced;
+    }
+
+    public synchronized long getMacroListWrites() {
+        return macroListWrites;
+    }
+
+    public synchronized long getMacroListSkips() {
+        return macroListSkips;
+    }
+
+    public synchronized long getMacroListCoalesced() {
+        return macroListCoalesced;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("McGymmy writes: %d performed, %d skipped, %d coalesced; "
+                        + "MacroList writes: %d performed, %d skipped, %d coalesced",
+                mcGymmyWrites, mcGymmySkips, mcGymmyCoalesced, macroListWrites, macroListSkips, macroListCoalesced);
+    }
+}
@@ -2,7 +2,6 @@ package jimmy.mcgymmy.ui;
 
 import java.util.logging.Logger;
 
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -10,6 +9,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import jimmy.mcgymmy.commons.core.LogsCenter;
 import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodTotals;
 
 /**
  * Panel containing the list of persons.
@@ -21,10 +21,7 @@ public class FoodListPanel extends UiPart<Region> {
     @FXML
     private ListView<Food> foodListView;
 
-    private long currentCalories = 0;
-    private long currentFats = 0;
-    private long currentProteins = 0;
-    private long currentCarbs = 0;
+    private final FoodTotals totals;
 
     /**
      * Creates a {@code FoodListPanel} with the given {@code ObservableList}.
@@ -32,31 +29,18 @@ public class FoodListPanel extends UiPart<Region> {
     public FoodListPanel(ObservableList<Food> foodList) {
         super(FXML);
 
-        //Add listener to update the current calories whenever there is a change.
-        foodList.addListener((ListChangeListener<Food>) c -> {
-            if (c.next()) {
-                updateCurrentCalories();
-            }
-        });
+        //The totals follow the changes to the list, so they are never recalculated from scratch.
+        totals = new FoodTotals(foodList);
         foodListView.setItems(foodList);
         foodListView.setCellFactory(listView -> new FoodListViewCell());
-
-        //Update calories at the start
-        updateCurrentCalories();
     }
 
-    private void updateCurrentCalories() {
-        //Calculate the current calories when the list is changed.
-        currentCalories = 0;
-        currentFats = 0;
-        currentCarbs = 0;
-        currentProteins = 0;
-        for (Food food : foodListView.getItems()) {
-            currentCalories += food.getCalories();
-            currentFats += food.getFat().getAmount();
-            currentCarbs += food.getCarbs().getAmount();
-            currentProteins += food.getProtein().getAmount();
-        }
+    /**
+     * Gets the totals of the current list, which are kept up to date as the list changes.
+     * @return totals of the current list.
+     */
+    public FoodTotals getTotals() {
+        return totals;
     }
 
     /**
@@ -64,7 +48,7 @@ public class FoodListPanel extends UiPart<Region> {
      * @return sum of calories of current list.
      */
     public long getCurrentCalories() {
-        return currentCalories;
+        return totals.getCalories();
     }
 
     /**
@@ -72,7 +56,7 @@ public class FoodListPanel extends UiPart<Region> {
      * @return sum of fats of current list.
      */
     public long getCurrentFats() {
-        return currentFats;
+        return totals.getFats();
     }
 
     /**
@@ -80,7 +64,7 @@ public class FoodListPanel extends UiPart<Region> {
      * @return sum of proteins of current list.
      */
     public long getCurrentProteins() {
-        return currentProteins;
+        return totals.getProteins();
     }
 
     /**
@@ -88,7 +72,7 @@ public class FoodListPanel extends UiPart<Region> {
      * @return sum of carbs of current list.
      */
     public long getCurrentCarbs() {
-        return currentCarbs;
+        return totals.getCarbs();
     }
 
     /**
@@ -148,8 +148,9 @@ public class MainWindow extends UiPart<Stage> {
         summaryPanel = new SummaryDisplay();
         summaryPanelPlaceholder.getChildren().add(summaryPanel.getRoot());
 
-        //Update current value to total calories and macronutrient values.
+        //Update current value to total calories and macronutrient values, and again whenever they change.
         updateGraph();
+        foodListPanel.getTotals().addListener(this::updateGraph);
 
         //Disable the field
         datePicker.getEditor().setDisable(true);
@@ -306,12 +307,10 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-            updateGraph();
             return commandResult;
         } catch (CommandException | ParseException e) {
             logger.info("Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
-            updateGraph();
             throw e;
         }
     }
@@ -2,6 +2,8 @@ package jimmy.mcgymmy.ui;
 
 import static jimmy.mcgymmy.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+
 import javafx.fxml.FXML;
 import javafx.geometry.Side;
 import javafx.scene.chart.PieChart;
@@ -20,6 +22,9 @@ public class SummaryDisplay extends UiPart<AnchorPane> {
     @FXML
     private PieChart pieChart;
 
+    // the totals last drawn, or null if nothing has been drawn yet
+    private long[] shownTotals;
+
     /**
      * Creates a summary display.
      * Contains summary of the items shown.
@@ -31,9 +36,17 @@ public class SummaryDisplay extends UiPart<AnchorPane> {
         pieChart.setLegendSide(Side.RIGHT);
     }
 
+    /**
+     * Shows the given totals, redrawing the chart only if they differ from the totals already shown.
+     */
     public void setTotalMacronutrients(long totalCalories, long totalProtein, long totalCarbs, long totalFats) {
         requireAllNonNull(totalCalories, totalProtein, totalCarbs, totalFats);
-        assert totalCalories > 0 : "Total Calories is negative";
+        assert totalCalories >= 0 : "Total Calories is negative";
+        long[] totals = {totalCalories, totalProtein, totalCarbs, totalFats};
+        if (Arrays.equals(totals, shownTotals)) {
+            return;
+        }
+        shownTotals = totals;
         pieChart.setTitle(String.format(TOTAL_CALORIES_TEXT, totalCalories));
 
         //Reset the data
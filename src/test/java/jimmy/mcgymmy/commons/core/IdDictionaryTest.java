@@ -0,0 +1,38 @@
+package jimmy.mcgymmy.commons.core;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class IdDictionaryTest {
+
+    @Test
+    public void idOf_equalValues_sameId() {
+        IdDictionary<String> dictionary = new IdDictionary<>();
+        String first = new String("chicken");
+        assertEquals(0, dictionary.idOf(first));
+        assertEquals(0, dictionary.idOf(new String("chicken")));
+        assertEquals(1, dictionary.idOf("rice"));
+        assertEquals(2, dictionary.size());
+        assertSame(first, dictionary.get(0));
+        assertEquals("rice", dictionary.get(1));
+    }
+
+    @Test
+    public void idOf_manyValues_eachValueFoundById() {
+        IdDictionary<Integer> dictionary = new IdDictionary<>();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, dictionary.idOf(i * 7));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i * 7, dictionary.get(i));
+        }
+    }
+
+    @Test
+    public void idOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IdDictionary<String>().idOf(null));
+    }
+}
@@ -0,0 +1,83 @@
+package jimmy.mcgymmy.commons.core;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        assertTrue(vector.isEmpty());
+        assertEquals(0, vector.size());
+        assertTrue(vector.asList().isEmpty());
+    }
+
+    @Test
+    public void of_keepsOrder() {
+        List<Integer> elements = Arrays.asList(5, 3, 8, 1, 9, 2);
+        assertEquals(elements, PersistentVector.of(elements).asList());
+    }
+
+    @Test
+    public void updates_doNotModifyOriginal() {
+        PersistentVector<Integer> original = PersistentVector.of(Arrays.asList(1, 2, 3));
+        original.add(4);
+        original.set(0, 10);
+        original.insert(1, 20);
+        original.remove(2);
+        assertEquals(Arrays.asList(1, 2, 3), original.asList());
+    }
+
+    @Test
+    public void updates_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                vector = vector.insert(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                vector = vector.set(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.remove(index);
+            } else {
+                expected.add(i);
+                vector = vector.add(i);
+            }
+        }
+        assertEquals(expected, vector.asList());
+        assertEquals(expected, new ArrayList<>(vector.asList()));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentVector<Integer> vector = PersistentVector.of(Arrays.asList(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.insert(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.remove(2));
+    }
+
+    @Test
+    public void asList_isUnmodifiable() {
+        List<Integer> list = PersistentVector.of(Arrays.asList(1, 2)).asList();
+        assertThrows(UnsupportedOperationException.class, () -> list.add(3));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 3));
+    }
+}
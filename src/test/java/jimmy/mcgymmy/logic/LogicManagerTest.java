@@ -67,6 +67,25 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_skipsUnchangedStores() throws Exception {
+        StorageManager storage = new StorageManager(new JsonMcGymmyStorage(temporaryFolder.resolve("mcGymmy.json")),
+                new JsonMacroListStorage(temporaryFolder.resolve("macroList.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, storage.getStatistics().getMcGymmyWrites());
+        assertEquals(1, storage.getStatistics().getMcGymmySkips());
+        assertEquals(1, storage.getStatistics().getMacroListWrites());
+        assertEquals(1, storage.getStatistics().getMacroListSkips());
+
+        logic.execute(AddCommand.COMMAND_WORD + " -n amy -p 999 -f 123 -c 543");
+        assertEquals(2, storage.getStatistics().getMcGymmyWrites());
+        assertEquals(2, storage.getStatistics().getMacroListSkips());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() throws IllegalValueException {
         // Setup LogicManager with JsonMcGymmyIoExceptionThrowingStub
@@ -5,6 +5,8 @@ import static jimmy.mcgymmy.testutil.TypicalFoods.getTypicalMcGymmy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.function.Predicate;
@@ -18,13 +20,17 @@ import jimmy.mcgymmy.commons.core.index.Index;
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
 import jimmy.mcgymmy.logic.commands.exceptions.CommandException;
 import jimmy.mcgymmy.logic.parser.CommandParserTestUtil;
+import jimmy.mcgymmy.model.FoodArchive;
 import jimmy.mcgymmy.model.McGymmy;
 import jimmy.mcgymmy.model.Model;
 import jimmy.mcgymmy.model.ModelManager;
 import jimmy.mcgymmy.model.ReadOnlyMcGymmy;
 import jimmy.mcgymmy.model.ReadOnlyUserPrefs;
 import jimmy.mcgymmy.model.UserPrefs;
+import jimmy.mcgymmy.model.event.ModelEventBus;
 import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodIndex;
+import jimmy.mcgymmy.model.food.NutrientTotals;
 import jimmy.mcgymmy.model.macro.MacroList;
 import jimmy.mcgymmy.model.tag.Tag;
 import jimmy.mcgymmy.testutil.FoodBuilder;
@@ -187,11 +193,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ModelEventBus getEventBus() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getMcGymmyVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setFoodArchive(FoodArchive foodArchive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadArchivedFoods(Predicate<YearMonth> months) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getMacroListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasFood(Food food) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public NutrientTotals getTotals(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FoodIndex getFoodIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteFood(Index target) {
             throw new AssertionError("This method should not be called.");
@@ -222,6 +263,11 @@ public class AddCommandTest {
         public void updateFilteredFoodList(Predicate<Food> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void showSavedView(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
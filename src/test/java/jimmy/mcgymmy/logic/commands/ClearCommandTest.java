@@ -1,11 +1,16 @@
 package jimmy.mcgymmy.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
 import jimmy.mcgymmy.model.Model;
 import jimmy.mcgymmy.model.ModelManager;
 import jimmy.mcgymmy.model.food.Name;
+import jimmy.mcgymmy.model.macro.SavedView;
 import jimmy.mcgymmy.testutil.FoodBuilder;
 import jimmy.mcgymmy.testutil.TypicalFoods;
 
@@ -49,5 +54,22 @@ public class ClearCommandTest {
         CommandTestUtil.assertCommandSuccess(clearCommand, model, ClearCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_savedViewShown_onlyViewFoodsCleared() throws IllegalValueException {
+        Model model = new ModelManager();
+        model.addFood(TypicalFoods.getApple());
+        model.addFood(TypicalFoods.getCrispyFriedFish());
+        SavedView view = new SavedView("fish", "name fish");
+        model.setMacroList(model.getMacroList().withView(view));
+        model.showSavedView("fish");
 
+        Model expectedModel = new ModelManager();
+        expectedModel.addFood(TypicalFoods.getApple());
+        expectedModel.updateFilteredFoodList(view.getPredicate());
+
+        ClearCommand clearCommand = new ClearCommand();
+        CommandTestUtil.assertCommandSuccess(clearCommand, model, ClearCommand.MESSAGE_SUCCESS, expectedModel);
+        model.updateFilteredFoodList(Model.PREDICATE_SHOW_ALL_FOODS);
+        assertEquals(List.of(TypicalFoods.getApple()), model.getFilteredFoodList());
+    }
 }
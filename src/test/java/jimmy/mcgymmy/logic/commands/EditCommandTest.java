@@ -6,6 +6,7 @@ import static jimmy.mcgymmy.logic.commands.CommandTestUtil.showFoodAtIndex;
 import static jimmy.mcgymmy.testutil.TypicalFoods.getTypicalMcGymmy;
 import static jimmy.mcgymmy.testutil.TypicalIndexes.INDEX_FIRST_FOOD;
 import static jimmy.mcgymmy.testutil.TypicalIndexes.INDEX_SECOND_FOOD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -53,6 +54,24 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_nameSpecified_idKept() throws Exception {
+        Food foodToEdit = model.getFilteredFoodList().get(INDEX_FIRST_FOOD.getZeroBased());
+
+        EditCommand editCommand = new EditCommand();
+        editCommand.setParameters(
+                new CommandParserTestUtil.ParameterStub<>("", INDEX_FIRST_FOOD),
+                new CommandParserTestUtil.OptionalParameterStub<>("n", new Name(VALID_NAME_BOB)),
+                new CommandParserTestUtil.OptionalParameterStub<>("p"),
+                new CommandParserTestUtil.OptionalParameterStub<>("f"),
+                new CommandParserTestUtil.OptionalParameterStub<>("c"),
+                new CommandParserTestUtil.OptionalParameterStub<>("d")
+        );
+        editCommand.execute(model);
+
+        assertEquals(foodToEdit.getId(), model.getFilteredFoodList().get(INDEX_FIRST_FOOD.getZeroBased()).getId());
+    }
+
     @Test
     public void execute_someFieldsSpecifiedUnfilteredList_success() throws IllegalValueException {
         Index indexLastFood = Index.fromOneBased(model.getFilteredFoodList().size());
@@ -141,7 +160,9 @@ public class EditCommandTest {
 
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_FOOD_SUCCESS, editedFood);
 
+        // the filter is kept after the edit
         Model expectedModel = new ModelManager(new McGymmy(model.getMcGymmy()), new UserPrefs());
+        showFoodAtIndex(expectedModel, INDEX_FIRST_FOOD);
         expectedModel.setFood(Index.fromZeroBased(0), editedFood);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
@@ -206,8 +227,8 @@ public class EditCommandTest {
 
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_FOOD_SUCCESS, foodInList);
         Model expectedModel = new ModelManager(new McGymmy(model.getMcGymmy()), new UserPrefs());
+        showFoodAtIndex(expectedModel, INDEX_FIRST_FOOD);
         expectedModel.setFood(Index.fromZeroBased(0), foodInList);
-        expectedModel.setFood(Index.fromZeroBased(1), foodInList);
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
@@ -2,17 +2,25 @@ package jimmy.mcgymmy.logic.commands;
 
 import static jimmy.mcgymmy.logic.commands.CommandTestUtil.assertCommandFailure;
 import static jimmy.mcgymmy.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import jimmy.mcgymmy.commons.core.Config.JsonFormat;
 import jimmy.mcgymmy.logic.parser.CommandParserTestUtil.OptionalParameterStub;
 import jimmy.mcgymmy.logic.parser.CommandParserTestUtil.ParameterStub;
+import jimmy.mcgymmy.model.McGymmy;
 import jimmy.mcgymmy.model.Model;
 import jimmy.mcgymmy.model.ModelManager;
+import jimmy.mcgymmy.model.UserPrefs;
+import jimmy.mcgymmy.storage.JsonMcGymmyStorage;
+import jimmy.mcgymmy.testutil.TypicalFoods;
 
 class ExportCommandTest {
 
@@ -81,4 +89,24 @@ class ExportCommandTest {
         exportFile.delete();
     }
 
+    @Test
+    public void exportCompactSuccess() throws Exception {
+        File exportFile = new File(VALID_DIR_PATH_OPTIONAL.toString());
+        if (exportFile.exists()) {
+            exportFile.delete();
+        }
+        Model model = new ModelManager(TypicalFoods.getTypicalMcGymmy(), new UserPrefs());
+        ExportCommand exportCommand = new ExportCommand();
+        exportCommand.setPathParameter(VALID_PARAMETER_STUB, STRING_OPTIONAL_PARAMETER_STUB);
+        exportCommand.setFormatParameter(new OptionalParameterStub<>("f", JsonFormat.COMPACT));
+        assertCommandSuccess(exportCommand, model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, VALID_DIR_PATH_OPTIONAL), model);
+
+        assertFalse(Files.readString(VALID_DIR_PATH_OPTIONAL).contains("\n"));
+        assertEquals(model.getMcGymmy(),
+                new McGymmy(new JsonMcGymmyStorage(VALID_DIR_PATH_OPTIONAL).readMcGymmy().get()));
+        //Remove the file after command executes
+        exportFile.delete();
+    }
+
 }
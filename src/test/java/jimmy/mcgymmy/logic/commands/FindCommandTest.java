@@ -15,7 +15,9 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.ObservableList;
 import jimmy.mcgymmy.commons.core.Messages;
 import jimmy.mcgymmy.logic.parser.CommandParserTestUtil;
+import jimmy.mcgymmy.logic.parser.ParserUtil;
 import jimmy.mcgymmy.logic.parser.exceptions.ParseException;
+import jimmy.mcgymmy.logic.parser.parameter.OptionalParameter;
 import jimmy.mcgymmy.logic.predicate.DatePredicate;
 import jimmy.mcgymmy.logic.predicate.FoodContainsKeywordsPredicate;
 import jimmy.mcgymmy.logic.predicate.NameContainsKeywordsPredicate;
@@ -23,6 +25,7 @@ import jimmy.mcgymmy.logic.predicate.TagContainsKeywordsPredicate;
 import jimmy.mcgymmy.model.Model;
 import jimmy.mcgymmy.model.ModelManager;
 import jimmy.mcgymmy.model.UserPrefs;
+import jimmy.mcgymmy.model.date.Date;
 import jimmy.mcgymmy.model.food.Food;
 import jimmy.mcgymmy.testutil.TypicalFoods;
 
@@ -113,6 +116,66 @@ public class FindCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredFoodList());
     }
 
+    @Test
+    public void execute_dateRange_foodsInRangeFound() throws ParseException {
+        String expectedMessage = String.format(Messages.MESSAGE_FOOD_LISTED_OVERVIEW, 3);
+        Date from = ParserUtil.parseDate("1-1-2020");
+        Date to = ParserUtil.parseDate("2-9-2020");
+        FindCommand command = prepareDateRangeCommand(
+                new CommandParserTestUtil.OptionalParameterStub<>("from", from),
+                new CommandParserTestUtil.OptionalParameterStub<>("to", to));
+        expectedModel.updateFilteredFoodList(new DatePredicate(from, to));
+        CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(getChickenRice(), getNasiLemak(), getDanishCookies()),
+                model.getFilteredFoodList());
+    }
+
+    @Test
+    public void execute_openDateRange_foodsFromDateFound() throws ParseException {
+        String expectedMessage = String.format(Messages.MESSAGE_FOOD_LISTED_OVERVIEW, 2);
+        Date from = ParserUtil.parseDate("1-9-2020");
+        FindCommand command = prepareDateRangeCommand(
+                new CommandParserTestUtil.OptionalParameterStub<>("from", from),
+                new CommandParserTestUtil.OptionalParameterStub<>("to"));
+        expectedModel.updateFilteredFoodList(new DatePredicate(from, null));
+        CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(getNasiLemak(), getCrispyFriedFish()), model.getFilteredFoodList());
+    }
+
+    @Test
+    public void execute_fromAfterTo_failure() throws ParseException {
+        FindCommand command = prepareDateRangeCommand(
+                new CommandParserTestUtil.OptionalParameterStub<>("from", ParserUtil.parseDate("2-9-2020")),
+                new CommandParserTestUtil.OptionalParameterStub<>("to", ParserUtil.parseDate("1-9-2020")));
+        CommandTestUtil.assertCommandFailure(command, model, FindCommand.MESSAGE_INVALID_DATE_RANGE);
+    }
+
+    @Test
+    public void execute_dateAndDateRange_failure() throws ParseException {
+        FindCommand command = new FindCommand();
+        command.setParameters(
+                new CommandParserTestUtil.OptionalParameterStub<>(""),
+                new CommandParserTestUtil.OptionalParameterStub<>("n"),
+                new CommandParserTestUtil.OptionalParameterStub<>("t"),
+                new CommandParserTestUtil.OptionalParameterStub<>("d", new DatePredicate("20-04-2020")));
+        command.setDateRangeParameters(
+                new CommandParserTestUtil.OptionalParameterStub<>("from", ParserUtil.parseDate("1-9-2020")),
+                new CommandParserTestUtil.OptionalParameterStub<>("to"));
+        CommandTestUtil.assertCommandFailure(command, model, FindCommand.MESSAGE_DATE_CONFLICT);
+    }
+
+    private FindCommand prepareDateRangeCommand(OptionalParameter<Date> fromDateParameter,
+                                                OptionalParameter<Date> toDateParameter) {
+        FindCommand command = new FindCommand();
+        command.setParameters(
+                new CommandParserTestUtil.OptionalParameterStub<>(""),
+                new CommandParserTestUtil.OptionalParameterStub<>("n"),
+                new CommandParserTestUtil.OptionalParameterStub<>("t"),
+                new CommandParserTestUtil.OptionalParameterStub<>("d"));
+        command.setDateRangeParameters(fromDateParameter, toDateParameter);
+        return command;
+    }
+
     /**
      * Parses {@code userInput} into a {@code FoodContainsKeywordsPredicate}.
      */
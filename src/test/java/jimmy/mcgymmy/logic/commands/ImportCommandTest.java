@@ -22,6 +22,8 @@ class ImportCommandTest {
             .get("src", "test", "data", "JsonSerializableMcGymmyTest", "typicalFoodMcGymmy.json").toString();
     private static final String INVALID_FILE = Paths
             .get("src", "test", "data", "JsonMcGymmyStorageTest", "notJsonFormatMcGymmy.json").toString();
+    private static final String INVALID_FOOD_FILE = Paths
+            .get("src", "test", "data", "JsonMcGymmyStorageTest", "invalidFoodMcGymmy.json").toString();
     private static final String NOT_FOUND_FILE = Paths
             .get("src", "test", "data", "JsonSerializableMcGymmyTest", "not found.json").toString();
     private static final ParameterStub<Path> VALID_FILE_STUB = new ParameterStub<Path>("", Path.of(VALID_FILE));
@@ -64,4 +66,14 @@ class ImportCommandTest {
         assertCommandFailure(importCommand, model1,
                 String.format(ImportCommand.MESSAGE_IMPORT_FOOD_FAILURE, INVALID_FILE_STUB.consume()));
     }
+
+    @Test
+    public void invalidFoodRecordImport_failureNamesRecord() {
+        ModelManager model1 = new ModelManager();
+        ImportCommand importCommand = new ImportCommand();
+        importCommand.setParameters(new ParameterStub<Path>("", Path.of(INVALID_FOOD_FILE)));
+        assertCommandFailure(importCommand, model1, String.format(ImportCommand.MESSAGE_INVALID_FOOD_RECORD,
+                String.format(ImportCommand.MESSAGE_IMPORT_FOOD_FAILURE, INVALID_FOOD_FILE),
+                "Food record 1 is invalid: Food's Date field is missing!"));
+    }
 }
@@ -0,0 +1,100 @@
+package jimmy.mcgymmy.logic.commands;
+
+import static jimmy.mcgymmy.testutil.TypicalFoods.getChickenRice;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getCrispyFriedFish;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getDanishCookies;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getEggs;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getNasiLemak;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.commons.core.Messages;
+import jimmy.mcgymmy.logic.parser.CommandParserTestUtil;
+import jimmy.mcgymmy.logic.parser.exceptions.ParseException;
+import jimmy.mcgymmy.logic.query.QueryParser;
+import jimmy.mcgymmy.logic.query.QueryPlan;
+import jimmy.mcgymmy.logic.query.QueryPlanner;
+import jimmy.mcgymmy.model.Model;
+import jimmy.mcgymmy.model.ModelManager;
+import jimmy.mcgymmy.model.UserPrefs;
+import jimmy.mcgymmy.testutil.FoodArchiveStub;
+import jimmy.mcgymmy.testutil.McGymmyBuilder;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private static final String QUERY = "tag lunch and protein < 500";
+
+    private final Model model = new ModelManager(TypicalFoods.getTypicalMcGymmy(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(TypicalFoods.getTypicalMcGymmy(), new UserPrefs());
+
+    private static QueryCommand prepareCommand(String query) {
+        QueryCommand command = new QueryCommand();
+        command.setParameters(new CommandParserTestUtil.ParameterStub<>("", query));
+        return command;
+    }
+
+    @Test
+    public void execute_validQuery_matchingFoodsListed() throws ParseException {
+        String expectedMessage = String.format(Messages.MESSAGE_FOOD_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredFoodList(QueryParser.parse(QUERY));
+        CommandTestUtil.assertCommandSuccess(prepareCommand(QUERY), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(getChickenRice(), getNasiLemak()), model.getFilteredFoodList());
+    }
+
+    @Test
+    public void execute_explainedQuery_planShown() throws ParseException {
+        QueryPlan plan = QueryPlanner.plan(QueryParser.parse(QUERY), expectedModel.getFoodIndex());
+        String expectedMessage = String.format(Messages.MESSAGE_FOOD_LISTED_OVERVIEW, 2) + "\n"
+                + plan.explain(expectedModel.getFoodIndex(), 2);
+        expectedModel.updateFilteredFoodList(plan);
+        CommandTestUtil.assertCommandSuccess(prepareCommand("EXPLAIN " + QUERY), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_invalidQuery_throwsCommandException() {
+        CommandTestUtil.assertCommandFailure(prepareCommand("protein >"), model,
+                String.format(QueryParser.MESSAGE_UNEXPECTED_END, "a whole number"));
+        CommandTestUtil.assertCommandFailure(prepareCommand("explain "), model, QueryParser.MESSAGE_EMPTY_QUERY);
+    }
+
+    @Test
+    public void execute_dateBoundedQuery_onlyMatchingMonthsLoaded() throws Exception {
+        Model partitionedModel = new ModelManager(new McGymmyBuilder().withFood(getChickenRice()).build(),
+                new UserPrefs());
+        FoodArchiveStub archive = new FoodArchiveStub()
+                .withMonth(YearMonth.of(2019, 3), getEggs())
+                .withMonth(YearMonth.of(2020, 1), getDanishCookies())
+                .withMonth(YearMonth.of(2020, 10), getCrispyFriedFish());
+        partitionedModel.setFoodArchive(archive);
+
+        prepareCommand("date >= 01-04-2020 or (tag lunch and date from 01-12-2019 to 31-01-2020)")
+                .execute(partitionedModel);
+        assertEquals(List.of(YearMonth.of(2019, 3)), archive.getArchivedMonths());
+        assertEquals(List.of(getDanishCookies(), getCrispyFriedFish(), getChickenRice()),
+                partitionedModel.getFilteredFoodList());
+    }
+
+    @Test
+    public void execute_queryWithoutDateBound_allMonthsLoaded() throws Exception {
+        Model partitionedModel = new ModelManager(new McGymmyBuilder().withFood(getChickenRice()).build(),
+                new UserPrefs());
+        FoodArchiveStub archive = new FoodArchiveStub()
+                .withMonth(YearMonth.of(2019, 3), getEggs())
+                .withMonth(YearMonth.of(2020, 10), getCrispyFriedFish());
+        partitionedModel.setFoodArchive(archive);
+
+        prepareCommand("date >= 01-04-2020 or protein > 200").execute(partitionedModel);
+        assertEquals(List.of(), archive.getArchivedMonths());
+        assertEquals(List.of(getEggs(), getCrispyFriedFish(), getChickenRice()),
+                partitionedModel.getFilteredFoodList());
+    }
+}
@@ -0,0 +1,40 @@
+package jimmy.mcgymmy.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.logic.commands.exceptions.CommandException;
+import jimmy.mcgymmy.logic.parser.CommandParserTestUtil;
+import jimmy.mcgymmy.model.Model;
+import jimmy.mcgymmy.model.ModelManager;
+import jimmy.mcgymmy.model.UserPrefs;
+import jimmy.mcgymmy.model.macro.SavedView;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+public class RemoveViewCommandTest {
+    private Model model;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        this.model = new ModelManager(TypicalFoods.getTypicalMcGymmy(), new UserPrefs());
+        this.model.setMacroList(this.model.getMacroList().withView(new SavedView("lunch", "tag lunch")));
+    }
+
+    @Test
+    public void invalidName_throwsCommandException() {
+        RemoveViewCommand removeViewCommand = new RemoveViewCommand();
+        removeViewCommand.setParameters(new CommandParserTestUtil.ParameterStub<>("", "dinner"));
+        assertThrows(CommandException.class, () -> removeViewCommand.execute(model));
+    }
+
+    @Test
+    public void validName_removesView() throws Exception {
+        RemoveViewCommand removeViewCommand = new RemoveViewCommand();
+        removeViewCommand.setParameters(new CommandParserTestUtil.ParameterStub<>("", "lunch"));
+        removeViewCommand.execute(this.model);
+        assertFalse(this.model.getMacroList().hasView("lunch"));
+    }
+}
@@ -0,0 +1,48 @@
+package jimmy.mcgymmy.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.logic.parser.CommandParserTestUtil;
+import jimmy.mcgymmy.logic.query.QueryParser;
+import jimmy.mcgymmy.model.Model;
+import jimmy.mcgymmy.model.ModelManager;
+import jimmy.mcgymmy.model.UserPrefs;
+import jimmy.mcgymmy.model.macro.SavedView;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+public class SaveViewCommandTest {
+    private final Model model = new ModelManager(TypicalFoods.getTypicalMcGymmy(), new UserPrefs());
+
+    private static SaveViewCommand prepareCommand(String name, String query) {
+        SaveViewCommand command = new SaveViewCommand();
+        command.setParameters(new CommandParserTestUtil.ParameterStub<>("", name),
+                new CommandParserTestUtil.ParameterStub<>("q", query));
+        return command;
+    }
+
+    @Test
+    public void execute_validView_viewSavedAndListUnchanged() throws Exception {
+        SavedView expectedView = new SavedView("lunch", "tag lunch");
+        Model expectedModel = new ModelManager(TypicalFoods.getTypicalMcGymmy(), new UserPrefs());
+        CommandTestUtil.assertCommandSuccess(prepareCommand("lunch", " tag lunch "), model,
+                String.format(SaveViewCommand.MESSAGE_SUCCESS, expectedView), expectedModel);
+        assertEquals(expectedView, model.getMacroList().getView("lunch"));
+    }
+
+    @Test
+    public void execute_existingName_viewReplaced() throws Exception {
+        prepareCommand("lunch", "tag lunch").execute(model);
+        prepareCommand("lunch", "tag lunch and protein > 300").execute(model);
+        assertEquals(new SavedView("lunch", "tag lunch and protein > 300"), model.getMacroList().getView("lunch"));
+        assertEquals(1, model.getMacroList().getViews().size());
+    }
+
+    @Test
+    public void execute_invalidView_throwsCommandException() {
+        CommandTestUtil.assertCommandFailure(prepareCommand(" ", "tag lunch"), model, SavedView.MESSAGE_CONSTRAINTS);
+        CommandTestUtil.assertCommandFailure(prepareCommand("lunch", ""), model,
+                QueryParser.MESSAGE_EMPTY_QUERY);
+    }
+}
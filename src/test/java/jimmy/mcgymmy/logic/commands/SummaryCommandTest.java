@@ -0,0 +1,72 @@
+package jimmy.mcgymmy.logic.commands;
+
+import static jimmy.mcgymmy.testutil.TypicalFoods.getChickenRice;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getCrispyFriedFish;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getNasiLemak;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.logic.parser.CommandParserTestUtil;
+import jimmy.mcgymmy.logic.parser.ParserUtil;
+import jimmy.mcgymmy.logic.parser.exceptions.ParseException;
+import jimmy.mcgymmy.model.Model;
+import jimmy.mcgymmy.model.ModelManager;
+import jimmy.mcgymmy.model.UserPrefs;
+import jimmy.mcgymmy.model.date.Date;
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+public class SummaryCommandTest {
+    private final Model model = new ModelManager(TypicalFoods.getTypicalMcGymmy(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(TypicalFoods.getTypicalMcGymmy(), new UserPrefs());
+
+    private static SummaryCommand prepareCommand(Date from, Date to) {
+        SummaryCommand command = new SummaryCommand();
+        command.setParameters(
+                from == null ? new CommandParserTestUtil.OptionalParameterStub<>("from")
+                        : new CommandParserTestUtil.OptionalParameterStub<>("from", from),
+                to == null ? new CommandParserTestUtil.OptionalParameterStub<>("to")
+                        : new CommandParserTestUtil.OptionalParameterStub<>("to", to));
+        return command;
+    }
+
+    private static String expectedMessage(String range, List<Food> foods) {
+        return String.format(SummaryCommand.MESSAGE_SUCCESS, range, foods.size(),
+                foods.stream().mapToLong(Food::getCalories).sum(),
+                foods.stream().mapToLong(food -> food.getProtein().getAmount()).sum(),
+                foods.stream().mapToLong(food -> food.getCarbs().getAmount()).sum(),
+                foods.stream().mapToLong(food -> food.getFat().getAmount()).sum());
+    }
+
+    @Test
+    public void execute_noDates_allFoodsSummed() {
+        CommandTestUtil.assertCommandSuccess(prepareCommand(null, null), model,
+                expectedMessage("all food items", TypicalFoods.getTypicalMcGymmy().getFoodList()), expectedModel);
+    }
+
+    @Test
+    public void execute_dateRange_foodsInRangeSummed() throws ParseException {
+        Date from = ParserUtil.parseDate("20-04-2020");
+        Date to = ParserUtil.parseDate("2-9-2020");
+        CommandTestUtil.assertCommandSuccess(prepareCommand(from, to), model,
+                expectedMessage("food items from " + from + " to " + to,
+                        Arrays.asList(getChickenRice(), getNasiLemak())), expectedModel);
+    }
+
+    @Test
+    public void execute_openDateRange_foodsFromDateSummed() throws ParseException {
+        Date from = ParserUtil.parseDate("1-9-2020");
+        CommandTestUtil.assertCommandSuccess(prepareCommand(from, null), model,
+                expectedMessage("food items from " + from, Arrays.asList(getNasiLemak(), getCrispyFriedFish())),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_fromAfterTo_failure() throws ParseException {
+        SummaryCommand command = prepareCommand(ParserUtil.parseDate("2-9-2020"), ParserUtil.parseDate("1-9-2020"));
+        CommandTestUtil.assertCommandFailure(command, model, SummaryCommand.MESSAGE_INVALID_DATE_RANGE);
+    }
+}
@@ -65,6 +65,7 @@ class TagCommandTest {
 
         String expectedMessage = String.format(TagCommand.MESSAGE_SUCCESS, tag3);
         ModelManager expectedModel = new ModelManager(model.getMcGymmy(), new UserPrefs());
+        CommandTestUtil.showFoodAtIndex(expectedModel, TypicalIndexes.INDEX_FIRST_FOOD);
         expectedModel.setFood(Index.fromZeroBased(0),
                 new FoodBuilder(foodToTag).withTags(tag3).build());
 
@@ -77,9 +77,10 @@ class UnTagCommandTest {
 
         String expectedMessage = String.format(UnTagCommand.MESSAGE_SUCCESS, "lunch");
         ModelManager expectedModel = new ModelManager(model.getMcGymmy(), new UserPrefs());
+        CommandTestUtil.showFoodAtIndex(expectedModel, TypicalIndexes.INDEX_SECOND_FOOD);
         Food expFood = new FoodBuilder(foodToTag).build();
         expFood.removeTag(new Tag("lunch"));
-        expectedModel.setFood(TypicalIndexes.INDEX_SECOND_FOOD, expFood);
+        expectedModel.setFood(TypicalIndexes.INDEX_FIRST_FOOD, expFood);
 
         CommandTestUtil.assertCommandSuccess(unTagCommand, model, expectedMessage, expectedModel);
     }
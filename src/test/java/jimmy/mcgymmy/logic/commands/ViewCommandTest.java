@@ -0,0 +1,88 @@
+package jimmy.mcgymmy.logic.commands;
+
+import static jimmy.mcgymmy.testutil.TypicalFoods.getChickenRice;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getCrispyFriedFish;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getDanishCookies;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getEggs;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getNasiLemak;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.commons.core.Messages;
+import jimmy.mcgymmy.logic.commands.exceptions.CommandException;
+import jimmy.mcgymmy.logic.parser.CommandParserTestUtil;
+import jimmy.mcgymmy.model.Model;
+import jimmy.mcgymmy.model.ModelManager;
+import jimmy.mcgymmy.model.UserPrefs;
+import jimmy.mcgymmy.model.macro.SavedView;
+import jimmy.mcgymmy.testutil.FoodArchiveStub;
+import jimmy.mcgymmy.testutil.McGymmyBuilder;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+public class ViewCommandTest {
+    private Model model;
+    private SavedView lunch;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        lunch = new SavedView("lunch", "tag lunch");
+        model = new ModelManager(TypicalFoods.getTypicalMcGymmy(), new UserPrefs());
+        model.setMacroList(model.getMacroList().withView(lunch));
+    }
+
+    private static ViewCommand prepareCommand(String name) {
+        ViewCommand command = new ViewCommand();
+        command.setParameters(name == null
+                ? new CommandParserTestUtil.OptionalParameterStub<>("")
+                : new CommandParserTestUtil.OptionalParameterStub<>("", name));
+        return command;
+    }
+
+    @Test
+    public void execute_existingView_viewShown() {
+        String expectedMessage = String.format(Messages.MESSAGE_FOOD_LISTED_OVERVIEW, 3);
+        Model expectedModel = new ModelManager(TypicalFoods.getTypicalMcGymmy(), new UserPrefs());
+        expectedModel.updateFilteredFoodList(lunch.getPredicate());
+        CommandTestUtil.assertCommandSuccess(prepareCommand("lunch"), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(getChickenRice(), getNasiLemak(), getDanishCookies()),
+                model.getFilteredFoodList());
+    }
+
+    @Test
+    public void execute_dateBoundedView_onlyMatchingMonthsLoaded() throws Exception {
+        Model partitionedModel = new ModelManager(new McGymmyBuilder().withFood(getChickenRice()).build(),
+                new UserPrefs());
+        SavedView recent = new SavedView("recent", "date >= 01-04-2020");
+        partitionedModel.setMacroList(partitionedModel.getMacroList().withView(recent));
+        FoodArchiveStub archive = new FoodArchiveStub()
+                .withMonth(YearMonth.of(2019, 3), getEggs())
+                .withMonth(YearMonth.of(2020, 10), getCrispyFriedFish());
+        partitionedModel.setFoodArchive(archive);
+
+        prepareCommand("recent").execute(partitionedModel);
+        assertEquals(List.of(YearMonth.of(2019, 3)), archive.getArchivedMonths());
+        assertEquals(List.of(getCrispyFriedFish(), getChickenRice()), partitionedModel.getFilteredFoodList());
+    }
+
+    @Test
+    public void execute_noName_viewsListed() throws Exception {
+        String feedback = prepareCommand(null).execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains(lunch.toString()));
+
+        model.setMacroList(model.getMacroList().withoutView("lunch"));
+        assertEquals(ViewCommand.MESSAGE_NO_VIEWS, prepareCommand(null).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_missingView_throwsCommandException() {
+        assertThrows(CommandException.class, () -> prepareCommand("dinner").execute(model));
+    }
+}
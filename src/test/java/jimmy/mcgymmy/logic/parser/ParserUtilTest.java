@@ -14,6 +14,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import jimmy.mcgymmy.commons.core.Config.JsonFormat;
 import jimmy.mcgymmy.commons.core.index.Index;
 import jimmy.mcgymmy.logic.parser.exceptions.ParseException;
 import jimmy.mcgymmy.model.date.Date;
@@ -297,6 +298,18 @@ public class ParserUtilTest {
         assertEquals(name2, JSON_NAME);
     }
 
+    @Test
+    public void parseJsonFormat_validFormat_success() throws Exception {
+        assertEquals(JsonFormat.COMPACT, ParserUtil.parseJsonFormat("compact"));
+        assertEquals(JsonFormat.PRETTY, ParserUtil.parseJsonFormat(" PRETTY "));
+    }
+
+    @Test
+    public void parseJsonFormat_invalidFormat_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseJsonFormat("binary"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseJsonFormat(""));
+    }
+
     @Test
     public void parseDate_withInvalidDate() {
         assertThrows(ParseException.class, () -> ParserUtil.parseDate(INVALID_DATE));
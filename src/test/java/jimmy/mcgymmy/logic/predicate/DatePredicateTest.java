@@ -1,14 +1,19 @@
 package jimmy.mcgymmy.logic.predicate;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.YearMonth;
+
 import org.junit.jupiter.api.Test;
 
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.logic.parser.ParserUtil;
 import jimmy.mcgymmy.logic.parser.exceptions.ParseException;
+import jimmy.mcgymmy.model.food.Fridge;
 import jimmy.mcgymmy.model.food.Name;
 import jimmy.mcgymmy.testutil.FoodBuilder;
 
@@ -64,4 +69,42 @@ public class DatePredicateTest {
                 .build()));
     }
 
+    @Test
+    public void test_dateRange_inclusiveBounds() throws Exception {
+        DatePredicate predicate = new DatePredicate(ParserUtil.parseDate(VALID_DATE_DIFFERENT_YEAR),
+                ParserUtil.parseDate(VALID_DATE_1));
+        assertTrue(predicate.test(new FoodBuilder().withDate(VALID_DATE_DIFFERENT_YEAR).build()));
+        assertTrue(predicate.test(new FoodBuilder().withDate(VALID_DATE_1).build()));
+        assertFalse(predicate.test(new FoodBuilder().withDate(VALID_DATE_2).build()));
+
+        // a missing bound leaves the range open
+        DatePredicate openPredicate = new DatePredicate(null, ParserUtil.parseDate(VALID_DATE_1));
+        assertTrue(openPredicate.test(new FoodBuilder().withDate("1-1-1970").build()));
+        assertFalse(openPredicate.test(new FoodBuilder().withDate(VALID_DATE_2).build()));
+    }
+
+    @Test
+    public void isInMonth_rangeOverlapsMonth_returnsTrue() throws Exception {
+        DatePredicate predicate = new DatePredicate(ParserUtil.parseDate("30-09-2020"),
+                ParserUtil.parseDate("1-11-2020"));
+        assertTrue(predicate.isInMonth(YearMonth.of(2020, 9)));
+        assertTrue(predicate.isInMonth(YearMonth.of(2020, 10)));
+        assertTrue(predicate.isInMonth(YearMonth.of(2020, 11)));
+        assertFalse(predicate.isInMonth(YearMonth.of(2020, 8)));
+        assertFalse(predicate.isInMonth(YearMonth.of(2020, 12)));
+    }
+
+    @Test
+    public void findCandidates_dateIndex_onlyFoodsInRange() throws Exception {
+        Fridge fridge = new Fridge();
+        fridge.add(new FoodBuilder().withDate(VALID_DATE_2).build());
+        fridge.add(new FoodBuilder().withDate(VALID_DATE_DIFFERENT_YEAR).build());
+        fridge.add(new FoodBuilder().withDate(VALID_DATE_1).build());
+
+        DatePredicate predicate = new DatePredicate(VALID_DATE_1);
+        assertArrayEquals(new int[] {2}, predicate.findCandidates(fridge));
+        DatePredicate rangePredicate = new DatePredicate(ParserUtil.parseDate(VALID_DATE_1), null);
+        assertArrayEquals(new int[] {0, 2}, rangePredicate.findCandidates(fridge));
+    }
+
 }
@@ -0,0 +1,87 @@
+package jimmy.mcgymmy.logic.predicate;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.food.Food;
+
+public class FilterEngineTest {
+
+    private static final Predicate<Food> EVEN_PROTEIN = food -> food.getProtein().getAmount() % 2 == 0;
+
+    private static List<Food> createFoods(int count) throws IllegalValueException {
+        List<Food> foods = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // protein amounts that are not in step with the words of the bitmap
+            foods.add(new Food("Food " + i, (i * 7) % 13, 1, 2));
+        }
+        return foods;
+    }
+
+    private static BitSet filterEach(List<Food> foods, int[] positions) {
+        BitSet expected = new BitSet();
+        for (int position : positions) {
+            if (EVEN_PROTEIN.test(foods.get(position))) {
+                expected.set(position);
+            }
+        }
+        return expected;
+    }
+
+    @Test
+    public void filter_range_sameAsTestingEachFood() throws IllegalValueException {
+        List<Food> foods = createFoods(20_000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (FilterEngine engine : List.of(new FilterEngine(), new FilterEngine(pool, 0))) {
+                assertEquals(filterEach(foods, IntStream.range(0, 20_000).toArray()),
+                        engine.filter(foods, 0, 20_000, EVEN_PROTEIN));
+                assertEquals(filterEach(foods, IntStream.range(4099, 17_003).toArray()),
+                        engine.filter(foods, 4099, 17_003, EVEN_PROTEIN));
+                assertEquals(new BitSet(), engine.filter(foods, 5, 5, EVEN_PROTEIN));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void filter_positions_onlyPositionsTested() throws IllegalValueException {
+        List<Food> foods = createFoods(20_000);
+        // runs of positions in the same words, so that chunks have to be split between words
+        int[] positions = IntStream.range(0, 20_000).filter(i -> i % 3 != 0 && (i / 100) % 2 == 0).toArray();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (FilterEngine engine : List.of(new FilterEngine(), new FilterEngine(pool, 0))) {
+                assertEquals(filterEach(foods, positions), engine.filter(foods, positions, EVEN_PROTEIN));
+                assertEquals(new BitSet(), engine.filter(foods, new int[0], EVEN_PROTEIN));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void filter_invalidRange_throwsIndexOutOfBoundsException() throws IllegalValueException {
+        List<Food> foods = createFoods(10);
+        FilterEngine engine = new FilterEngine();
+        assertThrows(IndexOutOfBoundsException.class, () -> engine.filter(foods, 5, 11, EVEN_PROTEIN));
+        assertThrows(IndexOutOfBoundsException.class, () -> engine.filter(foods, 5, 4, EVEN_PROTEIN));
+    }
+
+    @Test
+    public void filter_nullPredicate_throwsNullPointerException() throws IllegalValueException {
+        List<Food> foods = createFoods(10);
+        assertThrows(NullPointerException.class, () -> new FilterEngine().filter(foods, 0, 10, null));
+    }
+}
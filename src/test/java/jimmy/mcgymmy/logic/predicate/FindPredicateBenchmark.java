@@ -0,0 +1,112 @@
+package jimmy.mcgymmy.logic.predicate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.logic.parser.exceptions.ParseException;
+import jimmy.mcgymmy.model.McGymmy;
+import jimmy.mcgymmy.model.date.Date;
+import jimmy.mcgymmy.model.food.Carbohydrate;
+import jimmy.mcgymmy.model.food.Fat;
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodRowList;
+import jimmy.mcgymmy.model.food.Name;
+import jimmy.mcgymmy.model.food.Protein;
+import jimmy.mcgymmy.model.food.RowPredicate;
+import jimmy.mcgymmy.model.tag.Tag;
+
+/**
+ * Measures the time and the heap allocated per food item tested by the criteria of a {@code find} with a date range,
+ * a tag, keywords and a name, first chained with {@code Predicate.and} as {@code find} used to, with a name test that
+ * streams over the keywords, and then compiled into a {@link FindPredicate}. The food items are read from the food
+ * list of a {@code McGymmy} and tested as a {@code FilteredFoodView} tests them, so that the cost of reading them is
+ * measured too. The compiled predicate is tested against the stored rows, and the chained one against {@code Food}
+ * objects read from the list.
+ * <p>
+ * Not run as part of the tests. Run the {@code main} method with the test classpath, optionally giving the number
+ * of food items (one million by default) and of rounds over them (ten by default).
+ */
+public class FindPredicateBenchmark {
+
+    private static final int NAME_COUNT = 300;
+
+    /**
+     * Generates the food items and prints the cost per food item of testing each form of the criteria.
+     */
+    public static void main(String[] args) throws IllegalValueException, ParseException {
+        int foodCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        McGymmy mcGymmy = new McGymmy();
+        mcGymmy.setFoodItems(createFoods(foodCount));
+        List<Food> foods = mcGymmy.getFoodList();
+
+        DatePredicate date = new DatePredicate(new Date("2020-02-01"), new Date("2020-11-30"));
+        TagContainsKeywordsPredicate tag = new TagContainsKeywordsPredicate(Arrays.asList("Tag1", "Tag2", "Tag3"));
+        FoodContainsKeywordsPredicate keyword = new FoodContainsKeywordsPredicate(Arrays.asList("Tag2", "food"));
+        NameContainsKeywordsPredicate name = new NameContainsKeywordsPredicate(Arrays.asList("7", "8", "9", "Food"));
+
+        Set<String> nameWords = Set.of("7", "8", "9", "food");
+        Predicate<Food> streamedName = food -> nameWords.stream().anyMatch(food.getName().getWords()::contains);
+        Predicate<Food> chained = date.and(tag).and(keyword).and(streamedName);
+        Predicate<Food> compiled = new FindPredicate(date, tag, keyword, name);
+
+        // warm up both, so that neither is measured before it is compiled
+        measure("chained", foods, chained, rounds, false);
+        measure("compiled", foods, compiled, rounds, false);
+        measure("chained", foods, chained, rounds, true);
+        measure("compiled", foods, compiled, rounds, true);
+    }
+
+    private static List<Food> createFoods(int foodCount) throws IllegalValueException {
+        Random random = new Random(42);
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tags.add(new Tag("Tag" + i));
+        }
+        List<Food> foods = new ArrayList<>(foodCount);
+        for (int i = 0; i < foodCount; i++) {
+            Date date = new Date(String.format("2020-%02d-%02d", 1 + random.nextInt(12), 1 + random.nextInt(28)));
+            Food food = new Food(new Name("Food " + random.nextInt(NAME_COUNT)), new Protein(random.nextInt(100)),
+                    new Fat(random.nextInt(100)), new Carbohydrate(random.nextInt(100)), date);
+            if (random.nextInt(2) == 0) {
+                food = food.addTag(tags.get(random.nextInt(tags.size())));
+            }
+            foods.add(food);
+        }
+        return foods;
+    }
+
+    private static void measure(String label, List<Food> foods, Predicate<Food> predicate, int rounds,
+            boolean isPrinted) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        int matches = 0;
+        for (int round = 0; round < rounds; round++) {
+            if (foods instanceof FoodRowList && predicate instanceof RowPredicate) {
+                matches += ((FoodRowList) foods).testRows(0, foods.size(), (RowPredicate) predicate).length;
+                continue;
+            }
+            for (int i = 0; i < foods.size(); i++) {
+                if (predicate.test(foods.get(i))) {
+                    matches++;
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        if (isPrinted) {
+            long tested = (long) foods.size() * rounds;
+            System.out.printf("%-8s %,d matches, %.1f ns and %.1f bytes allocated per food item%n", label,
+                    matches / rounds, (double) elapsed / tested, (double) allocated / tested);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package jimmy.mcgymmy.logic.predicate;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.logic.parser.exceptions.ParseException;
+import jimmy.mcgymmy.model.IndexablePredicate;
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.Fridge;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+public class FindPredicateTest {
+
+    private static final DatePredicate DATE = createDatePredicate();
+    private static final TagContainsKeywordsPredicate TAG = new TagContainsKeywordsPredicate(List.of("lunch"));
+    private static final FoodContainsKeywordsPredicate KEYWORD =
+            new FoodContainsKeywordsPredicate(Arrays.asList("dinner", "RICE"));
+    private static final NameContainsKeywordsPredicate NAME =
+            new NameContainsKeywordsPredicate(Arrays.asList("chicken", "alamak"));
+
+    private static DatePredicate createDatePredicate() {
+        try {
+            return new DatePredicate("20-04-2020");
+        } catch (ParseException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    public void constructor_noCriteria_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FindPredicate(null, null, null, null));
+    }
+
+    @Test
+    public void test_everyCombinationOfCriteria_sameAsChainedCriteria() {
+        List<Food> foods = TypicalFoods.getTypicalFoodItems();
+        Fridge fridge = new Fridge();
+        foods.forEach(fridge::add);
+        List<IndexablePredicate> all = Arrays.asList(DATE, TAG, KEYWORD, NAME);
+        for (int mask = 1; mask < 16; mask++) {
+            IndexablePredicate chained = null;
+            IndexablePredicate[] given = new IndexablePredicate[4];
+            for (int i = 0; i < 4; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    given[i] = all.get(i);
+                    chained = chained == null ? all.get(i) : chained.and(all.get(i));
+                }
+            }
+            FindPredicate predicate = new FindPredicate((DatePredicate) given[0],
+                    (TagContainsKeywordsPredicate) given[1], (FoodContainsKeywordsPredicate) given[2],
+                    (NameContainsKeywordsPredicate) given[3]);
+            for (Food food : foods) {
+                assertEquals(chained.test(food), predicate.test(food));
+            }
+            assertArrayEquals(chained.findCandidates(fridge), predicate.findCandidates(fridge));
+        }
+    }
+
+    @Test
+    public void test_keywordMatchesTagOrName() {
+        FindPredicate predicate = new FindPredicate(null, null, KEYWORD, null);
+        assertTrue(predicate.test(TypicalFoods.getChickenRice()));
+        assertTrue(predicate.test(TypicalFoods.getNasiLemak()));
+        assertFalse(predicate.test(TypicalFoods.getEggs()));
+    }
+
+    @Test
+    public void equals() {
+        FindPredicate predicate = new FindPredicate(DATE, null, null, NAME);
+        assertEquals(predicate, predicate);
+        assertEquals(predicate, new FindPredicate(DATE, null, null,
+                new NameContainsKeywordsPredicate(Arrays.asList("chicken", "alamak"))));
+        assertNotEquals(predicate, new FindPredicate(DATE, null, KEYWORD, NAME));
+        assertNotEquals(predicate, new FindPredicate(null, null, null, NAME));
+        assertNotEquals(predicate, NAME);
+        assertNotEquals(predicate, null);
+    }
+}
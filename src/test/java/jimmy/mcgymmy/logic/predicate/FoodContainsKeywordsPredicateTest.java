@@ -1,5 +1,6 @@
 package jimmy.mcgymmy.logic.predicate;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -12,6 +13,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.food.Fridge;
 import jimmy.mcgymmy.model.food.Name;
 import jimmy.mcgymmy.testutil.FoodBuilder;
 
@@ -82,4 +84,15 @@ class FoodContainsKeywordsPredicateTest {
                 new FoodContainsKeywordsPredicate(CHICKEN_LUNCH_LIST);
         assertFalse(predicate.test(new FoodBuilder().withName(new Name("Big Mac")).withTags("Dinner").build()));
     }
+
+    @Test
+    public void findCandidates_tagAndNameIndices_unionOfBoth() throws IllegalValueException {
+        Fridge fridge = new Fridge();
+        fridge.add(new FoodBuilder().withName(new Name("Nasi Lemak")).withTags("Dinner").build());
+        fridge.add(new FoodBuilder().withName(new Name("Chicken Rice")).build());
+        fridge.add(new FoodBuilder().withName(new Name("Fried Fish")).build());
+        fridge.add(new FoodBuilder().withName(new Name("Chicken Chop")).withTags("Dinner").build());
+
+        assertArrayEquals(new int[] {0, 1, 3}, CHICKEN_DINNER_PREDICATE.findCandidates(fridge));
+    }
 }
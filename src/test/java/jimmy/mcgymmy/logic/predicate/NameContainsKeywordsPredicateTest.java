@@ -1,5 +1,6 @@
 package jimmy.mcgymmy.logic.predicate;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -12,6 +13,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.food.Fridge;
 import jimmy.mcgymmy.model.food.Name;
 import jimmy.mcgymmy.testutil.FoodBuilder;
 
@@ -76,4 +78,19 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new FoodBuilder().withName(new Name("Apple")).withProtein("123")
                 .withFat("543").withCarb("678").build()));
     }
+
+    @Test
+    public void findCandidates_nameIndex_foodsWithAnyWord() throws IllegalValueException {
+        Fridge fridge = new Fridge();
+        fridge.add(new FoodBuilder().withName(new Name("Chicken Rice")).build());
+        fridge.add(new FoodBuilder().withName(new Name("Nasi Lemak")).build());
+        fridge.add(new FoodBuilder().withName(new Name("fried rice")).build());
+
+        assertArrayEquals(new int[] {0, 2},
+                new NameContainsKeywordsPredicate(Collections.singletonList("RICE")).findCandidates(fridge));
+        assertArrayEquals(new int[] {0, 1},
+                new NameContainsKeywordsPredicate(Arrays.asList("lemak", "chicken", "A b")).findCandidates(fridge));
+        assertArrayEquals(new int[0],
+                new NameContainsKeywordsPredicate(Collections.singletonList("Chick")).findCandidates(fridge));
+    }
 }
@@ -0,0 +1,53 @@
+package jimmy.mcgymmy.logic.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.Fridge;
+import jimmy.mcgymmy.model.food.Name;
+import jimmy.mcgymmy.testutil.FoodBuilder;
+
+public class ParallelPredicateTest {
+
+    @Test
+    public void equals() {
+        FilterEngine engine = new FilterEngine();
+        NameContainsKeywordsPredicate chicken = new NameContainsKeywordsPredicate(Arrays.asList("chicken"));
+        ParallelPredicate first = new ParallelPredicate(chicken, engine);
+
+        assertEquals(first, first);
+        assertEquals(first, new ParallelPredicate(new NameContainsKeywordsPredicate(Arrays.asList("chicken")),
+                new FilterEngine()));
+        assertNotEquals(first, new ParallelPredicate(new NameContainsKeywordsPredicate(Arrays.asList("rice")),
+                engine));
+        assertNotEquals(first, chicken);
+        assertNotEquals(first, null);
+    }
+
+    @Test
+    public void testRangeAndPositions_sameAsWrappedPredicate() throws IllegalValueException {
+        Fridge fridge = new Fridge();
+        fridge.add(new FoodBuilder().withName(new Name("Chicken Rice")).build());
+        fridge.add(new FoodBuilder().withName(new Name("Duck Rice")).build());
+        fridge.add(new FoodBuilder().withName(new Name("Chicken Chop")).build());
+        List<Food> foods = fridge.asUnmodifiableObservableList();
+        NameContainsKeywordsPredicate chicken = new NameContainsKeywordsPredicate(Arrays.asList("chicken"));
+        ParallelPredicate predicate = new ParallelPredicate(chicken, new FilterEngine());
+
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(2);
+        assertEquals(expected, predicate.testRange(foods, 0, 3));
+        assertEquals(BitSet.valueOf(new long[] {0b100}), predicate.testPositions(foods, new int[] {1, 2}));
+        assertArrayEquals(chicken.findCandidates(fridge), predicate.findCandidates(fridge));
+    }
+}
@@ -1,6 +1,7 @@
 package jimmy.mcgymmy.logic.predicate;
 
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -13,6 +14,9 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.food.Fridge;
+import jimmy.mcgymmy.model.tag.Tag;
+import jimmy.mcgymmy.model.tag.TagDictionary;
 import jimmy.mcgymmy.testutil.FoodBuilder;
 
 class TagContainsKeywordsPredicateTest {
@@ -94,4 +98,36 @@ class TagContainsKeywordsPredicateTest {
         // food contains none of the valid tag -> returns false
         assertFalse(MULTIPLE_KEYWORDS_PREDICATE.test(new FoodBuilder().withTags("Dinner").build()));
     }
+
+    @Test
+    public void findCandidates_tagIndex_foodsWithAnyTag() throws IllegalValueException {
+        Fridge fridge = new Fridge();
+        fridge.add(new FoodBuilder().withTags("Dinner").build());
+        fridge.add(new FoodBuilder().withTags("Lunch").build());
+        fridge.add(new FoodBuilder().build());
+        fridge.add(new FoodBuilder().withTags("Breakfast", "Lunch").build());
+
+        assertArrayEquals(new int[] {1, 3}, LUNCH_PREDICATE.findCandidates(fridge));
+        assertArrayEquals(new int[] {0, 1, 3}, LUNCH_DINNER_PREDICATE.findCandidates(fridge));
+        assertArrayEquals(new int[0], ABC_PREDICATE.findCandidates(fridge));
+
+        // a tag used only after the predicate is made is still found
+        TagContainsKeywordsPredicate laterPredicate =
+                new TagContainsKeywordsPredicate(Collections.singletonList("PredicateTestLater"));
+        fridge.add(new FoodBuilder().withTags("PredicateTestLater").build());
+        assertArrayEquals(new int[] {4}, laterPredicate.findCandidates(fridge));
+        assertTrue(laterPredicate.test(fridge.asUnmodifiableObservableList().get(4)));
+    }
+
+    @Test
+    public void test_keywordNoFoodHas_notAddedToDictionaryUntilFoodTagged() throws IllegalValueException {
+        Tag unseen = new Tag("TagPredicateUnseen");
+        TagContainsKeywordsPredicate predicate =
+                new TagContainsKeywordsPredicate(Collections.singletonList(unseen.tagName));
+        assertFalse(predicate.test(new FoodBuilder().build()));
+        assertEquals(-1, TagDictionary.find(unseen));
+
+        // a food item given the tag after the search is still matched
+        assertTrue(predicate.test(new FoodBuilder().build().addTag(unseen)));
+    }
 }
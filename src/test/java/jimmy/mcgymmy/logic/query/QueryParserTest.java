@@ -0,0 +1,68 @@
+package jimmy.mcgymmy.logic.query;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.logic.parser.exceptions.ParseException;
+import jimmy.mcgymmy.model.tag.Tag;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+public class QueryParserTest {
+
+    @Test
+    public void tokenize_operatorsAndParentheses_separated() {
+        assertEquals(Arrays.asList("(", "protein", ">=", "20", "or", "tag", "a", ",", "b", ")"),
+                QueryParser.tokenize("(protein>=20 or tag a,b)"));
+    }
+
+    @Test
+    public void parse_precedence_notThenAndThenOr() throws Exception {
+        Expression expected = new OrExpression(Arrays.asList(
+                new NutrientComparison(NutrientComparison.Nutrient.PROTEIN, ComparisonOperator.GREATER, 20),
+                new AndExpression(Arrays.asList(
+                        new NotExpression(new TagTerm(List.of(new Tag("snack")))),
+                        new NameTerm("rice")))));
+        assertEquals(expected, QueryParser.parse("protein > 20 OR not tag snack and name Rice"));
+        assertEquals(expected, QueryParser.parse("(protein > 20) or ((not tag snack) and name rice)"));
+    }
+
+    @Test
+    public void parse_dateTerms_dateRanges() throws Exception {
+        LocalDate date = LocalDate.of(2020, 4, 20);
+        assertEquals(new DateRangeTerm(date, date), QueryParser.parse("date = 20-04-2020"));
+        assertEquals(new DateRangeTerm(LocalDate.MIN, date.minusDays(1)), QueryParser.parse("date < 20-04-2020"));
+        assertEquals(new DateRangeTerm(date.plusDays(1), LocalDate.MAX), QueryParser.parse("date > 20-04-2020"));
+        assertEquals(new NotExpression(new DateRangeTerm(date, date)), QueryParser.parse("date != 20-04-2020"));
+        assertEquals(new DateRangeTerm(date, LocalDate.of(2020, 4, 30)),
+                QueryParser.parse("DATE from 20-04-2020 TO 30-04-2020"));
+    }
+
+    @Test
+    public void parse_validQuery_testsFoods() throws Exception {
+        Expression expression = QueryParser.parse("calories > 3000 and tag lunch,breakfast and not name cookies");
+        assertTrue(expression.test(TypicalFoods.getChickenRice()));
+        assertFalse(expression.test(TypicalFoods.getDanishCookies()));
+        assertFalse(expression.test(TypicalFoods.getCrispyFriedFish()));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, QueryParser.MESSAGE_EMPTY_QUERY, () -> QueryParser.parse("  "));
+        assertThrows(ParseException.class, () -> QueryParser.parse("protein"));
+        assertThrows(ParseException.class, () -> QueryParser.parse("protein ~ 3"));
+        assertThrows(ParseException.class, () -> QueryParser.parse("protein > lots"));
+        assertThrows(ParseException.class, () -> QueryParser.parse("(tag lunch"));
+        assertThrows(ParseException.class, () -> QueryParser.parse("tag lunch name rice"));
+        assertThrows(ParseException.class, () -> QueryParser.parse("sugar > 3"));
+        assertThrows(ParseException.class, () -> QueryParser.parse("date > yesterday"));
+        assertThrows(ParseException.class, () -> QueryParser.parse("date from 01-04-2020 until 30-04-2020"));
+    }
+}
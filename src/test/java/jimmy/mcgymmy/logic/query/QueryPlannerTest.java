@@ -0,0 +1,100 @@
+package jimmy.mcgymmy.logic.query;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.logic.parser.exceptions.ParseException;
+import jimmy.mcgymmy.model.date.Date;
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.Fridge;
+import jimmy.mcgymmy.model.food.Name;
+import jimmy.mcgymmy.model.tag.Tag;
+import jimmy.mcgymmy.testutil.FoodBuilder;
+
+public class QueryPlannerTest {
+
+    private Fridge fridge;
+
+    @BeforeEach
+    public void setUp() throws IllegalValueException {
+        // 100 food items over 100 days, a tenth of them tagged rare and all of them named rice
+        fridge = new Fridge();
+        for (int i = 0; i < 100; i++) {
+            Food food = new FoodBuilder().withName(new Name("Rice " + i)).withProtein(Integer.toString(i))
+                    .withDate(Date.fromLocalDate(java.time.LocalDate.of(2020, 1, 1).plusDays(i)).toString())
+                    .build();
+            fridge.add(i % 10 == 0 ? food.addTag(new Tag("rare")) : food);
+        }
+    }
+
+    private int[] findMatches(QueryPlan plan) {
+        List<Food> foods = fridge.asUnmodifiableObservableList();
+        return IntStream.range(0, foods.size()).filter(i -> plan.test(foods.get(i))).toArray();
+    }
+
+    private int[] findCandidateMatches(QueryPlan plan) {
+        List<Food> foods = fridge.asUnmodifiableObservableList();
+        return IntStream.of(plan.findCandidates(fridge)).filter(i -> plan.test(foods.get(i))).toArray();
+    }
+
+    private QueryPlan plan(String query) throws ParseException {
+        QueryPlan plan = QueryPlanner.plan(QueryParser.parse(query), fridge);
+        assertArrayEquals(findMatches(plan), findCandidateMatches(plan));
+        return plan;
+    }
+
+    @Test
+    public void plan_mostSelectiveIndexDrivesScan() throws ParseException {
+        // the tag finds 10 food items, the name all 100 and the dates 50
+        QueryPlan plan = plan("name rice and tag rare and date >= 20-02-2020");
+        assertEquals(10, plan.findCandidates(fridge).length);
+
+        plan = plan("name rice and tag rare and date from 01-01-2020 to 03-01-2020");
+        assertEquals(3, plan.findCandidates(fridge).length);
+    }
+
+    @Test
+    public void plan_dateBoundsOfConjunction_mergedIntoOneRange() throws ParseException {
+        QueryPlan plan = plan("date >= 05-01-2020 and protein < 50 and date <= 09-01-2020");
+        assertEquals(5, plan.findCandidates(fridge).length);
+    }
+
+    @Test
+    public void plan_noUsableIndex_fullScan() throws ParseException {
+        assertEquals(100, plan("protein > 90").findCandidates(fridge).length);
+        assertEquals(100, plan("not tag rare").findCandidates(fridge).length);
+        assertEquals(100, plan("tag rare or protein > 90").findCandidates(fridge).length);
+    }
+
+    @Test
+    public void plan_disjunctionOfIndexedTerms_unionOfScans() throws ParseException {
+        QueryPlan plan = plan("tag rare or date = 02-01-2020");
+        assertEquals(11, plan.findCandidates(fridge).length);
+    }
+
+    @Test
+    public void explain_estimatedAndActualRows() throws ParseException {
+        QueryPlan plan = plan("tag rare and protein >= 50");
+        String explanation = plan.explain(fridge, findMatches(plan).length);
+        assertTrue(explanation.contains("Scan: tag index for tag rare, estimated 10 rows, actual 10 rows"),
+                explanation);
+        // the comparison is assumed to match a third of the food items
+        assertTrue(explanation.contains("Filter: estimated 3 rows, actual 5 rows"), explanation);
+    }
+
+    @Test
+    public void plan_emptyFridge_noRows() throws ParseException {
+        fridge = new Fridge();
+        assertEquals(0, plan("tag rare and protein > 1").findCandidates(fridge).length);
+        assertEquals(new ArrayList<>().size(), plan("protein > 1").findCandidates(fridge).length);
+    }
+}
@@ -0,0 +1,80 @@
+package jimmy.mcgymmy.model;
+
+import static jimmy.mcgymmy.testutil.TypicalFoods.getChickenRice;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getCrispyFriedFish;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getDanishCookies;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getEggs;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getNasiLemak;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import jimmy.mcgymmy.commons.core.index.Index;
+import jimmy.mcgymmy.model.food.Food;
+
+public class DisplayedFoodListTest {
+
+    private McGymmy mcGymmy;
+    private FilteredFoodView untagged;
+    private FilteredFoodView lunch;
+    private DisplayedFoodList displayed;
+    private List<Food> mirror;
+
+    @BeforeEach
+    public void setUp() {
+        mcGymmy = new McGymmy();
+        mcGymmy.setFoodItems(Arrays.asList(getChickenRice(), getNasiLemak(), getCrispyFriedFish(),
+                getDanishCookies()));
+        untagged = new FilteredFoodView(mcGymmy.getFoodList(), mcGymmy.getFoodIndex(),
+            food -> food.getTags().isEmpty());
+        lunch = new FilteredFoodView(mcGymmy.getFoodList(), mcGymmy.getFoodIndex(),
+            food -> !food.getTags().isEmpty());
+        displayed = new DisplayedFoodList(untagged);
+
+        // a copy kept up to date only through the changes the displayed list reports
+        mirror = new ArrayList<>(displayed);
+        displayed.addListener((ListChangeListener<Food>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                }
+                if (change.wasAdded()) {
+                    mirror.addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    @Test
+    public void show_otherView_otherViewShownAndChangesReported() {
+        displayed.show(lunch);
+        assertSame(lunch, displayed.getShown());
+        assertEquals(Arrays.asList(getChickenRice(), getNasiLemak(), getDanishCookies()), displayed);
+        assertEquals(displayed, mirror);
+        assertEquals(3, displayed.getSourceIndex(2));
+    }
+
+    @Test
+    public void sourceChanged_shownAndHiddenViewsKeptUpToDate() {
+        mcGymmy.addFood(getEggs());
+        mcGymmy.removeFood(Index.fromZeroBased(0));
+        assertEquals(Arrays.asList(getCrispyFriedFish(), getEggs()), displayed);
+        assertEquals(displayed, mirror);
+
+        displayed.show(lunch);
+        assertEquals(Arrays.asList(getNasiLemak(), getDanishCookies()), displayed);
+        assertEquals(displayed, mirror);
+
+        mcGymmy.setFood(Index.fromZeroBased(0), getChickenRice());
+        assertEquals(Arrays.asList(getChickenRice(), getDanishCookies()), displayed);
+        assertEquals(displayed, mirror);
+        assertEquals(Arrays.asList(getCrispyFriedFish(), getEggs()), untagged);
+    }
+}
@@ -0,0 +1,218 @@
+package jimmy.mcgymmy.model;
+
+import static jimmy.mcgymmy.testutil.TypicalFoods.getChickenRice;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getCrispyFriedFish;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getDanishCookies;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getEggs;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getNasiLemak;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import jimmy.mcgymmy.commons.core.index.Index;
+import jimmy.mcgymmy.logic.predicate.DatePredicate;
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.FoodIndex;
+
+public class FilteredFoodViewTest {
+
+    private McGymmy mcGymmy;
+    private FilteredFoodView view;
+
+    @BeforeEach
+    public void setUp() {
+        mcGymmy = new McGymmy();
+        mcGymmy.setFoodItems(Arrays.asList(getChickenRice(), getNasiLemak(), getCrispyFriedFish(),
+                getDanishCookies()));
+        view = new FilteredFoodView(mcGymmy.getFoodList(), mcGymmy.getFoodIndex());
+    }
+
+    /**
+     * Returns the food items in {@code mcGymmy} that match {@code predicate}, found the same way as
+     * {@code FilteredList} would.
+     */
+    private static List<Food> filter(McGymmy mcGymmy, Predicate<Food> predicate) {
+        return mcGymmy.getFoodList().stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @Test
+    public void constructor_showsAllFoods() {
+        assertEquals(mcGymmy.getFoodList(), view);
+    }
+
+    @Test
+    public void setPredicate_plainPredicate_matchingFoodsShown() {
+        view.setPredicate(food -> food.getTags().isEmpty());
+        assertEquals(Arrays.asList(getCrispyFriedFish()), view);
+        assertEquals(2, view.getSourceIndex(0));
+        assertEquals(0, view.getViewIndex(2));
+        assertEquals(-1, view.getViewIndex(0));
+    }
+
+    @Test
+    public void setPredicate_indexablePredicate_onlyCandidatesTested() {
+        List<Food> tested = new ArrayList<>();
+        view.setPredicate(new IndexablePredicate() {
+            @Override
+            public int[] findCandidates(FoodIndex index) {
+                return new int[] {1, 3};
+            }
+
+            @Override
+            public boolean test(Food food) {
+                tested.add(food);
+                return true;
+            }
+        });
+        assertEquals(Arrays.asList(getNasiLemak(), getDanishCookies()), tested);
+        assertEquals(Arrays.asList(getNasiLemak(), getDanishCookies()), view);
+    }
+
+    @Test
+    public void setPredicate_twoIndexablePredicates_onlyCommonCandidatesTested() {
+        List<Food> tested = new ArrayList<>();
+        IndexablePredicate first = new IndexablePredicate() {
+            @Override
+            public int[] findCandidates(FoodIndex index) {
+                return new int[] {0, 1, 3};
+            }
+
+            @Override
+            public boolean test(Food food) {
+                tested.add(food);
+                return true;
+            }
+        };
+        IndexablePredicate second = new IndexablePredicate() {
+            @Override
+            public int[] findCandidates(FoodIndex index) {
+                return new int[] {1, 2, 3};
+            }
+
+            @Override
+            public boolean test(Food food) {
+                return true;
+            }
+        };
+        view.setPredicate(first.and(second));
+        assertEquals(Arrays.asList(getNasiLemak(), getDanishCookies()), tested);
+        assertEquals(Arrays.asList(getNasiLemak(), getDanishCookies()), view);
+    }
+
+    @Test
+    public void sourceChanged_singleFoodUpdates_viewKeptInSync() {
+        Predicate<Food> hasLunchTag = food -> food.getTags().stream()
+                .anyMatch(tag -> tag.tagName.equals("lunch"));
+        view.setPredicate(hasLunchTag);
+        List<ListChangeListener.Change<? extends Food>> changes = new ArrayList<>();
+        view.addListener((ListChangeListener<Food>) changes::add);
+
+        mcGymmy.addFood(getEggs());
+        assertEquals(filter(mcGymmy, hasLunchTag), view);
+        assertEquals(0, changes.size());
+
+        mcGymmy.addFood(getChickenRice());
+        assertEquals(filter(mcGymmy, hasLunchTag), view);
+        assertEquals(1, changes.size());
+
+        mcGymmy.removeFood(Index.fromZeroBased(0));
+        assertEquals(filter(mcGymmy, hasLunchTag), view);
+        assertEquals(0, view.getSourceIndex(0));
+
+        mcGymmy.setFood(Index.fromZeroBased(0), getEggs());
+        assertEquals(filter(mcGymmy, hasLunchTag), view);
+
+        mcGymmy.setFood(Index.fromZeroBased(1), getDanishCookies());
+        assertEquals(filter(mcGymmy, hasLunchTag), view);
+    }
+
+    @Test
+    public void sourceChanged_contentsReplaced_indexablePredicateReapplied() throws Exception {
+        DatePredicate datePredicate = new DatePredicate("20-04-2020");
+        view.setPredicate(datePredicate);
+        assertEquals(Arrays.asList(getChickenRice()), view);
+
+        mcGymmy.setFoodItems(Arrays.asList(getEggs(), getChickenRice(), getNasiLemak(), getChickenRice()));
+        assertEquals(filter(mcGymmy, datePredicate), view);
+
+        McGymmy copy = new McGymmy();
+        copy.addFood(getChickenRice());
+        mcGymmy.resetData(copy);
+        assertEquals(Arrays.asList(getChickenRice()), view);
+    }
+
+    @Test
+    public void sourceChanged_addOrEditWithPlainPredicate_onlyChangedFoodTested() {
+        List<Food> tested = new ArrayList<>();
+        Predicate<Food> hasNoTags = food -> {
+            tested.add(food);
+            return food.getTags().isEmpty();
+        };
+        view.setPredicate(hasNoTags);
+        tested.clear();
+        List<ListChangeListener.Change<? extends Food>> changes = new ArrayList<>();
+        view.addListener((ListChangeListener<Food>) changes::add);
+
+        mcGymmy.addFood(getCrispyFriedFish());
+        assertEquals(1, tested.size());
+        assertEquals(filter(mcGymmy, food -> food.getTags().isEmpty()), view);
+
+        // an edited food item that still matches is replaced in place
+        mcGymmy.setFood(Index.fromZeroBased(2), getCrispyFriedFish());
+        assertEquals(2, tested.size());
+        ListChangeListener.Change<? extends Food> change = changes.get(1);
+        change.next();
+        assertTrue(change.wasReplaced());
+        assertEquals(0, change.getFrom());
+
+        mcGymmy.setFood(Index.fromZeroBased(0), getCrispyFriedFish());
+        mcGymmy.setFood(Index.fromZeroBased(2), getDanishCookies());
+        assertEquals(4, tested.size());
+        assertEquals(filter(mcGymmy, food -> food.getTags().isEmpty()), view);
+        assertEquals(Arrays.asList(0, 4), Arrays.asList(view.getSourceIndex(0), view.getSourceIndex(1)));
+    }
+
+    @Test
+    public void setPredicate_bitmapPredicate_bitmapShown() {
+        List<String> calls = new ArrayList<>();
+        class BitmapOfFirstAndLast implements BitmapPredicate {
+            @Override
+            public BitSet testRange(List<? extends Food> foods, int from, int to) {
+                calls.add("range " + from + " " + to);
+                BitSet matches = new BitSet();
+                matches.set(from);
+                matches.set(to - 1);
+                return matches;
+            }
+
+            @Override
+            public BitSet testPositions(List<? extends Food> foods, int[] positions) {
+                throw new AssertionError("This method should not be called.");
+            }
+
+            @Override
+            public boolean test(Food food) {
+                calls.add("test " + food.getName());
+                return false;
+            }
+        }
+        view.setPredicate(new BitmapOfFirstAndLast());
+        assertEquals(Arrays.asList("range 0 4"), calls);
+        assertEquals(Arrays.asList(getChickenRice(), getDanishCookies()), view);
+
+        // a single food item added is tested on its own
+        mcGymmy.addFood(getEggs());
+        assertEquals(2, calls.size());
+        assertEquals(Arrays.asList(getChickenRice(), getDanishCookies()), view);
+    }
+}
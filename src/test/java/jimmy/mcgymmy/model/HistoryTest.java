@@ -5,12 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.Stack;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.util.Pair;
 import jimmy.mcgymmy.model.food.Food;
 import jimmy.mcgymmy.model.macro.MacroList;
 import jimmy.mcgymmy.testutil.McGymmyBuilder;
@@ -29,7 +29,7 @@ class HistoryTest {
             super();
         }
 
-        Stack<Pair<McGymmy, Pair<Predicate<Food>, MacroList>>> getStack() {
+        Stack<State> getStack() {
             return super.stack;
         }
     }
@@ -43,10 +43,28 @@ class HistoryTest {
     public void save_successfullySaveData() {
         HistoryStub historyStub = new HistoryStub();
         historyStub.save(MODEL_MANAGER);
-        Stack<Pair<McGymmy, Pair<Predicate<Food>, MacroList>>> stack = historyStub.getStack();
-        assertEquals(MC_GYMMY, stack.peek().getKey());
-        assertEquals(MACRO_LIST, stack.peek().getValue().getValue());
-        assertEquals(FOOD_PREDICATE, stack.peek().getValue().getKey());
+        Stack<History.State> stack = historyStub.getStack();
+        assertEquals(MC_GYMMY, stack.peek().mcGymmy);
+        assertEquals(MACRO_LIST, stack.peek().macroList);
+        assertEquals(FOOD_PREDICATE, stack.peek().predicate);
+    }
+
+    @Test
+    public void save_laterChangesToModel_doNotAffectSavedData() {
+        ModelManager modelManager = new ModelManager(MC_GYMMY, new UserPrefs(), MACRO_LIST);
+        HistoryStub historyStub = new HistoryStub();
+        historyStub.save(modelManager);
+        modelManager.addFood(TypicalFoods.getDanishCookies());
+        assertEquals(MC_GYMMY, historyStub.peekMcGymmy().get());
+    }
+
+    @Test
+    public void saveView_doesNotSaveData() {
+        HistoryStub historyStub = new HistoryStub();
+        historyStub.saveView(MODEL_MANAGER);
+        assertTrue(historyStub.peekMcGymmy().isEmpty());
+        assertEquals(MACRO_LIST, historyStub.peekMacroList());
+        assertEquals(FOOD_PREDICATE, historyStub.peekPredicate());
     }
 
     @Test
@@ -78,7 +96,7 @@ class HistoryTest {
     public void peekMcGymmy_returnsCorrectMcGymmy_doesNotPop() {
         HistoryStub historyStub = new HistoryStub();
         historyStub.save(MODEL_MANAGER);
-        assertEquals(MC_GYMMY, historyStub.peekMcGymmy());
+        assertEquals(MC_GYMMY, historyStub.peekMcGymmy().get());
         assertFalse(historyStub.empty());
     }
 
@@ -97,4 +115,21 @@ class HistoryTest {
         assertEquals(FOOD_PREDICATE, historyStub.peekPredicate());
         assertFalse(historyStub.empty());
     }
+
+    @Test
+    public void addFoodsToFront_foodsLoadedAfterSave_addedWhenRestored() {
+        HistoryStub historyStub = new HistoryStub();
+        historyStub.save(MODEL_MANAGER);
+        historyStub.addFoodsToFront(List.of(TypicalFoods.getEggs()));
+        historyStub.save(MODEL_MANAGER);
+        historyStub.addFoodsToFront(List.of(TypicalFoods.getDanishCookies()));
+
+        assertEquals(List.of(TypicalFoods.getDanishCookies(), TypicalFoods.getChickenRice()),
+                historyStub.peekMcGymmy().get().getFoodList());
+        historyStub.pop();
+        assertEquals(List.of(TypicalFoods.getDanishCookies(), TypicalFoods.getEggs(), TypicalFoods.getChickenRice()),
+                historyStub.peekMcGymmy().get().getFoodList());
+        // the saved states themselves are left as they were
+        assertEquals(MC_GYMMY, historyStub.getStack().peek().mcGymmy);
+    }
 }
@@ -3,6 +3,7 @@ package jimmy.mcgymmy.model;
 import static jimmy.mcgymmy.testutil.Assert.assertThrows;
 import static jimmy.mcgymmy.testutil.TypicalFoods.getChickenRice;
 import static jimmy.mcgymmy.testutil.TypicalFoods.getDanishCookies;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getEggs;
 import static jimmy.mcgymmy.testutil.TypicalFoods.getNasiLemak;
 import static jimmy.mcgymmy.testutil.TypicalMacros.TEST_MACRO;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -11,19 +12,32 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import jimmy.mcgymmy.commons.core.GuiSettings;
 import jimmy.mcgymmy.commons.core.index.Index;
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
 import jimmy.mcgymmy.logic.commands.CommandTestUtil;
 import jimmy.mcgymmy.logic.predicate.NameContainsKeywordsPredicate;
+import jimmy.mcgymmy.model.event.FoodAdded;
+import jimmy.mcgymmy.model.event.FoodRemoved;
+import jimmy.mcgymmy.model.event.FoodReplaced;
+import jimmy.mcgymmy.model.event.MacroListChanged;
+import jimmy.mcgymmy.model.event.ModelEvent;
 import jimmy.mcgymmy.model.food.Food;
 import jimmy.mcgymmy.model.macro.MacroList;
+import jimmy.mcgymmy.model.macro.SavedView;
+import jimmy.mcgymmy.model.tag.Tag;
+import jimmy.mcgymmy.testutil.FoodArchiveStub;
 import jimmy.mcgymmy.testutil.FoodBuilder;
 import jimmy.mcgymmy.testutil.McGymmyBuilder;
 import jimmy.mcgymmy.testutil.TypicalFoods;
@@ -128,6 +142,121 @@ public class ModelManagerTest {
         assertFalse(modelManager.canUndo());
     }
 
+    @Test
+    public void getMcGymmyVersion_changesOnlyWhenFoodDataChanges() {
+        long initialVersion = modelManager.getMcGymmyVersion();
+        modelManager.updateFilteredFoodList(food -> false);
+        modelManager.setMacroList(new MacroList());
+        assertEquals(initialVersion, modelManager.getMcGymmyVersion());
+
+        modelManager.addFood(getChickenRice());
+        long versionAfterAdd = modelManager.getMcGymmyVersion();
+        assertTrue(versionAfterAdd != initialVersion);
+
+        modelManager.undo();
+        assertTrue(modelManager.getMcGymmyVersion() != versionAfterAdd);
+    }
+
+    @Test
+    public void getMacroListVersion_changesOnlyWhenMacroListChanges() {
+        long initialVersion = modelManager.getMacroListVersion();
+        modelManager.addFood(getChickenRice());
+        modelManager.updateFilteredFoodList(food -> false);
+        assertEquals(initialVersion, modelManager.getMacroListVersion());
+
+        modelManager.setMacroList(new MacroList());
+        assertTrue(modelManager.getMacroListVersion() != initialVersion);
+    }
+
+    @Test
+    public void getEventBus_changes_publishedWithIdsAndValues() throws IllegalValueException {
+        List<ModelEvent> events = new ArrayList<>();
+        modelManager.getEventBus().subscribe(ModelEvent.class, events::add);
+
+        Food chickenRice = getChickenRice();
+        modelManager.addFood(chickenRice);
+        Food edited = new FoodBuilder(chickenRice).withProtein("42").build();
+        modelManager.setFood(Index.fromZeroBased(0), edited);
+        modelManager.deleteFood(Index.fromZeroBased(0));
+        modelManager.undo();
+        MacroList macroList = modelManager.getMacroList();
+        MacroList newMacroList = new MacroList();
+        modelManager.setMacroList(newMacroList);
+
+        assertEquals(5, events.size());
+        FoodAdded added = (FoodAdded) events.get(0);
+        assertEquals(0, added.getIndex());
+        assertEquals(chickenRice.getId(), added.getId());
+        FoodReplaced replaced = (FoodReplaced) events.get(1);
+        assertEquals(chickenRice, replaced.getBefore());
+        assertEquals(edited, replaced.getAfter());
+        assertEquals(0, replaced.getIndex());
+        assertEquals(edited.getId(), ((FoodRemoved) events.get(2)).getId());
+        // undoing the delete is reported as adding the item back, not as a reset of the whole list
+        FoodAdded restored = (FoodAdded) events.get(3);
+        assertEquals(0, restored.getIndex());
+        assertEquals(edited, restored.getFood());
+        MacroListChanged macroListChanged = (MacroListChanged) events.get(4);
+        assertEquals(macroList, macroListChanged.getBefore());
+        assertEquals(newMacroList, macroListChanged.getAfter());
+    }
+
+    @Test
+    public void addFood_filteredList_filterKept() {
+        modelManager.addFood(getChickenRice());
+        modelManager.updateFilteredFoodList(food -> food.getName().equals(getNasiLemak().getName()));
+        modelManager.addFood(getChickenRice());
+        assertTrue(modelManager.getFilteredFoodList().isEmpty());
+
+        modelManager.addFood(getNasiLemak());
+        assertEquals(List.of(getNasiLemak()), modelManager.getFilteredFoodList());
+    }
+
+    @Test
+    public void showSavedView_foodsChanged_viewKeptUpToDate() throws IllegalValueException {
+        modelManager.addFood(getChickenRice());
+        modelManager.setMacroList(modelManager.getMacroList().withView(new SavedView("lunch", "tag lunch")));
+        List<Integer> notifiedSizes = new ArrayList<>();
+        modelManager.getFilteredFoodList().addListener((ListChangeListener<Food>) change ->
+                notifiedSizes.add(change.getList().size()));
+
+        // the view is kept up to date while another view is shown
+        modelManager.addFood(getEggs());
+        modelManager.addFood(getNasiLemak());
+        modelManager.showSavedView("lunch");
+        assertEquals(List.of(getChickenRice(), getNasiLemak()), modelManager.getFilteredFoodList());
+
+        modelManager.setFood(Index.fromOneBased(1), getEggs());
+        modelManager.addFood(getDanishCookies());
+        assertEquals(List.of(getNasiLemak(), getDanishCookies()), modelManager.getFilteredFoodList());
+        assertEquals(List.of(2, 3, 2, 1, 2), notifiedSizes);
+    }
+
+    @Test
+    public void undo_undoAfterShowSavedView_previousViewShown() throws IllegalValueException {
+        modelManager.setMcGymmy(TypicalFoods.getTypicalMcGymmy());
+        modelManager.setMacroList(modelManager.getMacroList().withView(new SavedView("lunch", "tag lunch")));
+        Predicate<Food> isEggs = food -> food.getName().equals(getEggs().getName());
+        modelManager.updateFilteredFoodList(isEggs);
+        modelManager.showSavedView("lunch");
+        modelManager.updateFilteredFoodList(Model.PREDICATE_SHOW_ALL_FOODS);
+
+        modelManager.undo();
+        List<Food> lunchFoods = new ArrayList<>(modelManager.getFilteredFoodList());
+        assertEquals(3, lunchFoods.size());
+        Tag lunch = new Tag("lunch");
+        assertTrue(lunchFoods.stream().allMatch(food -> food.getTags().contains(lunch)));
+        modelManager.undo();
+        assertEquals(List.of(getEggs()), modelManager.getFilteredFoodList());
+
+        // the food items of a view removed from the macro list are filtered again on undo
+        modelManager.showSavedView("lunch");
+        modelManager.setMacroList(modelManager.getMacroList().withoutView("lunch"));
+        modelManager.updateFilteredFoodList(isEggs);
+        modelManager.undo();
+        assertEquals(lunchFoods, modelManager.getFilteredFoodList());
+    }
+
     @Test
     public void clear_empty_mcGymmyHasCorrectContent() {
         McGymmy expected = new McGymmyBuilder().build();
@@ -185,6 +314,35 @@ public class ModelManagerTest {
         assertEquals(expected, modelManager.getMcGymmy());
     }
 
+    @Test
+    public void deleteFood_equalFoodsWithDifferentTags_deletesShownFood() throws IllegalValueException {
+        Food taggedChickenRice = new FoodBuilder(getChickenRice()).withTags("dinner").build();
+        modelManager.addFood(new FoodBuilder(getChickenRice()).withTags().build());
+        modelManager.addFood(taggedChickenRice);
+        modelManager.updateFilteredFoodList(food -> !food.getTags().isEmpty());
+
+        modelManager.deleteFood(Index.fromOneBased(1));
+        modelManager.updateFilteredFoodList(Model.PREDICATE_SHOW_ALL_FOODS);
+        assertEquals(1, modelManager.getFilteredFoodList().size());
+        assertTrue(modelManager.getFilteredFoodList().get(0).getTags().isEmpty());
+    }
+
+    @Test
+    public void deleteFood_firstShownFoodRepeatedly_deletesShownFoods() throws IllegalValueException {
+        for (int i = 0; i < 6; i++) {
+            modelManager.addFood(new FoodBuilder(getChickenRice()).withCarb(String.valueOf(i)).build());
+        }
+        modelManager.updateFilteredFoodList(food -> food.getCarbs().getAmount() % 2 == 1);
+
+        for (int i = 0; i < 3; i++) {
+            modelManager.deleteFood(Index.fromOneBased(1));
+        }
+        assertTrue(modelManager.getFilteredFoodList().isEmpty());
+        modelManager.updateFilteredFoodList(Model.PREDICATE_SHOW_ALL_FOODS);
+        assertEquals(Arrays.asList(0, 2, 4), modelManager.getFilteredFoodList().stream()
+                .map(food -> food.getCarbs().getAmount()).collect(Collectors.toList()));
+    }
+
     @Test
     public void undo_undoAfterDeleteFood_mcGymmyHasCorrectContent() {
         modelManager.addFood(getChickenRice());
@@ -372,4 +530,29 @@ public class ModelManagerTest {
         differentUserPrefs.setMcGymmyFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(mcGymmy, differentUserPrefs)));
     }
+
+    @Test
+    public void loadArchivedFoods_noArchive_noChange() throws Exception {
+        modelManager.addFood(getNasiLemak());
+        modelManager.loadArchivedFoods(month -> true);
+        assertEquals(Arrays.asList(getNasiLemak()), modelManager.getFilteredFoodList());
+    }
+
+    @Test
+    public void loadArchivedFoods_acceptedMonths_foodsAddedToFrontAndKeptThroughUndo() throws Exception {
+        modelManager.addFood(getNasiLemak());
+        modelManager.addFood(getChickenRice());
+        FoodArchiveStub archive = new FoodArchiveStub()
+                .withMonth(YearMonth.of(2019, 3), getEggs())
+                .withMonth(YearMonth.of(2020, 1), getDanishCookies());
+        modelManager.setFoodArchive(archive);
+
+        modelManager.loadArchivedFoods(month -> month.getYear() == 2020);
+        assertEquals(Arrays.asList(getDanishCookies(), getNasiLemak(), getChickenRice()),
+                modelManager.getFilteredFoodList());
+        assertEquals(Arrays.asList(YearMonth.of(2019, 3)), archive.getArchivedMonths());
+
+        modelManager.undo();
+        assertEquals(Arrays.asList(getDanishCookies(), getNasiLemak()), modelManager.getFilteredFoodList());
+    }
 }
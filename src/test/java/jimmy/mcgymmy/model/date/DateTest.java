@@ -49,6 +49,13 @@ class DateTest {
         assertEquals(Date.currentDate(), new Date(LocalDate.now().toString()));
     }
 
+    @Test
+    void fromLocalDate_sameAsParsedDate() throws IllegalValueException {
+        Date date = Date.fromLocalDate(LocalDate.of(2020, 2, 29));
+        assertEquals(new Date(VALID_DATE_STRING_LEAP_YEAR_FEB), date);
+        assertEquals(LocalDate.of(2020, 2, 29), date.toLocalDate());
+    }
+
     @Test
     void leapYearValidTest() throws IllegalValueException {
         //Valid leap year Date
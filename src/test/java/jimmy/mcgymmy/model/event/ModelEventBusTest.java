@@ -0,0 +1,83 @@
+package jimmy.mcgymmy.model.event;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.model.macro.MacroList;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+public class ModelEventBusTest {
+
+    private final ModelEventBus bus = new ModelEventBus();
+
+    @Test
+    public void publish_syncSubscribers_onlyEventsOfTheirTypeInOrder() {
+        List<ModelEvent> foodEvents = new ArrayList<>();
+        List<ModelEvent> allEvents = new ArrayList<>();
+        bus.subscribe(FoodEvent.class, foodEvents::add);
+        bus.subscribe(ModelEvent.class, allEvents::add);
+
+        FoodAdded added = new FoodAdded(0, TypicalFoods.getApple());
+        MacroListChanged macroListChanged = new MacroListChanged(new MacroList(), new MacroList());
+        FoodRemoved removed = new FoodRemoved(0, TypicalFoods.getApple());
+        bus.publish(added);
+        bus.publish(macroListChanged);
+        bus.publish(removed);
+
+        assertEquals(List.of(added, removed), foodEvents);
+        assertEquals(List.of(added, macroListChanged, removed), allEvents);
+    }
+
+    @Test
+    public void publish_asyncSubscriber_eventsHandedToExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<ModelEvent> events = Collections.synchronizedList(new ArrayList<>());
+        bus.subscribeAsync(FoodEvent.class, events::add, executor);
+
+        BulkReset reset = new BulkReset(List.of(), List.of(TypicalFoods.getApple()));
+        bus.publish(reset);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(List.of(reset), events);
+    }
+
+    @Test
+    public void publish_failingSubscriber_othersStillRun() {
+        List<ModelEvent> events = new ArrayList<>();
+        bus.subscribe(ModelEvent.class, event -> {
+            throw new IllegalStateException();
+        });
+        bus.subscribe(ModelEvent.class, events::add);
+
+        FoodAdded added = new FoodAdded(0, TypicalFoods.getApple());
+        bus.publish(added);
+        assertEquals(List.of(added), events);
+    }
+
+    @Test
+    public void unsubscribe_subscriber_noLongerRun() {
+        List<ModelEvent> events = new ArrayList<>();
+        Consumer<ModelEvent> subscriber = events::add;
+        bus.subscribe(ModelEvent.class, subscriber);
+        bus.unsubscribe(subscriber);
+
+        bus.publish(new FoodAdded(0, TypicalFoods.getApple()));
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void publish_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> bus.publish(null));
+    }
+}
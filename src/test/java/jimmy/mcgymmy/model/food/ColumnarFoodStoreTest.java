@@ -0,0 +1,150 @@
+package jimmy.mcgymmy.model.food;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.date.Date;
+import jimmy.mcgymmy.model.tag.Tag;
+import jimmy.mcgymmy.model.tag.TagSet;
+
+public class ColumnarFoodStoreTest {
+
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+
+    private static Food makeFood(Random random) throws IllegalValueException {
+        Set<Tag> tags = random.nextBoolean()
+                ? Collections.singleton(new Tag("Columnar" + random.nextInt(3)))
+                : Collections.emptySet();
+        return new Food(new Name("Food " + random.nextInt(50)), new Protein(random.nextInt(1000)),
+                new Fat(random.nextInt(1000)), new Carbohydrate(random.nextInt(1000)), tags,
+                Date.fromLocalDate(START.plusDays(random.nextInt(400) - 200)));
+    }
+
+    /**
+     * Checks that {@code store} holds the same food items as {@code expected}, including their ids and tags, which
+     * {@code Food.equals} ignores.
+     */
+    private static void assertSameFoods(List<Food> expected, FoodStore store) {
+        assertEquals(expected.size(), store.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Food food = store.get(i);
+            assertEquals(expected.get(i), food);
+            assertEquals(expected.get(i).getId(), food.getId());
+            assertEquals(expected.get(i).getId(), store.getId(i));
+            assertEquals(expected.get(i).getTagSet(), food.getTagSet());
+        }
+        assertEquals(expected, store.asList());
+    }
+
+    @Test
+    public void of_emptyList_emptyStore() {
+        FoodStore store = ColumnarFoodStore.of(Collections.emptyList());
+        assertTrue(store.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(0));
+    }
+
+    @Test
+    public void of_manyFoods_sameFoodsInOrder() throws IllegalValueException {
+        Random random = new Random(42);
+        List<Food> foods = new ArrayList<>();
+        // enough rows for the tree to be three levels deep
+        for (int i = 0; i < ColumnarFoodStore.LEAF_SIZE * ColumnarFoodStore.BRANCHING + 100; i++) {
+            foods.add(makeFood(random));
+        }
+        assertSameFoods(foods, ColumnarFoodStore.of(foods));
+    }
+
+    @Test
+    public void updates_randomUpdates_sameAsList() throws IllegalValueException {
+        Random random = new Random(42);
+        List<Food> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            expected.add(makeFood(random));
+        }
+        FoodStore store = ColumnarFoodStore.of(expected);
+
+        for (int step = 0; step < 5000; step++) {
+            int choice = random.nextInt(4);
+            if (choice == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                store = store.remove(index);
+            } else if (choice == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                Food food = makeFood(random);
+                expected.set(index, food);
+                store = store.set(index, food);
+            } else {
+                Food food = makeFood(random);
+                expected.add(food);
+                store = store.add(food);
+            }
+        }
+        assertSameFoods(expected, store);
+    }
+
+    @Test
+    public void updates_removeEverything_emptyStore() throws IllegalValueException {
+        Random random = new Random(42);
+        FoodStore store = ColumnarFoodStore.EMPTY;
+        for (int i = 0; i < 3000; i++) {
+            store = store.add(makeFood(random));
+        }
+        while (!store.isEmpty()) {
+            store = store.remove(random.nextInt(store.size()));
+        }
+        Food food = makeFood(random);
+        assertSameFoods(Collections.singletonList(food), store.add(food));
+    }
+
+    @Test
+    public void updates_previousVersionsUnchanged() throws IllegalValueException {
+        Random random = new Random(42);
+        List<Food> foods = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            foods.add(makeFood(random));
+        }
+        FoodStore original = ColumnarFoodStore.of(foods);
+        original.add(makeFood(random)).set(0, makeFood(random)).remove(100);
+        assertSameFoods(foods, original);
+    }
+
+    @Test
+    public void testRows_rowPredicate_sameMatchesAsFoods() throws IllegalValueException {
+        Random random = new Random(42);
+        List<Food> foods = new ArrayList<>();
+        for (int i = 0; i < ColumnarFoodStore.LEAF_SIZE * ColumnarFoodStore.BRANCHING + 100; i++) {
+            foods.add(makeFood(random));
+        }
+        FoodStore store = ColumnarFoodStore.of(foods).remove(70);
+        foods.remove(70);
+        TagSet tagged = TagSet.of(Collections.singleton(new Tag("Columnar1")));
+        long startDay = START.toEpochDay();
+        RowPredicate predicate = row -> row.getEpochDay() >= startDay && row.getCalories() > 4000
+                && (row.getTagSet().intersects(tagged) || row.getName().getWords().contains("7"));
+
+        int[] expected = IntStream.range(0, foods.size()).filter(i -> predicate.test(foods.get(i))).toArray();
+        assertTrue(expected.length > 0);
+        assertArrayEquals(expected, store.testRows(0, store.size(), predicate));
+        int[] fromMiddle = IntStream.of(expected).filter(i -> i >= 100 && i < 2000).toArray();
+        assertArrayEquals(fromMiddle, store.testRows(100, 2000, predicate));
+
+        int[] everyThird = IntStream.range(0, foods.size()).filter(i -> i % 3 == 0).toArray();
+        assertArrayEquals(IntStream.of(everyThird).filter(i -> predicate.test(foods.get(i))).toArray(),
+                store.testRows(everyThird, 0, everyThird.length, predicate));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.testRows(0, store.size() + 1, predicate));
+    }
+}
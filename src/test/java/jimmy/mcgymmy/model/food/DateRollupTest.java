@@ -0,0 +1,87 @@
+package jimmy.mcgymmy.model.food;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.date.Date;
+import jimmy.mcgymmy.testutil.FoodBuilder;
+
+public class DateRollupTest {
+
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+
+    private static Food makeFood(LocalDate date, int protein, int fat, int carbs) throws IllegalValueException {
+        return new FoodBuilder().withDate(Date.fromLocalDate(date).toString()).withProtein(Integer.toString(protein))
+                .withFat(Integer.toString(fat)).withCarb(Integer.toString(carbs)).build();
+    }
+
+    /**
+     * Returns the totals of {@code foods} from {@code from} to {@code to}, found by going through every food item.
+     */
+    private static NutrientTotals sumAll(List<Food> foods, LocalDate from, LocalDate to) {
+        long count = 0;
+        long calories = 0;
+        long proteins = 0;
+        long carbs = 0;
+        long fats = 0;
+        for (Food food : foods) {
+            LocalDate date = food.getDate().toLocalDate();
+            if (!date.isBefore(from) && !date.isAfter(to)) {
+                count++;
+                calories += food.getCalories();
+                proteins += food.getProtein().getAmount();
+                carbs += food.getCarbs().getAmount();
+                fats += food.getFat().getAmount();
+            }
+        }
+        return new NutrientTotals(count, calories, proteins, carbs, fats);
+    }
+
+    @Test
+    public void sum_emptyRollup_emptyTotals() {
+        DateRollup rollup = new DateRollup(Collections.emptyList());
+        assertEquals(NutrientTotals.EMPTY, rollup.sum(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void sum_fromAfterTo_emptyTotals() throws IllegalValueException {
+        DateRollup rollup = new DateRollup(Arrays.asList(makeFood(START, 1, 2, 3)));
+        assertEquals(NutrientTotals.EMPTY, rollup.sum(START.plusDays(1), START));
+    }
+
+    @Test
+    public void sum_randomUpdates_sameAsSummingEveryFood() throws IllegalValueException {
+        Random random = new Random(42);
+        List<Food> foods = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            foods.add(makeFood(START.plusDays(random.nextInt(60)), random.nextInt(100), random.nextInt(100),
+                    random.nextInt(100)));
+        }
+        DateRollup rollup = new DateRollup(foods);
+
+        for (int step = 0; step < 200; step++) {
+            if (random.nextBoolean() && !foods.isEmpty()) {
+                rollup.remove(foods.remove(random.nextInt(foods.size())));
+            } else {
+                // new dates before, between and after the existing ones
+                Food food = makeFood(START.plusDays(random.nextInt(120) - 30), random.nextInt(100),
+                        random.nextInt(100), random.nextInt(100));
+                foods.add(food);
+                rollup.add(food);
+            }
+            LocalDate from = START.plusDays(random.nextInt(120) - 30);
+            LocalDate to = from.plusDays(random.nextInt(60));
+            assertEquals(sumAll(foods, from, to), rollup.sum(from, to));
+        }
+        assertEquals(sumAll(foods, LocalDate.MIN, LocalDate.MAX), rollup.sum(LocalDate.MIN, LocalDate.MAX));
+    }
+}
@@ -0,0 +1,132 @@
+package jimmy.mcgymmy.model.food;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.event.FoodAdded;
+import jimmy.mcgymmy.model.event.FoodEvent;
+import jimmy.mcgymmy.model.event.FoodRemoved;
+import jimmy.mcgymmy.model.event.FoodReplaced;
+
+public class FoodStoreDiffTest {
+
+    private static List<Food> createFoods(int count) throws IllegalValueException {
+        List<Food> foods = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            foods.add(new Food("Food " + i, i % 10, 1, 2));
+        }
+        return foods;
+    }
+
+    private static Food withProtein(Food food, int protein) throws IllegalValueException {
+        return new Food(food.getId(), food.getName(), new Protein(protein), food.getFat(), food.getCarbs(),
+                food.getTagSet(), food.getDate());
+    }
+
+    /**
+     * Applies {@code changes} to a copy of {@code before}, checking the items each change says it removes or replaces.
+     */
+    private static List<Food> apply(List<Food> before, List<FoodEvent> changes) {
+        List<Food> result = new ArrayList<>(before);
+        for (FoodEvent change : changes) {
+            if (change instanceof FoodAdded) {
+                FoodAdded added = (FoodAdded) change;
+                result.add(added.getIndex(), added.getFood());
+            } else if (change instanceof FoodRemoved) {
+                FoodRemoved removed = (FoodRemoved) change;
+                assertEquals(removed.getId(), result.remove(removed.getIndex()).getId());
+            } else {
+                FoodReplaced replaced = (FoodReplaced) change;
+                assertEquals(replaced.getBefore(), result.set(replaced.getIndex(), replaced.getAfter()));
+            }
+        }
+        return result;
+    }
+
+    private static void assertSameItems(List<Food> expected, List<Food> actual) {
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getId(), actual.get(i).getId());
+        }
+    }
+
+    @Test
+    public void between_sameStore_noChanges() throws IllegalValueException {
+        FoodStore store = FoodStore.of(createFoods(20));
+        assertEquals(Optional.of(List.of()), FoodStoreDiff.between(store, store, 0));
+    }
+
+    @Test
+    public void between_oneItemRemoved_singleRemoval() throws IllegalValueException {
+        List<Food> before = createFoods(20);
+        List<Food> after = new ArrayList<>(before);
+        Food removed = after.remove(7);
+
+        List<FoodEvent> changes = FoodStoreDiff.between(FoodStore.of(before), FoodStore.of(after), 1).get();
+        assertEquals(1, changes.size());
+        FoodRemoved change = (FoodRemoved) changes.get(0);
+        assertEquals(7, change.getIndex());
+        assertEquals(removed.getId(), change.getId());
+    }
+
+    @Test
+    public void between_editedItem_replacedInPlace() throws IllegalValueException {
+        List<Food> before = createFoods(20);
+        List<Food> after = new ArrayList<>(before);
+        after.set(3, withProtein(before.get(3), 99));
+
+        List<FoodEvent> changes = FoodStoreDiff.between(FoodStore.of(before), FoodStore.of(after), 1).get();
+        assertEquals(1, changes.size());
+        assertTrue(changes.get(0) instanceof FoodReplaced);
+        assertSameItems(after, apply(before, changes));
+    }
+
+    @Test
+    public void between_tooManyChanges_empty() throws IllegalValueException {
+        List<Food> before = createFoods(20);
+        assertFalse(FoodStoreDiff.between(FoodStore.of(before), FoodStore.of(createFoods(20)), 16).isPresent());
+        assertFalse(FoodStoreDiff.between(FoodStore.of(before), FoodStore.of(List.of()), 16).isPresent());
+    }
+
+    @Test
+    public void between_randomEdits_changesTurnBeforeIntoAfter() throws IllegalValueException {
+        Random random = new Random(42);
+        List<Food> before = createFoods(FoodStore.MIN_COLUMNAR_SIZE);
+        for (int round = 0; round < 20; round++) {
+            List<Food> after = new ArrayList<>(before);
+            for (int edit = 0; edit < 10; edit++) {
+                int index = random.nextInt(after.size());
+                switch (random.nextInt(4)) {
+                case 0:
+                    after.remove(index);
+                    break;
+                case 1:
+                    after.add(index, new Food("New " + edit, 1, 1, 1));
+                    break;
+                case 2:
+                    after.set(index, withProtein(after.get(index), random.nextInt(100)));
+                    break;
+                default:
+                    // moves the item, which is a removal and an addition
+                    after.add(random.nextInt(after.size()), after.remove(index));
+                }
+            }
+            // both layouts, and columns diffed against objects
+            for (FoodStore beforeStore : List.of(ColumnarFoodStore.of(before), VectorFoodStore.of(before))) {
+                FoodStore afterStore = FoodStore.of(after);
+                List<FoodEvent> changes = FoodStoreDiff.between(beforeStore, afterStore, 30).get();
+                assertSameItems(after, apply(before, changes));
+            }
+            before = after;
+        }
+    }
+}
@@ -3,11 +3,14 @@ package jimmy.mcgymmy.model.food;
 import static jimmy.mcgymmy.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.date.Date;
 import jimmy.mcgymmy.model.tag.Tag;
 import jimmy.mcgymmy.testutil.Assert;
 import jimmy.mcgymmy.testutil.FoodBuilder;
@@ -129,6 +132,15 @@ public class FoodTest {
         assertFalse(comparedFood.equals(protein));
     }
 
+    @Test
+    public void hashCode_equalFoods_sameHashCode() throws IllegalValueException {
+        assertEquals(comparedFood.hashCode(), sameAsComparedFood.hashCode());
+
+        // tags are not part of the identity
+        Food taggedFood = new FoodBuilder(comparedFood).withTags("Lunch").build();
+        assertEquals(comparedFood.hashCode(), taggedFood.hashCode());
+    }
+
     @Test
     public void hasTag_tagInFood_returnsTrue() throws IllegalValueException {
         Food testFood = new FoodBuilder(TypicalFoods.getChickenRice()).withTags("Lunch").build();
@@ -153,6 +165,30 @@ public class FoodTest {
         assertFalse(testFood.hasTag(toBeAdded));
     }
 
+    @Test
+    public void addTag_removeTag_idKept() throws IllegalValueException {
+        Food testFood = new FoodBuilder(TypicalFoods.getChickenRice()).withTags("Lunch").build();
+        assertEquals(testFood.getId(), testFood.addTag(new Tag("Dinner")).getId());
+        assertEquals(testFood.getId(), testFood.removeTag(new Tag("Lunch")).getId());
+    }
+
+    @Test
+    public void withNewId_equalFoodWithDifferentId() {
+        Food copy = comparedFood.withNewId();
+        assertEquals(comparedFood, copy);
+        assertNotEquals(comparedFood.getId(), copy.getId());
+    }
+
+    @Test
+    public void constructor_savedId_laterIdsAreLarger() {
+        Food food = comparedFood.withNewId();
+        long savedId = food.getId() + 1000;
+        Food savedFood = new Food(savedId, food.getName(), food.getProtein(), food.getFat(), food.getCarbs(),
+                food.getTags(), food.getDate());
+        assertEquals(savedId, savedFood.getId());
+        assertTrue(food.withNewId().getId() > savedId);
+    }
+
     @Test
     public void removeTag_returnsNewFoodWithoutTag_oldFoodUnChanged() throws IllegalValueException {
         Tag initialTag = new Tag("Lunch");
@@ -168,5 +204,19 @@ public class FoodTest {
         Assert.assertThrows(UnsupportedOperationException.class, () -> food.getTags().remove(0));
     }
 
-
+    @Test
+    public void constructor_equalValues_instancesShared() throws IllegalValueException {
+        Food first = new Food(new Name("Interned Rice"), new Protein(12), new Fat(34), new Carbohydrate(56),
+                new Date("2020-09-02"));
+        Food second = new Food(new Name("Interned Rice"), new Protein(12), new Fat(34), new Carbohydrate(56),
+                new Date("2 Sep 2020"));
+        assertSame(first.getName(), second.getName());
+        assertSame(first.getProtein(), second.getProtein());
+        assertSame(first.getFat(), second.getFat());
+        assertSame(first.getCarbs(), second.getCarbs());
+        assertSame(first.getDate(), second.getDate());
+        // amounts of different macronutrients are not mixed up
+        assertEquals(Fat.class, new Food(new Name("Interned Rice"), new Protein(34), new Fat(34),
+                new Carbohydrate(34), new Date("2020-09-02")).getFat().getClass());
+    }
 }
@@ -0,0 +1,68 @@
+package jimmy.mcgymmy.model.food;
+
+import static jimmy.mcgymmy.testutil.TypicalFoods.getChickenRice;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getCrispyFriedFish;
+import static jimmy.mcgymmy.testutil.TypicalFoods.getNasiLemak;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class FoodTotalsTest {
+
+    private ObservableList<Food> foods;
+    private FoodTotals totals;
+    private AtomicInteger changes;
+
+    @BeforeEach
+    public void setUp() {
+        foods = FXCollections.observableArrayList(getChickenRice(), getNasiLemak());
+        totals = new FoodTotals(foods);
+        changes = new AtomicInteger();
+        totals.addListener(changes::incrementAndGet);
+    }
+
+    private static void assertTotalsOf(List<Food> expectedFoods, FoodTotals totals) {
+        assertEquals(expectedFoods.stream().mapToLong(Food::getCalories).sum(), totals.getCalories());
+        assertEquals(expectedFoods.stream().mapToLong(food -> food.getProtein().getAmount()).sum(),
+                totals.getProteins());
+        assertEquals(expectedFoods.stream().mapToLong(food -> food.getCarbs().getAmount()).sum(), totals.getCarbs());
+        assertEquals(expectedFoods.stream().mapToLong(food -> food.getFat().getAmount()).sum(), totals.getFats());
+    }
+
+    @Test
+    public void constructor_totalsOfInitialFoods() {
+        assertTotalsOf(foods, totals);
+    }
+
+    @Test
+    public void listChanged_addRemoveAndReplace_totalsKeptUpToDate() {
+        foods.add(getCrispyFriedFish());
+        assertTotalsOf(foods, totals);
+        foods.remove(0);
+        assertTotalsOf(foods, totals);
+        foods.set(0, getChickenRice());
+        assertTotalsOf(foods, totals);
+        foods.setAll(getNasiLemak(), getCrispyFriedFish(), getChickenRice());
+        assertTotalsOf(foods, totals);
+        foods.clear();
+        assertTotalsOf(foods, totals);
+        assertEquals(5, changes.get());
+    }
+
+    @Test
+    public void listChanged_totalsUnchanged_listenersNotRun() {
+        foods.sort((first, second) -> second.getName().fullName.compareTo(first.getName().fullName));
+        foods.set(0, foods.get(0));
+        foods.setAll(Arrays.asList(getNasiLemak(), getChickenRice()));
+        assertTotalsOf(foods, totals);
+        assertEquals(0, changes.get());
+    }
+}
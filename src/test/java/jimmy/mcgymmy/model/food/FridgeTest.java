@@ -1,18 +1,26 @@
 package jimmy.mcgymmy.model.food;
 
 import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import jimmy.mcgymmy.commons.core.index.Index;
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.tag.Tag;
 
 class FridgeTest {
     private static Food chimken;
@@ -49,6 +57,166 @@ class FridgeTest {
         assertTrue(fridge.contains(chimken));
     }
 
+    @Test
+    public void remove_equalFoods_removesFirstCopy() throws IllegalValueException {
+        Food taggedChimken = new Food(chimken.getName(), chimken.getProtein(), chimken.getFat(), chimken.getCarbs(),
+                Set.of(new Tag("FridgeTestDinner")), chimken.getDate());
+        Food plainChimken = chimken.withNewId();
+        fridge.add(ramen);
+        fridge.add(ramen.withNewId());
+        fridge.add(taggedChimken);
+        fridge.add(ramen.withNewId());
+        fridge.add(plainChimken);
+        fridge.remove(Index.fromZeroBased(0));
+
+        fridge.remove(chimken);
+        assertEquals(Arrays.asList(ramen, ramen, chimken), new ArrayList<>(fridge.asUnmodifiableObservableList()));
+        assertEquals(-1, fridge.indexOf(taggedChimken.getId()));
+        assertEquals(2, fridge.indexOf(plainChimken.getId()));
+        assertEquals(1, fridge.count(chimken));
+
+        fridge.remove(chimken);
+        fridge.remove(chimken);
+        assertFalse(fridge.contains(chimken));
+        assertEquals(2, fridge.count(ramen));
+    }
+
+    @Test
+    public void contains_afterUpdates_tracksFoodsInList() {
+        fridge.add(chimken);
+        fridge.add(chimken);
+        fridge.remove(Index.fromZeroBased(0));
+        assertTrue(fridge.contains(chimken));
+        assertEquals(1, fridge.count(chimken));
+
+        fridge.setFood(Index.fromZeroBased(0), ramen);
+        assertFalse(fridge.contains(chimken));
+        assertTrue(fridge.contains(ramen));
+
+        fridge.remove(ramen);
+        assertFalse(fridge.contains(ramen));
+    }
+
+    @Test
+    public void contains_afterSetFoods_tracksReplacedFoods() {
+        fridge.add(chimken);
+        Fridge copy = new Fridge();
+        copy.setFoods(fridge);
+        copy.add(ramen);
+        copy.add(ramen);
+
+        assertEquals(2, copy.count(ramen));
+        assertTrue(copy.contains(chimken));
+        assertFalse(fridge.contains(ramen));
+
+        copy.setFoods(List.of(ramen));
+        assertFalse(copy.contains(chimken));
+        assertEquals(1, copy.count(ramen));
+    }
+
+    @Test
+    public void remove_fromFrontRepeatedly_idMapNotRebuilt() {
+        List<Food> added = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Food food = chimken.withNewId();
+            added.add(food);
+            fridge.add(food);
+        }
+        IdPositionMap slotsById = fridge.getSlotsById();
+        int[] slots = added.stream().mapToInt(food -> slotsById.get(food.getId())).toArray();
+
+        for (int i = 0; i < 5; i++) {
+            fridge.remove(Index.fromZeroBased(0));
+            assertEquals(0, fridge.indexOf(added.get(i + 1).getId()));
+        }
+        assertSame(slotsById, fridge.getSlotsById());
+        for (int i = 5; i < 50; i++) {
+            assertEquals(slots[i], slotsById.get(added.get(i).getId()));
+            assertEquals(i - 5, fridge.indexOf(added.get(i).getId()));
+        }
+    }
+
+    @Test
+    public void indexOf_afterUpdates_findsFoodById() {
+        Food first = chimken.withNewId();
+        Food second = ramen.withNewId();
+        Food third = chimken.withNewId();
+        fridge.add(first);
+        fridge.add(second);
+        fridge.add(third);
+        assertEquals(1, fridge.indexOf(second.getId()));
+
+        fridge.remove(Index.fromZeroBased(0));
+        assertEquals(-1, fridge.indexOf(first.getId()));
+        assertEquals(0, fridge.indexOf(second.getId()));
+        assertEquals(1, fridge.indexOf(third.getId()));
+
+        Food edited = ramen.withNewId();
+        fridge.setFood(Index.fromZeroBased(0), edited);
+        assertEquals(-1, fridge.indexOf(second.getId()));
+        assertEquals(0, fridge.indexOf(edited.getId()));
+
+        Fridge copy = new Fridge();
+        copy.setFoods(fridge);
+        assertEquals(1, copy.indexOf(third.getId()));
+    }
+
+    @Test
+    public void findByTags_afterUpdates_findsTaggedFoods() throws IllegalValueException {
+        Tag lunch = new Tag("lunch");
+        Tag dinner = new Tag("dinner");
+        Food lunchRamen = ramen.addTag(lunch);
+        Food dinnerChimken = chimken.addTag(dinner);
+        fridge.setFoods(Arrays.asList(lunchRamen, chimken, dinnerChimken, lunchRamen.addTag(dinner)));
+        assertArrayEquals(new int[] {0, 3}, fridge.findByTags(Collections.singletonList(lunch)));
+        assertArrayEquals(new int[] {0, 2, 3}, fridge.findByTags(Arrays.asList(lunch, dinner)));
+
+        fridge.remove(Index.fromZeroBased(1));
+        assertArrayEquals(new int[] {0, 2}, fridge.findByTags(Collections.singletonList(lunch)));
+        assertArrayEquals(new int[] {1, 2}, fridge.findByTags(Collections.singletonList(dinner)));
+
+        fridge.setFood(Index.fromZeroBased(0), chimken.addTag(dinner));
+        fridge.add(lunchRamen);
+        assertArrayEquals(new int[] {2, 3}, fridge.findByTags(Collections.singletonList(lunch)));
+        assertArrayEquals(new int[] {0, 1, 2}, fridge.findByTags(Collections.singletonList(dinner)));
+        assertArrayEquals(new int[0], fridge.findByTags(Collections.singletonList(new Tag("FridgeTestUnused"))));
+    }
+
+    @Test
+    public void countBy_afterUpdates_countsMatchingFoods() throws IllegalValueException {
+        Tag lunch = new Tag("lunch");
+        Tag dinner = new Tag("dinner");
+        LocalDate date = chimken.getDate().toLocalDate();
+        fridge.setFoods(Arrays.asList(ramen.addTag(lunch), chimken, chimken.addTag(dinner).addTag(lunch)));
+        assertEquals(3, fridge.size());
+        assertEquals(3, fridge.countByDate(date, date));
+        assertEquals(0, fridge.countByDate(date.plusDays(1), date));
+        assertEquals(2, fridge.countByTags(Collections.singletonList(lunch)));
+        // a food item with both tags is counted once for each
+        assertEquals(3, fridge.countByTags(Arrays.asList(lunch, dinner)));
+        assertEquals(2, fridge.countByNameWords(Collections.singletonList("chimken")));
+
+        fridge.remove(Index.fromZeroBased(2));
+        assertEquals(2, fridge.size());
+        assertEquals(1, fridge.countByTags(Arrays.asList(lunch, dinner)));
+        assertEquals(1, fridge.countByNameWords(Arrays.asList("chimken", "FridgeTestUnused")));
+    }
+
+    @Test
+    public void add_takenId_newIdGiven() {
+        fridge.add(chimken);
+        fridge.add(chimken);
+        long firstId = fridge.asUnmodifiableObservableList().get(0).getId();
+        long secondId = fridge.asUnmodifiableObservableList().get(1).getId();
+        assertEquals(chimken.getId(), firstId);
+        assertFalse(firstId == secondId);
+        assertEquals(1, fridge.indexOf(secondId));
+
+        fridge.setFoods(List.of(ramen, ramen));
+        assertFalse(fridge.asUnmodifiableObservableList().get(0).getId()
+                == fridge.asUnmodifiableObservableList().get(1).getId());
+    }
+
     @Test
     public void add_nullFood_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> fridge.add(null));
@@ -110,6 +278,30 @@ class FridgeTest {
         assertEquals(expectedFridge, fridge);
     }
 
+    @Test
+    public void setFoods_fridge_laterChangesAreIndependent() {
+        Fridge copy = new Fridge();
+        fridge.add(chimken);
+        copy.setFoods(fridge);
+        fridge.add(ramen);
+        copy.remove(chimken);
+        assertEquals(Arrays.asList(chimken, ramen), new ArrayList<>(fridge.asUnmodifiableObservableList()));
+        assertTrue(copy.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void add_notifiesListeners() {
+        List<Food> added = new ArrayList<>();
+        fridge.asUnmodifiableObservableList().addListener((ListChangeListener<Food>) change -> {
+            while (change.next()) {
+                added.addAll(change.getAddedSubList());
+            }
+        });
+        fridge.add(chimken);
+        fridge.add(ramen);
+        assertEquals(Arrays.asList(chimken, ramen), added);
+    }
+
     @Test
     public void setFoods_nullList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> fridge.setFoods((List<Food>) null));
@@ -130,4 +322,86 @@ class FridgeTest {
         assertThrows(
                 UnsupportedOperationException.class, () -> fridge.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void findByNameWords_afterUpdates_findsFoodsByWordIgnoringCase() throws IllegalValueException {
+        Food chickenRice = new Food("Chicken Rice", 1, 2, 3);
+        Food friedRice = new Food("fried RICE", 1, 2, 3);
+        fridge.setFoods(Arrays.asList(chickenRice, chimken, friedRice));
+        assertArrayEquals(new int[] {0, 2}, fridge.findByNameWords(Collections.singletonList("rice")));
+        assertArrayEquals(new int[] {0, 1}, fridge.findByNameWords(Arrays.asList("CHICKEN", "chimken")));
+
+        fridge.remove(Index.fromZeroBased(0));
+        assertArrayEquals(new int[] {1}, fridge.findByNameWords(Collections.singletonList("Rice")));
+        fridge.setFood(Index.fromZeroBased(0), chickenRice);
+        fridge.add(ramen);
+        assertArrayEquals(new int[] {0, 1}, fridge.findByNameWords(Collections.singletonList("rice")));
+        assertArrayEquals(new int[] {2}, fridge.findByNameWords(Collections.singletonList("ramen")));
+        assertArrayEquals(new int[0], fridge.findByNameWords(Collections.singletonList("chimken")));
+    }
+
+    @Test
+    public void getTotals_afterUpdates_totalsOfFoodsInRange() throws IllegalValueException {
+        LocalDate today = chimken.getDate().toLocalDate();
+        fridge.add(chimken);
+        fridge.add(ramen);
+        assertEquals(new NutrientTotals(2, chimken.getCalories() + ramen.getCalories(), 3, 7, 5),
+                fridge.getTotals(today, today));
+
+        fridge.remove(Index.fromZeroBased(0));
+        fridge.setFood(Index.fromZeroBased(0), chimken);
+        assertEquals(new NutrientTotals(1, chimken.getCalories(), 1, 3, 2), fridge.getTotals(today, today));
+        assertEquals(NutrientTotals.EMPTY, fridge.getTotals(today.plusDays(1), LocalDate.MAX));
+
+        fridge.setFoods(Arrays.asList(ramen, ramen));
+        assertEquals(new NutrientTotals(2, 2 * ramen.getCalories(), 4, 8, 6),
+                fridge.getTotals(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void setFoods_largeList_sameBehaviourAsSmallList() throws IllegalValueException {
+        List<Food> foods = new ArrayList<>();
+        for (int i = 0; i < FoodStore.MIN_COLUMNAR_SIZE; i++) {
+            foods.add(new Food("Food " + (i % 100), i % 10, 1, 2));
+        }
+        fridge.setFoods(foods);
+        Fridge expectedFridge = new Fridge();
+        foods.forEach(expectedFridge::add);
+        assertEquals(expectedFridge, fridge);
+
+        fridge.remove(Index.fromZeroBased(0));
+        fridge.setFood(Index.fromZeroBased(0), ramen);
+        fridge.add(chimken);
+        assertEquals(FoodStore.MIN_COLUMNAR_SIZE, fridge.asUnmodifiableObservableList().size());
+        assertEquals(ramen, fridge.asUnmodifiableObservableList().get(0));
+        assertEquals(foods.get(2).getId(), fridge.asUnmodifiableObservableList().get(1).getId());
+        assertEquals(FoodStore.MIN_COLUMNAR_SIZE - 1, fridge.indexOf(chimken.getId()));
+        assertArrayEquals(new int[] {0}, fridge.findByNameWords(Collections.singletonList("ramen")));
+    }
+
+    @Test
+    public void setFoods_fridgeWithOneMoreItem_notifiesSingleAddition() throws IllegalValueException {
+        for (int i = 0; i < FoodStore.MIN_COLUMNAR_SIZE; i++) {
+            fridge.add(new Food("Food " + i, 1, 2, 3));
+        }
+        Fridge before = new Fridge();
+        before.setFoods(fridge);
+        fridge.remove(Index.fromZeroBased(42));
+
+        List<ListChangeListener.Change<? extends Food>> changes = new ArrayList<>();
+        List<Food> added = new ArrayList<>();
+        fridge.asUnmodifiableObservableList().addListener((ListChangeListener<Food>) change -> {
+            changes.add(change);
+            while (change.next()) {
+                assertEquals(42, change.getFrom());
+                assertTrue(change.getRemoved().isEmpty());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+        fridge.setFoods(before);
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of(before.asUnmodifiableObservableList().get(42)), added);
+        assertEquals(before, fridge);
+    }
 }
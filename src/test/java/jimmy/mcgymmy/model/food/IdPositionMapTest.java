@@ -0,0 +1,55 @@
+package jimmy.mcgymmy.model.food;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IdPositionMapTest {
+
+    @Test
+    public void get_missingId_returnsMinusOne() {
+        IdPositionMap map = new IdPositionMap();
+        assertEquals(-1, map.get(42));
+        assertFalse(map.containsKey(42));
+    }
+
+    @Test
+    public void put_existingId_replacesPosition() {
+        IdPositionMap map = new IdPositionMap();
+        map.put(42, 1);
+        map.put(42, 2);
+        assertEquals(2, map.get(42));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void updates_randomUpdates_sameAsHashMap() {
+        Random random = new Random(42);
+        long firstId = 1_600_000_000_000L << 20;
+        IdPositionMap map = new IdPositionMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int step = 0; step < 20000; step++) {
+            // a narrow range of ids, so that puts and removes often hit the same ids and their neighbours
+            long id = firstId + random.nextInt(2000);
+            if (random.nextInt(3) == 0) {
+                map.remove(id);
+                expected.remove(id);
+            } else {
+                int position = random.nextInt(1000);
+                map.put(id, position);
+                expected.put(id, position);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (long id = firstId - 10; id < firstId + 2010; id++) {
+            assertEquals(expected.getOrDefault(id, -1), map.get(id));
+        }
+        expected.keySet().forEach(id -> assertTrue(map.containsKey(id)));
+    }
+}
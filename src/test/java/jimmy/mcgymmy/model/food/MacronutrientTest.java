@@ -3,6 +3,7 @@ package jimmy.mcgymmy.model.food;
 import static jimmy.mcgymmy.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -70,6 +71,12 @@ class MacronutrientTest {
         assertFalse(macronutrient1.equals(macronutrient2));
     }
 
+    @Test
+    public void hashCode_equalMacronutrients_sameHashCode() {
+        assertEquals(defaultFat1.hashCode(), defaultFat2.hashCode());
+        assertNotEquals(defaultFat1.hashCode(), defaultProtein1.hashCode());
+    }
+
     @Test
     public void getTotalCalories() throws IllegalValueException {
         assertEquals(new MacronutrientStub(DEFAULT_AMOUNT, CORRECT_CARBOHYDRATE_MULTIPLIER).getTotalCalories(), 40);
@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.HashSet;
+
 import org.junit.jupiter.api.Test;
 
 import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
@@ -47,4 +50,11 @@ public class NameTest {
         Name name = new Name(nameStr);
         assertEquals(name.hashCode(), nameStr.hashCode());
     }
+
+    @Test
+    public void getWords_caseFoldedDistinctWords() throws IllegalValueException {
+        assertEquals(new HashSet<>(Arrays.asList("chicken", "rice")),
+                new Name("Chicken  RICE chicken").getWords());
+        assertEquals(Name.foldCase("Rice"), Name.foldCase("rICE"));
+    }
 }
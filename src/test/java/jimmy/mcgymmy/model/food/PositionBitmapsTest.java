@@ -0,0 +1,78 @@
+package jimmy.mcgymmy.model.food;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PositionBitmapsTest {
+
+    @Test
+    public void findAny_removedPositions_laterPositionsMovedDown() {
+        PositionBitmaps<String> bitmaps = new PositionBitmaps<>();
+        bitmaps.add("a", 0);
+        bitmaps.add("b", 1);
+        bitmaps.add("a", 2);
+        bitmaps.add("a", 3);
+        bitmaps.remove("b", 1);
+        bitmaps.shiftDown(1);
+        assertArrayEquals(new int[] {0, 1, 2}, bitmaps.findAny(List.of("a")));
+
+        bitmaps.remove("a", 1);
+        bitmaps.shiftDown(1);
+        bitmaps.add("b", 2);
+        assertArrayEquals(new int[] {0, 1}, bitmaps.findAny(List.of("a")));
+        assertArrayEquals(new int[] {0, 1, 2}, bitmaps.findAny(List.of("a", "b")));
+        assertEquals(3, bitmaps.countAny(List.of("a", "b", "c")));
+    }
+
+    @Test
+    public void updates_randomUpdates_sameAsList() {
+        Random random = new Random(42);
+        PositionBitmaps<Integer> bitmaps = new PositionBitmaps<>();
+        List<Integer> keys = new ArrayList<>();
+        // enough removals for the holes to be compacted several times
+        for (int step = 0; step < 5 * PositionBitmaps.MAX_HOLES * 10; step++) {
+            int choice = random.nextInt(10);
+            if (choice < 4 || keys.isEmpty()) {
+                int key = random.nextInt(5);
+                keys.add(key);
+                bitmaps.add(key, keys.size() - 1);
+            } else if (choice < 8) {
+                int position = random.nextInt(keys.size());
+                bitmaps.remove(keys.remove(position), position);
+                bitmaps.shiftDown(position);
+            } else {
+                int position = random.nextInt(keys.size());
+                int key = random.nextInt(5);
+                bitmaps.remove(keys.get(position), position);
+                bitmaps.add(key, position);
+                keys.set(position, key);
+            }
+            if (step % 50 == 0) {
+                assertSameAsList(keys, bitmaps);
+            }
+        }
+        assertSameAsList(keys, bitmaps);
+    }
+
+    private static void assertSameAsList(List<Integer> keys, PositionBitmaps<Integer> bitmaps) {
+        for (int key = 0; key < 5; key++) {
+            int[] expected = positionsOf(keys, key);
+            assertArrayEquals(expected, bitmaps.findAny(List.of(key)));
+            assertEquals(expected.length, bitmaps.countAny(List.of(key)));
+        }
+        int[] expected = IntStream.range(0, keys.size()).filter(i -> keys.get(i) < 2).toArray();
+        assertArrayEquals(expected, bitmaps.findAny(Arrays.asList(0, 1)));
+    }
+
+    private static int[] positionsOf(List<Integer> keys, int key) {
+        return IntStream.range(0, keys.size()).filter(i -> keys.get(i) == key).toArray();
+    }
+}
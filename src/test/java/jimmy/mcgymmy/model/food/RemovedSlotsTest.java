@@ -0,0 +1,55 @@
+package jimmy.mcgymmy.model.food;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class RemovedSlotsTest {
+
+    @Test
+    public void positionOf_removedSlots_laterSlotsMovedDown() {
+        RemovedSlots slots = new RemovedSlots(4);
+        slots.remove(1);
+        assertEquals(0, slots.positionOf(0));
+        assertEquals(1, slots.positionOf(2));
+        assertEquals(2, slots.positionOf(3));
+
+        assertEquals(4, slots.add());
+        slots.remove(0);
+        assertEquals(0, slots.positionOf(2));
+        assertEquals(2, slots.positionOf(4));
+        assertEquals(2, slots.getRemovedCount());
+    }
+
+    @Test
+    public void updates_randomUpdates_sameAsList() {
+        Random random = new Random(42);
+        RemovedSlots slots = new RemovedSlots(10);
+        List<Integer> list = new ArrayList<>();
+        for (int slot = 0; slot < 10; slot++) {
+            list.add(slot);
+        }
+        // enough additions for the tree to grow several times
+        for (int step = 0; step < 5000; step++) {
+            if (list.isEmpty() || random.nextInt(3) != 0) {
+                list.add(slots.add());
+            } else {
+                slots.remove(list.remove(random.nextInt(list.size())));
+            }
+            if (step % 100 == 0) {
+                assertSameAsList(list, slots);
+            }
+        }
+        assertSameAsList(list, slots);
+    }
+
+    private static void assertSameAsList(List<Integer> list, RemovedSlots slots) {
+        for (int position = 0; position < list.size(); position++) {
+            assertEquals(position, slots.positionOf(list.get(position)));
+        }
+    }
+}
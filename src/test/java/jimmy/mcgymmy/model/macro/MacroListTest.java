@@ -1,6 +1,12 @@
 package jimmy.mcgymmy.model.macro;
 
 import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -16,4 +22,38 @@ public class MacroListTest {
         assertThrows(DuplicateMacroException.class, ()->macroList.withNewMacro(duplicateMacro1));
         assertThrows(DuplicateMacroException.class, ()->macroList.withNewMacro(duplicateMacro2));
     }
+
+    @Test
+    public void withView_sameName_viewReplacedAndMacrosKept() throws Exception {
+        Macro dummyMacro = new Macro("test2", new String[]{}, new String[]{});
+        SavedView lunch = new SavedView("lunch", "tag lunch");
+        SavedView today = new SavedView("today", "date = 01-10-2020");
+        SavedView newLunch = new SavedView("lunch", "tag lunch and calories < 800");
+        MacroList macroList = new MacroList().withView(lunch).withNewMacro(dummyMacro).withView(today);
+        assertEquals(Arrays.asList(lunch, today), macroList.getViews());
+
+        MacroList replaced = macroList.withView(newLunch);
+        assertEquals(Arrays.asList(today, newLunch), replaced.getViews());
+        assertEquals(newLunch, replaced.getView("lunch"));
+        assertTrue(replaced.hasMacro("test2"));
+        // the original list is unchanged
+        assertEquals(lunch, macroList.getView("lunch"));
+    }
+
+    @Test
+    public void withoutView_viewRemovedAndMacrosKept() throws Exception {
+        Macro dummyMacro = new Macro("test2", new String[]{}, new String[]{});
+        MacroList macroList = new MacroList().withNewMacro(dummyMacro).withView(new SavedView("lunch", "tag lunch"));
+        MacroList removed = macroList.withoutView("lunch").withoutMacro("test3");
+        assertFalse(removed.hasView("lunch"));
+        assertTrue(macroList.hasView("lunch"));
+        assertTrue(removed.hasMacro("test2"));
+    }
+
+    @Test
+    public void constructor_duplicateViews_throwsError() throws Exception {
+        SavedView lunch = new SavedView("lunch", "tag lunch");
+        assertThrows(DuplicateMacroException.class, () -> new MacroList(Collections.emptyList(),
+                Arrays.asList(lunch, new SavedView("lunch", "tag dinner"))));
+    }
 }
@@ -0,0 +1,39 @@
+package jimmy.mcgymmy.model.macro;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+public class SavedViewTest {
+    @Test
+    public void constructor_invalidView_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, SavedView.MESSAGE_CONSTRAINTS, () -> new SavedView(" ", "tag lunch"));
+        assertThrows(IllegalValueException.class, () -> new SavedView("lunch", "tag lunch and"));
+    }
+
+    @Test
+    public void getPredicate_matchesQuery() throws Exception {
+        SavedView view = new SavedView("lunch", "tag lunch and not name cookies");
+        assertSame(view.getPredicate(), view.getPredicate());
+        assertTrue(view.getPredicate().test(TypicalFoods.getChickenRice()));
+        assertFalse(view.getPredicate().test(TypicalFoods.getDanishCookies()));
+        assertFalse(view.getPredicate().test(TypicalFoods.getCrispyFriedFish()));
+    }
+
+    @Test
+    public void equals() throws Exception {
+        SavedView view = new SavedView("lunch", "tag lunch");
+        assertEquals(view, new SavedView("lunch", "tag lunch"));
+        assertNotEquals(view, new SavedView("lunches", "tag lunch"));
+        assertNotEquals(view, new SavedView("lunch", "tag dinner"));
+        assertNotEquals(view, null);
+    }
+}
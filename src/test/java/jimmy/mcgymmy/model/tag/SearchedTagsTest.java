@@ -0,0 +1,37 @@
+package jimmy.mcgymmy.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+
+public class SearchedTagsTest {
+
+    @Test
+    public void getTagSet_unknownTag_notGivenId() throws IllegalValueException {
+        Tag unknown = new Tag("SearchedUnknown");
+        SearchedTags searchedTags = new SearchedTags(Collections.singletonList(unknown));
+        assertSame(TagSet.EMPTY, searchedTags.getTagSet());
+        assertEquals(-1, TagDictionary.find(unknown));
+    }
+
+    @Test
+    public void getTagSet_tagGivenIdLater_tagIncluded() throws IllegalValueException {
+        Tag known = new Tag("SearchedKnown");
+        Tag later = new Tag("SearchedLater");
+        TagSet knownSet = TagSet.of(Collections.singletonList(known));
+        SearchedTags searchedTags = new SearchedTags(Arrays.asList(known, later));
+        assertTrue(searchedTags.getTagSet().intersects(knownSet));
+
+        TagSet laterSet = TagSet.of(Collections.singletonList(later));
+        assertTrue(searchedTags.getTagSet().intersects(laterSet));
+        assertFalse(searchedTags.getTagSet().intersects(TagSet.EMPTY));
+    }
+}
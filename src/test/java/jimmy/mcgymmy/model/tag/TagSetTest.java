@@ -0,0 +1,82 @@
+package jimmy.mcgymmy.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+
+public class TagSetTest {
+
+    private static List<Tag> makeTags(int count) throws IllegalValueException {
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(new Tag("TagSetTest" + i));
+        }
+        return tags;
+    }
+
+    @Test
+    public void of_noTags_sharesEmptySet() {
+        assertSame(TagSet.EMPTY, TagSet.of(Collections.emptySet()));
+        assertTrue(TagSet.EMPTY.isEmpty());
+        assertTrue(TagSet.EMPTY.asSet().isEmpty());
+    }
+
+    @Test
+    public void asSet_manyTags_sameTagsAsHashSet() throws IllegalValueException {
+        // more tags than fit in one word
+        List<Tag> tags = makeTags(100);
+        TagSet tagSet = TagSet.of(tags);
+        assertEquals(new HashSet<>(tags), tagSet.asSet());
+        assertSame(tagSet, TagSet.of(new HashSet<>(tags)));
+        assertEquals(tagSet.hashCode(), TagSet.of(new HashSet<>(tags)).hashCode());
+        assertEquals(tags.stream().map(TagDictionary::find).sorted().collect(Collectors.toList()),
+                tagSet.ids().boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void contains() throws IllegalValueException {
+        TagSet tagSet = TagSet.of(Arrays.asList(new Tag("lunch"), new Tag("dinner")));
+        assertTrue(tagSet.contains(new Tag("lunch")));
+        assertFalse(tagSet.contains(new Tag("Lunch")));
+        assertFalse(tagSet.contains(new Tag("TagSetTestNeverUsed")));
+        assertEquals(-1, TagDictionary.find(new Tag("TagSetTestNeverUsed")));
+    }
+
+    @Test
+    public void withAndWithout_returnNewSets() throws IllegalValueException {
+        List<Tag> tags = makeTags(70);
+        Tag last = tags.get(69);
+        TagSet first = TagSet.of(tags.subList(0, 1));
+
+        TagSet both = first.with(last);
+        assertEquals(new HashSet<>(Arrays.asList(tags.get(0), last)), both.asSet());
+        assertFalse(first.contains(last));
+        assertSame(both, both.with(last));
+
+        // removing the only tag in the last word trims it, so the sets are equal again
+        assertEquals(first, both.without(last));
+        assertSame(first, first.without(last));
+        assertSame(TagSet.EMPTY, first.without(tags.get(0)));
+    }
+
+    @Test
+    public void intersects() throws IllegalValueException {
+        List<Tag> tags = makeTags(3);
+        TagSet firstTwo = TagSet.of(tags.subList(0, 2));
+        assertTrue(firstTwo.intersects(TagSet.of(tags.subList(1, 3))));
+        assertFalse(firstTwo.intersects(TagSet.of(tags.subList(2, 3))));
+        assertFalse(firstTwo.intersects(TagSet.EMPTY));
+    }
+}
@@ -0,0 +1,130 @@
+package jimmy.mcgymmy.storage;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jimmy.mcgymmy.model.McGymmy;
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+public class BinaryMcGymmyStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readMcGymmy_missingFiles_emptyResult() throws Exception {
+        assertFalse(new BinaryMcGymmyStorage(testFolder.resolve("missing.json")).readMcGymmy().isPresent());
+    }
+
+    @Test
+    public void saveMcGymmy_typicalFoods_snapshotReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        McGymmy original = TypicalFoods.getTypicalMcGymmy();
+        BinaryMcGymmyStorage storage = new BinaryMcGymmyStorage(filePath);
+        storage.saveMcGymmy(original);
+
+        assertTrue(Files.exists(storage.getSnapshotFilePath()));
+        assertTrue(Files.size(storage.getSnapshotFilePath()) < Files.size(filePath));
+        assertEquals(original, new McGymmy(new BinaryMcGymmyStorage(filePath).readSnapshot().get()));
+        assertEquals(original, new McGymmy(new BinaryMcGymmyStorage(filePath).readMcGymmy().get()));
+        // the json file is kept up to date as well
+        assertEquals(original, new McGymmy(new JsonMcGymmyStorage(filePath).readMcGymmy().get()));
+    }
+
+    @Test
+    public void saveMcGymmy_typicalFoods_idsKept() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        McGymmy original = TypicalFoods.getTypicalMcGymmy();
+        new BinaryMcGymmyStorage(filePath).saveMcGymmy(original);
+
+        List<Food> readBack = new BinaryMcGymmyStorage(filePath).readSnapshot().get().getFoodList();
+        for (int i = 0; i < readBack.size(); i++) {
+            assertEquals(original.getFoodList().get(i).getId(), readBack.get(i).getId());
+        }
+    }
+
+    @Test
+    public void readMcGymmy_jsonChangedAfterSnapshot_readsJson() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        BinaryMcGymmyStorage storage = new BinaryMcGymmyStorage(filePath);
+        storage.saveMcGymmy(TypicalFoods.getTypicalMcGymmy());
+
+        // The data file is edited without going through this storage
+        McGymmy edited = TypicalFoods.getTypicalMcGymmy();
+        edited.addFood(TypicalFoods.getHotPlate());
+        new JsonMcGymmyStorage(filePath).saveMcGymmy(edited);
+
+        assertFalse(storage.readSnapshot().isPresent());
+        assertEquals(edited, new McGymmy(storage.readMcGymmy().get()));
+    }
+
+    @Test
+    public void readMcGymmy_jsonTouchedAfterSnapshot_readsJson() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        BinaryMcGymmyStorage storage = new BinaryMcGymmyStorage(filePath);
+        storage.saveMcGymmy(TypicalFoods.getTypicalMcGymmy());
+        Files.setLastModifiedTime(filePath,
+                FileTime.fromMillis(Files.getLastModifiedTime(filePath).toMillis() + 1000));
+
+        assertFalse(storage.readSnapshot().isPresent());
+        assertEquals(TypicalFoods.getTypicalMcGymmy(), new McGymmy(storage.readMcGymmy().get()));
+    }
+
+    @Test
+    public void readMcGymmy_corruptedSnapshot_readsJson() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        BinaryMcGymmyStorage storage = new BinaryMcGymmyStorage(filePath);
+        storage.saveMcGymmy(TypicalFoods.getTypicalMcGymmy());
+
+        // Keep the header, but cut off the food records
+        byte[] snapshot = Files.readAllBytes(storage.getSnapshotFilePath());
+        byte[] truncated = new byte[snapshot.length - 10];
+        System.arraycopy(snapshot, 0, truncated, 0, truncated.length);
+        Files.write(storage.getSnapshotFilePath(), truncated);
+
+        assertFalse(storage.readSnapshot().isPresent());
+        assertEquals(TypicalFoods.getTypicalMcGymmy(), new McGymmy(storage.readMcGymmy().get()));
+    }
+
+    @Test
+    public void readMcGymmy_unknownVersion_readsJson() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        BinaryMcGymmyStorage storage = new BinaryMcGymmyStorage(filePath);
+        storage.saveMcGymmy(TypicalFoods.getTypicalMcGymmy());
+
+        byte[] snapshot = Files.readAllBytes(storage.getSnapshotFilePath());
+        ByteBuffer.wrap(snapshot).putInt(Integer.BYTES, BinaryMcGymmyStorage.FORMAT_VERSION + 1);
+        Files.write(storage.getSnapshotFilePath(), snapshot);
+
+        assertFalse(storage.readSnapshot().isPresent());
+        assertEquals(TypicalFoods.getTypicalMcGymmy(), new McGymmy(storage.readMcGymmy().get()));
+    }
+
+    @Test
+    public void saveMcGymmy_otherFilePath_noSnapshot() throws Exception {
+        Path otherPath = testFolder.resolve("Export.json");
+        McGymmy original = TypicalFoods.getTypicalMcGymmy();
+        new BinaryMcGymmyStorage(testFolder.resolve("TempMcGymmy.json")).saveMcGymmy(original, otherPath);
+
+        assertEquals(original, new McGymmy(new JsonMcGymmyStorage(otherPath).readMcGymmy().get()));
+        assertFalse(Files.exists(testFolder.resolve("Export.json.bin")));
+    }
+
+    @Test
+    public void saveMcGymmy_nullMcGymmy_throwsNullPointerException() {
+        BinaryMcGymmyStorage storage = new BinaryMcGymmyStorage(testFolder.resolve("TempMcGymmy.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveMcGymmy(null));
+    }
+}
@@ -0,0 +1,88 @@
+package jimmy.mcgymmy.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.Fridge;
+
+/**
+ * Measures the heap taken by a generated log of food items, loaded the same way as from a save file, first as a
+ * list of {@code Food} objects and then in a {@code Fridge}, which stores large logs in columns.
+ * <p>
+ * Not run as part of the tests. Run the {@code main} method with the test classpath, optionally giving the number
+ * of food items (one million by default), for example with {@code -Xmx2g} to leave room for the largest logs.
+ */
+public class FoodHeapBenchmark {
+
+    private static final int NAME_COUNT = 300;
+    private static final int DAY_COUNT = 365;
+    private static final int MAX_AMOUNT = 100;
+
+    /**
+     * Generates the food items and prints the heap they take and how many distinct instances of each field there are.
+     */
+    public static void main(String[] args) throws IllegalValueException {
+        int foodCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Random random = new Random(42);
+
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+        List<Food> foods = new ArrayList<>(foodCount);
+        for (int i = 0; i < foodCount; i++) {
+            // each string is a new instance, as it would be when read from a file
+            String name = "Food " + random.nextInt(NAME_COUNT);
+            String date = String.format("2020-%02d-%02d", 1 + random.nextInt(12), 1 + random.nextInt(28));
+            List<JsonAdaptedTag> tags = random.nextInt(4) == 0
+                    ? Collections.singletonList(new JsonAdaptedTag("Tag" + random.nextInt(10)))
+                    : Collections.emptyList();
+            JsonAdaptedFood adaptedFood =
+                    new JsonAdaptedFood(name, amount(random), amount(random), amount(random), date, tags);
+            foods.add(adaptedFood.toModelType());
+        }
+        long elapsed = System.nanoTime() - start;
+        long heapAfter = usedHeap();
+
+        System.out.printf("Loaded %,d food items in %,d ms%n", foodCount, elapsed / 1_000_000);
+        long heapUsed = heapAfter - heapBefore;
+        System.out.printf("Heap used: %,d bytes (%,d bytes per food item)%n", heapUsed, heapUsed / foodCount);
+        printDistinct("names", foods, Food::getName);
+        printDistinct("dates", foods, Food::getDate);
+        printDistinct("proteins", foods, Food::getProtein);
+        printDistinct("fats", foods, Food::getFat);
+        printDistinct("carbs", foods, Food::getCarbs);
+        printDistinct("tag sets", foods, Food::getTagSet);
+
+        Fridge fridge = new Fridge();
+        fridge.setFoods(foods);
+        // only the fridge is left holding the food items
+        foods = null;
+        long fridgeHeapUsed = usedHeap() - heapBefore;
+        System.out.printf("Heap used in a fridge of %,d food items: %,d bytes (%,d bytes per food item)%n",
+                fridge.asUnmodifiableObservableList().size(), fridgeHeapUsed, fridgeHeapUsed / foodCount);
+    }
+
+    private static String amount(Random random) {
+        return Integer.toString(random.nextInt(MAX_AMOUNT));
+    }
+
+    private static void printDistinct(String field, List<Food> foods, Function<Food, Object> getter) {
+        Set<Object> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        foods.forEach(food -> instances.add(getter.apply(food)));
+        System.out.printf("Distinct %s instances: %,d%n", field, instances.size());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,179 @@
+package jimmy.mcgymmy.storage;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jimmy.mcgymmy.commons.core.index.Index;
+import jimmy.mcgymmy.commons.exceptions.DataConversionException;
+import jimmy.mcgymmy.model.McGymmy;
+import jimmy.mcgymmy.model.ReadOnlyMcGymmy;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+public class JournalMcGymmyStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readMcGymmy_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalMcGymmyStorage(testFolder.resolve("missing.json")).readMcGymmy().isPresent());
+    }
+
+    @Test
+    public void saveMcGymmy_changes_onlyAppendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        McGymmy original = TypicalFoods.getTypicalMcGymmy();
+        JournalMcGymmyStorage storage = new JournalMcGymmyStorage(filePath);
+
+        // First save writes a full snapshot
+        storage.saveMcGymmy(original);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        // Later saves leave the snapshot alone and append one record per change
+        original.addFood(TypicalFoods.getHotPlate());
+        original.setFood(Index.fromZeroBased(1), TypicalFoods.getIndomee());
+        storage.saveMcGymmy(original);
+        original.removeFood(Index.fromZeroBased(0));
+        storage.saveMcGymmy(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        ReadOnlyMcGymmy readBack = new JournalMcGymmyStorage(filePath).readMcGymmy().get();
+        assertEquals(original, new McGymmy(readBack));
+    }
+
+    @Test
+    public void saveMcGymmy_resetData_replayedCorrectly() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        McGymmy original = TypicalFoods.getTypicalMcGymmy();
+        JournalMcGymmyStorage storage = new JournalMcGymmyStorage(filePath);
+        storage.saveMcGymmy(original);
+
+        // replaces too many items to be recorded one by one
+        McGymmy replacement = new McGymmy();
+        for (int i = 0; i < 20; i++) {
+            replacement.addFood(TypicalFoods.getApple());
+        }
+        original.resetData(replacement);
+        storage.saveMcGymmy(original);
+
+        assertEquals(original, new McGymmy(new JournalMcGymmyStorage(filePath).readMcGymmy().get()));
+    }
+
+    @Test
+    public void saveMcGymmy_resetData_fullSnapshotInsteadOfRecords() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        McGymmy original = TypicalFoods.getTypicalMcGymmy();
+        JournalMcGymmyStorage storage = new JournalMcGymmyStorage(filePath);
+        storage.saveMcGymmy(original);
+
+        original.addFood(TypicalFoods.getHotPlate());
+        ReadOnlyMcGymmy beforeReset = storage.snapshot(original);
+        // replaces too many items to be recorded one by one
+        McGymmy replacement = new McGymmy();
+        for (int i = 0; i < 20; i++) {
+            replacement.addFood(TypicalFoods.getApple());
+        }
+        original.resetData(replacement);
+
+        // a save started before the reset still only appends the changes up to it
+        storage.saveMcGymmy(beforeReset);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(new McGymmy(beforeReset), new McGymmy(new JournalMcGymmyStorage(filePath).readMcGymmy().get()));
+
+        storage.saveMcGymmy(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new McGymmy(new JournalMcGymmyStorage(filePath).readMcGymmy().get()));
+    }
+
+    @Test
+    public void saveMcGymmy_pastThreshold_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        McGymmy original = TypicalFoods.getTypicalMcGymmy();
+        JournalMcGymmyStorage storage = new JournalMcGymmyStorage(filePath, 2);
+        storage.saveMcGymmy(original);
+
+        original.addFood(TypicalFoods.getHotPlate());
+        storage.saveMcGymmy(original);
+        original.addFood(TypicalFoods.getIndomee());
+        storage.saveMcGymmy(original);
+        storage.flush();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new McGymmy(new JournalMcGymmyStorage(filePath).readMcGymmy().get()));
+
+        // Records after the compaction are replayed on top of the new snapshot
+        original.removeFood(Index.fromZeroBased(0));
+        storage.saveMcGymmy(original);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new McGymmy(new JournalMcGymmyStorage(filePath).readMcGymmy().get()));
+    }
+
+    @Test
+    public void readMcGymmy_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        McGymmy original = TypicalFoods.getTypicalMcGymmy();
+        JournalMcGymmyStorage storage = new JournalMcGymmyStorage(filePath);
+        storage.saveMcGymmy(original);
+        original.addFood(TypicalFoods.getHotPlate());
+        storage.saveMcGymmy(original);
+
+        Files.write(storage.getJournalFilePath(), "{\"seq\":99,\"op\":\"ad".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(original, new McGymmy(new JournalMcGymmyStorage(filePath).readMcGymmy().get()));
+    }
+
+    @Test
+    public void readMcGymmy_invalidRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        JournalMcGymmyStorage storage = new JournalMcGymmyStorage(filePath);
+        storage.saveMcGymmy(TypicalFoods.getTypicalMcGymmy());
+        Files.write(storage.getJournalFilePath(),
+                "{\"seq\":1,\"op\":\"remove\",\"index\":100,\"count\":1}\n{}\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataConversionException.class, () -> new JournalMcGymmyStorage(filePath).readMcGymmy());
+    }
+
+    @Test
+    public void readMcGymmy_plainJsonSnapshot_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        McGymmy original = TypicalFoods.getTypicalMcGymmy();
+        JournalMcGymmyStorage storage = new JournalMcGymmyStorage(filePath);
+        storage.saveMcGymmy(original);
+        original.addFood(TypicalFoods.getHotPlate());
+        storage.saveMcGymmy(original);
+
+        // The data file is later rewritten in plain json mode
+        McGymmy rewritten = TypicalFoods.getTypicalMcGymmy();
+        new JsonMcGymmyStorage(filePath).saveMcGymmy(rewritten);
+
+        assertEquals(rewritten, new McGymmy(new JournalMcGymmyStorage(filePath).readMcGymmy().get()));
+    }
+
+    @Test
+    public void saveMcGymmy_otherFilePath_savedAsPlainJson() throws Exception {
+        Path otherPath = testFolder.resolve("Export.json");
+        McGymmy original = TypicalFoods.getTypicalMcGymmy();
+        new JournalMcGymmyStorage(testFolder.resolve("TempMcGymmy.json")).saveMcGymmy(original, otherPath);
+
+        assertEquals(original, new McGymmy(new JsonMcGymmyStorage(otherPath).readMcGymmy().get()));
+        assertTrue(Files.exists(otherPath));
+    }
+
+    @Test
+    public void saveMcGymmy_nullMcGymmy_throwsNullPointerException() {
+        JournalMcGymmyStorage storage = new JournalMcGymmyStorage(testFolder.resolve("TempMcGymmy.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveMcGymmy(null));
+    }
+}
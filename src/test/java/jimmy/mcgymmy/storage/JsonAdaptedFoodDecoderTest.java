@@ -0,0 +1,73 @@
+package jimmy.mcgymmy.storage;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.model.food.Name;
+import jimmy.mcgymmy.testutil.FoodBuilder;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+public class JsonAdaptedFoodDecoderTest {
+
+    private static final JsonAdaptedFood INVALID_FOOD =
+            new JsonAdaptedFood("R@chel", "1", "1", "1", "2 Sep 2020", new ArrayList<>());
+
+    private final JsonAdaptedFoodDecoder decoder = new JsonAdaptedFoodDecoder(ForkJoinPool.commonPool(), 3);
+
+    @Test
+    public void decode_manyChunks_orderPreserved() throws Exception {
+        List<Food> foods = new ArrayList<>();
+        List<JsonAdaptedFood> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Food food = new FoodBuilder(TypicalFoods.getChickenRice()).withName(new Name("Food " + i)).build();
+            foods.add(food);
+            records.add(new JsonAdaptedFood(food));
+        }
+        assertEquals(foods, decoder.decode(records));
+    }
+
+    @Test
+    public void decode_emptyList_emptyResult() throws Exception {
+        assertTrue(decoder.decode(new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    public void decode_invalidRecords_firstInvalidRecordReported() {
+        List<JsonAdaptedFood> records = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            records.add(new JsonAdaptedFood(TypicalFoods.getApple()));
+        }
+        records.set(41, INVALID_FOOD);
+        records.set(17, INVALID_FOOD);
+
+        String expectedMessage = String.format(JsonAdaptedFoodDecoder.MESSAGE_INVALID_FOOD, 18,
+                Name.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> decoder.decode(records));
+
+        // Records in a later batch are numbered from the start of the file
+        String offsetMessage = String.format(JsonAdaptedFoodDecoder.MESSAGE_INVALID_FOOD, 1018,
+                Name.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, offsetMessage, () -> decoder.decode(records, 1000));
+    }
+
+    @Test
+    public void decode_defaultPool_sameAsSequential() throws Exception {
+        List<JsonAdaptedFood> records = new ArrayList<>();
+        List<Food> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Food food = TypicalFoods.getTypicalFoodItems().get(i % TypicalFoods.getTypicalFoodItems().size());
+            records.add(new JsonAdaptedFood(food));
+            expected.add(food);
+        }
+        assertEquals(expected, new JsonAdaptedFoodDecoder().decode(records));
+    }
+}
@@ -13,6 +13,7 @@ import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
 import jimmy.mcgymmy.model.date.Date;
 import jimmy.mcgymmy.model.food.Carbohydrate;
 import jimmy.mcgymmy.model.food.Fat;
+import jimmy.mcgymmy.model.food.Food;
 import jimmy.mcgymmy.model.food.Name;
 import jimmy.mcgymmy.model.food.Protein;
 import jimmy.mcgymmy.testutil.Assert;
@@ -41,6 +42,25 @@ public class JsonAdaptedFoodTest {
         Assertions.assertEquals(TypicalFoods.getNasiLemak(), food.toModelType());
     }
 
+    @Test
+    public void toModelType_savedId_idKept() throws Exception {
+        Food food = new JsonAdaptedFood(42L, VALID_NAME, VALID_PROTEIN, VALID_FAT, VALID_CARBS, VALID_DATE,
+                VALID_TAGS).toModelType();
+        Assertions.assertEquals(42L, food.getId());
+        Assertions.assertEquals(TypicalFoods.getNasiLemak().getId(),
+                new JsonAdaptedFood(TypicalFoods.getNasiLemak()).toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_missingId_newIdGenerated() throws Exception {
+        Food first = new JsonAdaptedFood(VALID_NAME, VALID_PROTEIN, VALID_FAT, VALID_CARBS, VALID_DATE,
+                VALID_TAGS).toModelType();
+        Food second = new JsonAdaptedFood(VALID_NAME, VALID_PROTEIN, VALID_FAT, VALID_CARBS, VALID_DATE,
+                VALID_TAGS).toModelType();
+        Assertions.assertEquals(first, second);
+        Assertions.assertNotEquals(first.getId(), second.getId());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedFood food =
@@ -0,0 +1,30 @@
+package jimmy.mcgymmy.storage;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import jimmy.mcgymmy.commons.exceptions.IllegalValueException;
+import jimmy.mcgymmy.model.macro.SavedView;
+
+public class JsonAdaptedSavedViewTest {
+    @Test
+    public void toSavedView_validView_success() throws Exception {
+        SavedView view = new SavedView("lunch", "tag lunch and calories < 800");
+        assertEquals(view, new JsonAdaptedSavedView(view).toSavedView());
+    }
+
+    @Test
+    public void toSavedView_missingField_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedSavedView.MISSING_FIELD_MESSAGE_FORMAT,
+                "name"), () -> new JsonAdaptedSavedView(null, "tag lunch").toSavedView());
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedSavedView.MISSING_FIELD_MESSAGE_FORMAT,
+                "query"), () -> new JsonAdaptedSavedView("lunch", null).toSavedView());
+    }
+
+    @Test
+    public void toSavedView_invalidQuery_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> new JsonAdaptedSavedView("lunch", "tag").toSavedView());
+    }
+}
@@ -2,22 +2,29 @@ package jimmy.mcgymmy.storage;
 
 import static jimmy.mcgymmy.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import jimmy.mcgymmy.commons.exceptions.DataConversionException;
 import jimmy.mcgymmy.model.macro.Macro;
 import jimmy.mcgymmy.model.macro.MacroList;
+import jimmy.mcgymmy.model.macro.SavedView;
 
 public class JsonMacroListStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonMacroListStorageTest");
 
+    @TempDir
+    public Path testFolder;
+
     private Optional<MacroList> readMacroList(String filePath) throws Exception {
         return new JsonMacroListStorage(TEST_DATA_FOLDER.resolve(filePath)).readMacroList();
     }
@@ -49,4 +56,31 @@ public class JsonMacroListStorageTest {
     public void toModelType_invalidFoodFile_throwsIllegalValueException() throws Exception {
         assertThrows(DataConversionException.class, () -> readMacroList("invalidMacroList.json"));
     }
+
+    @Test
+    public void validMacroList_noViews_emptyViews() throws Exception {
+        assertTrue(readMacroList("validMacroList.json").get().getViews().isEmpty());
+    }
+
+    @Test
+    public void validMacroListWithViews_success() throws Exception {
+        MacroList macroList = readMacroList("validMacroListWithViews.json").get();
+        assertTrue(macroList.hasMacro("first"));
+        assertEquals(Arrays.asList(new SavedView("lunch", "tag lunch"), new SavedView("highprotein", "protein >= 500")),
+                macroList.getViews());
+    }
+
+    @Test
+    public void read_invalidView_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readMacroList("invalidViewMacroList.json"));
+    }
+
+    @Test
+    public void saveAndReadMacroList_withViews_allInOrder() throws Exception {
+        Path filePath = testFolder.resolve("macroList.json");
+        MacroList original = new MacroList().withView(new SavedView("today", "date = 01-10-2020"))
+                .withView(new SavedView("lunch", "tag lunch"));
+        new JsonMacroListStorage(filePath).saveMacroList(original);
+        assertEquals(original.getViews(), new JsonMacroListStorage(filePath).readMacroList().get().getViews());
+    }
 }
@@ -0,0 +1,81 @@
+package jimmy.mcgymmy.storage;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jimmy.mcgymmy.commons.exceptions.DataConversionException;
+import jimmy.mcgymmy.model.McGymmy;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+public class JsonMcGymmyReaderTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableMcGymmyTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalFoodFile_success() throws Exception {
+        JsonMcGymmyReader reader = new JsonMcGymmyReader(TEST_DATA_FOLDER.resolve("typicalFoodMcGymmy.json"));
+        assertEquals(TypicalFoods.getTypicalMcGymmy(), new McGymmy(reader.read().get()));
+        assertEquals(Optional.empty(), reader.getJournalSequence());
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonMcGymmyReader(testFolder.resolve("missing.json")).read().isPresent());
+    }
+
+    @Test
+    public void read_unknownFieldsAndJournalSequence_success() throws Exception {
+        Path filePath = testFolder.resolve("extra.json");
+        Files.writeString(filePath, "{ \"extra\": { \"food\": [1, 2] }, \"journalSequence\": 42, \"food\": [ "
+                + "{ \"name\": \"Apple\", \"protein\": \"1\", \"fat\": \"0\", \"carbs\": \"25\", "
+                + "\"date\": \"2 Sep 2020\", \"unknown\": [] } ] }");
+
+        JsonMcGymmyReader reader = new JsonMcGymmyReader(filePath);
+        assertEquals(1, reader.read().get().getFoodList().size());
+        assertEquals(Optional.of(42L), reader.getJournalSequence());
+    }
+
+    @Test
+    public void read_notJsonObject_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("array.json");
+        Files.writeString(filePath, "[]");
+        assertThrows(DataConversionException.class, () -> new JsonMcGymmyReader(filePath).read());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.json");
+        Files.writeString(filePath, "{ \"food\": [ { \"name\": \"Apple\", \"protein\": \"1\"");
+        assertThrows(DataConversionException.class, () -> new JsonMcGymmyReader(filePath).read());
+    }
+
+    @Test
+    public void read_nullFood_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("null.json");
+        Files.writeString(filePath, "{ \"food\": [ null ] }");
+        assertThrows(DataConversionException.class, () -> new JsonMcGymmyReader(filePath).read());
+    }
+
+    @Test
+    public void read_largeFile_readsAllFoods() throws Exception {
+        McGymmy original = new McGymmy();
+        for (int i = 0; i < 5000; i++) {
+            original.addFood(TypicalFoods.getHotPlate());
+        }
+        Path filePath = testFolder.resolve("large.json");
+        new JsonMcGymmyStorage(filePath).saveMcGymmy(original);
+
+        assertEquals(original, new McGymmy(new JsonMcGymmyReader(filePath).read().get()));
+    }
+}
@@ -0,0 +1,70 @@
+package jimmy.mcgymmy.storage;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jimmy.mcgymmy.commons.core.Config.JsonFormat;
+import jimmy.mcgymmy.commons.util.JsonUtil;
+import jimmy.mcgymmy.model.McGymmy;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+public class JsonMcGymmyWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_prettyFormat_sameAsJsonUtil() throws Exception {
+        Path filePath = testFolder.resolve("pretty.json");
+        McGymmy mcGymmy = TypicalFoods.getTypicalMcGymmy();
+        new JsonMcGymmyWriter(filePath, JsonFormat.PRETTY).write(mcGymmy);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableMcGymmy(mcGymmy)), Files.readString(filePath));
+    }
+
+    @Test
+    public void write_compactFormat_singleLine() throws Exception {
+        Path filePath = testFolder.resolve("compact.json");
+        McGymmy mcGymmy = TypicalFoods.getTypicalMcGymmy();
+        new JsonMcGymmyWriter(filePath, JsonFormat.COMPACT).write(mcGymmy);
+
+        String content = Files.readString(filePath);
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableMcGymmy(mcGymmy)), content);
+        assertFalse(content.contains("\n"));
+        assertEquals(mcGymmy, new McGymmy(new JsonMcGymmyReader(filePath).read().get()));
+    }
+
+    @Test
+    public void write_journalSequence_readBack() throws Exception {
+        Path filePath = testFolder.resolve("snapshot.json");
+        McGymmy mcGymmy = TypicalFoods.getTypicalMcGymmy();
+        new JsonMcGymmyWriter(filePath, JsonFormat.PRETTY).write(mcGymmy, 42);
+
+        JsonMcGymmyReader reader = new JsonMcGymmyReader(filePath);
+        assertEquals(mcGymmy, new McGymmy(reader.read().get()));
+        assertEquals(42L, reader.getJournalSequence().get());
+    }
+
+    @Test
+    public void write_missingParentDirectory_created() throws Exception {
+        Path filePath = testFolder.resolve("nested").resolve("data.json");
+        new JsonMcGymmyWriter(filePath, JsonFormat.PRETTY).write(new McGymmy());
+
+        assertTrue(Files.exists(filePath));
+        assertEquals(new McGymmy(), new McGymmy(new JsonMcGymmyReader(filePath).read().get()));
+    }
+
+    @Test
+    public void write_nullMcGymmy_throwsNullPointerException() {
+        JsonMcGymmyWriter writer = new JsonMcGymmyWriter(testFolder.resolve("null.json"), JsonFormat.PRETTY);
+        assertThrows(NullPointerException.class, () -> writer.write(null));
+    }
+}
@@ -0,0 +1,210 @@
+package jimmy.mcgymmy.storage;
+
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jimmy.mcgymmy.commons.core.Config.JsonFormat;
+import jimmy.mcgymmy.commons.core.index.Index;
+import jimmy.mcgymmy.model.McGymmy;
+import jimmy.mcgymmy.model.food.Food;
+import jimmy.mcgymmy.testutil.FoodBuilder;
+import jimmy.mcgymmy.testutil.TypicalFoods;
+
+public class PartitionedMcGymmyStorageTest {
+
+    private static final YearMonth OLDEST_RECENT_MONTH = YearMonth.of(2020, 9);
+
+    @TempDir
+    public Path testFolder;
+
+    private PartitionedMcGymmyStorage createStorage(Path filePath) {
+        return new PartitionedMcGymmyStorage(filePath, OLDEST_RECENT_MONTH, JsonFormat.PRETTY);
+    }
+
+    /**
+     * Returns the typical foods, grouped by month with the oldest month first.
+     */
+    private static McGymmy getTypicalFoodsByMonth() {
+        McGymmy mcGymmy = new McGymmy();
+        mcGymmy.setFoodItems(Arrays.asList(TypicalFoods.getGingerbread(), TypicalFoods.getFruitCake(),
+                TypicalFoods.getEggs(), TypicalFoods.getDanishCookies(), TypicalFoods.getChickenRice(),
+                TypicalFoods.getNasiLemak(), TypicalFoods.getCrispyFriedFish()));
+        return mcGymmy;
+    }
+
+    private static McGymmy getRecentFoods() {
+        McGymmy mcGymmy = new McGymmy();
+        mcGymmy.setFoodItems(Arrays.asList(TypicalFoods.getNasiLemak(), TypicalFoods.getCrispyFriedFish()));
+        return mcGymmy;
+    }
+
+    @Test
+    public void readMcGymmy_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage(testFolder.resolve("missing.json")).readMcGymmy().isPresent());
+    }
+
+    @Test
+    public void readMcGymmy_noManifest_readsDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        new JsonMcGymmyStorage(filePath).saveMcGymmy(TypicalFoods.getTypicalMcGymmy());
+
+        PartitionedMcGymmyStorage storage = createStorage(filePath);
+        assertEquals(TypicalFoods.getTypicalMcGymmy(), new McGymmy(storage.readMcGymmy().get()));
+        assertTrue(storage.getArchivedMonths().isEmpty());
+
+        // the first save moves the data into partitions, and keeps the data file as a backup
+        storage.saveMcGymmy(TypicalFoods.getTypicalMcGymmy());
+        assertTrue(Files.exists(storage.getPartitionPath(YearMonth.of(2020, 4))));
+        assertEquals(TypicalFoods.getTypicalMcGymmy(),
+                new McGymmy(new JsonMcGymmyStorage(filePath).readMcGymmy().get()));
+    }
+
+    @Test
+    public void readMcGymmy_partitions_onlyRecentMonthsRead() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        createStorage(filePath).saveMcGymmy(TypicalFoods.getTypicalMcGymmy());
+
+        PartitionedMcGymmyStorage storage = createStorage(filePath);
+        assertEquals(getRecentFoods(), new McGymmy(storage.readMcGymmy().get()));
+        assertEquals(Arrays.asList(YearMonth.of(1973, 5), YearMonth.of(1998, 2), YearMonth.of(2019, 3),
+                YearMonth.of(2020, 1), YearMonth.of(2020, 4)), storage.getArchivedMonths());
+
+        // everything is read when nothing is recent
+        PartitionedMcGymmyStorage allMonthsStorage =
+                new PartitionedMcGymmyStorage(filePath, YearMonth.of(1900, 1), JsonFormat.PRETTY);
+        assertEquals(getTypicalFoodsByMonth(), new McGymmy(allMonthsStorage.readMcGymmy().get()));
+    }
+
+    @Test
+    public void load_archivedMonth_returnsFoodsOnce() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        createStorage(filePath).saveMcGymmy(TypicalFoods.getTypicalMcGymmy());
+        PartitionedMcGymmyStorage storage = createStorage(filePath);
+        storage.readMcGymmy();
+
+        assertEquals(Arrays.asList(TypicalFoods.getChickenRice()), storage.load(YearMonth.of(2020, 4)));
+        assertFalse(storage.getArchivedMonths().contains(YearMonth.of(2020, 4)));
+        assertTrue(storage.load(YearMonth.of(2020, 4)).isEmpty());
+        assertTrue(storage.load(OLDEST_RECENT_MONTH).isEmpty());
+    }
+
+    @Test
+    public void saveMcGymmy_unchangedMonths_notRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        PartitionedMcGymmyStorage storage = createStorage(filePath);
+        storage.saveMcGymmy(TypicalFoods.getTypicalMcGymmy());
+        FileTime oldTime = FileTime.fromMillis(0);
+        Path septemberPath = storage.getPartitionPath(YearMonth.of(2020, 9));
+        Path octoberPath = storage.getPartitionPath(YearMonth.of(2020, 10));
+        Files.setLastModifiedTime(septemberPath, oldTime);
+        Files.setLastModifiedTime(octoberPath, oldTime);
+
+        McGymmy edited = TypicalFoods.getTypicalMcGymmy();
+        edited.addFood(new FoodBuilder(TypicalFoods.getHotPlate()).withDate("20 Oct 2020").build());
+        storage.saveMcGymmy(edited);
+
+        assertEquals(oldTime, Files.getLastModifiedTime(septemberPath));
+        assertFalse(oldTime.equals(Files.getLastModifiedTime(octoberPath)));
+    }
+
+    @Test
+    public void saveMcGymmy_foodAddedToArchivedMonth_archivedFoodsKept() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        createStorage(filePath).saveMcGymmy(TypicalFoods.getTypicalMcGymmy());
+        PartitionedMcGymmyStorage storage = createStorage(filePath);
+        McGymmy recent = new McGymmy(storage.readMcGymmy().get());
+
+        Food lateEntry = new FoodBuilder(TypicalFoods.getHotPlate()).withDate("25 Apr 2020").build();
+        recent.addFood(lateEntry);
+        storage.saveMcGymmy(recent);
+
+        PartitionedMcGymmyStorage reloaded = createStorage(filePath);
+        reloaded.readMcGymmy();
+        List<Food> april = reloaded.load(YearMonth.of(2020, 4));
+        assertEquals(Arrays.asList(TypicalFoods.getChickenRice(), lateEntry), april);
+    }
+
+    @Test
+    public void saveMcGymmy_monthEmptied_partitionDeleted() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        PartitionedMcGymmyStorage storage = createStorage(filePath);
+        storage.saveMcGymmy(TypicalFoods.getTypicalMcGymmy());
+        Path octoberPath = storage.getPartitionPath(YearMonth.of(2020, 10));
+        assertTrue(Files.exists(octoberPath));
+
+        McGymmy edited = TypicalFoods.getTypicalMcGymmy();
+        edited.removeFood(TypicalFoods.getCrispyFriedFish());
+        storage.saveMcGymmy(edited);
+
+        assertFalse(Files.exists(octoberPath));
+        McGymmy expected = getTypicalFoodsByMonth();
+        expected.removeFood(TypicalFoods.getCrispyFriedFish());
+        assertEquals(expected, new McGymmy(new PartitionedMcGymmyStorage(filePath, YearMonth.of(1900, 1),
+                JsonFormat.PRETTY).readMcGymmy().get()));
+    }
+
+    @Test
+    public void saveMcGymmy_sameMcGymmyEdited_onlyChangedMonthsRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempMcGymmy.json");
+        PartitionedMcGymmyStorage storage = createStorage(filePath);
+        McGymmy mcGymmy = TypicalFoods.getTypicalMcGymmy();
+        storage.saveMcGymmy(mcGymmy);
+        FileTime oldTime = FileTime.fromMillis(0);
+        Path januaryPath = storage.getPartitionPath(YearMonth.of(2020, 1));
+        Path septemberPath = storage.getPartitionPath(YearMonth.of(2020, 9));
+        Path octoberPath = storage.getPartitionPath(YearMonth.of(2020, 10));
+        Files.setLastModifiedTime(septemberPath, oldTime);
+        Files.setLastModifiedTime(octoberPath, oldTime);
+
+        Food octoberEntry = new FoodBuilder(TypicalFoods.getHotPlate()).withDate("20 Oct 2020").build();
+        mcGymmy.addFood(octoberEntry);
+        storage.saveMcGymmy(mcGymmy);
+        assertEquals(oldTime, Files.getLastModifiedTime(septemberPath));
+        assertFalse(oldTime.equals(Files.getLastModifiedTime(octoberPath)));
+
+        // moving the only food of January to September deletes the January partition
+        Files.setLastModifiedTime(octoberPath, oldTime);
+        Food movedCookies = new FoodBuilder(TypicalFoods.getDanishCookies()).withDate("15 Sep 2020").build();
+        mcGymmy.setFood(Index.fromZeroBased(3), movedCookies);
+        storage.saveMcGymmy(mcGymmy);
+        assertFalse(Files.exists(januaryPath));
+        assertFalse(oldTime.equals(Files.getLastModifiedTime(septemberPath)));
+        assertEquals(oldTime, Files.getLastModifiedTime(octoberPath));
+
+        McGymmy expected = new McGymmy();
+        expected.setFoodItems(Arrays.asList(TypicalFoods.getGingerbread(), TypicalFoods.getFruitCake(),
+                TypicalFoods.getEggs(), TypicalFoods.getChickenRice(), TypicalFoods.getNasiLemak(), movedCookies,
+                TypicalFoods.getCrispyFriedFish(), octoberEntry));
+        assertEquals(expected, new McGymmy(new PartitionedMcGymmyStorage(filePath, YearMonth.of(1900, 1),
+                JsonFormat.PRETTY).readMcGymmy().get()));
+    }
+
+    @Test
+    public void saveMcGymmy_otherFilePath_plainJsonFile() throws Exception {
+        Path otherPath = testFolder.resolve("Export.json");
+        createStorage(testFolder.resolve("TempMcGymmy.json")).saveMcGymmy(TypicalFoods.getTypicalMcGymmy(),
+                otherPath);
+
+        assertEquals(TypicalFoods.getTypicalMcGymmy(),
+                new McGymmy(new JsonMcGymmyStorage(otherPath).readMcGymmy().get()));
+        assertFalse(Files.exists(testFolder.resolve("TempMcGymmy")));
+    }
+
+    @Test
+    public void saveMcGymmy_nullMcGymmy_throwsNullPointerException() {
+        PartitionedMcGymmyStorage storage = createStorage(testFolder.resolve("TempMcGymmy.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveMcGymmy(null));
+    }
+}
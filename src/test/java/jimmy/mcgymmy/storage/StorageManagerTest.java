@@ -1,18 +1,23 @@
 package jimmy.mcgymmy.storage;
 
+import static jimmy.mcgymmy.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jimmy.mcgymmy.commons.core.Config.Durability;
 import jimmy.mcgymmy.commons.core.GuiSettings;
+import jimmy.mcgymmy.commons.core.index.Index;
 import jimmy.mcgymmy.model.McGymmy;
 import jimmy.mcgymmy.model.ReadOnlyMcGymmy;
 import jimmy.mcgymmy.model.UserPrefs;
+import jimmy.mcgymmy.model.macro.MacroList;
 import jimmy.mcgymmy.testutil.TypicalFoods;
 
 public class StorageManagerTest {
@@ -61,6 +66,86 @@ public class StorageManagerTest {
         assertEquals(original, new McGymmy(retrieved));
     }
 
+    @Test
+    public void saveMcGymmyIfChanged_sameVersion_skipsWrite() throws Exception {
+        McGymmy original = TypicalFoods.getTypicalMcGymmy();
+        storageManager.saveMcGymmyIfChanged(original, 0);
+        original.addFood(TypicalFoods.getHotPlate());
+
+        // Same version, the new food is not written
+        storageManager.saveMcGymmyIfChanged(original, 0);
+        assertEquals(TypicalFoods.getTypicalMcGymmy(), new McGymmy(storageManager.readMcGymmy().get()));
+
+        storageManager.saveMcGymmyIfChanged(original, 1);
+        assertEquals(original, new McGymmy(storageManager.readMcGymmy().get()));
+
+        StorageStatistics statistics = storageManager.getStatistics();
+        assertEquals(2, statistics.getMcGymmyWrites());
+        assertEquals(1, statistics.getMcGymmySkips());
+    }
+
+    @Test
+    public void saveMacroListIfChanged_sameVersion_skipsWrite() throws Exception {
+        storageManager.saveMacroListIfChanged(new MacroList(), 0);
+        storageManager.saveMacroListIfChanged(new MacroList(), 0);
+
+        StorageStatistics statistics = storageManager.getStatistics();
+        assertEquals(1, statistics.getMacroListWrites());
+        assertEquals(1, statistics.getMacroListSkips());
+    }
+
+    @Test
+    public void saveMcGymmy_backgroundWriter_writesLatestData() throws Exception {
+        StorageManager asyncStorage = new StorageManager(new JsonMcGymmyStorage(getTempFilePath("async")),
+                new JsonMacroListStorage(getTempFilePath("asyncMacros")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), Durability.BATCHED);
+        McGymmy original = new McGymmy();
+        for (int i = 0; i < 20; i++) {
+            original.addFood(TypicalFoods.getHotPlate());
+            asyncStorage.saveMcGymmy(original);
+        }
+        asyncStorage.flush();
+
+        assertEquals(original, new McGymmy(asyncStorage.readMcGymmy().get()));
+        StorageStatistics statistics = asyncStorage.getStatistics();
+        assertEquals(20, statistics.getMcGymmyWrites() + statistics.getMcGymmyCoalesced());
+    }
+
+    @Test
+    public void saveMcGymmy_backgroundWriterWithJournal_writesLatestData() throws Exception {
+        Path filePath = getTempFilePath("journal");
+        JournalMcGymmyStorage journalStorage = new JournalMcGymmyStorage(filePath, 3);
+        StorageManager asyncStorage = new StorageManager(journalStorage,
+                new JsonMacroListStorage(getTempFilePath("asyncMacros")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), Durability.NONE);
+        McGymmy original = TypicalFoods.getTypicalMcGymmy();
+        for (int i = 0; i < 20; i++) {
+            original.addFood(TypicalFoods.getHotPlate());
+            original.removeFood(Index.fromZeroBased(0));
+            asyncStorage.saveMcGymmy(original);
+        }
+        asyncStorage.flush();
+        journalStorage.flush();
+
+        assertEquals(original, new McGymmy(new JournalMcGymmyStorage(filePath).readMcGymmy().get()));
+    }
+
+    @Test
+    public void flush_backgroundWriteFailed_throwsIoException() throws Exception {
+        JsonMcGymmyStorage failingStorage = new JsonMcGymmyStorage(getTempFilePath("failing")) {
+            @Override
+            public void saveMcGymmy(ReadOnlyMcGymmy mcGymmy, Path filePath) throws IOException {
+                throw new IOException("dummy exception");
+            }
+        };
+        StorageManager asyncStorage = new StorageManager(failingStorage,
+                new JsonMacroListStorage(getTempFilePath("asyncMacros")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), Durability.NONE);
+
+        asyncStorage.saveMcGymmy(TypicalFoods.getTypicalMcGymmy());
+        assertThrows(IOException.class, asyncStorage::flush);
+    }
+
     @Test
     public void getMcGymmyFilePath() {
         assertNotNull(storageManager.getMcGymmyFilePath());
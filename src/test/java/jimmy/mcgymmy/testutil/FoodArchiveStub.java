@@ -0,0 +1,37 @@
+package jimmy.mcgymmy.testutil;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import jimmy.mcgymmy.model.FoodArchive;
+import jimmy.mcgymmy.model.food.Food;
+
+/**
+ * A {@code FoodArchive} that keeps its foods in memory, like a storage partitioned by month.
+ */
+public class FoodArchiveStub implements FoodArchive {
+    private final SortedMap<YearMonth, List<Food>> foods = new TreeMap<>();
+
+    /**
+     * Archives {@code monthFoods} under {@code month}.
+     */
+    public FoodArchiveStub withMonth(YearMonth month, Food... monthFoods) {
+        foods.put(month, Arrays.asList(monthFoods));
+        return this;
+    }
+
+    @Override
+    public List<YearMonth> getArchivedMonths() {
+        return new ArrayList<>(foods.keySet());
+    }
+
+    @Override
+    public List<Food> load(YearMonth month) {
+        List<Food> loaded = foods.remove(month);
+        return loaded == null ? List.of() : loaded;
+    }
+}